@@ -840,6 +840,15 @@ public class AiAttackController {
      * @return a {@link forge.game.combat.Combat} object.
      */
     public final int declareAttackers(final Combat combat) {
+        final AiCombatMatrix matrix = AiCombatMatrix.open(ai.getGame(), "attack declaration");
+        try {
+            return doDeclareAttackers(combat);
+        } finally {
+            matrix.close();
+        }
+    }
+
+    private int doDeclareAttackers(final Combat combat) {
         // something prevents attacking, try another
         if (this.attackers.isEmpty() && ai.getOpponents().size() > 1) {
             final PlayerCollection opps = ai.getOpponents();
@@ -1073,6 +1073,15 @@ public class AiBlockController {
      * @param possibleBlockers list of blockers to be considered
      */
     private void assignBlockers(final Combat combat, List<Card> possibleBlockers) {
+        final AiCombatMatrix matrix = AiCombatMatrix.open(ai.getGame(), "blocker assignment");
+        try {
+            doAssignBlockers(combat, possibleBlockers);
+        } finally {
+            matrix.close();
+        }
+    }
+
+    private void doAssignBlockers(final Combat combat, List<Card> possibleBlockers) {
         if (attackers.isEmpty()) {
             return;
         }
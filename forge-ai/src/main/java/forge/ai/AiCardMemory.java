@@ -324,6 +324,26 @@ public class AiCardMemory {
         }
     }
 
+    /**
+     * @return a hash of the cards remembered in each memory set, which changes when a card is remembered or forgotten.
+     */
+    public long hashRemembered() {
+        long hash = 0;
+        for (MemorySet memSet : MemorySet.values()) {
+            Set<Card> memorySet = getMemorySet(memSet);
+            if (memorySet == null) {
+                continue;
+            }
+            long setHash = 0;
+            for (Card c : memorySet) {
+                setHash += c.getId();
+            }
+            hash = hash * 31 + memorySet.size();
+            hash = hash * 31 + setHash;
+        }
+        return hash;
+    }
+
     // Static functions to simplify access to AI card memory of a given AI player.
     public static Set<Card> getMemorySet(Player ai, MemorySet set) {
         if (!ai.getController().isAI()) {
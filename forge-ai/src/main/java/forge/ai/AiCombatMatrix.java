@@ -0,0 +1,161 @@
+package forge.ai;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import com.esotericsoftware.minlog.Log;
+
+import forge.game.Game;
+import forge.game.combat.Combat;
+
+/**
+ * Memoizes attacker/blocker predictions of {@link ComputerUtilCombat} while the AI declares attackers or blockers.
+ * <p>
+ * Declaring attackers and assigning blockers try many combinations of the same creatures, and every prediction
+ * re-scans all triggers and static abilities on the battlefield. Within a declaration the game doesn't change, so
+ * each attacker x blocker interaction only has to be computed once. Predictions that depend on the combat are keyed
+ * by its change count as well, and everything is dropped as soon as the game timestamp moves.
+ * </p>
+ * A matrix is opened by {@link #open(Game, String)} and must be closed in a finally block. Nested declarations (e.g. the
+ * attack AI predicting the opponent's blocks) share the outermost matrix.
+ */
+public final class AiCombatMatrix {
+    // declarations taking longer than this get logged along with the matrix stats, when debug logging is on
+    private static final long SLOW_DECLARATION_MS = 500;
+
+    private static final ThreadLocal<AiCombatMatrix> current = new ThreadLocal<>();
+
+    enum Prediction {
+        POWER_BONUS_OF_BLOCKER,
+        TOUGHNESS_BONUS_OF_BLOCKER,
+        POWER_BONUS_OF_ATTACKER,
+        TOUGHNESS_BONUS_OF_ATTACKER,
+        DAMAGE_AS_BLOCKER,
+        CAN_DESTROY_ATTACKER,
+        CAN_DESTROY_BLOCKER,
+        ATTACKER_WOULD_BE_DESTROYED,
+        TRIGGER_WILL_TRIGGER
+    }
+
+    private final Game game;
+    private final String purpose;
+    private final long startTime = System.nanoTime();
+    private final Map<Key, Object> results = new HashMap<>();
+    private long timestamp;
+    private int depth;
+    private int computed, reused;
+
+    private AiCombatMatrix(final Game game0, final String purpose0) {
+        game = game0;
+        purpose = purpose0;
+        timestamp = game0.getTimestamp();
+    }
+
+    /**
+     * Starts memoizing combat predictions for the given game on this thread, or joins the matrix already open.
+     */
+    public static AiCombatMatrix open(final Game game, final String purpose) {
+        AiCombatMatrix matrix = current.get();
+        if (matrix == null) {
+            matrix = new AiCombatMatrix(game, purpose);
+            current.set(matrix);
+        }
+        matrix.depth++;
+        return matrix;
+    }
+
+    public void close() {
+        if (--depth > 0) {
+            return;
+        }
+        current.remove();
+        if (!Log.DEBUG) {
+            return;
+        }
+        final long elapsed = (System.nanoTime() - startTime) / 1000000;
+        if (elapsed >= SLOW_DECLARATION_MS) {
+            Log.debug("AI " + purpose + " took " + elapsed + " ms: " + computed + " combat predictions computed, " + reused + " reused");
+        }
+    }
+
+    static AiCombatMatrix get(final Game game) {
+        final AiCombatMatrix matrix = current.get();
+        return matrix != null && matrix.game == game ? matrix : null;
+    }
+
+    public int getComputedCount() {
+        return computed;
+    }
+
+    public int getReusedCount() {
+        return reused;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T lookup(final Prediction prediction, final Object first, final Object second, final Object third,
+            final Combat combat, final int flags, final Supplier<T> compute) {
+        if (game.getTimestamp() != timestamp) {
+            results.clear();
+            timestamp = game.getTimestamp();
+        }
+        final Key key = new Key(prediction, first, second, third, combat, flags);
+        Object result = results.get(key);
+        if (result != null) {
+            reused++;
+            return (T) result;
+        }
+        result = compute.get();
+        computed++;
+        // the computation itself may have changed the game, don't remember what it found in that case
+        if (game.getTimestamp() == timestamp) {
+            results.put(key, result);
+        }
+        return (T) result;
+    }
+
+    /**
+     * Cards and combats are compared by identity: the AI often predicts with copies of a card sharing its id.
+     */
+    private static final class Key {
+        private final Prediction prediction;
+        private final Object first, second, third;
+        private final Combat combat;
+        private final int combatChanges;
+        private final int flags;
+        private final int hash;
+
+        Key(final Prediction prediction0, final Object first0, final Object second0, final Object third0,
+                final Combat combat0, final int flags0) {
+            prediction = prediction0;
+            first = first0;
+            second = second0;
+            third = third0;
+            combat = combat0;
+            combatChanges = combat0 == null ? 0 : combat0.getChangeCount();
+            flags = flags0;
+            int h = prediction.ordinal();
+            h = h * 31 + System.identityHashCode(first);
+            h = h * 31 + System.identityHashCode(second);
+            h = h * 31 + System.identityHashCode(third);
+            h = h * 31 + System.identityHashCode(combat);
+            h = h * 31 + combatChanges;
+            hash = h * 31 + flags;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key k = (Key) o;
+            return hash == k.hash && prediction == k.prediction && first == k.first && second == k.second
+                    && third == k.third && combat == k.combat && combatChanges == k.combatChanges && flags == k.flags;
+        }
+    }
+}
@@ -83,10 +83,12 @@ public class AiController {
     private final Player player;
     private final Game game;
     private final AiCardMemory memory;
+    private final AiPlayabilityCache playabilityCache;
     private Combat predictedCombat;
     private Combat predictedCombatNextTurn;
     private boolean cheatShuffle;
     private boolean useSimulation;
+    private boolean useManaPaymentSolver = true;
     private SpellAbilityPicker simPicker;
     private int lastAttackAggression;
 
@@ -94,6 +96,7 @@ public class AiController {
         player = computerPlayer;
         game = game0;
         memory = new AiCardMemory();
+        playabilityCache = new AiPlayabilityCache(player, memory);
         simPicker = new SpellAbilityPicker(game, player);
     }
 
@@ -113,6 +116,14 @@ public class AiController {
         this.useSimulation = value;
     }
 
+    public boolean usesManaPaymentSolver() {
+        return this.useManaPaymentSolver;
+    }
+
+    public void setUseManaPaymentSolver(boolean value) {
+        this.useManaPaymentSolver = value;
+    }
+
     public int getAttackAggression() {
         return lastAttackAggression;
     }
@@ -133,6 +144,10 @@ public class AiController {
         return memory;
     }
 
+    public AiPlayabilityCache getPlayabilityCache() {
+        return playabilityCache;
+    }
+
     public Combat getPredictedCombat() {
         if (predictedCombat == null) {
             AiAttackController aiAtk = new AiAttackController(player);
@@ -652,7 +667,7 @@ public class AiController {
         final CardCollectionView cards = handOnly ? player.getCardsIn(ZoneType.Hand) :
                 ComputerUtilAbility.getAvailableCards(game, player);
 
-        List<SpellAbility> all = ComputerUtilAbility.getSpellAbilities(cards, player);
+        List<SpellAbility> all = playabilityCache.getSpellAbilities(cards);
 
         try {
             Collections.sort(all, ComputerUtilAbility.saEvaluator); // put best spells first
@@ -1351,7 +1366,7 @@ public class AiController {
         );
         if (!playBeforeLand.isEmpty()) {
             SpellAbility wantToPlayBeforeLand = chooseSpellAbilityToPlayFromList(
-                    ComputerUtilAbility.getSpellAbilities(playBeforeLand, player), false
+                    playabilityCache.getSpellAbilities(playBeforeLand), false
             );
             if (wantToPlayBeforeLand != null) {
                 return singleSpellAbilityList(wantToPlayBeforeLand);
@@ -1538,7 +1553,7 @@ public class AiController {
             // in a scripted timed fashion.
 
             if (!mustRespond) {
-                saList = ComputerUtilAbility.getSpellAbilities(cards, player); // get the SA list early to check for copy SAs
+                saList = playabilityCache.getSpellAbilities(cards); // get the SA list early to check for copy SAs
                 if (ComputerUtilAbility.getFirstCopySASpell(saList) == null) {
                     // Nothing to copy the spell with, so do nothing.
                     return null;
@@ -1556,7 +1571,7 @@ public class AiController {
         }
 
         if (saList.isEmpty()) {
-            saList = ComputerUtilAbility.getSpellAbilities(cards, player);
+            saList = playabilityCache.getSpellAbilities(cards);
         }
 
         Iterables.removeIf(saList, new Predicate<SpellAbility>() {
@@ -1589,6 +1604,16 @@ public class AiController {
             Sentry.captureMessage(ex.getMessage() + "\nAssertionError [verifyTransitivity]: " + assertex);
         }
 
+        // the game stays the same while the AI only decides, so its state is looked at once for all the abilities
+        final long version = playabilityCache.lockVersion();
+        try {
+            return chooseSpellAbilityToPlayFromSortedList(all, skipCounter, version);
+        } finally {
+            playabilityCache.unlockVersion();
+        }
+    }
+
+    private SpellAbility chooseSpellAbilityToPlayFromSortedList(final List<SpellAbility> all, boolean skipCounter, final long version) {
         for (final SpellAbility sa : ComputerUtilAbility.getOriginalAndAltCostAbilities(all, player)) {
             // Don't add Counterspells to the "normal" playcard lookups
             if (skipCounter && sa.getApi() == ApiType.Counter) {
@@ -1605,17 +1630,21 @@ public class AiController {
             }
 
             sa.setActivatingPlayer(player, true);
-            SpellAbility root = sa.getRootAbility();
+            AiPlayDecision opinion = playabilityCache.getRejection(sa, version);
+            if (opinion == null) {
+                SpellAbility root = sa.getRootAbility();
 
-            if (root.isSpell() || root.isTrigger() || root.isReplacementAbility()) {
-                sa.setLastStateBattlefield(game.getLastStateBattlefield());
-                sa.setLastStateGraveyard(game.getLastStateGraveyard());
-            }
+                if (root.isSpell() || root.isTrigger() || root.isReplacementAbility()) {
+                    sa.setLastStateBattlefield(game.getLastStateBattlefield());
+                    sa.setLastStateGraveyard(game.getLastStateGraveyard());
+                }
 
-            AiPlayDecision opinion = canPlayAndPayFor(sa);
+                opinion = canPlayAndPayFor(sa);
+                playabilityCache.putDecision(sa, opinion, version);
 
-            // reset LastStateBattlefield
-            sa.clearLastState();
+                // reset LastStateBattlefield
+                sa.clearLastState();
+            }
             // PhaseHandler ph = game.getPhaseHandler();
             // System.out.printf("Ai thinks '%s' of %s -> %s @ %s %s >>> \n", opinion, sa.getHostCard(), sa, Lang.getPossesive(ph.getPlayerTurn().getName()), ph.getPhase());
 
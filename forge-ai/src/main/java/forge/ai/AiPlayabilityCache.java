@@ -0,0 +1,239 @@
+package forge.ai;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+
+import forge.card.mana.ManaAtom;
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.card.CardCollectionView;
+import forge.game.combat.Combat;
+import forge.game.phase.PhaseHandler;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+import forge.util.Visitor;
+
+/**
+ * The spell abilities the AI found on its cards, the ones it decided not to play and its mana sources, kept while the
+ * game stays in the same state.
+ * <p>
+ * The state is told apart by a version built from the game timestamp, which moves on zone changes and continuous
+ * effects, the turn, phase, stack and combat, each player's life, counters, floating mana of each color and turn
+ * counts, the state version of every card in the game and the cards the AI remembers. Abilities the AI would play
+ * aren't kept, choosing them again sets up their targets and costs.
+ * </p>
+ * <p>
+ * Some AI logic rolls MyRandom when deciding, like whether to bluff or hold a card. Such a decision is kept like any
+ * other, so the AI rolls once per state and not each time it gets priority in the same state, until the game moves on.
+ * </p>
+ * <p>
+ * While the AI goes through a list of abilities the version is locked, taken to stay the same instead of going over the
+ * whole game again for each ability and each mana payment checked. Deciding doesn't change the game, and if it does
+ * after all, the next lock finds another version and drops what was kept.
+ * </p>
+ */
+public class AiPlayabilityCache {
+    private final Player player;
+    private final AiCardMemory memory;
+    private long version;
+    private boolean valid;
+    private int locks;
+
+    private final Map<Card, List<SpellAbility>> abilities = new IdentityHashMap<>();
+    private final Map<SpellAbility, AiPlayDecision> rejected = new IdentityHashMap<>();
+    private ListMultimap<Integer, SpellAbility> playableManaSources, possibleManaSources;
+
+    private int statesSeen, abilitiesCollected, abilitiesReused;
+    private int decisionHits, decisionMisses, decisionsKept;
+    private int manaSourcesGrouped, manaSourcesReused;
+
+    public AiPlayabilityCache(final Player player0, final AiCardMemory memory0) {
+        player = player0;
+        memory = memory0;
+    }
+
+    // drops what was kept for an older state of the game
+    private void update() {
+        if (locks > 0) {
+            return;
+        }
+        final long current = computeVersion(player.getGame(), memory);
+        if (valid && current == version) {
+            return;
+        }
+        abilities.clear();
+        rejected.clear();
+        playableManaSources = null;
+        possibleManaSources = null;
+        version = current;
+        valid = true;
+        statesSeen++;
+    }
+
+    /**
+     * Takes the game to stay in its current state until {@link #unlockVersion()}.
+     * @return the version of the current state, for the decisions made meanwhile.
+     */
+    public long lockVersion() {
+        update();
+        locks++;
+        return version;
+    }
+
+    public void unlockVersion() {
+        locks--;
+    }
+
+    public void clear() {
+        abilities.clear();
+        rejected.clear();
+        playableManaSources = null;
+        possibleManaSources = null;
+        valid = false;
+    }
+
+    /**
+     * @return the possible abilities of the cards like ComputerUtilAbility.getSpellAbilities, in a new list.
+     */
+    public List<SpellAbility> getSpellAbilities(final CardCollectionView cards) {
+        update();
+        final List<SpellAbility> result = Lists.newArrayList();
+        for (final Card c : cards) {
+            List<SpellAbility> cardAbilities = abilities.get(c);
+            if (cardAbilities == null) {
+                cardAbilities = c.getAllPossibleAbilities(player, false);
+                abilities.put(c, cardAbilities);
+                abilitiesCollected++;
+            } else {
+                abilitiesReused++;
+            }
+            result.addAll(cardAbilities);
+        }
+        return result;
+    }
+
+    /**
+     * @param version0 the version returned by {@link #lockVersion()}
+     * @return why the AI decided not to play the ability in that state, or null if it has to decide.
+     */
+    public AiPlayDecision getRejection(final SpellAbility sa, final long version0) {
+        final AiPlayDecision decision = valid && version0 == version ? rejected.get(sa) : null;
+        if (decision != null) {
+            decisionHits++;
+        } else {
+            decisionMisses++;
+        }
+        return decision;
+    }
+
+    /**
+     * Keeps a decision made in the state of the version returned by {@link #lockVersion()}.
+     */
+    public void putDecision(final SpellAbility sa, final AiPlayDecision decision, final long version0) {
+        if (decision != AiPlayDecision.WillPlay && valid && version0 == version) {
+            rejected.put(sa, decision);
+            decisionsKept++;
+        }
+    }
+
+    /**
+     * @return a copy of the mana abilities grouped by the color they produce as ComputerUtilMana found them in the
+     * current state, or null if it has to look for them.
+     */
+    public ListMultimap<Integer, SpellAbility> getManaSources(final boolean checkPlayable) {
+        update();
+        final ListMultimap<Integer, SpellAbility> sources = checkPlayable ? playableManaSources : possibleManaSources;
+        if (sources == null) {
+            return null;
+        }
+        manaSourcesReused++;
+        return ArrayListMultimap.create(sources);
+    }
+
+    /**
+     * Keeps the mana sources found since the last call of getManaSources, unless looking for them changed the game.
+     */
+    public void putManaSources(final boolean checkPlayable, final ListMultimap<Integer, SpellAbility> sources) {
+        if (!valid || (locks == 0 && computeVersion(player.getGame(), memory) != version)) {
+            return;
+        }
+        manaSourcesGrouped++;
+        if (checkPlayable) {
+            playableManaSources = ArrayListMultimap.create(sources);
+        } else {
+            possibleManaSources = ArrayListMultimap.create(sources);
+        }
+    }
+
+    /**
+     * @return how many times a decision not to play an ability was found kept for the state the AI decides in.
+     */
+    public int getDecisionHits() {
+        return decisionHits;
+    }
+
+    /**
+     * @return how many times the AI had to decide about an ability as nothing was kept for it.
+     */
+    public int getDecisionMisses() {
+        return decisionMisses;
+    }
+
+    /**
+     * @return how many states of the game the cache went through, how often it reused the abilities of a card, the
+     * decisions and the mana sources it kept, compared to how often they were looked for.
+     */
+    public String getStats() {
+        return String.format("%d states, abilities of %d cards collected and %d reused, %d decisions reused and %d made "
+                + "(%d kept), mana sources grouped %d times and reused %d times", statesSeen, abilitiesCollected,
+                abilitiesReused, decisionHits, decisionMisses, decisionsKept, manaSourcesGrouped, manaSourcesReused);
+    }
+
+    private static long computeVersion(final Game game, final AiCardMemory memory) {
+        long v = game.getTimestamp();
+        final PhaseHandler ph = game.getPhaseHandler();
+        v = v * 31 + ph.getTurn();
+        v = v * 31 + (ph.getPhase() == null ? -1 : ph.getPhase().ordinal());
+        v = v * 31 + (ph.getPlayerTurn() == null ? -1 : ph.getPlayerTurn().getId());
+        v = v * 31 + game.getStack().size();
+        if (!game.getStack().isEmpty()) {
+            v = v * 31 + game.getStack().peekAbility().getId();
+        }
+        final Combat combat = ph.getCombat();
+        if (combat != null) {
+            v = v * 31 + combat.getAttackers().size();
+            v = v * 31 + combat.getAllBlockers().size();
+        }
+        for (final Player p : game.getPlayers()) {
+            v = v * 31 + p.getLife();
+            v = v * 31 + p.getCounters().hashCode();
+            for (final byte color : ManaAtom.MANATYPES) {
+                v = v * 31 + p.getManaPool().getAmountOfColor(color);
+            }
+            v = v * 31 + p.getLandsPlayedThisTurn();
+            v = v * 31 + p.getSpellsCastThisTurn();
+            v = v * 31 + p.getNumDrawnThisTurn();
+        }
+        v = v * 31 + memory.hashRemembered();
+        final CardVersions cards = new CardVersions();
+        game.forEachCardInGame(cards);
+        return v * 31 + cards.version;
+    }
+
+    // the order of the cards counts, so moving cards within a zone changes the version too
+    private static final class CardVersions extends Visitor<Card> {
+        private long version;
+
+        @Override
+        public boolean visit(final Card c) {
+            version = version * 31 + c.getId();
+            version = version * 31 + c.getStateVersion();
+            return true;
+        }
+    }
+}
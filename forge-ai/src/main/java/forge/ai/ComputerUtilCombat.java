@@ -21,6 +21,7 @@ import com.google.common.base.Predicate;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import forge.ai.AiCombatMatrix.Prediction;
 import forge.game.Game;
 import forge.game.GameEntity;
 import forge.game.ability.AbilityKey;
@@ -68,6 +69,20 @@ public class ComputerUtilCombat {
         dontTestRegen = shouldSuppress;
     }
 
+    // predictions are only memoized while the AI declares attackers or blockers, see AiCombatMatrix
+    private static AiCombatMatrix getCombatMatrix(final Card attacker) {
+        return dontTestRegen || attacker == null ? null : AiCombatMatrix.get(attacker.getGame());
+    }
+
+    // predictions made without a combat look at the one of the game, which changes while blockers get declared
+    private static Combat keyCombat(final Card attacker, final Combat combat) {
+        return combat != null ? combat : attacker.getGame().getCombat();
+    }
+
+    private static int flags(final boolean withoutAbilities, final boolean withoutStaticAbilities) {
+        return (withoutAbilities ? 1 : 0) | (withoutStaticAbilities ? 2 : 0);
+    }
+
     /**
      * <p>
      * canAttackNextTurn.
@@ -572,6 +587,15 @@ public class ComputerUtilCombat {
      * @return a int.
      */
     public static int dealsDamageAsBlocker(final Card attacker, final Card defender) {
+        final AiCombatMatrix matrix = getCombatMatrix(attacker);
+        if (matrix != null) {
+            return matrix.lookup(Prediction.DAMAGE_AS_BLOCKER, attacker, defender, null, keyCombat(attacker, null), 0,
+                    () -> computeDamageAsBlocker(attacker, defender));
+        }
+        return computeDamageAsBlocker(attacker, defender);
+    }
+
+    private static int computeDamageAsBlocker(final Card attacker, final Card defender) {
         int defenderDamage = predictDamageByBlockerWithoutDoubleStrike(attacker, defender);
 
         if (defender.hasDoubleStrike()) {
@@ -715,6 +739,15 @@ public class ComputerUtilCombat {
      * @return a boolean.
      */
     public static boolean attackerWouldBeDestroyed(Player ai, final Card attacker, Combat combat) {
+        final AiCombatMatrix matrix = getCombatMatrix(attacker);
+        if (matrix != null) {
+            return matrix.lookup(Prediction.ATTACKER_WOULD_BE_DESTROYED, attacker, null, ai, combat, 0,
+                    () -> computeAttackerWouldBeDestroyed(ai, attacker, combat));
+        }
+        return computeAttackerWouldBeDestroyed(ai, attacker, combat);
+    }
+
+    private static boolean computeAttackerWouldBeDestroyed(Player ai, final Card attacker, Combat combat) {
         final List<Card> blockers = combat.getBlockers(attacker);
         int firstStrikeBlockerDmg = 0;
 
@@ -758,6 +791,16 @@ public class ComputerUtilCombat {
     }
     public static boolean combatTriggerWillTrigger(final Card attacker, final Card defender, final Trigger trigger,
             Combat combat, final List<Card> plannedAttackers) {
+        final AiCombatMatrix matrix = plannedAttackers == null ? getCombatMatrix(attacker) : null;
+        if (matrix != null) {
+            return matrix.lookup(Prediction.TRIGGER_WILL_TRIGGER, attacker, defender, trigger, keyCombat(attacker, combat), 0,
+                    () -> computeCombatTriggerWillTrigger(attacker, defender, trigger, combat, null));
+        }
+        return computeCombatTriggerWillTrigger(attacker, defender, trigger, combat, plannedAttackers);
+    }
+
+    private static boolean computeCombatTriggerWillTrigger(final Card attacker, final Card defender, final Trigger trigger,
+            Combat combat, final List<Card> plannedAttackers) {
         final Game game = attacker.getGame();
         boolean willTrigger = false;
         final Card source = trigger.getHostCard();
@@ -889,6 +932,15 @@ public class ComputerUtilCombat {
      * @return a int.
      */
     public static int predictPowerBonusOfBlocker(final Card attacker, final Card blocker, boolean withoutAbilities) {
+        final AiCombatMatrix matrix = getCombatMatrix(attacker);
+        if (matrix != null) {
+            return matrix.lookup(Prediction.POWER_BONUS_OF_BLOCKER, attacker, blocker, null, keyCombat(attacker, null), flags(withoutAbilities, false),
+                    () -> computePowerBonusOfBlocker(attacker, blocker, withoutAbilities));
+        }
+        return computePowerBonusOfBlocker(attacker, blocker, withoutAbilities);
+    }
+
+    private static int computePowerBonusOfBlocker(final Card attacker, final Card blocker, boolean withoutAbilities) {
         int power = 0;
 
         // Serene Master switches power with attacker
@@ -1035,6 +1087,15 @@ public class ComputerUtilCombat {
      * @return a int.
      */
     public static int predictToughnessBonusOfBlocker(final Card attacker, final Card blocker, boolean withoutAbilities) {
+        final AiCombatMatrix matrix = getCombatMatrix(attacker);
+        if (matrix != null) {
+            return matrix.lookup(Prediction.TOUGHNESS_BONUS_OF_BLOCKER, attacker, blocker, null, keyCombat(attacker, null), flags(withoutAbilities, false),
+                    () -> computeToughnessBonusOfBlocker(attacker, blocker, withoutAbilities));
+        }
+        return computeToughnessBonusOfBlocker(attacker, blocker, withoutAbilities);
+    }
+
+    private static int computeToughnessBonusOfBlocker(final Card attacker, final Card blocker, boolean withoutAbilities) {
         int toughness = 0;
 
         if (blocker.getName().equals("Shape Stealer")) {
@@ -1172,6 +1233,15 @@ public class ComputerUtilCombat {
         return predictPowerBonusOfAttacker(attacker, blocker, combat, withoutAbilities, false);
     }
     public static int predictPowerBonusOfAttacker(final Card attacker, final Card blocker, final Combat combat, boolean withoutAbilities, boolean withoutCombatStaticAbilities) {
+        final AiCombatMatrix matrix = getCombatMatrix(attacker);
+        if (matrix != null) {
+            return matrix.lookup(Prediction.POWER_BONUS_OF_ATTACKER, attacker, blocker, null, keyCombat(attacker, combat), flags(withoutAbilities, withoutCombatStaticAbilities),
+                    () -> computePowerBonusOfAttacker(attacker, blocker, combat, withoutAbilities, withoutCombatStaticAbilities));
+        }
+        return computePowerBonusOfAttacker(attacker, blocker, combat, withoutAbilities, withoutCombatStaticAbilities);
+    }
+
+    private static int computePowerBonusOfAttacker(final Card attacker, final Card blocker, final Combat combat, boolean withoutAbilities, boolean withoutCombatStaticAbilities) {
         int power = 0;
 
         // Serene Master switches power with attacker
@@ -1365,6 +1435,16 @@ public class ComputerUtilCombat {
     }
     public static int predictToughnessBonusOfAttacker(final Card attacker, final Card blocker, final Combat combat
             , boolean withoutAbilities, boolean withoutCombatStaticAbilities) {
+        final AiCombatMatrix matrix = getCombatMatrix(attacker);
+        if (matrix != null) {
+            return matrix.lookup(Prediction.TOUGHNESS_BONUS_OF_ATTACKER, attacker, blocker, null, keyCombat(attacker, combat), flags(withoutAbilities, withoutCombatStaticAbilities),
+                    () -> computeToughnessBonusOfAttacker(attacker, blocker, combat, withoutAbilities, withoutCombatStaticAbilities));
+        }
+        return computeToughnessBonusOfAttacker(attacker, blocker, combat, withoutAbilities, withoutCombatStaticAbilities);
+    }
+
+    private static int computeToughnessBonusOfAttacker(final Card attacker, final Card blocker, final Combat combat
+            , boolean withoutAbilities, boolean withoutCombatStaticAbilities) {
         int toughness = 0;
 
         if (blocker != null && attacker.getName().equals("Shape Stealer")) {
@@ -1662,6 +1742,16 @@ public class ComputerUtilCombat {
     }
     public static boolean canDestroyAttacker(Player ai, Card attacker, Card blocker, final Combat combat,
             final boolean withoutAbilities, final boolean withoutAttackerStaticAbilities) {
+        final AiCombatMatrix matrix = getCombatMatrix(attacker);
+        if (matrix != null) {
+            return matrix.lookup(Prediction.CAN_DESTROY_ATTACKER, attacker, blocker, ai, keyCombat(attacker, combat), flags(withoutAbilities, withoutAttackerStaticAbilities),
+                    () -> computeCanDestroyAttacker(ai, attacker, blocker, combat, withoutAbilities, withoutAttackerStaticAbilities));
+        }
+        return computeCanDestroyAttacker(ai, attacker, blocker, combat, withoutAbilities, withoutAttackerStaticAbilities);
+    }
+
+    private static boolean computeCanDestroyAttacker(Player ai, Card attacker, Card blocker, final Combat combat,
+            final boolean withoutAbilities, final boolean withoutAttackerStaticAbilities) {
         // Can activate transform ability
         if (!withoutAbilities) {
             attacker = canTransform(attacker);
@@ -1893,6 +1983,16 @@ public class ComputerUtilCombat {
     }
     public static boolean canDestroyBlocker(Player ai, Card blocker, Card attacker, final Combat combat,
             final boolean withoutAbilities, final boolean withoutAttackerStaticAbilities) {
+        final AiCombatMatrix matrix = getCombatMatrix(attacker);
+        if (matrix != null) {
+            return matrix.lookup(Prediction.CAN_DESTROY_BLOCKER, attacker, blocker, ai, keyCombat(attacker, combat), flags(withoutAbilities, withoutAttackerStaticAbilities),
+                    () -> computeCanDestroyBlocker(ai, blocker, attacker, combat, withoutAbilities, withoutAttackerStaticAbilities));
+        }
+        return computeCanDestroyBlocker(ai, blocker, attacker, combat, withoutAbilities, withoutAttackerStaticAbilities);
+    }
+
+    private static boolean computeCanDestroyBlocker(Player ai, Card blocker, Card attacker, final Combat combat,
+            final boolean withoutAbilities, final boolean withoutAttackerStaticAbilities) {
         // Can activate transform ability
         if (!withoutAbilities) {
             attacker = canTransform(attacker);
@@ -687,6 +687,12 @@ public class ComputerUtilMana {
         boolean hasConverge = sa.getHostCard().hasConverge();
         ListMultimap<ManaCostShard, SpellAbility> sourcesForShards = getSourcesForShards(cost, sa, ai, test,
                 checkPlayable, hasConverge, ignoreColor, ignoreType);
+        // sources the solver kept for other shards, only used when the ones assigned to a shard can't pay it
+        ListMultimap<ManaCostShard, SpellAbility> sourcesForOtherShards = null;
+        final AiController aic = getAi(ai);
+        if (sourcesForShards != null && !hasConverge && (aic == null || aic.usesManaPaymentSolver())) {
+            sourcesForOtherShards = ManaPaymentSolver.assignSources(cost, sourcesForShards);
+        }
 
         int testEnergyPool = ai.getCounters(CounterEnumType.ENERGY);
         final ManaPool manapool = ai.getManaPool();
@@ -761,6 +767,11 @@ public class ComputerUtilMana {
             saList.removeAll(saExcludeList);
 
             SpellAbility saPayment = saList.isEmpty() ? null : chooseManaAbility(cost, sa, ai, toPay, saList, checkPlayable || !test);
+            if (saPayment == null && sourcesForOtherShards != null && !toPay.isPhyrexian()) {
+                saList = sourcesForOtherShards.get(toPay);
+                saList.removeAll(saExcludeList);
+                saPayment = saList.isEmpty() ? null : chooseManaAbility(cost, sa, ai, toPay, saList, checkPlayable || !test);
+            }
 
             if (saPayment != null && ComputerUtilCost.isSacrificeSelfCost(saPayment.getPayCosts())) {
                 if (sa.getTargets() != null && sa.getTargets().contains(saPayment.getHostCard())) {
@@ -841,6 +852,9 @@ public class ComputerUtilMana {
 
                 // remove from available lists
                 Iterables.removeIf(sourcesForShards.values(), CardTraitPredicates.isHostCard(saPayment.getHostCard()));
+                if (sourcesForOtherShards != null) {
+                    Iterables.removeIf(sourcesForOtherShards.values(), CardTraitPredicates.isHostCard(saPayment.getHostCard()));
+                }
             } else {
                 final CostPayment pay = new CostPayment(saPayment.getPayCosts(), saPayment);
                 if (!pay.payComputerCosts(new AiCostDecision(ai, saPayment, effect))) {
@@ -1579,8 +1593,30 @@ public class ComputerUtilMana {
         return sortedManaSources;
     }
 
-    //This method is currently used by AI to estimate mana available
+    // the controller of an AI player, null for other players
+    private static AiController getAi(final Player ai) {
+        if (!(ai.getController() instanceof PlayerControllerAi)) {
+            return null;
+        }
+        return ((PlayerControllerAi) ai.getController()).getAi();
+    }
+
+    // the sources of an AI player are kept for as long as the game state doesn't change
     private static ListMultimap<Integer, SpellAbility> groupSourcesByManaColor(final Player ai, boolean checkPlayable) {
+        final AiController aic = getAi(ai);
+        if (aic == null || !aic.usesManaPaymentSolver()) {
+            return findSourcesByManaColor(ai, checkPlayable);
+        }
+        ListMultimap<Integer, SpellAbility> manaMap = aic.getPlayabilityCache().getManaSources(checkPlayable);
+        if (manaMap == null) {
+            manaMap = findSourcesByManaColor(ai, checkPlayable);
+            aic.getPlayabilityCache().putManaSources(checkPlayable, manaMap);
+        }
+        return manaMap;
+    }
+
+    //This method is currently used by AI to estimate mana available
+    private static ListMultimap<Integer, SpellAbility> findSourcesByManaColor(final Player ai, boolean checkPlayable) {
         final ListMultimap<Integer, SpellAbility> manaMap = ArrayListMultimap.create();
         final Game game = ai.getGame();
 
@@ -1,6 +1,7 @@
 package forge.ai;
 
 import com.google.common.base.Function;
+import com.google.common.collect.MapMaker;
 
 import forge.game.GameEntity;
 import forge.game.ability.AbilityUtils;
@@ -15,8 +16,36 @@ import forge.game.staticability.StaticAbilityCantAttackBlock;
 import forge.game.staticability.StaticAbilityMustAttack;
 
 import java.util.List;
+import java.util.concurrent.ConcurrentMap;
 
 public class CreatureEvaluator implements Function<Card, Integer> {
+    // weak identity keys, so LKI copies and cards of finished games don't pile up
+    private final ConcurrentMap<Card, CachedValue> cache = new MapMaker().weakKeys().makeMap();
+
+    private static final class CachedValue {
+        final int stateVersion;
+        final long gameTimestamp;
+        final int energy;
+        final int statics;
+        final boolean considerPT, considerCMC;
+        final int value;
+
+        CachedValue(int stateVersion0, long gameTimestamp0, int energy0, int statics0, boolean considerPT0, boolean considerCMC0, int value0) {
+            stateVersion = stateVersion0;
+            gameTimestamp = gameTimestamp0;
+            energy = energy0;
+            statics = statics0;
+            considerPT = considerPT0;
+            considerCMC = considerCMC0;
+            value = value0;
+        }
+
+        boolean matches(int stateVersion0, long gameTimestamp0, int energy0, int statics0, boolean considerPT0, boolean considerCMC0) {
+            return stateVersion == stateVersion0 && gameTimestamp == gameTimestamp0 && energy == energy0
+                    && statics == statics0 && considerPT == considerPT0 && considerCMC == considerCMC0;
+        }
+    }
+
     @Override
     public Integer apply(Card c) {
         return evaluateCreature(c);
@@ -25,7 +54,61 @@ public class CreatureEvaluator implements Function<Card, Integer> {
     public int evaluateCreature(final Card c) {
         return evaluateCreature(c, true, true);
     }
+    /**
+     * Evaluations are cached per card until its state version, the game timestamp or what static abilities say about
+     * the card changes. Cards whose value depends on a script (AIEvaluationModifier) are always evaluated again.
+     */
     public int evaluateCreature(final Card c, final boolean considerPT, final boolean considerCMC) {
+        if (isDebugging() || c.getGame() == null || c.hasSVar("AIEvaluationModifier")) {
+            return computeValue(c, getStatics(c), considerPT, considerCMC);
+        }
+        final int stateVersion = c.getStateVersion();
+        final long gameTimestamp = c.getGame().getTimestamp();
+        // the energy pump evaluation depends on the controller's counters
+        final int energy = c.getController() == null ? 0 : c.getController().getCounters(CounterEnumType.ENERGY);
+        final int statics = getStatics(c);
+        final CachedValue cached = cache.get(c);
+        if (cached != null && cached.matches(stateVersion, gameTimestamp, energy, statics, considerPT, considerCMC)) {
+            return cached.value;
+        }
+        final int value = computeValue(c, statics, considerPT, considerCMC);
+        // evaluating must not change the card, but be safe and don't store a stale result
+        if (c.getStateVersion() == stateVersion) {
+            cache.put(c, new CachedValue(stateVersion, gameTimestamp, energy, statics, considerPT, considerCMC, value));
+        }
+        return value;
+    }
+
+    private static final int TOUGHNESS_ASSIGNS_DAMAGE = 1;
+    private static final int UNBLOCKABLE = 1 << 1;
+    private static final int ASSIGNS_DAMAGE_AS_UNBLOCKED = 1 << 2;
+    private static final int MUST_ATTACK = 1 << 3;
+    private static final int MUST_ATTACK_PLAYER = 1 << 4;
+
+    // what static abilities say about the card, their conditions like the phase or a life total can change while
+    // neither the card nor the game timestamp do
+    private static int getStatics(final Card c) {
+        int statics = 0;
+        if (c.toughnessAssignsDamage()) {
+            statics |= TOUGHNESS_ASSIGNS_DAMAGE;
+        }
+        if (StaticAbilityCantAttackBlock.cantBlockBy(c, null)) {
+            statics |= UNBLOCKABLE;
+        } else if (StaticAbilityAssignCombatDamageAsUnblocked.assignCombatDamageAsUnblocked(c)
+                || StaticAbilityAssignCombatDamageAsUnblocked.assignCombatDamageAsUnblocked(c, false)) {
+            statics |= ASSIGNS_DAMAGE_AS_UNBLOCKED;
+        }
+        List<GameEntity> mAEnt = StaticAbilityMustAttack.entitiesMustAttack(c);
+        if (mAEnt.contains(c)) {
+            statics |= MUST_ATTACK;
+        } else if (!mAEnt.isEmpty()) {
+            statics |= MUST_ATTACK_PLAYER;
+        }
+        return statics;
+    }
+
+    private int computeValue(final Card c, final int statics, final boolean considerPT, final boolean considerCMC) {
+        final boolean debugging = isDebugging();
         int value = 80;
         if (!c.isToken()) {
             value += addValue(20, "non-token"); // tokens should be worth less than actual cards
@@ -43,7 +126,7 @@ public class CreatureEvaluator implements Function<Card, Integer> {
 
         if (considerPT) {
             value += addValue(power * 15, "power");
-            value += addValue(toughness * 10, "toughness: " + toughness);
+            value += addValue(toughness * 10, debugging ? "toughness: " + toughness : "toughness");
 
             // because backside is always stronger the potential makes it better than a single faced card
             if (c.hasKeyword(Keyword.DAYBOUND) && c.isDoubleFaced()) {
@@ -62,11 +145,10 @@ public class CreatureEvaluator implements Function<Card, Integer> {
             value += addValue(power * 10, "horses");
         }
 
-        if (StaticAbilityCantAttackBlock.cantBlockBy(c, null)) {
+        if ((statics & UNBLOCKABLE) != 0) {
             value += addValue(power * 10, "unblockable");
         } else {
-            if (StaticAbilityAssignCombatDamageAsUnblocked.assignCombatDamageAsUnblocked(c)
-                    || StaticAbilityAssignCombatDamageAsUnblocked.assignCombatDamageAsUnblocked(c, false)) {
+            if ((statics & ASSIGNS_DAMAGE_AS_UNBLOCKED) != 0) {
                 value += addValue(power * 6, "thorns");
             }
             if (c.hasKeyword(Keyword.FEAR)) {
@@ -156,7 +238,7 @@ public class CreatureEvaluator implements Function<Card, Integer> {
 
         for (final SpellAbility sa : c.getSpellAbilities()) {
             if (sa.isAbility()) {
-                value += addValue(evaluateSpellAbility(sa), "sa: " + sa);
+                value += addValue(evaluateSpellAbility(sa), debugging ? "sa: " + sa : "sa");
             }
         }
 
@@ -184,10 +266,9 @@ public class CreatureEvaluator implements Function<Card, Integer> {
         } else if (c.hasKeyword("CARDNAME can't block.")) {
             value -= subValue(10, "cant-block");
         } else {
-            List<GameEntity> mAEnt = StaticAbilityMustAttack.entitiesMustAttack(c);
-            if (mAEnt.contains(c)) {
+            if ((statics & MUST_ATTACK) != 0) {
                 value -= subValue(10, "must-attack");
-            } else if (!mAEnt.isEmpty()) {
+            } else if ((statics & MUST_ATTACK_PLAYER) != 0) {
                 value -= subValue(10, "must-attack-player");
             }/* else if (c.hasKeyword("CARDNAME can block only creatures with flying.")) {
             value -= subValue(toughness * 5, "reverse-reach");
@@ -278,6 +359,14 @@ public class CreatureEvaluator implements Function<Card, Integer> {
         return 10;
     }
 
+    /**
+     * Subclasses printing the reasons passed to {@link #addValue(int, String)} return true here, which also bypasses
+     * the cache.
+     */
+    protected boolean isDebugging() {
+        return false;
+    }
+
     protected int addValue(int value, String text) {
         return value;
     }
@@ -3,6 +3,7 @@ package forge.ai;
 import java.util.Set;
 
 import forge.LobbyPlayer;
+import forge.ai.replay.PlayerControllerReplay;
 import forge.game.Game;
 import forge.game.player.IGameEntitiesFactory;
 import forge.game.player.Player;
@@ -41,7 +42,10 @@ public class LobbyPlayerAi extends LobbyPlayer implements IGameEntitiesFactory {
     }
 
     private PlayerControllerAi createControllerFor(Player ai) {
-        PlayerControllerAi result = new PlayerControllerAi(ai.getGame(), ai, this);
+        final Game game = ai.getGame();
+        // decisions of recorded games are written down, the AI doesn't make those of replayed ones
+        PlayerControllerAi result = game.getDecisionRecorder() != null || game.getDecisionPlayback() != null
+                ? new PlayerControllerReplay(game, ai, this) : new PlayerControllerAi(game, ai, this);
         result.setUseSimulation(useSimulation);
         result.allowCheatShuffle(allowCheatShuffle);
         return result;
@@ -0,0 +1,219 @@
+package forge.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+
+import forge.card.mana.ManaCostShard;
+import forge.game.card.Card;
+import forge.game.mana.ManaCostBeingPaid;
+import forge.game.spellability.AbilityManaPart;
+import forge.game.spellability.SpellAbility;
+
+/**
+ * Assigns the mana sources of a player to the shards of a cost before it gets paid.
+ * <p>
+ * Shards and the cards that can pay them form a bipartite graph, and the assignment is a minimum cost flow through
+ * it: as many shards as possible get a card, Phyrexian shards last since life can pay for them, and among those
+ * assignments the one using the cards the AI ranked first for each shard. Paying one shard after another with the
+ * first source that fits can use up the only source of a later shard, which the assignment avoids.
+ * </p>
+ */
+public final class ManaPaymentSolver {
+    private static final int LIFE_COST = 100000;
+    private static final int INFINITE = Integer.MAX_VALUE / 2;
+
+    private ManaPaymentSolver() {
+    }
+
+    /**
+     * Orders the sources of every shard so the cards assigned to it come first, and takes the cards assigned only
+     * to other shards out of its list.
+     *
+     * @param cost the cost to pay
+     * @param sourcesForShards the sources for each shard, in the order the AI prefers them
+     * @return the sources taken out for each shard, to fall back on if the assigned ones can't pay after all, or
+     * null if the cost has shards the assignment doesn't model and the sources were left as they were.
+     */
+    public static ListMultimap<ManaCostShard, SpellAbility> assignSources(final ManaCostBeingPaid cost,
+            final ListMultimap<ManaCostShard, SpellAbility> sourcesForShards) {
+        final List<ManaCostShard> shards = new ArrayList<>();
+        int units = 0;
+        for (final ManaCostShard shard : cost.getDistinctShards()) {
+            if (shard.isOr2Generic() || shard == ManaCostShard.COLORED_X) {
+                return null; // paid partly as generic mana, or depending on the colors paid before
+            }
+            final int count = cost.getUnpaidShards(shard);
+            if (count > 0) {
+                shards.add(shard);
+                units += count;
+            }
+        }
+        if (units < 2) {
+            return null;
+        }
+
+        final Map<Card, Integer> cards = new LinkedHashMap<>();
+        final List<Integer> capacities = new ArrayList<>();
+        for (final SpellAbility ma : sourcesForShards.values()) {
+            final Card host = ma.getHostCard();
+            Integer index = cards.get(host);
+            if (index == null) {
+                index = cards.size();
+                cards.put(host, index);
+                capacities.add(1);
+            }
+            capacities.set(index, Math.max(capacities.get(index), getCapacity(ma)));
+        }
+
+        // nodes: the source, the shards, the cards, the sink
+        final int nShards = shards.size();
+        final int sink = nShards + cards.size() + 1;
+        final Graph graph = new Graph(sink + 1);
+        for (int s = 0; s < nShards; s++) {
+            final ManaCostShard shard = shards.get(s);
+            graph.addEdge(0, s + 1, cost.getUnpaidShards(shard), 0);
+            final List<SpellAbility> sources = sourcesForShards.get(shard);
+            final boolean[] linked = new boolean[cards.size()];
+            for (int rank = 0; rank < sources.size(); rank++) {
+                final int c = cards.get(sources.get(rank).getHostCard());
+                if (!linked[c]) {
+                    linked[c] = true;
+                    graph.addEdge(s + 1, nShards + 1 + c, capacities.get(c), rank + (shard.isPhyrexian() ? LIFE_COST : 0));
+                }
+            }
+        }
+        for (int c = 0; c < cards.size(); c++) {
+            graph.addEdge(nShards + 1 + c, sink, capacities.get(c), 0);
+        }
+        graph.minCostMaxFlow(0, sink);
+
+        final ListMultimap<ManaCostShard, SpellAbility> otherSources = ArrayListMultimap.create();
+        for (int s = 0; s < nShards; s++) {
+            final ManaCostShard shard = shards.get(s);
+            final boolean[] assigned = new boolean[cards.size()];
+            final boolean[] assignedElsewhere = new boolean[cards.size()];
+            for (int other = 0; other < nShards; other++) {
+                for (final int e : graph.edgesFrom(other + 1)) {
+                    if (graph.flow[e] > 0) {
+                        final int c = graph.to[e] - nShards - 1;
+                        if (other == s) {
+                            assigned[c] = true;
+                        } else {
+                            assignedElsewhere[c] = true;
+                        }
+                    }
+                }
+            }
+            final List<SpellAbility> first = new ArrayList<>();
+            final List<SpellAbility> rest = new ArrayList<>();
+            for (final SpellAbility ma : sourcesForShards.get(shard)) {
+                final int c = cards.get(ma.getHostCard());
+                if (assigned[c]) {
+                    first.add(ma);
+                } else if (assignedElsewhere[c]) {
+                    otherSources.put(shard, ma);
+                } else {
+                    rest.add(ma);
+                }
+            }
+            first.addAll(rest);
+            sourcesForShards.replaceValues(shard, first);
+        }
+        return otherSources;
+    }
+
+    // how many shards one activation can pay, only counting mana that is all of one kind
+    private static int getCapacity(final SpellAbility ma) {
+        final AbilityManaPart mp = ma.getManaPart();
+        if (mp == null || mp.isAnyMana() || mp.isComboMana() || mp.isSpecialMana() || ma.getSubAbility() != null) {
+            return 1;
+        }
+        final String[] produced = mp.mana(ma).split(" ");
+        for (final String mana : produced) {
+            if (!mana.equals(produced[0])) {
+                return 1;
+            }
+        }
+        return Math.max(1, ma.amountOfManaGenerated(true));
+    }
+
+    private static final class Graph {
+        private final int nodes;
+        private int[] to = new int[16], capacity = new int[16], cost = new int[16], flow = new int[16];
+        private int edges = 0;
+        private final List<List<Integer>> adjacent = new ArrayList<>();
+
+        private Graph(final int nodes) {
+            this.nodes = nodes;
+            for (int n = 0; n < nodes; n++) {
+                adjacent.add(new ArrayList<>());
+            }
+        }
+
+        private void addEdge(final int from, final int target, final int cap, final int edgeCost) {
+            if (edges + 2 > to.length) {
+                to = Arrays.copyOf(to, to.length * 2);
+                capacity = Arrays.copyOf(capacity, to.length);
+                cost = Arrays.copyOf(cost, to.length);
+                flow = Arrays.copyOf(flow, to.length);
+            }
+            // every edge is stored next to its residual edge, so e ^ 1 is the other one
+            to[edges] = target;
+            capacity[edges] = cap;
+            cost[edges] = edgeCost;
+            adjacent.get(from).add(edges++);
+            to[edges] = from;
+            capacity[edges] = 0;
+            cost[edges] = -edgeCost;
+            adjacent.get(target).add(edges++);
+        }
+
+        private List<Integer> edgesFrom(final int node) {
+            return adjacent.get(node);
+        }
+
+        // successive shortest paths, found with Bellman-Ford as the residual edges have negative costs
+        private void minCostMaxFlow(final int source, final int sink) {
+            final int[] distance = new int[nodes];
+            final int[] via = new int[nodes];
+            while (true) {
+                Arrays.fill(distance, INFINITE);
+                Arrays.fill(via, -1);
+                distance[source] = 0;
+                boolean changed = true;
+                for (int round = 0; round < nodes && changed; round++) {
+                    changed = false;
+                    for (int n = 0; n < nodes; n++) {
+                        if (distance[n] == INFINITE) {
+                            continue;
+                        }
+                        for (final int e : adjacent.get(n)) {
+                            if (capacity[e] > flow[e] && distance[n] + cost[e] < distance[to[e]]) {
+                                distance[to[e]] = distance[n] + cost[e];
+                                via[to[e]] = e;
+                                changed = true;
+                            }
+                        }
+                    }
+                }
+                if (distance[sink] == INFINITE) {
+                    return;
+                }
+                int amount = INFINITE;
+                for (int n = sink; n != source; n = to[via[n] ^ 1]) {
+                    amount = Math.min(amount, capacity[via[n]] - flow[via[n]]);
+                }
+                for (int n = sink; n != source; n = to[via[n] ^ 1]) {
+                    flow[via[n]] += amount;
+                    flow[via[n] ^ 1] -= amount;
+                }
+            }
+        }
+    }
+}
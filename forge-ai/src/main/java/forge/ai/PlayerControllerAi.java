@@ -518,20 +518,27 @@ public class PlayerControllerAi extends PlayerController {
     public void playSpellAbilityForFree(SpellAbility copySA, boolean mayChooseNewTargets) {
         // Ai is known to set targets in doTrigger, so if it cannot choose new targets, we won't call canPlays
         if (mayChooseNewTargets) {
-            if (copySA instanceof Spell) {
-                Spell spell = (Spell) copySA;
-                ((PlayerControllerAi) player.getController()).getAi().canPlayFromEffectAI(spell, true, true);
-            } else {
-                getAi().canPlaySa(copySA);
-            }
+            setupCopiedAbility(copySA);
         }
         ComputerUtil.playSpellAbilityForFree(player, copySA);
     }
 
+    /**
+     * Lets the AI choose new targets for a copy it plays.
+     */
+    protected void setupCopiedAbility(SpellAbility copySA) {
+        if (copySA instanceof Spell) {
+            Spell spell = (Spell) copySA;
+            ((PlayerControllerAi) player.getController()).getAi().canPlayFromEffectAI(spell, true, true);
+        } else {
+            getAi().canPlaySa(copySA);
+        }
+    }
+
     @Override
     public void playSpellAbilityNoStack(SpellAbility effectSA, boolean canSetupTargets) {
         if (canSetupTargets)
-            brains.doTrigger(effectSA, true); // first parameter does not matter, since return value won't be used
+            setupAbility(effectSA, true); // first parameter does not matter, since return value won't be used
         ComputerUtil.playNoStack(player, effectSA, getGame(), true);
     }
 
@@ -1068,7 +1075,7 @@ public class PlayerControllerAi extends PlayerController {
         emptyAbility.setSVars(sa.getSVars());
         emptyAbility.setCardState(sa.getCardState());
         emptyAbility.setXManaCostPaid(sa.getRootAbility().getXManaCostPaid());
-        if (ComputerUtilCost.willPayUnlessCost(sa, player, cost, alreadyPaid, allPayers)) {
+        if (willPayToPrevent(cost, sa, alreadyPaid, allPayers)) {
             boolean result = ComputerUtil.playNoStack(player, emptyAbility, getGame(), true); // AI needs something to resolve to pay that cost
             if (!emptyAbility.getPaidHash().isEmpty()) {
                 // report info to original sa (Argentum Masticore)
@@ -1079,9 +1086,16 @@ public class PlayerControllerAi extends PlayerController {
         return false;
     }
 
+    /**
+     * The AI part of {@link #payCostToPreventEffect}, paying the cost is left to the payment code.
+     */
+    protected boolean willPayToPrevent(Cost cost, SpellAbility sa, boolean alreadyPaid, FCollectionView<Player> allPayers) {
+        return ComputerUtilCost.willPayUnlessCost(sa, player, cost, alreadyPaid, allPayers);
+    }
+
     @Override
     public void orderAndPlaySimultaneousSa(List<SpellAbility> activePlayerSAs) {
-        for (final SpellAbility sa : getAi().orderPlaySa(activePlayerSAs)) {
+        for (final SpellAbility sa : orderSimultaneousSa(activePlayerSAs)) {
             if (sa.isTrigger() && !sa.isCopied()) {
                 if (prepareSingleSa(sa.getHostCard(), sa, true)) {
                     ComputerUtil.playStack(sa, player, getGame());
@@ -1112,6 +1126,10 @@ public class PlayerControllerAi extends PlayerController {
         }
     }
 
+    protected List<SpellAbility> orderSimultaneousSa(List<SpellAbility> activePlayerSAs) {
+        return getAi().orderPlaySa(activePlayerSAs);
+    }
+
     private boolean prepareSingleSa(final Card host, final SpellAbility sa, boolean isMandatory) {
         if (sa.getApi() == ApiType.Charm) {
             return CharmEffect.makeChoices(sa);
@@ -1121,10 +1139,18 @@ public class PlayerControllerAi extends PlayerController {
             sa.setTargetingPlayer(targetingPlayer);
             return targetingPlayer.getController().chooseTargetsFor(sa);
         } else {
-            return brains.doTrigger(sa, isMandatory);
+            return setupAbility(sa, isMandatory);
         }
     }
 
+    /**
+     * Lets the AI choose the targets and other choices of an ability it has to put on the stack or resolve.
+     * @return false if the AI doesn't want to play an optional ability.
+     */
+    protected boolean setupAbility(SpellAbility sa, boolean isMandatory) {
+        return brains.doTrigger(sa, isMandatory);
+    }
+
     @Override
     public void playTrigger(Card host, WrappedAbility wrapperAbility, boolean isMandatory) {
         if (prepareSingleSa(host, wrapperAbility, isMandatory)) {
@@ -1139,7 +1165,7 @@ public class PlayerControllerAi extends PlayerController {
         if (tgtSA instanceof Spell) { // Isn't it ALWAYS a spell?
             Spell spell = (Spell) tgtSA;
             // TODO if mandatory AI is only forced to use mana when it's already in the pool
-            if (brains.canPlayFromEffectAI(spell, !optional, noManaCost) == AiPlayDecision.WillPlay || !optional) {
+            if (willPlayFromEffect(spell, !optional, noManaCost) || !optional) {
                 if (noManaCost) {
                     return ComputerUtil.playSpellAbilityWithoutPayingManaCost(player, tgtSA, getGame());
                 }
@@ -1150,9 +1176,16 @@ public class PlayerControllerAi extends PlayerController {
         return true;
     }
 
+    /**
+     * Lets the AI decide whether to play a spell an effect lets it play, choosing its targets.
+     */
+    protected boolean willPlayFromEffect(Spell spell, boolean mandatory, boolean withoutManaCost) {
+        return brains.canPlayFromEffectAI(spell, mandatory, withoutManaCost) == AiPlayDecision.WillPlay;
+    }
+
     @Override
     public boolean chooseTargetsFor(SpellAbility currentAbility) {
-        return brains.doTrigger(currentAbility, true);
+        return setupAbility(currentAbility, true);
     }
 
     @Override
@@ -164,7 +164,7 @@ public class ChooseCardAi extends SpellAbilityAi {
         final Player ctrl = host.getController();
         String logic = sa.getParamOrDefault("AILogic", "");
         if (logic.contains("NotSelf")) {
-            CardCollection opt = (CardCollection) options;
+            CardCollection opt = new CardCollection(options);
             if (opt.contains(host)) {
                 opt.remove(host);
             }
@@ -0,0 +1,159 @@
+package forge.ai.replay;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import forge.LobbyPlayer;
+import forge.ai.LobbyPlayerAi;
+import forge.game.Game;
+import forge.game.GameEndReason;
+import forge.game.GameOutcome;
+import forge.game.GameRules;
+import forge.game.GameType;
+import forge.game.Match;
+import forge.game.player.RegisteredPlayer;
+import forge.game.replay.DecisionPlayback;
+import forge.game.replay.MatchRecording;
+import forge.game.replay.MatchRecording.RecordedGame;
+import forge.game.replay.MatchRecording.RecordedPlayer;
+import forge.game.replay.ReplayException;
+
+/**
+ * Records the games of a match between AI players and plays them again without the AI.
+ * <p>
+ * A replayed game spends its time in the rules engine only, so replays of real games make benchmarks of the engine,
+ * and a slow game found by a simulation can be played again to look into it.
+ * </p>
+ */
+public final class MatchReplay {
+    private MatchReplay() {
+    }
+
+    /**
+     * Records the decisions of the games the match plays from now on, together with its seed and players.
+     */
+    public static MatchRecording record(final Match match) {
+        final MatchRecording recording = new MatchRecording(match.getSeed(), match.getRules().getGameType());
+        for (final RegisteredPlayer rp : match.getPlayers()) {
+            final LobbyPlayer player = rp.getPlayer();
+            final String aiProfile = player instanceof LobbyPlayerAi ? ((LobbyPlayerAi) player).getAiProfile() : "";
+            recording.addPlayer(player.getName(), aiProfile, rp.getStartingLife(), rp.getTeamNumber(), rp.getDeck());
+        }
+        match.setRecording(recording);
+        return recording;
+    }
+
+    /**
+     * @return a headless match between the recorded players, whose games are played with the recorded decisions.
+     */
+    public static Match createMatch(final MatchRecording recording) {
+        final GameType type = recording.getGameType();
+        final GameRules rules = new GameRules(type);
+        rules.setAppliedVariants(EnumSet.of(type));
+        rules.setHeadless(true);
+
+        final List<RegisteredPlayer> players = new ArrayList<>();
+        for (final RecordedPlayer p : recording.getPlayers()) {
+            final RegisteredPlayer rp = type == GameType.Commander ? RegisteredPlayer.forCommander(p.getDeck()) : new RegisteredPlayer(p.getDeck());
+            final LobbyPlayerAi ai = new LobbyPlayerAi(p.getName(), null);
+            ai.setAiProfile(p.getAiProfile());
+            rp.setPlayer(ai);
+            rp.setStartingLife(p.getStartingLife());
+            rp.setTeamNumber(p.getTeam());
+            players.add(rp);
+        }
+        final Match match = new Match(rules, players, "Replay");
+        match.setReplay(recording);
+        return match;
+    }
+
+    /**
+     * Plays all the recorded games again.
+     */
+    public static List<Result> replay(final MatchRecording recording) {
+        final Match match = createMatch(recording);
+        final List<RecordedGame> games = recording.getGames();
+        final List<Result> results = new ArrayList<>();
+        for (final RecordedGame recorded : games) {
+            results.add(replayGame(match, recorded));
+        }
+        return results;
+    }
+
+    /**
+     * Plays the next recorded game of a match made by {@link #createMatch}.
+     */
+    public static Result replayGame(final Match match, final RecordedGame recorded) {
+        final Game game = match.createGame();
+        final DecisionPlayback playback = game.getDecisionPlayback();
+        String error = null;
+        final long start = System.nanoTime();
+        try {
+            match.startGame(game);
+        } catch (final ReplayException e) {
+            // a game stopped while it was recorded ends where its decisions do
+            if (!e.isEndOfRecording()) {
+                error = e.getMessage();
+            }
+        }
+        final long nanos = System.nanoTime() - start;
+
+        final GameOutcome outcome = game.getOutcome();
+        final String winner = outcome == null || outcome.isDraw() ? "" : outcome.getWinningLobbyPlayer().getName();
+        final int turns = outcome == null ? game.getPhaseHandler().getTurn() : outcome.getLastTurnNumber();
+        if (error == null && recorded.isFinished()) {
+            if (!playback.isFinished()) {
+                error = String.format("The game ended after %d of %d decisions", playback.getDecisionsReplayed(), playback.getDecisionCount());
+            } else if (!winner.equals(recorded.getWinner()) || turns != recorded.getTurns()) {
+                error = String.format("The game ended on turn %d won by '%s', the recorded one on turn %d won by '%s'",
+                        turns, winner, recorded.getTurns(), recorded.getWinner());
+            }
+        }
+        if (!game.isGameOver()) {
+            game.setGameOver(GameEndReason.Draw);
+        }
+        return new Result(playback.getDecisionsReplayed(), turns, winner, nanos, error);
+    }
+
+    public static final class Result {
+        private final int decisions;
+        private final int turns;
+        private final String winner;
+        private final long nanos;
+        private final String error;
+
+        private Result(final int decisions0, final int turns0, final String winner0, final long nanos0, final String error0) {
+            decisions = decisions0;
+            turns = turns0;
+            winner = winner0;
+            nanos = nanos0;
+            error = error0;
+        }
+
+        public int getDecisions() {
+            return decisions;
+        }
+        public int getTurns() {
+            return turns;
+        }
+        /**
+         * @return the name of the player who won, empty for a draw or a game stopped before it was over.
+         */
+        public String getWinner() {
+            return winner;
+        }
+        public long getNanos() {
+            return nanos;
+        }
+        /**
+         * @return null if the game went like the recorded one, or how it went another way.
+         */
+        public String getError() {
+            return error;
+        }
+        public boolean isInSync() {
+            return error == null;
+        }
+    }
+}
@@ -0,0 +1,784 @@
+package forge.ai.replay;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.tuple.ImmutablePair;
+import org.apache.commons.lang3.tuple.Pair;
+
+import com.google.common.base.Predicate;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Lists;
+
+import forge.LobbyPlayer;
+import forge.StaticData;
+import forge.ai.AiCardMemory;
+import forge.ai.AiCardMemory.MemorySet;
+import forge.ai.AiProps;
+import forge.ai.PlayerControllerAi;
+import forge.card.ColorSet;
+import forge.card.ICardFace;
+import forge.card.mana.ManaCost;
+import forge.card.mana.ManaCostShard;
+import forge.game.Game;
+import forge.game.GameEntity;
+import forge.game.GameObject;
+import forge.game.PlanarDice;
+import forge.game.card.Card;
+import forge.game.card.CardCollection;
+import forge.game.card.CardCollectionView;
+import forge.game.card.CounterType;
+import forge.game.combat.Combat;
+import forge.game.cost.Cost;
+import forge.game.cost.CostPart;
+import forge.game.keyword.KeywordInterface;
+import forge.game.mana.Mana;
+import forge.game.player.DelayedReveal;
+import forge.game.player.Player;
+import forge.game.player.PlayerActionConfirmMode;
+import forge.game.replacement.ReplacementEffect;
+import forge.game.replay.Decision;
+import forge.game.replay.DecisionPlayback;
+import forge.game.replay.DecisionRecorder;
+import forge.game.spellability.AbilitySub;
+import forge.game.spellability.OptionalCostValue;
+import forge.game.spellability.Spell;
+import forge.game.spellability.SpellAbility;
+import forge.game.spellability.SpellAbilityStackInstance;
+import forge.game.trigger.WrappedAbility;
+import forge.game.zone.ZoneType;
+import forge.item.PaperCard;
+import forge.util.MyRandom;
+import forge.util.SeededRandom;
+import forge.util.collect.FCollectionView;
+
+/**
+ * The AI controller of a game being recorded or replayed.
+ * <p>
+ * When the game is recorded the AI decides as usual and each decision is written to the recorder of the game. While
+ * deciding the AI draws its random numbers from a generator of its own, so the random choices of the game itself,
+ * like shuffles, come out the same when it is replayed. When the game is replayed the decisions are read back instead
+ * of asking the AI.
+ * </p>
+ * <p>
+ * Some of what the controller does isn't recorded, as it comes out the same when replayed:
+ * <ul>
+ * <li>choosing targets, for a trigger or an ability played by an effect, goes through {@link #setupAbility}, which
+ * is recorded;</li>
+ * <li>new targets, the ability to play out of several, sideboarding and the cards won to add to the deck are fixed
+ * answers of the AI controller;</li>
+ * <li>playing what was chosen and paying its costs and mana goes through the AI payment code, which works from the
+ * state of the game, the random numbers of the game and the cards the AI remembers, like the mana sources it holds
+ * back for later. Those are written with each decision that changed them and put back when it is replayed.</li>
+ * </ul>
+ * </p>
+ */
+public class PlayerControllerReplay extends PlayerControllerAi {
+    private final Random aiRandom;
+    private long memoryRecorded;
+
+    public PlayerControllerReplay(Game game, Player p, LobbyPlayer lp) {
+        super(game, p, lp);
+        aiRandom = new SeededRandom(game.getRandom().getSeed() + p.getId() + 1);
+        memoryRecorded = getAi().getCardMemory().hashRemembered();
+    }
+
+    private <T> T decide(final Decision decision, final Supplier<T> ai, final BiConsumer<DecisionRecorder, T> write,
+            final Function<DecisionPlayback, T> read) {
+        final DecisionPlayback playback = getGame().getDecisionPlayback();
+        if (playback != null) {
+            playback.begin(decision, player);
+            final T result = read.apply(playback);
+            readMemory(playback);
+            playback.end();
+            return result;
+        }
+        final DecisionRecorder recorder = getGame().getDecisionRecorder();
+        if (recorder == null || recorder.isDeciding()) {
+            // made while making another decision, the replayed game doesn't ask for it
+            return ai.get();
+        }
+        recorder.begin(decision, player);
+        try {
+            final T result;
+            final Random previous = MyRandom.setThreadRandom(aiRandom);
+            try {
+                result = ai.get();
+            } finally {
+                MyRandom.setThreadRandom(previous);
+            }
+            write.accept(recorder, result);
+            writeMemory(recorder);
+            return result;
+        } finally {
+            recorder.end();
+        }
+    }
+
+    // the cards the AI remembered while deciding, like the mana sources it holds back, when they changed
+    private void writeMemory(final DecisionRecorder recorder) {
+        final AiCardMemory memory = getAi().getCardMemory();
+        final long hash = memory.hashRemembered();
+        recorder.writeBoolean(hash != memoryRecorded);
+        if (hash == memoryRecorded) {
+            return;
+        }
+        memoryRecorded = hash;
+        for (final MemorySet set : MemorySet.values()) {
+            // cards that left the game can't be looked up again, nor be paid with
+            final Set<Card> remembered = AiCardMemory.getMemorySet(player, set);
+            recorder.writeCards(remembered == null ? null : Iterables.filter(remembered, c -> getGame().findById(c.getId()) != null));
+        }
+    }
+
+    private void readMemory(final DecisionPlayback playback) {
+        if (!playback.readBoolean()) {
+            return;
+        }
+        final AiCardMemory memory = getAi().getCardMemory();
+        for (final MemorySet set : MemorySet.values()) {
+            final CardCollection remembered = playback.readCards(null);
+            memory.clearMemorySet(set);
+            if (remembered != null) {
+                for (final Card c : remembered) {
+                    memory.rememberCard(c, set);
+                }
+            }
+        }
+    }
+
+    private boolean decideBoolean(final Decision decision, final Supplier<Boolean> ai) {
+        return decide(decision, ai, DecisionRecorder::writeBoolean, DecisionPlayback::readBoolean);
+    }
+
+    private int decideInt(final Decision decision, final Supplier<Integer> ai) {
+        return decide(decision, ai, DecisionRecorder::writeInt, DecisionPlayback::readInt);
+    }
+
+    private String decideString(final Decision decision, final Supplier<String> ai) {
+        return decide(decision, ai, DecisionRecorder::writeString, DecisionPlayback::readString);
+    }
+
+    private <T extends CardCollectionView> CardCollection decideCards(final Decision decision, final Supplier<T> ai,
+            final Iterable<Card> options) {
+        return decide(decision, () -> {
+            final T cards = ai.get();
+            return cards == null ? null : cards instanceof CardCollection ? (CardCollection) cards : new CardCollection(cards);
+        }, DecisionRecorder::writeCards, p -> p.readCards(options));
+    }
+
+    // the AI may take the chosen options out of the list it gets, they are looked up in a copy
+    private <T> T decideChoice(final Decision decision, final Supplier<T> ai, final Iterable<T> options) {
+        final List<T> copy = Lists.newArrayList(options);
+        return decide(decision, ai, (r, chosen) -> r.writeChoice(copy, chosen), p -> p.readChoice(copy));
+    }
+
+    private <T> List<T> decideChoices(final Decision decision, final Supplier<List<T>> ai, final Iterable<T> options) {
+        final List<T> copy = Lists.newArrayList(options);
+        return decide(decision, ai, (r, chosen) -> r.writeChoices(copy, chosen), p -> p.readChoices(copy));
+    }
+
+    private boolean decideAbility(final Decision decision, final SpellAbility sa, final Supplier<Boolean> ai) {
+        return decide(decision, ai, (r, result) -> {
+            r.writeBoolean(result);
+            r.writeAbilityChoices(sa);
+        }, p -> {
+            final boolean result = p.readBoolean();
+            p.readAbilityChoices(sa);
+            return result;
+        });
+    }
+
+    @Override
+    public List<SpellAbility> chooseSpellAbilityToPlay() {
+        return decide(Decision.SPELL_ABILITY_TO_PLAY, super::chooseSpellAbilityToPlay, (r, chosen) -> {
+            r.writeInteger(chosen == null ? null : chosen.size());
+            if (chosen != null) {
+                for (final SpellAbility sa : chosen) {
+                    r.writeAbility(sa);
+                }
+            }
+        }, p -> {
+            final Integer size = p.readInteger();
+            if (size == null) {
+                return null;
+            }
+            final List<SpellAbility> chosen = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                chosen.add(p.readAbility());
+            }
+            return chosen;
+        });
+    }
+
+    @Override
+    protected boolean setupAbility(final SpellAbility sa, final boolean isMandatory) {
+        return decideAbility(Decision.SETUP_ABILITY, sa, () -> super.setupAbility(sa, isMandatory));
+    }
+
+    @Override
+    protected boolean willPlayFromEffect(final Spell spell, final boolean mandatory, final boolean withoutManaCost) {
+        return decideAbility(Decision.PLAY_FROM_EFFECT, spell, () -> super.willPlayFromEffect(spell, mandatory, withoutManaCost));
+    }
+
+    @Override
+    protected void setupCopiedAbility(final SpellAbility copySA) {
+        decideAbility(Decision.SETUP_COPIED_ABILITY, copySA, () -> {
+            super.setupCopiedAbility(copySA);
+            return true;
+        });
+    }
+
+    @Override
+    protected List<SpellAbility> orderSimultaneousSa(final List<SpellAbility> activePlayerSAs) {
+        return decideChoices(Decision.ORDER_SIMULTANEOUS_ABILITIES, () -> super.orderSimultaneousSa(activePlayerSAs), activePlayerSAs);
+    }
+
+    @Override
+    protected boolean willPayToPrevent(final Cost cost, final SpellAbility sa, final boolean alreadyPaid, final FCollectionView<Player> allPayers) {
+        return decideBoolean(Decision.PAY_TO_PREVENT_EFFECT, () -> super.willPayToPrevent(cost, sa, alreadyPaid, allPayers));
+    }
+
+    @Override
+    public void declareAttackers(final Player attacker, final Combat combat) {
+        decide(Decision.DECLARE_ATTACKERS, () -> {
+            super.declareAttackers(attacker, combat);
+            return combat;
+        }, (r, c) -> {
+            final CardCollection attackers = c.getAttackers();
+            r.writeInt(attackers.size());
+            for (final Card a : attackers) {
+                r.writeCard(a);
+                r.writeObject(c.getDefenderByAttacker(a));
+            }
+        }, p -> {
+            for (int n = p.readInt(); n > 0; n--) {
+                final Card a = p.readCard();
+                combat.addAttacker(a, (GameEntity) p.readObject());
+            }
+            return combat;
+        });
+    }
+
+    @Override
+    public void declareBlockers(final Player defender, final Combat combat) {
+        decide(Decision.DECLARE_BLOCKERS, () -> {
+            super.declareBlockers(defender, combat);
+            return combat;
+        }, (r, c) -> {
+            final CardCollection attackers = c.getAttackers();
+            r.writeInt(attackers.size());
+            for (final Card a : attackers) {
+                r.writeCard(a);
+                final CardCollection blockers = new CardCollection();
+                for (final Card b : c.getBlockers(a)) {
+                    if (b.getController() == defender) {
+                        blockers.add(b);
+                    }
+                }
+                r.writeCards(blockers);
+            }
+        }, p -> {
+            for (int n = p.readInt(); n > 0; n--) {
+                final Card a = p.readCard();
+                final CardCollection blockers = p.readCards(null);
+                for (final Card b : blockers) {
+                    if (!combat.getBlockers(a).contains(b)) {
+                        combat.addBlocker(a, b);
+                    }
+                }
+            }
+            return combat;
+        });
+    }
+
+    @Override
+    public Map<Card, Integer> assignCombatDamage(final Card attacker, final CardCollectionView blockers, final CardCollectionView remaining,
+            final int damageDealt, final GameEntity defender, final boolean overrideOrder) {
+        return decide(Decision.ASSIGN_COMBAT_DAMAGE,
+                () -> super.assignCombatDamage(attacker, blockers, remaining, damageDealt, defender, overrideOrder),
+                DecisionRecorder::writeCardAmounts, p -> p.readCardAmounts(blockers));
+    }
+
+    @Override
+    public Map<GameEntity, Integer> divideShield(final Card effectSource, final Map<GameEntity, Integer> affected, final int shieldAmount) {
+        return decide(Decision.DIVIDE_SHIELD, () -> super.divideShield(effectSource, affected, shieldAmount), (r, shields) -> {
+            r.writeMapSize(shields);
+            if (shields != null) {
+                for (final Entry<GameEntity, Integer> e : shields.entrySet()) {
+                    r.writeObject(e.getKey());
+                    r.writeInteger(e.getValue());
+                }
+            }
+        }, p -> {
+            final int size = p.readMapSize();
+            if (size < 0) {
+                return null;
+            }
+            final Map<GameEntity, Integer> shields = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                final GameEntity e = (GameEntity) p.readObject();
+                shields.put(e, p.readInteger());
+            }
+            return shields;
+        });
+    }
+
+    @Override
+    public Map<Byte, Integer> specifyManaCombo(final SpellAbility sa, final ColorSet colorSet, final int manaAmount, final boolean different) {
+        return decide(Decision.MANA_COMBO, () -> super.specifyManaCombo(sa, colorSet, manaAmount, different), (r, combo) -> {
+            r.writeMapSize(combo);
+            if (combo != null) {
+                for (final Entry<Byte, Integer> e : combo.entrySet()) {
+                    r.writeInt(e.getKey());
+                    r.writeInteger(e.getValue());
+                }
+            }
+        }, p -> {
+            final int size = p.readMapSize();
+            if (size < 0) {
+                return null;
+            }
+            final Map<Byte, Integer> combo = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                final byte color = (byte) p.readInt();
+                combo.put(color, p.readInteger());
+            }
+            return combo;
+        });
+    }
+
+    @Override
+    public Integer announceRequirements(final SpellAbility ability, final String announce) {
+        return decide(Decision.ANNOUNCE_REQUIREMENTS, () -> super.announceRequirements(ability, announce),
+                DecisionRecorder::writeInteger, DecisionPlayback::readInteger);
+    }
+
+    @Override
+    public CardCollectionView choosePermanentsToSacrifice(final SpellAbility sa, final int min, final int max, final CardCollectionView validTargets, final String message) {
+        return decideCards(Decision.PERMANENTS_TO_SACRIFICE, () -> super.choosePermanentsToSacrifice(sa, min, max, validTargets, message), validTargets);
+    }
+
+    @Override
+    public CardCollectionView choosePermanentsToDestroy(final SpellAbility sa, final int min, final int max, final CardCollectionView validTargets, final String message) {
+        return decideCards(Decision.PERMANENTS_TO_DESTROY, () -> super.choosePermanentsToDestroy(sa, min, max, validTargets, message), validTargets);
+    }
+
+    @Override
+    public Pair<SpellAbilityStackInstance, GameObject> chooseTarget(final SpellAbility saSrc, final List<Pair<SpellAbilityStackInstance, GameObject>> allTargets) {
+        return decideChoice(Decision.TARGET_ON_STACK, () -> super.chooseTarget(saSrc, allTargets), allTargets);
+    }
+
+    @Override
+    public CardCollectionView chooseCardsForEffect(final CardCollectionView sourceList, final SpellAbility sa, final String title, final int min, final int max,
+            final boolean isOptional, final Map<String, Object> params) {
+        return decideCards(Decision.CARDS_FOR_EFFECT, () -> super.chooseCardsForEffect(sourceList, sa, title, min, max, isOptional, params), sourceList);
+    }
+
+    @Override
+    public <T extends GameEntity> T chooseSingleEntityForEffect(final FCollectionView<T> optionList, final DelayedReveal delayedReveal, final SpellAbility sa,
+            final String title, final boolean isOptional, final Player targetedPlayer, final Map<String, Object> params) {
+        return decideChoice(Decision.ENTITY_FOR_EFFECT,
+                () -> super.chooseSingleEntityForEffect(optionList, delayedReveal, sa, title, isOptional, targetedPlayer, params), optionList);
+    }
+
+    @Override
+    public <T extends GameEntity> List<T> chooseEntitiesForEffect(final FCollectionView<T> optionList, final int min, final int max,
+            final DelayedReveal delayedReveal, final SpellAbility sa, final String title, final Player targetedPlayer, final Map<String, Object> params) {
+        return decideChoices(Decision.ENTITIES_FOR_EFFECT,
+                () -> super.chooseEntitiesForEffect(optionList, min, max, delayedReveal, sa, title, targetedPlayer, params), optionList);
+    }
+
+    @Override
+    public List<SpellAbility> chooseSpellAbilitiesForEffect(final List<SpellAbility> spells, final SpellAbility sa, final String title, final int num,
+            final Map<String, Object> params) {
+        return decideChoices(Decision.SPELL_ABILITIES_FOR_EFFECT, () -> super.chooseSpellAbilitiesForEffect(spells, sa, title, num, params), spells);
+    }
+
+    @Override
+    public SpellAbility chooseSingleSpellForEffect(final List<SpellAbility> spells, final SpellAbility sa, final String title, final Map<String, Object> params) {
+        return decideChoice(Decision.SPELL_FOR_EFFECT, () -> super.chooseSingleSpellForEffect(spells, sa, title, params), spells);
+    }
+
+    @Override
+    public boolean confirmAction(final SpellAbility sa, final PlayerActionConfirmMode mode, final String message, final Map<String, Object> params) {
+        return decideBoolean(Decision.CONFIRM_ACTION, () -> super.confirmAction(sa, mode, message, params));
+    }
+
+    @Override
+    public boolean confirmBidAction(final SpellAbility sa, final PlayerActionConfirmMode mode, final String string, final int bid, final Player winner) {
+        return decideBoolean(Decision.CONFIRM_BID, () -> super.confirmBidAction(sa, mode, string, bid, winner));
+    }
+
+    @Override
+    public boolean confirmReplacementEffect(final ReplacementEffect replacementEffect, final SpellAbility effectSA, final GameEntity affected, final String question) {
+        return decideBoolean(Decision.CONFIRM_REPLACEMENT_EFFECT, () -> super.confirmReplacementEffect(replacementEffect, effectSA, affected, question));
+    }
+
+    @Override
+    public boolean confirmStaticApplication(final Card hostCard, final GameEntity affected, final String logic, final String message) {
+        return decideBoolean(Decision.CONFIRM_STATIC_APPLICATION, () -> super.confirmStaticApplication(hostCard, affected, logic, message));
+    }
+
+    @Override
+    public boolean confirmTrigger(final WrappedAbility sa) {
+        return decideBoolean(Decision.CONFIRM_TRIGGER, () -> super.confirmTrigger(sa));
+    }
+
+    @Override
+    public Player chooseStartingPlayer(final boolean isFirstGame) {
+        return decide(Decision.STARTING_PLAYER, () -> super.chooseStartingPlayer(isFirstGame), DecisionRecorder::writePlayer, DecisionPlayback::readPlayer);
+    }
+
+    @Override
+    public CardCollection orderBlockers(final Card attacker, final CardCollection blockers) {
+        return decideCards(Decision.ORDER_BLOCKERS, () -> super.orderBlockers(attacker, blockers), blockers);
+    }
+
+    @Override
+    public List<Card> exertAttackers(final List<Card> attackers) {
+        return decide(Decision.EXERT_ATTACKERS, () -> super.exertAttackers(attackers), DecisionRecorder::writeCards, p -> p.readCards(attackers));
+    }
+
+    @Override
+    public List<Card> enlistAttackers(final List<Card> attackers) {
+        return decide(Decision.ENLIST_ATTACKERS, () -> super.enlistAttackers(attackers), DecisionRecorder::writeCards, p -> p.readCards(attackers));
+    }
+
+    @Override
+    public CardCollection orderBlocker(final Card attacker, final Card blocker, final CardCollection oldBlockers) {
+        return decideCards(Decision.ORDER_BLOCKER, () -> super.orderBlocker(attacker, blocker, oldBlockers), oldBlockers);
+    }
+
+    @Override
+    public CardCollection orderAttackers(final Card blocker, final CardCollection attackers) {
+        return decideCards(Decision.ORDER_ATTACKERS, () -> super.orderAttackers(blocker, attackers), attackers);
+    }
+
+    @Override
+    public ImmutablePair<CardCollection, CardCollection> arrangeForScry(final CardCollection topN) {
+        return decideArrangement(Decision.SCRY, () -> super.arrangeForScry(topN), topN);
+    }
+
+    @Override
+    public ImmutablePair<CardCollection, CardCollection> arrangeForSurveil(final CardCollection topN) {
+        return decideArrangement(Decision.SURVEIL, () -> super.arrangeForSurveil(topN), topN);
+    }
+
+    private ImmutablePair<CardCollection, CardCollection> decideArrangement(final Decision decision,
+            final Supplier<ImmutablePair<CardCollection, CardCollection>> ai, final CardCollection topN) {
+        return decide(decision, ai, (r, arranged) -> {
+            r.writeCards(arranged.getLeft());
+            r.writeCards(arranged.getRight());
+        }, p -> {
+            final CardCollection left = p.readCards(topN);
+            return ImmutablePair.of(left, p.readCards(topN));
+        });
+    }
+
+    @Override
+    public boolean willPutCardOnTop(final Card c) {
+        return decideBoolean(Decision.PUT_CARD_ON_TOP, () -> super.willPutCardOnTop(c));
+    }
+
+    @Override
+    public CardCollectionView orderMoveToZoneList(final CardCollectionView cards, final ZoneType destinationZone, final SpellAbility source) {
+        return decideCards(Decision.ORDER_MOVE_TO_ZONE, () -> super.orderMoveToZoneList(cards, destinationZone, source), cards);
+    }
+
+    @Override
+    public CardCollection chooseCardsToDiscardFrom(final Player p, final SpellAbility sa, final CardCollection validCards, final int min, final int max) {
+        return decideCards(Decision.DISCARD_FROM, () -> super.chooseCardsToDiscardFrom(p, sa, validCards, min, max), validCards);
+    }
+
+    @Override
+    public CardCollectionView chooseCardsToDiscardUnlessType(final int num, final CardCollectionView hand, final String uType, final SpellAbility sa) {
+        return decideCards(Decision.DISCARD_UNLESS_TYPE, () -> super.chooseCardsToDiscardUnlessType(num, hand, uType, sa), hand);
+    }
+
+    @Override
+    public CardCollection chooseCardsToDiscardToMaximumHandSize(final int numDiscard) {
+        return decideCards(Decision.DISCARD_TO_HAND_SIZE, () -> super.chooseCardsToDiscardToMaximumHandSize(numDiscard), player.getCardsIn(ZoneType.Hand));
+    }
+
+    @Override
+    public CardCollectionView chooseCardsToDelve(final int genericAmount, final CardCollection grave) {
+        return decideCards(Decision.DELVE, () -> super.chooseCardsToDelve(genericAmount, grave), grave);
+    }
+
+    @Override
+    public CardCollection chooseCardsToRevealFromHand(final int min, final int max, final CardCollectionView valid) {
+        return decideCards(Decision.REVEAL_FROM_HAND, () -> super.chooseCardsToRevealFromHand(min, max, valid), valid);
+    }
+
+    @Override
+    public List<SpellAbility> chooseSaToActivateFromOpeningHand(final List<SpellAbility> usableFromOpeningHand) {
+        return decideChoices(Decision.ACTIVATE_FROM_OPENING_HAND, () -> super.chooseSaToActivateFromOpeningHand(usableFromOpeningHand), usableFromOpeningHand);
+    }
+
+    @Override
+    public Mana chooseManaFromPool(final List<Mana> manaChoices) {
+        return decideChoice(Decision.MANA_FROM_POOL, () -> super.chooseManaFromPool(manaChoices), manaChoices);
+    }
+
+    @Override
+    public String chooseSomeType(final String kindOfType, final SpellAbility sa, final Collection<String> validTypes, final List<String> invalidTypes,
+            final boolean isOptional) {
+        return decideString(Decision.TYPE, () -> super.chooseSomeType(kindOfType, sa, validTypes, invalidTypes, isOptional));
+    }
+
+    @Override
+    public String chooseSector(final Card assignee, final String ai, final List<String> sectors) {
+        return decideString(Decision.SECTOR, () -> super.chooseSector(assignee, ai, sectors));
+    }
+
+    @Override
+    public PlanarDice choosePDRollToIgnore(final List<PlanarDice> rolls) {
+        return decideChoice(Decision.PLANAR_DIE_TO_IGNORE, () -> super.choosePDRollToIgnore(rolls), rolls);
+    }
+
+    @Override
+    public Object vote(final SpellAbility sa, final String prompt, final List<Object> options, final ListMultimap<Object, Player> votes, final Player forPlayer) {
+        return decideChoice(Decision.VOTE, () -> super.vote(sa, prompt, options, votes, forPlayer), options);
+    }
+
+    @Override
+    public CardCollectionView getCardsToMulligan(final Player firstPlayer) {
+        return decideCards(Decision.CARDS_TO_MULLIGAN, () -> super.getCardsToMulligan(firstPlayer), player.getCardsIn(ZoneType.Hand));
+    }
+
+    @Override
+    public boolean mulliganKeepHand(final Player firstPlayer, final int cardsToReturn) {
+        return decideBoolean(Decision.KEEP_HAND, () -> super.mulliganKeepHand(firstPlayer, cardsToReturn));
+    }
+
+    @Override
+    public CardCollectionView londonMulliganReturnCards(final Player mulliganingPlayer, final int cardsToReturn) {
+        return decideCards(Decision.LONDON_MULLIGAN_RETURN, () -> super.londonMulliganReturnCards(mulliganingPlayer, cardsToReturn),
+                player.getCardsIn(ZoneType.Hand));
+    }
+
+    @Override
+    public boolean confirmMulliganScry(final Player p) {
+        return decideBoolean(Decision.MULLIGAN_SCRY, () -> super.confirmMulliganScry(p));
+    }
+
+    @Override
+    public int chooseNumberForKeywordCost(final SpellAbility sa, final Cost cost, final KeywordInterface keyword, final String prompt, final int max) {
+        return decideInt(Decision.NUMBER_FOR_KEYWORD_COST, () -> super.chooseNumberForKeywordCost(sa, cost, keyword, prompt, max));
+    }
+
+    @Override
+    public int chooseNumber(final SpellAbility sa, final String title, final int min, final int max) {
+        return decideInt(Decision.NUMBER, () -> super.chooseNumber(sa, title, min, max));
+    }
+
+    @Override
+    public int chooseNumber(final SpellAbility sa, final String string, final int min, final int max, final Map<String, Object> params) {
+        return decideInt(Decision.NUMBER, () -> super.chooseNumber(sa, string, min, max, params));
+    }
+
+    @Override
+    public int chooseNumber(final SpellAbility sa, final String title, final List<Integer> values, final Player relatedPlayer) {
+        return decideInt(Decision.NUMBER_FROM_VALUES, () -> super.chooseNumber(sa, title, values, relatedPlayer));
+    }
+
+    @Override
+    public boolean chooseBinary(final SpellAbility sa, final String question, final BinaryChoiceType kindOfChoice, final Boolean defaultChoice) {
+        return decideBoolean(Decision.BINARY, () -> super.chooseBinary(sa, question, kindOfChoice, defaultChoice));
+    }
+
+    @Override
+    public boolean chooseBinary(final SpellAbility sa, final String question, final BinaryChoiceType kindOfChoice, final Map<String, Object> params) {
+        return decideBoolean(Decision.BINARY, () -> super.chooseBinary(sa, question, kindOfChoice, params));
+    }
+
+    @Override
+    public boolean chooseFlipResult(final SpellAbility sa, final Player flipper, final boolean[] results, final boolean call) {
+        return decideBoolean(Decision.FLIP_RESULT, () -> super.chooseFlipResult(sa, flipper, results, call));
+    }
+
+    @Override
+    public Card chooseProtectionShield(final GameEntity entityBeingDamaged, final List<String> options, final Map<String, Card> choiceMap) {
+        return decide(Decision.PROTECTION_SHIELD, () -> super.chooseProtectionShield(entityBeingDamaged, options, choiceMap),
+                DecisionRecorder::writeCard, p -> p.readCard(choiceMap.values()));
+    }
+
+    @Override
+    public List<AbilitySub> chooseModeForAbility(final SpellAbility sa, final List<AbilitySub> possible, final int min, final int num,
+            final boolean allowRepeat) {
+        // the AI chooses the targets of the modes along with them
+        final List<AbilitySub> options = Lists.newArrayList(possible);
+        return decide(Decision.MODES, () -> super.chooseModeForAbility(sa, possible, min, num, allowRepeat), (r, chosen) -> {
+            r.writeChoices(options, chosen);
+            if (chosen != null) {
+                for (final AbilitySub sub : chosen) {
+                    r.writeAbilityChoices(sub);
+                }
+            }
+        }, p -> {
+            final List<AbilitySub> chosen = p.readChoices(options);
+            if (chosen != null) {
+                for (final AbilitySub sub : chosen) {
+                    p.readAbilityChoices(sub);
+                }
+            }
+            return chosen;
+        });
+    }
+
+    @Override
+    public byte chooseColor(final String message, final SpellAbility sa, final ColorSet colors) {
+        return (byte) decideInt(Decision.COLOR, () -> (int) super.chooseColor(message, sa, colors));
+    }
+
+    @Override
+    public byte chooseColorAllowColorless(final String message, final Card c, final ColorSet colors) {
+        return (byte) decideInt(Decision.COLOR_ALLOW_COLORLESS, () -> (int) super.chooseColorAllowColorless(message, c, colors));
+    }
+
+    @Override
+    public ICardFace chooseSingleCardFace(final SpellAbility sa, final String message, final Predicate<ICardFace> cpp, final String name) {
+        return decide(Decision.CARD_FACE, () -> super.chooseSingleCardFace(sa, message, cpp, name),
+                (r, face) -> r.writeString(face == null ? null : face.getName()), p -> {
+                    final String faceName = p.readString();
+                    return faceName == null ? null : StaticData.instance().getCommonCards().getFaceByName(faceName);
+                });
+    }
+
+    @Override
+    public List<String> chooseColors(final String message, final SpellAbility sa, final int min, final int max, final List<String> options) {
+        return decideChoices(Decision.COLORS, () -> super.chooseColors(message, sa, min, max, options), options);
+    }
+
+    @Override
+    public CounterType chooseCounterType(final List<CounterType> options, final SpellAbility sa, final String prompt, final Map<String, Object> params) {
+        return decideChoice(Decision.COUNTER_TYPE, () -> super.chooseCounterType(options, sa, prompt, params), options);
+    }
+
+    @Override
+    public String chooseKeywordForPump(final List<String> options, final SpellAbility sa, final String prompt, final Card tgtCard) {
+        return decideChoice(Decision.KEYWORD_FOR_PUMP, () -> super.chooseKeywordForPump(options, sa, prompt, tgtCard), options);
+    }
+
+    @Override
+    public boolean confirmPayment(final CostPart costPart, final String string, final SpellAbility sa) {
+        return decideBoolean(Decision.CONFIRM_PAYMENT, () -> super.confirmPayment(costPart, string, sa));
+    }
+
+    @Override
+    public ReplacementEffect chooseSingleReplacementEffect(final String prompt, final List<ReplacementEffect> possibleReplacers) {
+        return decideChoice(Decision.REPLACEMENT_EFFECT, () -> super.chooseSingleReplacementEffect(prompt, possibleReplacers), possibleReplacers);
+    }
+
+    @Override
+    public String chooseProtectionType(final String string, final SpellAbility sa, final List<String> choices) {
+        return decideString(Decision.PROTECTION_TYPE, () -> super.chooseProtectionType(string, sa, choices));
+    }
+
+    @Override
+    public boolean chooseCardsPile(final SpellAbility sa, final CardCollectionView pile1, final CardCollectionView pile2, final String faceUp) {
+        return decideBoolean(Decision.PILE, () -> super.chooseCardsPile(sa, pile1, pile2, faceUp));
+    }
+
+    @Override
+    public Map<Card, ManaCostShard> chooseCardsForConvokeOrImprovise(final SpellAbility sa, final ManaCost manaCost, final CardCollectionView untappedCards,
+            final boolean improvise) {
+        return decide(Decision.CONVOKE_OR_IMPROVISE, () -> super.chooseCardsForConvokeOrImprovise(sa, manaCost, untappedCards, improvise), (r, chosen) -> {
+            r.writeMapSize(chosen);
+            if (chosen != null) {
+                for (final Entry<Card, ManaCostShard> e : chosen.entrySet()) {
+                    r.writeCard(e.getKey());
+                    r.writeInt(e.getValue().ordinal());
+                }
+            }
+        }, p -> {
+            final int size = p.readMapSize();
+            if (size < 0) {
+                return null;
+            }
+            final Map<Card, ManaCostShard> chosen = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                final Card c = p.readCard(untappedCards);
+                chosen.put(c, ManaCostShard.values()[p.readInt()]);
+            }
+            return chosen;
+        });
+    }
+
+    @Override
+    public List<Card> chooseCardsForSplice(final SpellAbility sa, final List<Card> cards) {
+        return decide(Decision.SPLICE, () -> super.chooseCardsForSplice(sa, cards), DecisionRecorder::writeCards, p -> p.readCards(cards));
+    }
+
+    @Override
+    public String chooseCardName(final SpellAbility sa, final Predicate<ICardFace> cpp, final String valid, final String message) {
+        return decideString(Decision.CARD_NAME, () -> super.chooseCardName(sa, cpp, valid, message));
+    }
+
+    @Override
+    public String chooseCardName(final SpellAbility sa, final List<ICardFace> faces, final String message) {
+        return decideString(Decision.CARD_NAME_FROM_FACES, () -> super.chooseCardName(sa, faces, message));
+    }
+
+    @Override
+    public Card chooseDungeon(final Player ai, final List<PaperCard> dungeonCards, final String message) {
+        // the dungeon is a new card, it is made again from the one chosen
+        return decide(Decision.DUNGEON, () -> super.chooseDungeon(ai, dungeonCards, message), (r, dungeon) -> {
+            int index = -1;
+            for (int i = 0; i < dungeonCards.size(); i++) {
+                if (dungeonCards.get(i).getName().equals(dungeon.getName())) {
+                    index = i;
+                    break;
+                }
+            }
+            r.writeInt(index);
+        }, p -> Card.fromPaperCard(dungeonCards.get(p.readInt()), ai));
+    }
+
+    @Override
+    public Card chooseSingleCardForZoneChange(final ZoneType destination, final List<ZoneType> origin, final SpellAbility sa, final CardCollection fetchList,
+            final DelayedReveal delayedReveal, final String selectPrompt, final boolean isOptional, final Player decider) {
+        return decide(Decision.CARD_FOR_ZONE_CHANGE,
+                () -> super.chooseSingleCardForZoneChange(destination, origin, sa, fetchList, delayedReveal, selectPrompt, isOptional, decider),
+                DecisionRecorder::writeCard, p -> p.readCard(fetchList));
+    }
+
+    @Override
+    public List<Card> chooseCardsForZoneChange(final ZoneType destination, final List<ZoneType> origin, final SpellAbility sa, final CardCollection fetchList,
+            final int min, final int max, final DelayedReveal delayedReveal, final String selectPrompt, final Player decider) {
+        return decide(Decision.CARDS_FOR_ZONE_CHANGE,
+                () -> super.chooseCardsForZoneChange(destination, origin, sa, fetchList, min, max, delayedReveal, selectPrompt, decider),
+                DecisionRecorder::writeCards, p -> p.readCards(fetchList));
+    }
+
+    @Override
+    public List<OptionalCostValue> chooseOptionalCosts(final SpellAbility choosen, final List<OptionalCostValue> optionalCostValues) {
+        return decideChoices(Decision.OPTIONAL_COSTS, () -> super.chooseOptionalCosts(choosen, optionalCostValues), optionalCostValues);
+    }
+
+    @Override
+    public CardCollection chooseCardsForEffectMultiple(final Map<String, CardCollection> validMap, final SpellAbility sa, final String title,
+            final boolean isOptional) {
+        return decideCards(Decision.CARDS_FOR_EFFECT_MULTIPLE, () -> super.chooseCardsForEffectMultiple(validMap, sa, title, isOptional),
+                Iterables.concat(validMap.values()));
+    }
+
+    @Override
+    public CardCollectionView cheatShuffle(final CardCollectionView list) {
+        if (!getAi().getBooleanProperty(AiProps.CHEAT_WITH_MANA_ON_SHUFFLE)) {
+            return list;
+        }
+        return decideCards(Decision.CHEAT_SHUFFLE, () -> super.cheatShuffle(list), list);
+    }
+}
@@ -79,7 +79,11 @@ public class GameCopier {
 
         GameRules currentRules = origGame.getRules();
         Match newMatch = new Match(currentRules, newPlayers, origGame.getView().getTitle());
+        // copies of the same game make the same random choices
+        newMatch.setSeed(origGame.getRandom().getSeed());
         Game newGame = new Game(newPlayers, currentRules, newMatch);
+        // nobody watches simulated games, their card views are only built if something reads them
+        newGame.getTracker().setDetached(true);
 
         for (int i = 0; i < origGame.getPlayers().size(); i++) {
             Player origPlayer = origGame.getPlayers().get(i);
@@ -0,0 +1,93 @@
+package forge.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.Lists;
+
+import forge.ai.AiAttackController;
+import forge.ai.ComputerUtilMana;
+import forge.ai.simulation.GameCopier;
+import forge.ai.simulation.GameStateEvaluator;
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.combat.Combat;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+import forge.game.zone.ZoneType;
+
+/**
+ * What the AI works out on its turn, on a board that doesn't change between the calls.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AiBenchmarks {
+    // the AI takes seconds per attack on the tokens board, run it with "-p board=tokens"
+    @Param({ "midrange" })
+    public String board;
+
+    private Game game;
+    private Player ai;
+    private final List<SpellAbility> spells = Lists.newArrayList();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        game = BenchmarkData.loadBoard(board);
+        ai = game.getPlayers().get(1);
+        for (final Card c : ai.getCardsIn(ZoneType.Hand)) {
+            final SpellAbility sa = c.getFirstSpellAbility();
+            if (sa != null) {
+                sa.setActivatingPlayer(ai, true);
+                spells.add(sa);
+            }
+        }
+        game.getAction().checkStateEffects(true);
+    }
+
+    @Benchmark
+    public Game copyGame() {
+        return new GameCopier(game).makeCopy();
+    }
+
+    // before combat damage this includes playing the combat of the turn out on a copy of the game
+    @Benchmark
+    public GameStateEvaluator.Score evaluateGameState() {
+        return new GameStateEvaluator().getScoreForGameState(game, ai);
+    }
+
+    @Benchmark
+    public Combat declareAttackers() {
+        final Combat combat = new Combat(ai);
+        new AiAttackController(ai).declareAttackers(combat);
+        return combat;
+    }
+
+    // pays in test mode, which finds the sources like paying for real without tapping them
+    @Benchmark
+    public int payManaCost() {
+        int payable = 0;
+        for (final SpellAbility sa : spells) {
+            if (ComputerUtilMana.canPayManaCost(sa, ai, 0, false)) {
+                payable++;
+            }
+        }
+        return payable;
+    }
+}
@@ -0,0 +1,62 @@
+package forge.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forge.deck.Deck;
+import forge.game.Game;
+import forge.game.Match;
+
+/**
+ * Whole games between two AI players with the same decks and seed, so they play out the same way on every run. The
+ * turns counter gives the time of an average AI turn.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class AiGameBenchmark {
+    @Param({ "1" })
+    public long seed;
+
+    private Deck deck;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Turns {
+        public int turns;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkData.initialize();
+        deck = BenchmarkData.createDeck("9 Mountain", "8 Forest", "4 Plains", "4 Grizzly Bears", "4 Llanowar Elves",
+                "4 Serra Angel", "4 Shivan Dragon", "4 Kitchen Finks", "4 Lightning Bolt", "4 Giant Growth",
+                "4 Glorious Anthem", "4 Crusade", "3 Fireball");
+    }
+
+    @Benchmark
+    public Game playGame(final Turns counter) {
+        final Match match = BenchmarkData.createMatch(2, deck);
+        match.setSeed(seed);
+        final Game game = match.createGame();
+        match.startGame(game);
+        counter.turns += game.getPhaseHandler().getTurn();
+        return game;
+    }
+}
@@ -0,0 +1,185 @@
+package forge.benchmarks;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+import forge.CardStorageReader;
+import forge.ImageKeys;
+import forge.StaticData;
+import forge.ai.GameState;
+import forge.ai.LobbyPlayerAi;
+import forge.card.CardType;
+import forge.deck.Deck;
+import forge.game.Game;
+import forge.game.GameRules;
+import forge.game.GameType;
+import forge.game.Match;
+import forge.game.card.CardUtil;
+import forge.game.player.RegisteredPlayer;
+import forge.item.IPaperCard;
+import forge.util.FileUtil;
+import forge.util.Lang;
+import forge.util.Localizer;
+
+/**
+ * Loads the card data the benchmarks play with, without the GUI.
+ * <p>
+ * The resources are read from the directory in the forge.res system property, by default forge-gui/res of the
+ * working directory or its parent. Cards are loaded when a board or deck first uses them, like with the
+ * LOAD_CARD_SCRIPTS_LAZILY preference.
+ * </p>
+ * Build with "mvn -Pbenchmarks -pl forge-benchmarks -am package -DskipTests" and run
+ * "java -jar forge-benchmarks/target/forge-benchmarks-*-jar-with-dependencies.jar" from the root of the repository,
+ * adding a benchmark name or JMH options like "-p board=tokens" to narrow it down.
+ */
+public final class BenchmarkData {
+    private static boolean initialized = false;
+    private static boolean gameDataLoaded = false;
+
+    private BenchmarkData() {
+    }
+
+    public static String getResDir() {
+        String res = System.getProperty("forge.res");
+        if (res == null) {
+            res = new File("forge-gui/res").isDirectory() ? "forge-gui/res" : "../forge-gui/res";
+        }
+        return res.endsWith(File.separator) ? res : res + File.separator;
+    }
+
+    /**
+     * Loads the types, keywords and messages cards are parsed with, like FModel.loadDynamicGamedata.
+     */
+    public static synchronized void loadGameData() {
+        if (gameDataLoaded) {
+            return;
+        }
+        final String res = getResDir();
+        Lang.createInstance("en-US");
+        Localizer.getInstance().initialize("en-US", res + "languages" + File.separator);
+
+        CardType.Constant.load(FileUtil.readFile(res + "lists" + File.separator + "TypeLists.txt"));
+        for (final String s : FileUtil.readFile(res + "lists" + File.separator + "NonStackingKWList.txt")) {
+            if (s.length() > 1) {
+                CardUtil.NON_STACKING_LIST.add(s);
+            }
+        }
+        gameDataLoaded = true;
+    }
+
+    public static synchronized void initialize() {
+        if (initialized) {
+            return;
+        }
+        loadGameData();
+        final String res = getResDir();
+        final String cache = new File(System.getProperty("java.io.tmpdir"), "forge-benchmarks").getPath() + File.separator;
+        new File(cache).mkdirs();
+        ImageKeys.initializeDirs(cache, new HashMap<String, String>(), cache, cache, cache, cache, cache, cache, cache);
+
+        final CardStorageReader reader = new CardStorageReader(res + "cardsfolder", null, true);
+        // tokens are looked up by their script name, which loading them lazily doesn't cover
+        final CardStorageReader tokenReader = new CardStorageReader(res + "tokenscripts", null, false);
+        new StaticData(reader, tokenReader, null, null, res + "editions", cache, res + "blockdata",
+                res + "setlookup", "LATEST_ART_ALL_EDITIONS", true, false, false);
+        initialized = true;
+    }
+
+    public static Deck createDeck(final String... cards) {
+        final Deck deck = new Deck("Benchmark");
+        for (final String card : cards) {
+            final String[] countAndName = card.split(" ", 2);
+            StaticData.instance().attemptToLoadCard(countAndName[1]);
+            deck.getMain().add(countAndName[1], Integer.parseInt(countAndName[0]));
+        }
+        return deck;
+    }
+
+    public static Match createMatch(final int nPlayers, final Deck deck) {
+        initialize();
+        final List<RegisteredPlayer> players = Lists.newArrayList();
+        for (int i = 0; i < nPlayers; i++) {
+            players.add(new RegisteredPlayer(deck).setPlayer(new LobbyPlayerAi("Ai(" + (i + 1) + ")", null)));
+        }
+        final GameRules rules = new GameRules(GameType.Constructed);
+        rules.setHeadless(true);
+        return new Match(rules, players, "Benchmark");
+    }
+
+    /**
+     * @param board a board in the boards directory of the module, like "midrange", or the path of a puzzle file
+     * @return a new game between AI players set up like the board.
+     */
+    public static Game loadBoard(final String board) {
+        initialize();
+        final BoardState state = new BoardState();
+        try (InputStream in = openBoard(board)) {
+            state.parse(in);
+        } catch (final Exception e) {
+            throw new RuntimeException("Can't read board " + board, e);
+        }
+        final Game game = createMatch(state.getPlayerCount(), new Deck()).createGame();
+        state.apply(game);
+        return game;
+    }
+
+    private static InputStream openBoard(final String board) throws IOException {
+        final InputStream in = BenchmarkData.class.getResourceAsStream("/boards/" + board + ".pzl");
+        return in != null ? in : new FileInputStream(board);
+    }
+
+    private static class BoardState extends GameState {
+        private int playerCount;
+
+        @Override
+        public IPaperCard getPaperCard(final String cardName, final String setCode, final int artID) {
+            return StaticData.instance().getCommonCards().getCard(cardName, setCode, artID);
+        }
+
+        @Override
+        protected void parseLine(final String line) {
+            super.parseLine(line);
+            final String[] keyValue = line.split("=", 2);
+            if (keyValue.length < 2 || line.startsWith("#")) {
+                return;
+            }
+            final String key = keyValue[0].toLowerCase();
+            int player = -1;
+            if (key.startsWith("human")) {
+                player = 0;
+            } else if (key.startsWith("ai")) {
+                player = 1;
+            } else if (key.length() > 1 && key.charAt(0) == 'p' && Character.isDigit(key.charAt(1))) {
+                player = key.charAt(1) - '0';
+            }
+            if (player < 0) {
+                return;
+            }
+            playerCount = Math.max(playerCount, player + 1);
+            if (!key.matches(".*(play|battlefield|hand|graveyard|library|exile|command|sideboard)")) {
+                return;
+            }
+            // the cards of the board are loaded before it is set up
+            for (final String card : keyValue[1].split(";")) {
+                final String name = card.split("\\|", 2)[0].trim();
+                if (!name.isEmpty() && !name.startsWith("t:") && !name.startsWith("T:")) {
+                    StaticData.instance().attemptToLoadCard(name);
+                }
+            }
+        }
+
+        private int getPlayerCount() {
+            return Math.max(2, playerCount);
+        }
+
+        private void apply(final Game game) {
+            applyGameOnThread(game);
+        }
+    }
+}
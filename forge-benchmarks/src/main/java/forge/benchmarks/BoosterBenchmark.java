@@ -0,0 +1,94 @@
+package forge.benchmarks;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forge.StaticData;
+import forge.card.CardEdition;
+import forge.card.CardRarity;
+import forge.item.PaperCard;
+import forge.item.SealedProduct;
+import forge.item.generation.BoosterGenerator;
+import forge.util.MyRandom;
+
+/**
+ * Opening boosters of an edition, like for drafts, sealed pools and quest shops.
+ * <p>
+ * The boosters are opened with the same seed each time, so they have to come out with the same number of cards of
+ * each rarity. The counts of the first run are printed, for comparing them with the ones of another build.
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BoosterBenchmark {
+    @Param({ "M19", "DOM" })
+    public String edition;
+
+    @Param({ "100000" })
+    public int boosters;
+
+    @Param({ "1" })
+    public long seed;
+
+    private SealedProduct.Template template;
+    private Map<CardRarity, Integer> expected;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkData.initialize();
+        final CardEdition cardEdition = StaticData.instance().getEditions().get(edition);
+        // the sheets are made of the cards loaded, which are loaded lazily otherwise
+        for (final CardEdition.CardInSet card : cardEdition.getAllCardsInSet()) {
+            StaticData.instance().attemptToLoadCard(card.name, edition);
+        }
+        template = cardEdition.getBoosterTemplate();
+        expected = openBoosters();
+        System.out.println();
+        System.out.println(edition + " rarities in " + boosters + " boosters: " + expected);
+    }
+
+    @Benchmark
+    public Map<CardRarity, Integer> open() {
+        final Map<CardRarity, Integer> rarities = openBoosters();
+        if (!rarities.equals(expected)) {
+            throw new IllegalStateException("Boosters opened with the same seed came out with other rarities: " + rarities + ", not " + expected);
+        }
+        return rarities;
+    }
+
+    private Map<CardRarity, Integer> openBoosters() {
+        final Map<CardRarity, Integer> rarities = new EnumMap<>(CardRarity.class);
+        final Random previous = MyRandom.setThreadRandom(new Random(seed));
+        try {
+            for (int i = 0; i < boosters; i++) {
+                final List<PaperCard> booster = BoosterGenerator.getBoosterPack(template);
+                for (final PaperCard card : booster) {
+                    rarities.merge(card.getRarity(), 1, Integer::sum);
+                }
+            }
+        } finally {
+            MyRandom.setThreadRandom(previous);
+        }
+        return rarities;
+    }
+}
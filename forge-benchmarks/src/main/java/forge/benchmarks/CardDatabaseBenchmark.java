@@ -0,0 +1,45 @@
+package forge.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forge.CardStorageReader;
+import forge.card.CardRules;
+
+/**
+ * Reading every card script at startup, as with LOAD_CARD_SCRIPTS_LAZILY turned off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CardDatabaseBenchmark {
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkData.loadGameData();
+    }
+
+    @Benchmark
+    public int loadCards() {
+        int count = 0;
+        for (final CardRules rules : new CardStorageReader(BenchmarkData.getResDir() + "cardsfolder", null, false).loadCards()) {
+            if (rules != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
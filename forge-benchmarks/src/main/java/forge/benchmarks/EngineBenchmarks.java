@@ -0,0 +1,89 @@
+package forge.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forge.game.Game;
+import forge.game.ability.AbilityKey;
+import forge.game.card.Card;
+import forge.game.card.CardCollection;
+import forge.game.card.CardCollectionView;
+import forge.game.card.CardLists;
+import forge.game.player.Player;
+import forge.game.trigger.TriggerType;
+import forge.game.zone.ZoneType;
+
+/**
+ * The checks the engine runs after every action, on a board that doesn't change between them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmarks {
+    private static final String[] RESTRICTIONS = { "Creature.OppCtrl+powerGE2", "Artifact.YouCtrl,Enchantment.YouCtrl",
+            "Land.untapped+YouCtrl" };
+
+    @Param({ "midrange", "tokens" })
+    public String board;
+
+    private Game game;
+    private Player ai;
+    private Card source;
+    private Card land;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        game = BenchmarkData.loadBoard(board);
+        ai = game.getPlayers().get(1);
+        source = ai.getCardsIn(ZoneType.Battlefield).getLast();
+        land = CardLists.filter(ai.getCardsIn(ZoneType.Battlefield), c -> c.isLand()).getFirst();
+        game.getAction().checkStateEffects(true);
+    }
+
+    @Benchmark
+    public Game checkStateEffects() {
+        game.getAction().checkStateEffects(true);
+        return game;
+    }
+
+    @Benchmark
+    public Game checkStaticAbilities() {
+        game.getAction().checkStaticAbilities();
+        return game;
+    }
+
+    // nothing on the boards triggers on a land becoming tapped, so every trigger is checked and none runs
+    @Benchmark
+    public Game runTrigger() {
+        final Map<AbilityKey, Object> runParams = AbilityKey.mapFromCard(land);
+        runParams.put(AbilityKey.Attacker, false);
+        game.getTriggerHandler().runTrigger(TriggerType.Taps, runParams, false);
+        return game;
+    }
+
+    @Benchmark
+    public CardCollection getValidCards() {
+        final CardCollectionView cards = game.getCardsIn(ZoneType.Battlefield);
+        final CardCollection result = new CardCollection();
+        for (final String restriction : RESTRICTIONS) {
+            result.addAll(CardLists.getValidCards(cards, restriction, ai, source, null));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,80 @@
+package forge.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import forge.ai.replay.MatchReplay;
+import forge.deck.Deck;
+import forge.game.Match;
+import forge.game.replay.MatchRecording;
+
+/**
+ * Recorded games played again without the AI, the time the rules engine takes for them. Without a recording file the
+ * game of {@link AiGameBenchmark} is recorded first, a file written by "forge sim -r" is given with
+ * "-p recording=path".
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ReplayBenchmark {
+    @Param({ "1" })
+    public long seed;
+
+    @Param({ "" })
+    public String recording;
+
+    private MatchRecording replayed;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Decisions {
+        public int decisions;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        BenchmarkData.initialize();
+        if (!recording.isEmpty()) {
+            replayed = MatchRecording.read(new File(recording));
+            return;
+        }
+        final Deck deck = BenchmarkData.createDeck("9 Mountain", "8 Forest", "4 Plains", "4 Grizzly Bears", "4 Llanowar Elves",
+                "4 Serra Angel", "4 Shivan Dragon", "4 Kitchen Finks", "4 Lightning Bolt", "4 Giant Growth",
+                "4 Glorious Anthem", "4 Crusade", "3 Fireball");
+        final Match match = BenchmarkData.createMatch(2, deck);
+        match.setSeed(seed);
+        replayed = MatchReplay.record(match);
+        match.startGame(match.createGame());
+    }
+
+    @Benchmark
+    public List<MatchReplay.Result> replay(final Decisions counter) {
+        final List<MatchReplay.Result> results = MatchReplay.replay(replayed);
+        for (final MatchReplay.Result result : results) {
+            if (!result.isInSync()) {
+                throw new IllegalStateException(result.getError());
+            }
+            counter.decisions += result.getDecisions();
+        }
+        return results;
+    }
+}
@@ -17,6 +17,10 @@
  */
 package forge.card;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.util.*;
 
 import org.apache.commons.lang3.EnumUtils;
@@ -107,9 +111,9 @@ public final class CardType implements Comparable<CardType>, CardTypeView {
 
     private final Set<CoreType> coreTypes = EnumSet.noneOf(CoreType.class);
     private final Set<Supertype> supertypes = EnumSet.noneOf(Supertype.class);
-    private final Set<String> subtypes = Sets.newLinkedHashSet();
+    private final SubtypeSet subtypes = new SubtypeSet();
     private boolean allCreatureTypes = false;
-    private final Set<String> excludedCreatureSubtypes = Sets.newLinkedHashSet();
+    private final SubtypeSet excludedCreatureSubtypes = new SubtypeSet();
 
     private boolean incomplete = false;
     private transient String calculatedType = null;
@@ -126,6 +130,240 @@ public final class CardType implements Comparable<CardType>, CardTypeView {
         allCreatureTypes = from0.allCreatureTypes;
         excludedCreatureSubtypes.addAll(from0.excludedCreatureSubtypes);
     }
+
+    /**
+     * Subtypes in the order they were added. Subtypes known to the {@link SubtypeRegistry} are kept as ids in a
+     * bitset, anything else goes to an overflow set. The order holds both, an unknown subtype as the negative index
+     * of its name in the overflow names.
+     */
+    private static final class SubtypeSet implements Iterable<String>, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private transient BitSet ids = new BitSet();
+        private transient int[] order = new int[4];
+        private transient int size;
+        private transient Set<String> overflow;
+        private transient List<String> overflowNames;
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        boolean hasOverflow() {
+            return overflow != null && !overflow.isEmpty();
+        }
+
+        boolean contains(final String t) {
+            final int id = SubtypeRegistry.idOf(t);
+            if (id >= 0 && ids.get(id)) {
+                return true;
+            }
+            return overflow != null && overflow.contains(t);
+        }
+
+        boolean add(final String t) {
+            final int id = SubtypeRegistry.idOf(t);
+            if (id < 0) {
+                if (overflow == null) {
+                    overflow = Sets.newHashSet();
+                    overflowNames = Lists.newArrayList();
+                }
+                if (!overflow.add(t)) {
+                    return false;
+                }
+                overflowNames.add(t);
+                append(-overflowNames.size());
+                return true;
+            }
+            if (ids.get(id)) {
+                return false;
+            }
+            ids.set(id);
+            // added before the registry was loaded, it keeps its place
+            if (overflow != null && overflow.remove(t)) {
+                for (int i = 0; i < size; i++) {
+                    if (order[i] < 0 && t.equals(nameAt(i))) {
+                        order[i] = id;
+                    }
+                }
+                compact();
+                return false;
+            }
+            append(id);
+            return true;
+        }
+
+        boolean addAll(final Iterable<String> types) {
+            boolean changed = false;
+            for (final String t : types) {
+                if (add(t)) {
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+        boolean addAll(final SubtypeSet other) {
+            boolean changed = false;
+            for (int i = 0; i < other.size; i++) {
+                final int id = other.order[i];
+                if (id < 0) {
+                    if (add(other.nameAt(i))) {
+                        changed = true;
+                    }
+                } else if (!ids.get(id)) {
+                    // this set may still have it as a name, added before the registry was loaded
+                    if (hasOverflow()) {
+                        if (add(SubtypeRegistry.nameOf(id))) {
+                            changed = true;
+                        }
+                        continue;
+                    }
+                    ids.set(id);
+                    append(id);
+                    changed = true;
+                }
+            }
+            return changed;
+        }
+
+        private void append(final int entry) {
+            if (size == order.length) {
+                order = Arrays.copyOf(order, size * 2);
+            }
+            order[size++] = entry;
+        }
+
+        private String nameAt(final int i) {
+            return order[i] < 0 ? overflowNames.get(-order[i] - 1) : SubtypeRegistry.nameOf(order[i]);
+        }
+
+        boolean remove(final String t) {
+            final int id = SubtypeRegistry.idOf(t);
+            if (id >= 0 && ids.get(id)) {
+                ids.clear(id);
+                compact();
+                return true;
+            }
+            if (overflow != null && overflow.remove(t)) {
+                compact();
+                return true;
+            }
+            return false;
+        }
+
+        boolean removeAll(final SubtypeSet other) {
+            boolean changed = false;
+            if (ids.intersects(other.ids)) {
+                ids.andNot(other.ids);
+                changed = true;
+            }
+            if (changed) {
+                compact();
+            }
+            if (other.hasOverflow()) {
+                for (final String t : other.overflow) {
+                    if (remove(t)) {
+                        changed = true;
+                    }
+                }
+            }
+            return changed;
+        }
+
+        /** Removes every subtype of the given category, unknown subtypes are checked with the predicate. */
+        boolean removeCategory(final BitSet category, final Predicate<String> predicate) {
+            boolean changed = false;
+            if (ids.intersects(category)) {
+                ids.andNot(category);
+                changed = true;
+            }
+            if (hasOverflow() && Iterables.removeIf(overflow, predicate)) {
+                changed = true;
+            }
+            if (changed) {
+                compact();
+            }
+            return changed;
+        }
+
+        boolean containsAny(final BitSet category, final Predicate<String> predicate) {
+            return ids.intersects(category) || (hasOverflow() && Iterables.any(overflow, predicate));
+        }
+
+        void collect(final BitSet category, final Predicate<String> predicate, final Collection<String> to) {
+            for (int i = 0; i < size; i++) {
+                if (order[i] < 0 ? predicate.apply(nameAt(i)) : category.get(order[i])) {
+                    to.add(nameAt(i));
+                }
+            }
+        }
+
+        void clear() {
+            ids.clear();
+            size = 0;
+            overflow = null;
+            overflowNames = null;
+        }
+
+        // drops the subtypes no longer in the bitset or the overflow set from the ordered list
+        private void compact() {
+            final List<String> names = overflowNames;
+            if (names != null) {
+                overflowNames = Lists.newArrayList();
+            }
+            int j = 0;
+            for (int i = 0; i < size; i++) {
+                final int entry = order[i];
+                if (entry >= 0) {
+                    if (ids.get(entry)) {
+                        order[j++] = entry;
+                    }
+                } else {
+                    final String name = names.get(-entry - 1);
+                    if (overflow.contains(name)) {
+                        overflowNames.add(name);
+                        order[j++] = -overflowNames.size();
+                    }
+                }
+            }
+            size = j;
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return new Iterator<String>() {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return next < size;
+                }
+
+                @Override
+                public String next() {
+                    if (next >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    return nameAt(next++);
+                }
+            };
+        }
+
+        // ids are only valid for this session, so write the names
+        private void writeObject(final ObjectOutputStream out) throws IOException {
+            out.defaultWriteObject();
+            out.writeObject(Lists.newArrayList(this));
+        }
+
+        @SuppressWarnings("unchecked")
+        private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+            in.defaultReadObject();
+            ids = new BitSet();
+            order = new int[4];
+            addAll((List<String>) in.readObject());
+        }
+    }
     public CardType(final CardTypeView from0) {
         addAll(from0);
     }
@@ -175,7 +413,7 @@ public final class CardType implements Comparable<CardType>, CardTypeView {
         boolean changed = false;
         if (Iterables.addAll(coreTypes, type.getCoreTypes())) { changed = true; }
         if (Iterables.addAll(supertypes, type.getSupertypes())) { changed = true; }
-        if (Iterables.addAll(subtypes, type.getSubtypes())) { changed = true; }
+        if (subtypes.addAll(type.getSubtypes())) { changed = true; }
         sanisfySubtypes();
         return changed;
     }
@@ -238,7 +476,7 @@ public final class CardType implements Comparable<CardType>, CardTypeView {
         if (!isCreature() && !isTribal()) {
             return false;
         }
-        boolean changed = Iterables.removeIf(subtypes, Predicates.IS_CREATURE_TYPE);
+        boolean changed = subtypes.removeCategory(SubtypeRegistry.get().creatureTypes, Predicates.IS_CREATURE_TYPE);
         // need to remove AllCreatureTypes too when setting Creature Type
         if (allCreatureTypes) {
             changed = true;
@@ -279,11 +517,11 @@ public final class CardType implements Comparable<CardType>, CardTypeView {
         }
         if (hasAllCreatureTypes()) { // it should return list of all creature types
             creatureTypes.addAll(getAllCreatureTypes());
-            creatureTypes.removeAll(this.excludedCreatureSubtypes);
-        } else {
-            for (final String t : Iterables.filter(subtypes, Predicates.IS_CREATURE_TYPE)) {
-                creatureTypes.add(t);
+            for (final String t : this.excludedCreatureSubtypes) {
+                creatureTypes.remove(t);
             }
+        } else {
+            subtypes.collect(SubtypeRegistry.get().creatureTypes, Predicates.IS_CREATURE_TYPE, creatureTypes);
         }
         return creatureTypes;
     }
@@ -292,11 +530,7 @@ public final class CardType implements Comparable<CardType>, CardTypeView {
     public Set<String> getLandTypes() {
         final Set<String> landTypes = Sets.newHashSet();
         if (isLand()) {
-            for (final String t : subtypes) {
-                if (isALandType(t)) {
-                    landTypes.add(t);
-                }
-            }
+            subtypes.collect(SubtypeRegistry.get().landTypes, Predicates.IS_LAND_TYPE, landTypes);
         }
         return landTypes;
     }
@@ -350,8 +584,12 @@ public final class CardType implements Comparable<CardType>, CardTypeView {
     public boolean hasCreatureType(String creatureType) {
         if (!isCreature() && !isTribal()) { return false; }
 
-        creatureType = toMixedCase(creatureType);
-        if (!isACreatureType(creatureType)) { return false; }
+        // only normalize the case if the name isn't already a known creature type
+        final int id = SubtypeRegistry.idOf(creatureType);
+        if (id < 0 || !SubtypeRegistry.get().creatureTypes.get(id)) {
+            creatureType = toMixedCase(creatureType);
+            if (!isACreatureType(creatureType)) { return false; }
+        }
 
         if (excludedCreatureSubtypes.contains(creatureType)) {
             return false;
@@ -380,7 +618,7 @@ public final class CardType implements Comparable<CardType>, CardTypeView {
 
     @Override
     public boolean hasABasicLandType() {
-        return Iterables.any(this.subtypes, Predicates.IS_BASIC_LAND_TYPE);
+        return subtypes.containsAny(SubtypeRegistry.get().basicTypes, Predicates.IS_BASIC_LAND_TYPE);
     }
 
     @Override
@@ -531,6 +769,7 @@ public final class CardType implements Comparable<CardType>, CardTypeView {
         if (Iterables.isEmpty(changedCardTypes)) {
             return this;
         }
+        final SubtypeRegistry registry = SubtypeRegistry.get();
         // we assume that changes are already correctly ordered (taken from TreeMap.values())
         for (final CardChangedType ct : changedCardTypes) {
             if (null == newType)
@@ -548,18 +787,18 @@ public final class CardType implements Comparable<CardType>, CardTypeView {
             }
             else if (!newType.subtypes.isEmpty()) {
                 if (ct.isRemoveLandTypes()) {
-                    Iterables.removeIf(newType.subtypes, Predicates.IS_LAND_TYPE);
+                    newType.subtypes.removeCategory(registry.landTypes, Predicates.IS_LAND_TYPE);
                 }
                 if (ct.isRemoveCreatureTypes()) {
-                    Iterables.removeIf(newType.subtypes, Predicates.IS_CREATURE_TYPE);
+                    newType.subtypes.removeCategory(registry.creatureTypes, Predicates.IS_CREATURE_TYPE);
                     // need to remove AllCreatureTypes too when removing creature Types
                     newType.allCreatureTypes = false;
                 }
                 if (ct.isRemoveArtifactTypes()) {
-                    Iterables.removeIf(newType.subtypes, Predicates.IS_ARTIFACT_TYPE);
+                    newType.subtypes.removeCategory(registry.artifactTypes, Predicates.IS_ARTIFACT_TYPE);
                 }
                 if (ct.isRemoveEnchantmentTypes()) {
-                    Iterables.removeIf(newType.subtypes, Predicates.IS_ENCHANTMENT_TYPE);
+                    newType.subtypes.removeCategory(registry.enchantmentTypes, Predicates.IS_ENCHANTMENT_TYPE);
                 }
             }
             if (ct.getRemoveType() != null) {
@@ -576,7 +815,7 @@ public final class CardType implements Comparable<CardType>, CardTypeView {
             }
             // remove specific creature types from all creature types
             if (ct.getRemoveType() != null && newType.allCreatureTypes) {
-                newType.excludedCreatureSubtypes.addAll(Lists.newArrayList(Iterables.filter(ct.getRemoveType(), Predicates.IS_CREATURE_TYPE)));
+                newType.excludedCreatureSubtypes.addAll(Iterables.filter(ct.getRemoveType(), Predicates.IS_CREATURE_TYPE));
             }
         }
         // sanisfy subtypes
@@ -597,32 +836,33 @@ public final class CardType implements Comparable<CardType>, CardTypeView {
         if (subtypes.isEmpty()) {
             return;
         }
+        final SubtypeRegistry registry = SubtypeRegistry.get();
         if (!isCreature() && !isTribal()) {
-            Iterables.removeIf(subtypes, Predicates.IS_CREATURE_TYPE);
+            subtypes.removeCategory(registry.creatureTypes, Predicates.IS_CREATURE_TYPE);
         }
         if (!isLand()) {
-            Iterables.removeIf(subtypes, Predicates.IS_LAND_TYPE);
+            subtypes.removeCategory(registry.landTypes, Predicates.IS_LAND_TYPE);
         }
         if (!isArtifact()) {
-            Iterables.removeIf(subtypes, Predicates.IS_ARTIFACT_TYPE);
+            subtypes.removeCategory(registry.artifactTypes, Predicates.IS_ARTIFACT_TYPE);
         }
         if (!isEnchantment()) {
-            Iterables.removeIf(subtypes, Predicates.IS_ENCHANTMENT_TYPE);
+            subtypes.removeCategory(registry.enchantmentTypes, Predicates.IS_ENCHANTMENT_TYPE);
         }
         if (!isInstant() && !isSorcery()) {
-            Iterables.removeIf(subtypes, Predicates.IS_SPELL_TYPE);
+            subtypes.removeCategory(registry.spellTypes, Predicates.IS_SPELL_TYPE);
         }
         if (!isPlaneswalker()) {
-            Iterables.removeIf(subtypes, Predicates.IS_WALKER_TYPE);
+            subtypes.removeCategory(registry.walkerTypes, Predicates.IS_WALKER_TYPE);
         }
         if (!isDungeon()) {
-            Iterables.removeIf(subtypes, Predicates.IS_DUNGEON_TYPE);
+            subtypes.removeCategory(registry.dungeonTypes, Predicates.IS_DUNGEON_TYPE);
         }
         if (!isBattle()) {
-            Iterables.removeIf(subtypes, Predicates.IS_BATTLE_TYPE);
+            subtypes.removeCategory(registry.battleTypes, Predicates.IS_BATTLE_TYPE);
         }
         if (!isPlane()) {
-            Iterables.removeIf(subtypes, Predicates.IS_PLANAR_TYPE);
+            subtypes.removeCategory(registry.planarTypes, Predicates.IS_PLANAR_TYPE);
         }
     }
 
@@ -671,6 +911,10 @@ public final class CardType implements Comparable<CardType>, CardTypeView {
             return false;
         }
 
+        if (ctOther instanceof CardType && SubtypeRegistry.isLoaded() && !hasSubtypeOverflow() && !((CardType) ctOther).hasSubtypeOverflow()) {
+            return sharesCreatureTypeIds((CardType) ctOther);
+        }
+
         // special cases for if any of them is all creature types
         if (this.allCreatureTypes && ctOther.hasAllCreatureTypes()) {
             // no type is exluded so they should share all creature types
@@ -692,10 +936,53 @@ public final class CardType implements Comparable<CardType>, CardTypeView {
         return false;
     }
 
+    private boolean hasSubtypeOverflow() {
+        return subtypes.hasOverflow() || excludedCreatureSubtypes.hasOverflow();
+    }
+
+    // both types are creatures or tribal and all their subtypes have ids, so it's just set algebra on the ids
+    private boolean sharesCreatureTypeIds(final CardType other) {
+        final BitSet creatureTypes = SubtypeRegistry.get().creatureTypes;
+        final CardType explicit = allCreatureTypes ? other : this;
+        final CardType rest = explicit == this ? other : this;
+        if (explicit.allCreatureTypes) {
+            // both have all creature types, they share one unless everything is excluded
+            for (int i = creatureTypes.nextSetBit(0); i >= 0; i = creatureTypes.nextSetBit(i + 1)) {
+                if (!excludedCreatureSubtypes.ids.get(i) && !other.excludedCreatureSubtypes.ids.get(i)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        final BitSet ids = explicit.subtypes.ids;
+        for (int i = ids.nextSetBit(0); i >= 0; i = ids.nextSetBit(i + 1)) {
+            if (creatureTypes.get(i) && !explicit.excludedCreatureSubtypes.ids.get(i)
+                    && !rest.excludedCreatureSubtypes.ids.get(i) && (rest.allCreatureTypes || rest.subtypes.ids.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public boolean sharesLandTypeWith(final CardTypeView ctOther) {
         if (ctOther == null) {
             return false;
         }
+        if (ctOther instanceof CardType && !subtypes.hasOverflow()) {
+            // land types are never creature types, so only the subtypes of the other type matter
+            if (!isLand()) {
+                return false;
+            }
+            final BitSet landTypes = SubtypeRegistry.get().landTypes;
+            final SubtypeSet otherSubtypes = ((CardType) ctOther).subtypes;
+            final BitSet ids = subtypes.ids;
+            for (int i = ids.nextSetBit(0); i >= 0; i = ids.nextSetBit(i + 1)) {
+                if (landTypes.get(i) && otherSubtypes.ids.get(i)) {
+                    return true;
+                }
+            }
+            return false;
+        }
 
         for (final String type : getLandTypes()) {
             if (ctOther.hasSubtype(type)) {
@@ -811,6 +1098,60 @@ public final class CardType implements Comparable<CardType>, CardTypeView {
                 pluralTypes.put(c.name(), c.pluralName);
             }
         }
+
+        /**
+         * Fills the type sets from the lines of the type lists file, then assigns the subtype ids.
+         * Does nothing once the types are loaded.
+         */
+        public static synchronized void load(final List<String> typeListFile) {
+            if (LOADED.isSet()) {
+                return;
+            }
+            Set<String> addTo = null;
+
+            for (final String s : typeListFile) {
+                if (s.equals("[BasicTypes]")) {
+                    addTo = BASIC_TYPES;
+                } else if (s.equals("[LandTypes]")) {
+                    addTo = LAND_TYPES;
+                } else if (s.equals("[CreatureTypes]")) {
+                    addTo = CREATURE_TYPES;
+                } else if (s.equals("[SpellTypes]")) {
+                    addTo = SPELL_TYPES;
+                } else if (s.equals("[EnchantmentTypes]")) {
+                    addTo = ENCHANTMENT_TYPES;
+                } else if (s.equals("[ArtifactTypes]")) {
+                    addTo = ARTIFACT_TYPES;
+                } else if (s.equals("[WalkerTypes]")) {
+                    addTo = WALKER_TYPES;
+                } else if (s.equals("[DungeonTypes]")) {
+                    addTo = DUNGEON_TYPES;
+                } else if (s.equals("[BattleTypes]")) {
+                    addTo = BATTLE_TYPES;
+                } else if (s.equals("[PlanarTypes]")) {
+                    addTo = PLANAR_TYPES;
+                } else if (s.length() > 1) {
+                    if (addTo != null) {
+                        if (s.contains(":")) {
+                            String[] k = s.split(":");
+                            addTo.add(k[0]);
+                            pluralTypes.put(k[0], k[1]);
+
+                            if (k[0].contains(" ")) {
+                                MultiwordTypes.add(k[0]);
+                            }
+                        } else {
+                            addTo.add(s);
+                            if (s.contains(" ")) {
+                                MultiwordTypes.add(s);
+                            }
+                        }
+                    }
+                }
+            }
+            LOADED.set();
+            SubtypeRegistry.load();
+        }
     }
     public static class Predicates {
         public static Predicate<String> IS_LAND_TYPE = new Predicate<String>() {
@@ -1,6 +1,7 @@
 package forge.card;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +44,8 @@ public class DeckHints {
 
     private boolean valid = false;
     public List<Pair<Type, String>> filters = null;
+    // the predicates of each filter, every one a card satisfies is a match
+    private volatile List<Pair<Type, List<Predicate<CardRules>>>> compiled = null;
 
     /**
      * Construct a DeckHints from the SVar string.
@@ -109,10 +112,9 @@ public class DeckHints {
      */
     public Map<Type, Iterable<PaperCard>> filterByType(Iterable<PaperCard> cardList) {
         Map<Type, Iterable<PaperCard>> ret = new HashMap<>();
-        for (Pair<Type, String> pair : filters) {
+        for (Pair<Type, List<Predicate<CardRules>>> pair : getCompiled()) {
             Type type = pair.getLeft();
-            String param = pair.getRight();
-            Iterable<PaperCard> cards = getCardsForFilter(cardList, type, param);
+            Iterable<PaperCard> cards = getCardsForFilter(cardList, pair.getRight());
             if (cards != null) {
                 // if a type is used more than once intersect respective matches
                 if (ret.containsKey(type)) {
@@ -124,6 +126,34 @@ public class DeckHints {
         return ret;
     }
 
+    /**
+     * Counts the matches of a single card for each type, which is what {@link #filterByType(Iterable)} finds for a
+     * list holding just that card. Matches add up over the cards of a list, so these counts can be kept per card
+     * instead of filtering whole lists again.
+     *
+     * @param rules
+     *            the card to match
+     * @return the number of matches indexed by type ordinal, -1 for the types these hints don't use.
+     */
+    public int[] countByType(CardRules rules) {
+        int[] counts = new int[Type.values().length];
+        Arrays.fill(counts, -1);
+        for (Pair<Type, List<Predicate<CardRules>>> pair : getCompiled()) {
+            int i = pair.getLeft().ordinal();
+            int count = 0;
+            // like filterByType, a type used more than once only matches what all of its filters match
+            if (counts[i] != 0) {
+                for (Predicate<CardRules> predicate : pair.getRight()) {
+                    if (predicate.apply(rules)) {
+                        count++;
+                    }
+                }
+            }
+            counts[i] = count;
+        }
+        return counts;
+    }
+
     /**
      * Returns a list of Cards from the given List<PaperCard> that match this
      * DeckHints. I.e., other cards that this Card needs in its deck.
@@ -155,17 +185,31 @@ public class DeckHints {
         return pair;
     }
 
-    private Iterable<PaperCard> getCardsForFilter(Iterable<PaperCard> cardList, Type type, String param) {
-        List<PaperCard> cards = new ArrayList<>();
+    private List<Pair<Type, List<Predicate<CardRules>>>> getCompiled() {
+        List<Pair<Type, List<Predicate<CardRules>>>> result = compiled;
+        if (result == null) {
+            result = new ArrayList<>();
+            if (filters != null) {
+                for (Pair<Type, String> pair : filters) {
+                    result.add(Pair.of(pair.getLeft(), compileFilter(pair.getLeft(), pair.getRight())));
+                }
+            }
+            compiled = result;
+        }
+        return result;
+    }
+
+    private static List<Predicate<CardRules>> compileFilter(Type type, String param) {
+        List<Predicate<CardRules>> predicates = new ArrayList<>();
 
         // this is case ABILITY, but other types can also use this when the implicit parsing would miss
         String[] params = param.split("\\|");
         for (String ability : params) {
-            Iterables.addAll(cards, getMatchingItems(cardList, CardRulesPredicates.deckHas(type, ability), PaperCard.FN_GET_RULES));
+            predicates.add(CardRulesPredicates.deckHas(type, ability));
         }
         // bonus if a DeckHas can satisfy the type with multiple ones
         if (params.length > 1) {
-            Iterables.addAll(cards, getMatchingItems(cardList, CardRulesPredicates.deckHasExactly(type, params), PaperCard.FN_GET_RULES));
+            predicates.add(CardRulesPredicates.deckHasExactly(type, params));
         }
 
         for (String p : params) {
@@ -173,25 +217,33 @@ public class DeckHints {
             case COLOR:
                 ColorSet cc = ColorSet.fromNames(p);
                 if (cc.isColorless()) {
-                    Iterables.addAll(cards, getMatchingItems(cardList, CardRulesPredicates.Presets.IS_COLORLESS, PaperCard.FN_GET_RULES));
+                    predicates.add(CardRulesPredicates.Presets.IS_COLORLESS);
                 } else {
-                    Iterables.addAll(cards, getMatchingItems(cardList, CardRulesPredicates.isColor(cc.getColor()), PaperCard.FN_GET_RULES));
+                    predicates.add(CardRulesPredicates.isColor(cc.getColor()));
                 }
                 break;
             case KEYWORD:
-                Iterables.addAll(cards, getMatchingItems(cardList, CardRulesPredicates.hasKeyword(p), PaperCard.FN_GET_RULES));
+                predicates.add(CardRulesPredicates.hasKeyword(p));
                 break;
             case NAME:
-                Iterables.addAll(cards, getMatchingItems(cardList, CardRulesPredicates.name(StringOp.EQUALS, p), PaperCard.FN_GET_RULES));
+                predicates.add(CardRulesPredicates.name(StringOp.EQUALS, p));
                 break;
             case TYPE:
-                Iterables.addAll(cards, getMatchingItems(cardList, CardRulesPredicates.joinedType(StringOp.CONTAINS_IC, p), PaperCard.FN_GET_RULES));
+                predicates.add(CardRulesPredicates.joinedType(StringOp.CONTAINS_IC, p));
                 break;
             case NONE:
             case ABILITY: // already done above
                 break;
             }
         }
+        return predicates;
+    }
+
+    private Iterable<PaperCard> getCardsForFilter(Iterable<PaperCard> cardList, List<Predicate<CardRules>> predicates) {
+        List<PaperCard> cards = new ArrayList<>();
+        for (Predicate<CardRules> predicate : predicates) {
+            Iterables.addAll(cards, getMatchingItems(cardList, predicate, PaperCard.FN_GET_RULES));
+        }
         return cards;
     }
 
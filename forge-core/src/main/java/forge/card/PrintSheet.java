@@ -2,7 +2,7 @@ package forge.card;
 
 import java.io.File;
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
 
@@ -39,6 +39,8 @@ public class PrintSheet {
     }
 
     private final ItemPool<PaperCard> cardsWithWeights;
+    // the cards laid out for drawing, made again on the first draw after the sheet changes
+    private volatile Sampler sampler;
 
     private final String name;
     public PrintSheet(String name0) {
@@ -56,6 +58,7 @@ public class PrintSheet {
 
     public void add(PaperCard card, int weight) {
         cardsWithWeights.add(card, weight);
+        sampler = null;
     }
 
     public void addAll(Iterable<PaperCard> cards) {
@@ -65,6 +68,7 @@ public class PrintSheet {
     public void addAll(Iterable<PaperCard> cards, int weight) {
         for (PaperCard card : cards)
             cardsWithWeights.add(card, weight);
+        sampler = null;
     }
 
     /** Cuts cards out of a sheet - they won't be printed again.
@@ -72,23 +76,16 @@ public class PrintSheet {
     public void removeAll(Iterable<PaperCard> cards) {
         for(PaperCard card : cards)
             cardsWithWeights.remove(card);
+        sampler = null;
     }
 
-    private PaperCard fetchRoulette(int start, int roulette, Collection<PaperCard> toSkip) {
-        int sum = start;
-        boolean isSecondRun = start > 0;
-        for (Entry<PaperCard, Integer> cc : cardsWithWeights ) {
-            sum += cc.getValue();
-            if (sum > roulette) {
-                if (toSkip != null && toSkip.contains(cc.getKey()))
-                    continue;
-                return cc.getKey();
-            }
+    private Sampler getSampler() {
+        Sampler result = sampler;
+        if (result == null) {
+            result = new Sampler(cardsWithWeights);
+            sampler = result;
         }
-        if (isSecondRun)
-            throw new IllegalStateException("Print sheet does not have enough unique cards");
-
-        return fetchRoulette(sum + 1, roulette, toSkip); // start over from beginning, in case last cards were to skip
+        return result;
     }
 
     public List<PaperCard> all() {
@@ -117,31 +114,34 @@ public class PrintSheet {
         return name;
     }
 
+    public boolean contains(PaperCard card) {
+        return cardsWithWeights.contains(card);
+    }
+
     public List<PaperCard> random(int number, boolean wantUnique) {
         List<PaperCard> result = new ArrayList<>();
 
-        int totalWeight = cardsWithWeights.countAll();
-        if (totalWeight == 0) {
+        Sampler s = getSampler();
+        if (s.totalWeight == 0) {
             System.err.println("No cards were found on sheet " + name);
             return result;
         }
 
         // If they ask for 40 unique basic lands (to make a fatpack) out of 20 distinct possible, add the whole print run N times.
-        int uniqueCards = cardsWithWeights.countDistinct();
+        int uniqueCards = s.cards.length;
         while (number >= uniqueCards) {
-            for (Entry<PaperCard, Integer> kv : cardsWithWeights) {
-                result.add(kv.getKey());
-            }
+            Collections.addAll(result, s.cards);
             number -= uniqueCards;
         }
 
-        List<PaperCard> uniques = wantUnique ? new ArrayList<>() : null;
+        boolean[] taken = wantUnique ? new boolean[uniqueCards] : null;
         for (int iC = 0; iC < number; iC++) {
-            int index = MyRandom.getRandom().nextInt(totalWeight);
-            PaperCard toAdd = fetchRoulette(0, index, wantUnique ? uniques : null);
-            result.add(toAdd);
-            if (wantUnique)
-                uniques.add(toAdd);
+            int index = s.indexOf(MyRandom.getRandom().nextInt(s.totalWeight));
+            if (wantUnique) {
+                index = s.nextNotTaken(index, taken);
+                taken[index] = true;
+            }
+            result.add(s.cards[index]);
         }
         return result;
     }
@@ -154,6 +154,63 @@ public class PrintSheet {
         return cardsWithWeights.toFlatList();
     }
 
+    /**
+     * The cards of a sheet in an array with their weights summed up, a card being drawn when a random number below
+     * the total weight falls in its range. The draws are the same as going down the sheet adding up the weights.
+     */
+    private static final class Sampler {
+        private final PaperCard[] cards;
+        // the sum of the weights of each card and the ones before it
+        private final int[] weightsUpTo;
+        private final int totalWeight;
+
+        private Sampler(ItemPool<PaperCard> pool) {
+            List<PaperCard> cardList = new ArrayList<>();
+            List<Integer> weightList = new ArrayList<>();
+            for (Entry<PaperCard, Integer> cc : pool) {
+                cardList.add(cc.getKey());
+                weightList.add(cc.getValue());
+            }
+            cards = cardList.toArray(new PaperCard[0]);
+            weightsUpTo = new int[cards.length];
+            int sum = 0;
+            for (int i = 0; i < cards.length; i++) {
+                sum += weightList.get(i);
+                weightsUpTo[i] = sum;
+            }
+            totalWeight = sum;
+        }
+
+        // the first card whose weights reach past the roulette
+        private int indexOf(int roulette) {
+            int low = 0, high = cards.length - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (weightsUpTo[mid] > roulette) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+
+        // the card itself if not taken yet, else the next one down the sheet, starting over from the top
+        private int nextNotTaken(int index, boolean[] taken) {
+            for (int i = index; i < cards.length; i++) {
+                if (!taken[i]) {
+                    return i;
+                }
+            }
+            for (int i = 0; i < index; i++) {
+                if (!taken[i]) {
+                    return i;
+                }
+            }
+            throw new IllegalStateException("Print sheet does not have enough unique cards");
+        }
+    }
+
     public static class Reader extends StorageReaderFileSections<PrintSheet> {
         public Reader(File file) {
             super(file, PrintSheet.FN_GET_KEY);
@@ -0,0 +1,109 @@
+package forge.card;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.Sets;
+
+/**
+ * Interned ids for the subtypes of the type lists.
+ * <p>
+ * Ids are assigned once, after the type lists have been read into {@link CardType.Constant}, which lets
+ * {@link CardType} keep its known subtypes in bitsets and answer category questions (creature type, land type...)
+ * with mask operations instead of string set lookups. Subtypes missing from the lists never get an id.
+ * </p>
+ */
+public final class SubtypeRegistry {
+    private static volatile SubtypeRegistry instance = new SubtypeRegistry();
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final String[] names;
+
+    final BitSet basicTypes = new BitSet();
+    final BitSet landTypes = new BitSet(); // including the basic ones
+    final BitSet creatureTypes = new BitSet();
+    final BitSet spellTypes = new BitSet();
+    final BitSet enchantmentTypes = new BitSet();
+    final BitSet artifactTypes = new BitSet();
+    final BitSet walkerTypes = new BitSet();
+    final BitSet dungeonTypes = new BitSet();
+    final BitSet battleTypes = new BitSet();
+    final BitSet planarTypes = new BitSet();
+
+    private SubtypeRegistry() {
+        names = new String[0];
+    }
+
+    private SubtypeRegistry(final Collection<String> allNames) {
+        names = allNames.toArray(new String[0]);
+        for (int i = 0; i < names.length; i++) {
+            ids.put(names[i], i);
+        }
+        mark(basicTypes, CardType.Constant.BASIC_TYPES);
+        mark(landTypes, CardType.Constant.BASIC_TYPES);
+        mark(landTypes, CardType.Constant.LAND_TYPES);
+        mark(creatureTypes, CardType.Constant.CREATURE_TYPES);
+        mark(spellTypes, CardType.Constant.SPELL_TYPES);
+        mark(enchantmentTypes, CardType.Constant.ENCHANTMENT_TYPES);
+        mark(artifactTypes, CardType.Constant.ARTIFACT_TYPES);
+        mark(walkerTypes, CardType.Constant.WALKER_TYPES);
+        mark(dungeonTypes, CardType.Constant.DUNGEON_TYPES);
+        mark(battleTypes, CardType.Constant.BATTLE_TYPES);
+        mark(planarTypes, CardType.Constant.PLANAR_TYPES);
+    }
+
+    private void mark(final BitSet category, final Collection<String> types) {
+        for (final String t : types) {
+            category.set(ids.get(t));
+        }
+    }
+
+    /**
+     * Assigns ids to the subtypes of the loaded type lists. Only the first call after the lists are loaded has any
+     * effect, so the ids stay valid for the whole session.
+     */
+    public static synchronized void load() {
+        if (instance.names.length > 0 || !CardType.Constant.LOADED.isSet()) {
+            return;
+        }
+        final Set<String> all = Sets.newLinkedHashSet();
+        all.addAll(CardType.Constant.BASIC_TYPES);
+        all.addAll(CardType.Constant.LAND_TYPES);
+        all.addAll(CardType.Constant.CREATURE_TYPES);
+        all.addAll(CardType.Constant.SPELL_TYPES);
+        all.addAll(CardType.Constant.ENCHANTMENT_TYPES);
+        all.addAll(CardType.Constant.ARTIFACT_TYPES);
+        all.addAll(CardType.Constant.WALKER_TYPES);
+        all.addAll(CardType.Constant.DUNGEON_TYPES);
+        all.addAll(CardType.Constant.BATTLE_TYPES);
+        all.addAll(CardType.Constant.PLANAR_TYPES);
+        instance = new SubtypeRegistry(all);
+    }
+
+    static SubtypeRegistry get() {
+        return instance;
+    }
+
+    public static boolean isLoaded() {
+        return instance.names.length > 0;
+    }
+
+    /**
+     * @return the id of the given subtype, or -1 if it isn't part of the type lists.
+     */
+    public static int idOf(final String subtype) {
+        final Integer id = instance.ids.get(subtype);
+        return id == null ? -1 : id;
+    }
+
+    public static String nameOf(final int id) {
+        return instance.names[id];
+    }
+
+    public static int size() {
+        return instance.names.length;
+    }
+}
@@ -25,13 +25,18 @@ import forge.card.CardDb;
 import forge.card.CardEdition;
 import forge.card.CardRules;
 import forge.card.CardType;
+import forge.card.ColorSet;
+import forge.card.MagicColor;
+import forge.card.mana.ManaCostShard;
 import forge.item.IPaperCard;
 import forge.item.PaperCard;
+import forge.util.storage.StorageIndex;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.function.Supplier;
 
 /**
  * <p>
@@ -50,6 +55,9 @@ public class Deck extends DeckBase implements Iterable<Entry<DeckSection, CardPo
     // the lazy card load feature to ensure we don't need to load all cards on start up.
     private Map<String, List<String>> deferredSections = null;
     private Map<String, List<String>> loadedSections = null;
+    // when read from a storage index, even the deck file is only parsed once the contents are needed
+    private transient Supplier<Map<String, List<String>>> deferredSource = null;
+    private transient StorageIndex.Entry indexEntry = null;
     private String lastCardArtPreferenceUsed = "";
     private Boolean lastCardArtOptimisationOptionUsed = null;
     private boolean includeCardsFromUnspecifiedSet = false;
@@ -194,6 +202,21 @@ public class Deck extends DeckBase implements Iterable<Entry<DeckSection, CardPo
         this.deferredSections = deferredSections;
     }
 
+    public void setDeferredSource(Supplier<Map<String, List<String>>> deferredSource) {
+        this.deferredSource = deferredSource;
+    }
+
+    /**
+     * @return the storage index entry of the file this deck was read from, if its folder is indexed
+     */
+    public StorageIndex.Entry getIndexEntry() {
+        return indexEntry;
+    }
+
+    public void setIndexEntry(StorageIndex.Entry indexEntry) {
+        this.indexEntry = indexEntry;
+    }
+
     /* (non-Javadoc)
      * @see forge.deck.DeckBase#cloneFieldsTo(forge.deck.DeckBase)
      */
@@ -220,6 +243,10 @@ public class Deck extends DeckBase implements Iterable<Entry<DeckSection, CardPo
     }
 
     private void loadDeferredSections() {
+        if (deferredSource != null) {
+            deferredSections = deferredSource.get();
+            deferredSource = null;
+        }
         if (deferredSections == null && loadedSections == null)
             return;
 
@@ -616,6 +643,44 @@ public class Deck extends DeckBase implements Iterable<Entry<DeckSection, CardPo
         return false;
     }
 
+    /**
+     * Colors of the given main deck and commander cards. Lands don't add colors on their own, but allow the hybrid
+     * and phyrexian mana symbols of spells to count.
+     */
+    public static ColorSet getColor(Iterable<CardRules> cards) {
+        byte colorProfile = MagicColor.COLORLESS;
+        byte landProfile = MagicColor.COLORLESS;
+        Set<Byte> nonReqColors = null;
+
+        for (final CardRules rules : cards) {
+            if (rules.getType().isLand()) { //track color identity of lands separately
+                landProfile |= rules.getColorIdentity().getColor();
+            }
+            else {
+                for (final ManaCostShard shard : rules.getManaCost()) {
+                    //track phyrexian and hybrid costs separately as they won't always affect color
+                    if (shard.isPhyrexian() || shard.isOr2Generic() || !shard.isMonoColor()) {
+                        if (nonReqColors == null) {
+                            nonReqColors = new HashSet<>();
+                        }
+                        nonReqColors.add(shard.getColorMask());
+                    }
+                    else {
+                        colorProfile |= shard.getColorMask();
+                    }
+                }
+            }
+        }
+        if (nonReqColors != null) {
+            //if any non-required mana colors present, determine which colors, if any,
+            //need to be accounted for in color profile of deck
+            for (final Byte colorMask : nonReqColors) {
+                colorProfile |= (colorMask & landProfile);
+            }
+        }
+        return ColorSet.fromMask(colorProfile);
+    }
+
     public static int getAverageCMC(Deck deck) {
         int totalCMC = 0;
         int totalCount = 0;
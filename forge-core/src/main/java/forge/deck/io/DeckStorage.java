@@ -19,14 +19,27 @@ package forge.deck.io;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
+
+import forge.StaticData;
+import forge.card.CardDb;
+import forge.card.CardRules;
+import forge.card.MagicColor;
+import forge.deck.CardPool;
 import forge.deck.Deck;
+import forge.deck.DeckSection;
+import forge.item.PaperCard;
 import forge.util.FileSection;
 import forge.util.FileUtil;
 import forge.util.IItemReader;
 import forge.util.IItemSerializer;
+import forge.util.storage.StorageIndex;
 import forge.util.storage.StorageReaderFolder;
 
 /**
@@ -35,6 +48,18 @@ import forge.util.storage.StorageReaderFolder;
 public class DeckStorage extends StorageReaderFolder<Deck> implements IItemSerializer<Deck> {
     public static final String FILE_EXTENSION = ".dck";
 
+    /** Name of the file indexing the decks of each folder. */
+    public static final String INDEX_FILE_NAME = ".decks.idx";
+
+    // values kept in the index for each deck file
+    public static final String KEY_NAME = "name";
+    public static final String KEY_COMMENT = "comment";
+    public static final String KEY_TAGS = "tags";
+    public static final String KEY_COLOR = "color";
+    public static final String KEY_COLOR_IDENTITY = "identity";
+    public static final String KEY_MAIN_SIZE = "main";
+    public static final String KEY_SIDE_SIZE = "side";
+
     private final String rootDir;
     private final boolean moveWronglyNamedDecks;
 
@@ -82,7 +107,20 @@ public class DeckStorage extends StorageReaderFolder<Deck> implements IItemSeria
 
     @Override
     protected Deck read(final File file) {
+        return fromSections(file, FileSection.parseSections(FileUtil.readFile(file)));
+    }
+
+    @Override
+    protected Deck read(final File file, final Map<String, String> description) {
         final Map<String, List<String>> sections = FileSection.parseSections(FileUtil.readFile(file));
+        final Deck result = fromSections(file, sections);
+        if (result != null) {
+            describe(result, sections, description);
+        }
+        return result;
+    }
+
+    private Deck fromSections(final File file, final Map<String, List<String>> sections) {
         Deck result = DeckSerializer.fromSections(sections);
 
         if (moveWronglyNamedDecks) {
@@ -95,6 +133,93 @@ public class DeckStorage extends StorageReaderFolder<Deck> implements IItemSeria
         return result;
     }
 
+    @Override
+    protected File getIndexFile() {
+        return new File(this.directory, INDEX_FILE_NAME);
+    }
+
+    @Override
+    protected boolean canReadInParallel() {
+        return true;
+    }
+
+    @Override
+    protected Deck readFromIndex(final File file, final StorageIndex.Entry entry) {
+        final String name = entry.get(KEY_NAME);
+        if (name == null) {
+            return null;
+        }
+        final Deck result = new Deck(name);
+        result.setComment(entry.get(KEY_COMMENT));
+        final String tags = entry.get(KEY_TAGS);
+        if (tags != null) {
+            result.getTags().addAll(Arrays.asList(tags.split(DeckFileHeader.TAGS_SEPARATOR)));
+        }
+        result.setDeferredSource(() -> FileSection.parseSections(FileUtil.readFile(file)));
+        result.setDirectory(file.getParent().substring(rootDir.length()));
+        result.setIndexEntry(entry);
+        return result;
+    }
+
+    @Override
+    protected void onIndexed(final Deck item, final StorageIndex.Entry entry) {
+        item.setIndexEntry(entry);
+    }
+
+    /**
+     * Fills in the header and the stats the deck lists need, straight from the card names so the deck stays
+     * unloaded. Stats are left out if any card can't be resolved, the deck will be loaded to compute them then.
+     */
+    private static void describe(final Deck deck, final Map<String, List<String>> sections, final Map<String, String> description) {
+        description.put(KEY_NAME, deck.getName());
+        if (deck.getComment() != null) {
+            description.put(KEY_COMMENT, deck.getComment());
+        }
+        if (!deck.getTags().isEmpty()) {
+            description.put(KEY_TAGS, StringUtils.join(deck.getTags(), DeckFileHeader.TAGS_SEPARATOR));
+        }
+        if (StaticData.instance() == null) {
+            return;
+        }
+
+        final List<CardRules> colorCards = new ArrayList<>();
+        byte identity = MagicColor.COLORLESS;
+        int main = 0, side = 0;
+        for (final Map.Entry<String, List<String>> s : sections.entrySet()) {
+            final DeckSection section = DeckSection.smartValueOf(s.getKey());
+            if (section != DeckSection.Main && section != DeckSection.Sideboard && section != DeckSection.Commander) {
+                continue;
+            }
+            for (final Pair<String, Integer> request : CardPool.processCardList(s.getValue())) {
+                final CardRules rules = findRules(request.getLeft());
+                if (rules == null) {
+                    return;
+                }
+                identity |= rules.getColorIdentity().getColor();
+                if (section == DeckSection.Sideboard) {
+                    side += request.getRight();
+                } else {
+                    main += request.getRight();
+                    colorCards.add(rules);
+                }
+            }
+        }
+        description.put(KEY_COLOR, String.valueOf(Deck.getColor(colorCards).getColor()));
+        description.put(KEY_COLOR_IDENTITY, String.valueOf(identity));
+        description.put(KEY_MAIN_SIZE, String.valueOf(main));
+        description.put(KEY_SIDE_SIZE, String.valueOf(side));
+    }
+
+    private static CardRules findRules(final String cardRequest) {
+        for (final CardDb db : StaticData.instance().getAvailableDatabases().values()) {
+            final PaperCard card = db.getCard(cardRequest);
+            if (card != null) {
+                return card.getRules();
+            }
+        }
+        return null;
+    }
+
     private static void adjustFileLocation(final File file, final Deck result) {
         if (result == null) {
             file.delete();
@@ -21,17 +21,22 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
 import com.google.common.base.Predicate;
 import com.google.common.base.Predicates;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
@@ -68,6 +73,60 @@ public class BoosterGenerator {
         return cachedSheets.get(key);
     }
 
+    // The slots of the templates worked out once. Weak keys are compared by identity,
+    // templates of no edition can't be hashed.
+    private final static LoadingCache<SealedProduct.Template, CompiledTemplate> compiledTemplates =
+            CacheBuilder.newBuilder().weakKeys().build(CacheLoader.from(CompiledTemplate::new));
+
+    /**
+     * A slot of a booster template with its print sheet looked up.
+     */
+    private static final class CompiledSlot {
+        private final String slotType; // the type alone, like "Common" for "Common:!fromSheet(...)"
+        private final int numCards;
+        private final boolean convertCardFoil;
+        private final boolean wholeSheet;
+        private final String setCode;
+        private final String sheetKey;
+        private volatile PrintSheet sheet;
+
+        private CompiledSlot(String slotType0, int numCards0, String edition) {
+            numCards = numCards0;
+            convertCardFoil = slotType0.endsWith("+");
+            if (convertCardFoil) {
+                slotType0 = slotType0.substring(0, slotType0.length() - 1);
+            }
+
+            String[] sType = TextUtil.splitWithParenthesis(slotType0, ' ');
+            setCode = sType.length == 1 && edition != null ? edition : null;
+            sheetKey = StaticData.instance().getEditions().contains(setCode) ? slotType0.trim() + " " + setCode
+                    : slotType0.trim();
+            wholeSheet = sheetKey.startsWith("wholeSheet");
+            slotType = slotType0.split("[ :!]")[0]; // add expansion symbol here?
+        }
+
+        private PrintSheet getSheet() {
+            PrintSheet result = sheet;
+            if (result == null) {
+                result = getPrintSheet(sheetKey);
+                sheet = result;
+            }
+            return result;
+        }
+    }
+
+    private static final class CompiledTemplate {
+        private final List<CompiledSlot> slots = new ArrayList<>();
+        // the cards a booster must have one of by their types, like "Legendary Creature"
+        private final Map<String, List<PaperCard>> guaranteedCards = new ConcurrentHashMap<>();
+
+        private CompiledTemplate(SealedProduct.Template template) {
+            for (Pair<String, Integer> slot : template.getSlots()) {
+                slots.add(new CompiledSlot(slot.getLeft(), slot.getRight(), template.getEdition()));
+            }
+        }
+    }
+
     private static PaperCard generateFoilCard(PrintSheet sheet) {
         PaperCard randomCard = sheet.random(1, true).get(0);
         return randomCard.getFoiled();
@@ -231,29 +290,19 @@ public class BoosterGenerator {
 
         List<PaperCard> foilCardGeneratedAndHeld = new ArrayList<>();
 
-        for (Pair<String, Integer> slot : template.getSlots()) {
-            String slotType = slot.getLeft(); // add expansion symbol here?
-            int numCards = slot.getRight();
+        for (CompiledSlot slot : compiledTemplates.getUnchecked(template).slots) {
+            String slotType = slot.slotType;
+            int numCards = slot.numCards;
+            boolean convertCardFoil = slot.convertCardFoil;
+            String setCode = slot.setCode;
 
-            boolean convertCardFoil = slotType.endsWith("+");
-            if (convertCardFoil) {
-                slotType = slotType.substring(0, slotType.length() - 1);
-            }
-
-            String[] sType = TextUtil.splitWithParenthesis(slotType, ' ');
-            String setCode = sType.length == 1 && template.getEdition() != null ? template.getEdition() : null;
-            String sheetKey = StaticData.instance().getEditions().contains(setCode) ? slotType.trim() + " " + setCode
-                    : slotType.trim();
-
-            if (sheetKey.startsWith("wholeSheet")) {
-                PrintSheet ps = getPrintSheet(sheetKey);
+            if (slot.wholeSheet) {
+                PrintSheet ps = slot.getSheet();
                 result.addAll(ps.all());
                 sheetsUsed.add(ps);
                 continue;
             }
 
-            slotType = slotType.split("[ :!]")[0]; // add expansion symbol here?
-
             boolean foilInThisSlot = hasFoil && (slotType.equals(foilSlot));
 
             if ((!foilAtEndOfPack && foilInThisSlot)
@@ -283,7 +332,7 @@ public class BoosterGenerator {
                 replaceCommon = false;
             }
 
-            PrintSheet ps = getPrintSheet(sheetKey);
+            PrintSheet ps = slot.getSheet();
             List<PaperCard> paperCards;
 
             // For cards that end in '+', attempt to convert this card to foil.
@@ -307,12 +356,7 @@ public class BoosterGenerator {
                         // only for boosters with FoilAlwaysInCommonSlot=True.
                         // If FoilAlwaysInCommonSlot is false, a card from the extra
                         // sheet may still replace a card in any slot.
-                        List<PaperCard> foilCards = new ArrayList<>();
-                        for (PaperCard card : ps.toFlatList()) {
-                            if (!foilCards.contains(card)) {
-                                foilCards.add(card);
-                            }
-                        }
+                        List<PaperCard> foilCards = new ArrayList<>(Sets.newLinkedHashSet(ps.toFlatList()));
                         addCardsFromExtraSheet(foilCards, extraFoilSheetKey);
                         result.add(generateFoilCard(foilCards));
                     } else {
@@ -324,12 +368,7 @@ public class BoosterGenerator {
                         // only for boosters with FoilAlwaysInCommonSlot=True.
                         // If FoilAlwaysInCommonSlot is false, a card from the extra
                         // sheet may still replace a card in any slot.
-                        List<PaperCard> foilCards = new ArrayList<>();
-                        for (PaperCard card : ps.toFlatList()) {
-                            if (!foilCards.contains(card)) {
-                                foilCards.add(card);
-                            }
-                        }
+                        List<PaperCard> foilCards = new ArrayList<>(Sets.newLinkedHashSet(ps.toFlatList()));
                         addCardsFromExtraSheet(foilCards, extraFoilSheetKey);
                         foilCardGeneratedAndHeld.add(generateFoilCard(foilCards));
                     } else {
@@ -379,7 +418,7 @@ public class BoosterGenerator {
                 PrintSheet replaceThis = StaticData.instance().getPrintSheets().get(split[0]);
                 List<PaperCard> candidates = Lists.newArrayList();
                 for (PaperCard p : result) {
-                    if (replaceThis.all().contains(p)) {
+                    if (replaceThis.contains(p)) {
                         candidates.add(candidates.size(), p);
                     }
                 }
@@ -393,7 +432,7 @@ public class BoosterGenerator {
                 PrintSheet replaceThis = StaticData.instance().getPrintSheets().get(split[0]);
                 List<PaperCard> candidates = Lists.newArrayList();
                 for (PaperCard p : result) {
-                    if (replaceThis.all().contains(p)) {
+                    if (replaceThis.contains(p)) {
                         candidates.add(candidates.size(), p);
                     }
                 }
@@ -425,31 +464,8 @@ public class BoosterGenerator {
         }
 
         if (!alreadyHaveCard) {
-            // Create a list of all cards that match the criteria
-            List<PaperCard> possibleCards = Lists.newArrayList();
-            for (Pair<String, Integer> slot : template.getSlots()) {
-                String slotType = slot.getLeft();
-                String setCode = template.getEdition();
-                String sheetKey = StaticData.instance().getEditions().contains(setCode) ? slotType.trim() + " " + setCode
-                        : slotType.trim();
-
-                PrintSheet ps = getPrintSheet(sheetKey);
-                List<PaperCard> cardsInSlot = Lists.newArrayList(ps.toFlatList());
-
-                for (PaperCard pc : cardsInSlot) {
-                    boolean cardHasAllTypes = true;
-                    for (String type : types) {
-                        if (!pc.getRules().getType().hasStringType(type)) {
-                            cardHasAllTypes = false;
-                            break;
-                        }
-                    }
-                    if (cardHasAllTypes && !possibleCards.contains(pc)) {
-                        possibleCards.add(pc);
-                    }
-                }
-            }
-
+            List<PaperCard> possibleCards = compiledTemplates.getUnchecked(template).guaranteedCards.computeIfAbsent(
+                    boosterMustContain, k -> getGuaranteedCards(template, types));
             if (!possibleCards.isEmpty()) {
                 PaperCard toAdd = Aggregates.random(possibleCards);
                 BoosterGenerator.replaceCard(result, toAdd);
@@ -457,6 +473,32 @@ public class BoosterGenerator {
         }
     }
 
+    // all the cards of the sheets of the template that match the criteria
+    private static List<PaperCard> getGuaranteedCards(SealedProduct.Template template, String[] types) {
+        Set<PaperCard> possibleCards = new LinkedHashSet<>();
+        for (Pair<String, Integer> slot : template.getSlots()) {
+            String slotType = slot.getLeft();
+            String setCode = template.getEdition();
+            String sheetKey = StaticData.instance().getEditions().contains(setCode) ? slotType.trim() + " " + setCode
+                    : slotType.trim();
+
+            PrintSheet ps = getPrintSheet(sheetKey);
+            for (PaperCard pc : ps.toFlatList()) {
+                boolean cardHasAllTypes = true;
+                for (String type : types) {
+                    if (!pc.getRules().getType().hasStringType(type)) {
+                        cardHasAllTypes = false;
+                        break;
+                    }
+                }
+                if (cardHasAllTypes) {
+                    possibleCards.add(pc);
+                }
+            }
+        }
+        return new ArrayList<>(possibleCards);
+    }
+
     /**
      * Replaces an already present card in the booster with a card from the supplied print sheet.
      * Nothing is replaced if there is no matching rarity found.
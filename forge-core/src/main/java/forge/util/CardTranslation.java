@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
@@ -14,6 +15,11 @@ import com.google.common.base.Charsets;
 
 public class CardTranslation {
 
+    private static final Pattern ORACLE_LINE_SEPARATOR = Pattern.compile("\\n", Pattern.LITERAL);
+    private static final Pattern TRANSLATED_LINE_SEPARATOR = Pattern.compile("\r\n\r\n", Pattern.LITERAL);
+    private static final Pattern KEYWORD_SEPARATOR = Pattern.compile(", ", Pattern.LITERAL);
+    private static final Pattern REMINDER_TEXT = Pattern.compile("\\(.*\\)");
+
     private static Map <String, String> translatednames;
     private static Map <String, String> translatedtypes;
     private static Map <String, String> translatedoracles;
@@ -125,15 +131,15 @@ public class CardTranslation {
         }
         String translatedName = getTranslatedName(faceName);
         List <Pair <String, String> > mapping = new ArrayList<>();
-        String [] splitOracleText = oracleText.split("\\\\n");
-        String [] splitTranslatedText = translatedText.split("\r\n\r\n");
+        String [] splitOracleText = ORACLE_LINE_SEPARATOR.split(oracleText);
+        String [] splitTranslatedText = TRANSLATED_LINE_SEPARATOR.split(translatedText);
 
         for (int i = 0; i < splitOracleText.length && i < splitTranslatedText.length; i++) {
             String toracle = replaceCardName("en-US", faceName, splitOracleText[i]);
             String ttranslated = replaceCardName(languageSelected, translatedName, splitTranslatedText[i]);
             // Remove reminder text in English oracle text unless entire line is reminder text
             if (!toracle.startsWith("(")) {
-                toracle = toracle.replaceAll("\\(.*\\)", "");
+                toracle = REMINDER_TEXT.matcher(toracle).replaceAll("");
             }
             mapping.add(Pair.of(toracle, ttranslated));
         }
@@ -152,7 +158,7 @@ public class CardTranslation {
                 result = TextUtil.fastReplace(result, text, translated);
             } else {
                 // keywords maybe combined into one line, split them and try translate again
-                String [] splitKeywords = text.split(", ");
+                String [] splitKeywords = KEYWORD_SEPARATOR.split(text);
                 if (splitKeywords.length <= 1) continue;
                 for (String keyword : splitKeywords) {
                     if (keyword.contains(" ")) continue;
@@ -181,7 +187,7 @@ public class CardTranslation {
     }
 
     private static String translateSingleIngameText(String descText, List <Pair <String, String> > mapping) {
-        String tcompare = descText.startsWith("(") ? descText : descText.replaceAll("\\(.*\\)", "");
+        String tcompare = descText.startsWith("(") ? descText : REMINDER_TEXT.matcher(descText).replaceAll("");
 
         // Use Levenshtein Distance to find matching oracle text and replace it with translated text
         int candidateIndex = mapping.size();
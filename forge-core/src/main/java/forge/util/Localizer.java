@@ -5,14 +5,19 @@ import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class Localizer {
 
@@ -23,7 +28,8 @@ public class Localizer {
     private Locale locale;
     private ResourceBundle resourceBundle;
     private ResourceBundle englishBundle;
-    private boolean silent = false;
+    private final Map<String, Message> messages = new ConcurrentHashMap<>();
+    private final Map<String, Message> englishMessages = new ConcurrentHashMap<>();
     private boolean english = false;
 
     public static Localizer getInstance() {
@@ -67,11 +73,10 @@ public class Localizer {
 
     public String getMessageorUseDefault(final String key, final String defaultValue, final Object... messageArguments) {
         try {
-            silent = true;
-            String value = getMessage(key, messageArguments);
-            if (value.contains("INVALID PROPERTY:"))
+            final Message message = getMessageFor(false, key, true);
+            if (message == null)
                 return defaultValue;
-            return value;
+            return message.format(messageArguments);
         } catch (Exception e) {
             return defaultValue;
         }
@@ -84,49 +89,90 @@ public class Localizer {
         return getMessage(false, key, messageArguments);
     }
     public String getMessage(final boolean forcedEnglish, final String key, final Object... messageArguments) {
-        MessageFormat formatter = null;
-
-        try {
-            //formatter = new MessageFormat(resourceBundle.getString(key.toLowerCase()), locale);
-            formatter = new MessageFormat(english || forcedEnglish ? englishBundle.getString(key) : resourceBundle.getString(key), english || forcedEnglish ? Locale.ENGLISH : locale);
-        } catch (final IllegalArgumentException | MissingResourceException e) {
-            if (!silent)
-                e.printStackTrace();
-        }
-
-        if (formatter == null && !silent) {
+        final Message message = getMessageFor(forcedEnglish, key, false);
+        if (message == null) {
             System.err.println("INVALID PROPERTY: '" + key + "' -- Translation Needed?");
             return "INVALID PROPERTY: '" + key + "' -- Translation Needed?";
         }
+        return message.format(messageArguments);
+    }
 
-        silent = false;
-
-        formatter.setLocale(english || forcedEnglish ? Locale.ENGLISH : locale);
-
-        String formattedMessage = "CHAR ENCODING ERROR";
-        final String[] charsets = { "ISO-8859-1", "UTF-8" };
-        //Support non-English-standard characters
-        String detectedCharset = charset(english || forcedEnglish ? englishBundle.getString(key) : resourceBundle.getString(key), charsets);
-
-        final int argLength = messageArguments.length;
-        Object[] syncEncodingMessageArguments = new Object[argLength];
-        //when messageArguments encoding not equal resourceBundle.getString(key),convert to equal
-        //avoid convert to a have two encoding content formattedMessage string.
-        for (int i = 0; i < argLength; i++) {
-            String objCharset = charset(messageArguments[i].toString(), charsets);
+    private Message getMessageFor(final boolean forcedEnglish, final String key, final boolean silent) {
+        final boolean useEnglish = english || forcedEnglish;
+        final Map<String, Message> cache = useEnglish ? englishMessages : messages;
+        Message message = cache.get(key);
+        if (message == null) {
             try {
-                syncEncodingMessageArguments[i] = convert(messageArguments[i].toString(), objCharset, detectedCharset);
-            } catch (UnsupportedEncodingException ignored) {
-                System.err.println("Cannot Convert '" + messageArguments[i].toString() + "' from '" + objCharset + "' To '" + detectedCharset + "'");
-                return "encoding '" + key + "' translate string failure";
+                final ResourceBundle bundle = useEnglish ? englishBundle : resourceBundle;
+                message = new Message(toUtf8(bundle.getString(key)), useEnglish ? Locale.ENGLISH : locale);
+            } catch (final IllegalArgumentException | MissingResourceException e) {
+                if (!silent)
+                    e.printStackTrace();
+                return null;
             }
+            cache.put(key, message);
         }
+        return message;
+    }
 
+    /**
+     * Support non-English-standard characters: properties files are read as ISO-8859-1, a UTF-8 text read that
+     * way is turned back into the characters it was meant to have.
+     */
+    static String toUtf8(final String value) {
+        boolean ascii = true;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c > 0xFF) {
+                return value;
+            }
+            if (c >= 0x80) {
+                ascii = false;
+            }
+        }
+        if (ascii) {
+            return value;
+        }
         try {
-            formattedMessage = new String(formatter.format(syncEncodingMessageArguments).getBytes(detectedCharset), StandardCharsets.UTF_8);
-        } catch(UnsupportedEncodingException ignored) {}
+            return StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(value.getBytes(StandardCharsets.ISO_8859_1))).toString();
+        } catch (CharacterCodingException e) {
+            // an ISO-8859-1 text already
+            return value;
+        }
+    }
 
-        return formattedMessage;
+    /**
+     * A message of the bundle, with its characters fixed and its format parsed once. A message without
+     * arguments is formatted once too.
+     */
+    private static final class Message {
+        private final MessageFormat format;
+        private final String text;
+
+        private Message(final String pattern, final Locale locale) {
+            format = new MessageFormat(pattern, locale);
+            text = format.format(new Object[0]);
+        }
+
+        private String format(final Object... messageArguments) {
+            final int argLength = messageArguments.length;
+            if (argLength == 0) {
+                return text;
+            }
+            //when messageArguments encoding not equal resourceBundle.getString(key),convert to equal
+            //avoid convert to a have two encoding content formattedMessage string.
+            final Object[] syncEncodingMessageArguments = new Object[argLength];
+            for (int i = 0; i < argLength; i++) {
+                syncEncodingMessageArguments[i] = toUtf8(messageArguments[i].toString());
+            }
+            // the subformats of a MessageFormat keep state while formatting
+            synchronized (format) {
+                return format.format(syncEncodingMessageArguments);
+            }
+        }
     }
 
     public void setLanguage(final String languageRegionID, final String languagesDirectory) {
@@ -159,6 +205,8 @@ public class Localizer {
                 e.printStackTrace();
             }
 
+            messages.clear();
+            englishMessages.clear();
             System.out.println("Language '" + resourceBundle.getBaseBundleName() + "' loaded successfully.");
 
             notifyObservers();
@@ -30,8 +30,19 @@ import java.util.Random;
  * @version $Id$
  */
 public class MyRandom {
-    /** Constant <code>random</code>. */
-    private static Random random = new SecureRandom();
+    /** Seeds the random streams, only asked for a number when a stream starts. */
+    private static final SecureRandom seeds = new SecureRandom();
+
+    /** Constant <code>random</code>, replacing the streams of the threads if set. */
+    private static Random random = null;
+
+    /** The random stream of each thread, the one of its game while it runs a game. */
+    private static final ThreadLocal<Random> threadRandom = new ThreadLocal<Random>() {
+        @Override
+        protected Random initialValue() {
+            return new SeededRandom(newSeed());
+        }
+    };
 
     /**
      * <p>
@@ -49,10 +60,11 @@ public class MyRandom {
     /**
      * Gets the random.
      * 
-     * @return the random
+     * @return the random provider set with setRandom, or else the one of the current thread.
      */
     public static Random getRandom() {
-        return MyRandom.random;
+        final Random result = MyRandom.random;
+        return result != null ? result : threadRandom.get();
     }
 
     /**
@@ -63,11 +75,36 @@ public class MyRandom {
         MyRandom.random = random;
     }
 
+    /**
+     * Sets the random provider of the current thread, like the one of the game it is about to run.
+     * @param random the random, or null to give the thread a new stream
+     * @return the random provider the thread had, to set it back afterwards
+     */
+    public static Random setThreadRandom(Random random) {
+        final Random previous = threadRandom.get();
+        if (random == null) {
+            threadRandom.remove();
+        } else {
+            threadRandom.set(random);
+        }
+        return previous;
+    }
+
+    /**
+     * @return a seed for a new random stream, like the one of a match.
+     */
+    public static long newSeed() {
+        synchronized (seeds) {
+            return seeds.nextLong();
+        }
+    }
+
     public static int[] splitIntoRandomGroups(final int value, final int numGroups) {
         int[] groups = new int[numGroups];
-        
+        final Random r = getRandom();
+
         for (int i = 0; i < value; i++) {
-            groups[random.nextInt(numGroups)]++;
+            groups[r.nextInt(numGroups)]++;
         }
 
         return groups;
@@ -0,0 +1,76 @@
+package forge.util;
+
+import java.util.Random;
+
+/**
+ * A fast random number generator started from a seed, following the SplitMix64 algorithm of SplittableRandom.
+ * <p>
+ * Unlike SecureRandom it isn't synchronized, so each instance must be used by one thread at a time, like the thread
+ * running a game. The same seed gives the same numbers, and split() gives an independent generator whose numbers
+ * depend on the seed only, so the random streams of a match can be recreated from the seed of the match.
+ * </p>
+ */
+public class SeededRandom extends Random {
+    private static final long serialVersionUID = 2417303745912835215L;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+    private long state;
+
+    public SeededRandom(final long seed0) {
+        super(0L); // the state of Random isn't used
+        seed = seed0;
+        state = seed0;
+    }
+
+    /**
+     * @return the seed the generator started from.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return a new generator seeded from the next number of this one.
+     */
+    public SeededRandom split() {
+        return new SeededRandom(nextLong());
+    }
+
+    @Override
+    public synchronized void setSeed(final long seed0) {
+        // called by the constructor of Random, the seed given to the constructor of this class is used instead
+    }
+
+    @Override
+    protected int next(final int bits) {
+        return (int) (mix64() >>> (64 - bits));
+    }
+
+    @Override
+    public long nextLong() {
+        return mix64();
+    }
+
+    @Override
+    public int nextInt() {
+        return (int) (mix64() >>> 32);
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return mix64() < 0;
+    }
+
+    @Override
+    public double nextDouble() {
+        return (mix64() >>> 11) * 0x1.0p-53;
+    }
+
+    private long mix64() {
+        long z = state += GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
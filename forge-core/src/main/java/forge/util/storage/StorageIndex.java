@@ -0,0 +1,211 @@
+package forge.util.storage;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledFuture;
+
+import org.apache.commons.lang3.StringUtils;
+
+import forge.util.FileUtil;
+import forge.util.ThreadUtil;
+
+/**
+ * Index of the files of a storage folder, so that unchanged files don't have to be parsed again.
+ * <p>
+ * Each entry remembers the size and modification time of a file along with a few string values describing the
+ * object stored in it. Values may be added later on (e.g. stats computed by the UI) and will be written back to
+ * disk shortly after.
+ * </p>
+ */
+public final class StorageIndex {
+    private static final String HEADER = "#forge-storage-index 1";
+    private static final int SAVE_DELAY = 2000;
+
+    private final File file;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private boolean dirty;
+    private ScheduledFuture<?> pendingSave;
+
+    public final class Entry {
+        private final String fileName;
+        private final long lastModified, length;
+        private final Map<String, String> values;
+
+        private Entry(final String fileName0, final long lastModified0, final long length0, final Map<String, String> values0) {
+            fileName = fileName0;
+            lastModified = lastModified0;
+            length = length0;
+            values = values0;
+        }
+
+        public String get(final String key) {
+            synchronized (StorageIndex.this) {
+                return values.get(key);
+            }
+        }
+
+        public int getInt(final String key, final int defaultValue) {
+            final String value = get(key);
+            if (value == null) {
+                return defaultValue;
+            }
+            try {
+                return Integer.parseInt(value);
+            } catch (final NumberFormatException ex) {
+                return defaultValue;
+            }
+        }
+
+        /** Stores a value for this file, the index will be saved shortly after. */
+        public void set(final String key, final String value) {
+            synchronized (StorageIndex.this) {
+                if (StringUtils.equals(values.get(key), value)) {
+                    return;
+                }
+                if (value == null) {
+                    values.remove(key);
+                } else {
+                    values.put(key, value);
+                }
+                dirty = true;
+            }
+            saveLater();
+        }
+
+        private boolean matches(final File f) {
+            return f.lastModified() == lastModified && f.length() == length;
+        }
+    }
+
+    private StorageIndex(final File file0) {
+        file = file0;
+    }
+
+    /**
+     * Reads the index stored in the given file. A missing or unreadable index simply results in an empty one.
+     */
+    public static StorageIndex load(final File indexFile) {
+        final StorageIndex index = new StorageIndex(indexFile);
+        if (!indexFile.isFile()) {
+            return index;
+        }
+        final List<String> lines = FileUtil.readFile(indexFile);
+        if (lines.isEmpty() || !HEADER.equals(lines.get(0))) {
+            return index;
+        }
+        for (int i = 1; i < lines.size(); i++) {
+            final String[] parts = StringUtils.splitPreserveAllTokens(lines.get(i), '\t');
+            if (parts.length < 3) {
+                continue;
+            }
+            try {
+                final Map<String, String> values = new TreeMap<>();
+                for (int j = 3; j < parts.length; j++) {
+                    final int eq = parts[j].indexOf('=');
+                    if (eq > 0) {
+                        values.put(unescape(parts[j].substring(0, eq)), unescape(parts[j].substring(eq + 1)));
+                    }
+                }
+                final String fileName = unescape(parts[0]);
+                index.entries.put(fileName, index.new Entry(fileName, Long.parseLong(parts[1]), Long.parseLong(parts[2]), values));
+            } catch (final NumberFormatException ex) {
+                // skip the broken line, that file will simply be parsed again
+            }
+        }
+        return index;
+    }
+
+    /**
+     * @return the entry of the given file, or null if the file was not indexed or changed since.
+     */
+    public synchronized Entry get(final File f) {
+        final Entry entry = entries.get(f.getName());
+        return entry != null && entry.matches(f) ? entry : null;
+    }
+
+    public synchronized Entry put(final File f, final Map<String, String> values) {
+        final Entry entry = new Entry(f.getName(), f.lastModified(), f.length(), new TreeMap<>(values));
+        entries.put(entry.fileName, entry);
+        dirty = true;
+        return entry;
+    }
+
+    /** Drops the entries of files that no longer exist. */
+    public synchronized void retainOnly(final Collection<String> fileNames) {
+        if (entries.keySet().retainAll(fileNames)) {
+            dirty = true;
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public void saveLater() {
+        synchronized (this) {
+            if (pendingSave != null && !pendingSave.isDone()) {
+                return;
+            }
+            pendingSave = ThreadUtil.delay(SAVE_DELAY, this::save);
+        }
+    }
+
+    public void save() {
+        final List<String> lines;
+        synchronized (this) {
+            if (!dirty) {
+                return;
+            }
+            lines = new ArrayList<>(entries.size() + 1);
+            lines.add(HEADER);
+            final StringBuilder sb = new StringBuilder();
+            for (final Entry entry : entries.values()) {
+                sb.setLength(0);
+                sb.append(escape(entry.fileName)).append('\t').append(entry.lastModified).append('\t').append(entry.length);
+                for (final Map.Entry<String, String> kv : entry.values.entrySet()) {
+                    sb.append('\t').append(escape(kv.getKey())).append('=').append(escape(kv.getValue()));
+                }
+                lines.add(sb.toString());
+            }
+            dirty = false;
+        }
+        try {
+            FileUtil.writeFile(file, lines);
+        } catch (final RuntimeException ex) {
+            // the index is only a cache, the folder will be parsed again next time
+            System.err.println("Could not write storage index " + file + ": " + ex.getMessage());
+        }
+    }
+
+    private static String escape(final String s) {
+        return StringUtils.replaceEach(s, new String[] { "\\", "\t", "\n", "\r", "=" }, new String[] { "\\\\", "\\t", "\\n", "\\r", "\\e" });
+    }
+
+    private static String unescape(final String s) {
+        if (s.indexOf('\\') < 0) {
+            return s;
+        }
+        final StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            final char c = s.charAt(i);
+            if (c != '\\' || i == s.length() - 1) {
+                sb.append(c);
+                continue;
+            }
+            final char next = s.charAt(++i);
+            switch (next) {
+            case 't': sb.append('\t'); break;
+            case 'n': sb.append('\n'); break;
+            case 'r': sb.append('\r'); break;
+            case 'e': sb.append('='); break;
+            default: sb.append(next); break;
+            }
+        }
+        return sb.toString();
+    }
+}
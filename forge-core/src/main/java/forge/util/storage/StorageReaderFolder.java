@@ -23,13 +23,20 @@ import java.io.FilenameFilter;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import com.google.common.base.Function;
 
 import forge.util.TextUtil;
+import forge.util.ThreadUtil;
 
 /**
  * This class treats every file in the given folder as a source for a named
@@ -90,30 +97,113 @@ public abstract class StorageReaderFolder<T> extends StorageReaderBase<T> {
         final Map<String, T> result = createMap();
 
         final File[] files = this.directory.listFiles(this.getFileFilter());
-        for (final File file : files) {
-            try {
-                final T newDeck = this.read(file);
-                if (null == newDeck) {
-                    final String msg = "An object stored in " + file.getPath() + " failed to load.\nPlease submit this as a bug with the mentioned file/directory attached.";
-                    throw new RuntimeException(msg);
-                }
+        final File indexFile = this.getIndexFile();
+        final StorageIndex index = indexFile == null ? null : StorageIndex.load(indexFile);
 
-                String newKey = keySelector.apply(newDeck);
-                if (result.containsKey(newKey)) {
-                    newKey += "-" + file.getName();
+        // files that didn't change since they were indexed don't need to be parsed at all
+        final List<Object> items = new ArrayList<>(Collections.nCopies(files.length, null));
+        final List<Integer> toParse = new ArrayList<>();
+        for (int i = 0; i < files.length; i++) {
+            final StorageIndex.Entry entry = index == null ? null : index.get(files[i]);
+            final T item = entry == null ? null : this.readFromIndex(files[i], entry);
+            if (item == null) {
+                toParse.add(i);
+            } else {
+                items.set(i, item);
+            }
+        }
+
+        if (this.canReadInParallel() && toParse.size() > 1) {
+            final List<Callable<Object>> tasks = new ArrayList<>(toParse.size());
+            for (final int i : toParse) {
+                tasks.add(() -> this.parse(files[i], index));
+            }
+            final ExecutorService executor = ThreadUtil.getComputingPool(0.5f);
+            try {
+                final List<Future<Object>> parsed = executor.invokeAll(tasks);
+                for (int j = 0; j < parsed.size(); j++) {
+                    items.set(toParse.get(j), parsed.get(j).get());
                 }
-                if (result.containsKey(newKey)) {
-                    System.err.println("StorageReaderFolder: Overwriting an object with key " + newKey);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("StorageReaderFolder.readAll() interrupted while reading " + this.directory);
+            } catch (final ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
                 }
-                result.put(newKey, newDeck);
-            } catch (final NoSuchElementException ex) {
-                final String message = TextUtil.concatWithSpace( file.getName(),"failed to load because ----", ex.getMessage());
-                objectsThatFailedToLoad.add(message);
+                throw new RuntimeException(e.getCause());
+            } finally {
+                executor.shutdown();
+            }
+        } else {
+            for (final int i : toParse) {
+                items.set(i, this.parse(files[i], index));
+            }
+        }
+
+        for (int i = 0; i < files.length; i++) {
+            final Object item = items.get(i);
+            if (item instanceof LoadFailure) {
+                objectsThatFailedToLoad.add(((LoadFailure) item).message);
+                continue;
+            }
+            @SuppressWarnings("unchecked")
+            final T newDeck = (T) item;
+            if (null == newDeck) {
+                final String msg = "An object stored in " + files[i].getPath() + " failed to load.\nPlease submit this as a bug with the mentioned file/directory attached.";
+                throw new RuntimeException(msg);
+            }
+
+            String newKey = keySelector.apply(newDeck);
+            if (result.containsKey(newKey)) {
+                newKey += "-" + files[i].getName();
+            }
+            if (result.containsKey(newKey)) {
+                System.err.println("StorageReaderFolder: Overwriting an object with key " + newKey);
             }
+            result.put(newKey, newDeck);
+        }
+
+        if (index != null) {
+            final List<String> fileNames = new ArrayList<>(files.length);
+            for (final File file : files) {
+                fileNames.add(file.getName());
+            }
+            index.retainOnly(fileNames);
+            index.save();
         }
         return result;
     }
 
+    private static final class LoadFailure {
+        private final String message;
+
+        private LoadFailure(final String message0) {
+            message = message0;
+        }
+    }
+
+    /**
+     * Parses a single file, may be called from several threads at once if {@link #canReadInParallel()}.
+     *
+     * @return the object read, null if it could not be read, or a {@link LoadFailure}
+     */
+    private Object parse(final File file, final StorageIndex index) {
+        try {
+            if (index == null) {
+                return this.read(file);
+            }
+            final Map<String, String> description = new HashMap<>();
+            final T item = this.read(file, description);
+            if (item != null && file.exists()) {
+                this.onIndexed(item, index.put(file, description));
+            }
+            return item;
+        } catch (final NoSuchElementException ex) {
+            return new LoadFailure(TextUtil.concatWithSpace(file.getName(), "failed to load because ----", ex.getMessage()));
+        }
+    }
+
     /**
      * Read the object from file.
      *
@@ -122,6 +212,47 @@ public abstract class StorageReaderFolder<T> extends StorageReaderBase<T> {
      */
     protected abstract T read(File file);
 
+    /**
+     * Read the object from file, also filling in the values to keep in the folder index.
+     * Only called when {@link #getIndexFile()} is provided.
+     *
+     * @param file the file
+     * @param description values describing the object that will be written to the index
+     * @return the object deserialized by inherited class
+     */
+    protected T read(final File file, final Map<String, String> description) {
+        return this.read(file);
+    }
+
+    /**
+     * @return the file used to index this folder, or null if the folder should be parsed in full every time
+     */
+    protected File getIndexFile() {
+        return null;
+    }
+
+    /**
+     * Builds an object from the values indexed for an unchanged file, without parsing it.
+     *
+     * @return the object, or null if the file has to be parsed anyway
+     */
+    protected T readFromIndex(final File file, final StorageIndex.Entry entry) {
+        return null;
+    }
+
+    /**
+     * Called once a freshly parsed object got its index entry.
+     */
+    protected void onIndexed(final T item, final StorageIndex.Entry entry) {
+    }
+
+    /**
+     * @return whether {@link #read(File)} may be called concurrently for different files
+     */
+    protected boolean canReadInParallel() {
+        return false;
+    }
+
     /**
      * TODO: Write javadoc for this method.
      *
@@ -0,0 +1,221 @@
+package forge.card;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.commons.lang3.StringUtils;
+import org.testng.AssertJUnit;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.google.common.base.Predicate;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+/**
+ * Checks the subtypes CardType keeps as registry ids against keeping their names in a linked set, the way they were
+ * kept before. Foo, Bar, Baz and Qux aren't in the type lists.
+ */
+public class CardTypeTest {
+    // made before the type lists are loaded, so its subtypes are all names
+    private CardType beforeLoad;
+
+    @BeforeClass
+    public void loadTypeLists() {
+        beforeLoad = CardType.parse("Creature Elf Foo Warrior", false);
+        CardType.Constant.load(Arrays.asList(
+                "[BasicTypes]", "Forest:Forests", "Island:Islands",
+                "[LandTypes]", "Gate:Gates", "Desert:Deserts",
+                "[CreatureTypes]", "Elf:Elves", "Goblin:Goblins", "Warrior:Warriors", "Human:Humans",
+                "Wizard:Wizards", "Assembly-Worker:Assembly-Workers",
+                "[SpellTypes]", "Arcane",
+                "[EnchantmentTypes]", "Aura:Auras",
+                "[ArtifactTypes]", "Equipment",
+                "[WalkerTypes]", "Jace"));
+    }
+
+    // the subtypes of a type in a linked set, with the categories removed like sanisfySubtypes did
+    private static final class LegacySubtypes {
+        private final Set<String> subtypes = Sets.newLinkedHashSet();
+
+        LegacySubtypes(String... types) {
+            subtypes.addAll(Arrays.asList(types));
+        }
+
+        void removeIf(Predicate<String> category) {
+            Iterables.removeIf(subtypes, category);
+        }
+
+        void sanisfy(CardTypeView type) {
+            if (!type.isCreature() && !type.isTribal()) {
+                removeIf(CardType.Predicates.IS_CREATURE_TYPE);
+            }
+            if (!type.isLand()) {
+                removeIf(CardType.Predicates.IS_LAND_TYPE);
+            }
+            if (!type.isArtifact()) {
+                removeIf(CardType.Predicates.IS_ARTIFACT_TYPE);
+            }
+            if (!type.isEnchantment()) {
+                removeIf(CardType.Predicates.IS_ENCHANTMENT_TYPE);
+            }
+            if (!type.isInstant() && !type.isSorcery()) {
+                removeIf(CardType.Predicates.IS_SPELL_TYPE);
+            }
+            if (!type.isPlaneswalker()) {
+                removeIf(CardType.Predicates.IS_WALKER_TYPE);
+            }
+        }
+
+        void assertSame(String typesBeforeDash, CardTypeView type) {
+            AssertJUnit.assertEquals(Lists.newArrayList(subtypes), Lists.newArrayList(type.getSubtypes()));
+            for (String t : subtypes) {
+                AssertJUnit.assertTrue(t, type.hasSubtype(t));
+            }
+            String expected = subtypes.isEmpty() ? typesBeforeDash : typesBeforeDash + " - " + StringUtils.join(subtypes, " ");
+            AssertJUnit.assertEquals(expected, type.toString());
+        }
+    }
+
+    @Test
+    public void testToStringKeepsPrintedOrder() {
+        CardType type = CardType.parse("Legendary Creature Elf Foo Warrior Bar", false);
+        new LegacySubtypes("Elf", "Foo", "Warrior", "Bar").assertSame("Legendary Creature", type);
+
+        type = CardType.parse("Artifact Creature Foo Assembly-Worker Equipment", false);
+        new LegacySubtypes("Foo", "Assembly-Worker", "Equipment").assertSame("Artifact Creature", type);
+    }
+
+    @Test
+    public void testAddAndRemove() {
+        CardType type = CardType.parse("Creature Human Foo Wizard Bar Elf Baz", false);
+        LegacySubtypes legacy = new LegacySubtypes("Human", "Foo", "Wizard", "Bar", "Elf", "Baz");
+        legacy.assertSame("Creature", type);
+
+        for (String t : new String[] { "Wizard", "Foo", "Qux", "Elf" }) {
+            AssertJUnit.assertEquals(t, legacy.subtypes.remove(t), type.remove(t));
+            legacy.assertSame("Creature", type);
+        }
+        // more than the subtypes start with room for, the known and unknown ones in turn
+        for (String t : new String[] { "Goblin", "Qux", "Wizard", "Foo", "Elf", "Warrior", "Human", "Qux" }) {
+            AssertJUnit.assertEquals(t, legacy.subtypes.add(t), type.add(t));
+            legacy.assertSame("Creature", type);
+        }
+    }
+
+    @Test
+    public void testRemoveAll() {
+        CardType type = CardType.parse("Creature Elf Foo Warrior Bar Goblin", false);
+        LegacySubtypes legacy = new LegacySubtypes("Elf", "Foo", "Warrior", "Bar", "Goblin");
+
+        // only subtypes, the type stays a creature
+        type.removeAll(new CardType(Arrays.asList("Warrior", "Bar", "Human"), true));
+        legacy.subtypes.removeAll(Arrays.asList("Warrior", "Bar", "Human"));
+        legacy.assertSame("Creature", type);
+
+        // no longer a creature, which takes the creature types but not the unknown ones
+        type.removeAll(CardType.parse("Creature Goblin", false));
+        legacy.subtypes.remove("Goblin");
+        legacy.sanisfy(type);
+        legacy.assertSame("", type);
+        AssertJUnit.assertEquals(Lists.newArrayList("Foo"), Lists.newArrayList(type.getSubtypes()));
+    }
+
+    @Test
+    public void testRemoveCategories() {
+        CardType type = CardType.parse("Artifact Land Creature Gate Foo Elf Equipment Forest Bar", false);
+        LegacySubtypes all = new LegacySubtypes("Gate", "Foo", "Elf", "Equipment", "Forest", "Bar");
+        all.assertSame("Artifact Creature Land", type);
+
+        Object[][] categories = {
+                { RemoveType.LandTypes, CardType.Predicates.IS_LAND_TYPE },
+                { RemoveType.CreatureTypes, CardType.Predicates.IS_CREATURE_TYPE },
+                { RemoveType.ArtifactTypes, CardType.Predicates.IS_ARTIFACT_TYPE },
+        };
+        for (Object[] category : categories) {
+            CardChangedType change = new CardChangedType(null, null, false, EnumSet.of((RemoveType) category[0]));
+            CardTypeView changed = type.getTypeWithChanges(Arrays.asList(change));
+            LegacySubtypes legacy = new LegacySubtypes(Iterables.toArray(all.subtypes, String.class));
+            @SuppressWarnings("unchecked")
+            Predicate<String> predicate = (Predicate<String>) category[1];
+            legacy.removeIf(predicate);
+            legacy.assertSame("Artifact Creature Land", changed);
+        }
+
+        CardChangedType change = new CardChangedType(null, null, false, EnumSet.of(RemoveType.SubTypes));
+        new LegacySubtypes().assertSame("Artifact Creature Land", type.getTypeWithChanges(Arrays.asList(change)));
+        // the type itself doesn't change
+        all.assertSame("Artifact Creature Land", type);
+
+        // an enchantment that isn't a land any more keeps its enchantment and unknown subtypes
+        type = CardType.parse("Enchantment Land Aura Foo Desert Island Bar", false);
+        type.remove("Land");
+        LegacySubtypes legacy = new LegacySubtypes("Aura", "Foo", "Desert", "Island", "Bar");
+        legacy.sanisfy(type);
+        legacy.assertSame("Enchantment", type);
+        AssertJUnit.assertFalse(type.hasABasicLandType());
+    }
+
+    @Test
+    public void testAllCreatureTypes() {
+        CardType type = CardType.parse("Creature Elf Foo", false);
+        CardChangedType changeling = new CardChangedType(null, CardType.parse("Goblin Qux", true), true, EnumSet.noneOf(RemoveType.class));
+        CardTypeView changed = type.getTypeWithChanges(Arrays.asList(changeling));
+
+        AssertJUnit.assertTrue(changed.hasAllCreatureTypes());
+        AssertJUnit.assertEquals("Creature - Elf Foo (All except Goblin)", changed.toString());
+        AssertJUnit.assertEquals(Lists.newArrayList("Goblin"), Lists.newArrayList(changed.getExcludedCreatureSubTypes()));
+        AssertJUnit.assertTrue(changed.hasCreatureType("wizard"));
+        AssertJUnit.assertTrue(changed.hasCreatureType("assembly-worker"));
+        AssertJUnit.assertTrue(changed.hasCreatureType("Elf"));
+        AssertJUnit.assertFalse(changed.hasCreatureType("Goblin"));
+        AssertJUnit.assertFalse(changed.hasCreatureType("Foo"));
+
+        Set<String> expected = Sets.newHashSet(CardType.getAllCreatureTypes());
+        expected.remove("Goblin");
+        AssertJUnit.assertEquals(expected, changed.getCreatureTypes());
+
+        // the other types with known subtypes only are compared as ids, the ones with unknown subtypes as names
+        CardType changedType = (CardType) changed;
+        AssertJUnit.assertFalse(changedType.sharesCreaturetypeWith(CardType.parse("Creature Goblin", false)));
+        AssertJUnit.assertFalse(changedType.sharesCreaturetypeWith(CardType.parse("Creature Goblin Bar", false)));
+        AssertJUnit.assertTrue(changedType.sharesCreaturetypeWith(CardType.parse("Creature Human", false)));
+        AssertJUnit.assertTrue(changedType.sharesCreaturetypeWith(CardType.parse("Creature Human Bar", false)));
+        AssertJUnit.assertFalse(CardType.parse("Creature Goblin", false).sharesCreaturetypeWith(changed));
+        AssertJUnit.assertTrue(CardType.parse("Creature Wizard", false).sharesCreaturetypeWith(changed));
+    }
+
+    @Test
+    public void testSubtypesAddedBeforeLoadKeepTheirPlace() {
+        CardType type = new CardType(beforeLoad);
+        LegacySubtypes legacy = new LegacySubtypes("Elf", "Foo", "Warrior");
+        legacy.assertSame("Creature", type);
+        AssertJUnit.assertTrue(type.hasCreatureType("Elf"));
+        AssertJUnit.assertEquals(Sets.newHashSet("Elf", "Warrior"), type.getCreatureTypes());
+
+        // already there, as a name
+        AssertJUnit.assertFalse(type.add("Elf"));
+        legacy.assertSame("Creature", type);
+        AssertJUnit.assertTrue(type.add("Goblin"));
+        AssertJUnit.assertTrue(type.remove("Warrior"));
+        legacy.subtypes.add("Goblin");
+        legacy.subtypes.remove("Warrior");
+        legacy.assertSame("Creature", type);
+
+        CardType combined = CardType.combine(CardType.parse("Creature Warrior Elf", false), beforeLoad);
+        new LegacySubtypes("Warrior", "Elf", "Foo").assertSame("Creature", combined);
+        AssertJUnit.assertTrue(combined.sharesCreaturetypeWith(CardType.parse("Creature Elf", false)));
+    }
+
+    @Test
+    public void testListsAgreeWithRegistry() {
+        List<String> known = Lists.newArrayList("Elf", "Forest", "Aura", "Jace", "Arcane");
+        for (String t : known) {
+            AssertJUnit.assertTrue(t, SubtypeRegistry.idOf(t) >= 0);
+        }
+        AssertJUnit.assertEquals(-1, SubtypeRegistry.idOf("Foo"));
+    }
+}
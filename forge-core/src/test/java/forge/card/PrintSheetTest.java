@@ -0,0 +1,112 @@
+package forge.card;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Random;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import forge.item.PaperCard;
+import forge.util.ItemPool;
+import forge.util.MyRandom;
+
+public class PrintSheetTest {
+
+    private static ItemPool<PaperCard> createPool() {
+        ItemPool<PaperCard> pool = new ItemPool<>(PaperCard.class);
+        for (int i = 0; i < 30; i++) {
+            // weights like the rarities of a sheet, some cards printed more often than others
+            pool.add(new PaperCard(CardRules.getUnsupportedCardNamed("Card " + i), "TST", CardRarity.Common), 1 + i % 4 * 3);
+        }
+        return pool;
+    }
+
+    @Test
+    public void testRandomSameAsRoulette() {
+        ItemPool<PaperCard> pool = createPool();
+        PrintSheet sheet = new PrintSheet("Test", pool);
+        Random previous = MyRandom.setThreadRandom(null);
+        try {
+            for (int number : new int[] { 1, 5, 15, 29, 30, 31, 75 }) {
+                for (boolean wantUnique : new boolean[] { false, true }) {
+                    for (long seed = 0; seed < 50; seed++) {
+                        MyRandom.setThreadRandom(new Random(seed));
+                        List<PaperCard> expected = randomByRoulette(pool, number, wantUnique);
+                        MyRandom.setThreadRandom(new Random(seed));
+                        List<PaperCard> actual = sheet.random(number, wantUnique);
+                        AssertJUnit.assertEquals(number + " " + wantUnique + " " + seed, expected, actual);
+                    }
+                }
+            }
+        } finally {
+            MyRandom.setThreadRandom(previous);
+        }
+    }
+
+    @Test
+    public void testRandomAfterChange() {
+        ItemPool<PaperCard> pool = createPool();
+        PrintSheet sheet = new PrintSheet("Test", pool);
+        Random previous = MyRandom.setThreadRandom(new Random(1));
+        try {
+            sheet.random(10, true);
+            PaperCard added = new PaperCard(CardRules.getUnsupportedCardNamed("Added"), "TST", CardRarity.Rare);
+            sheet.add(added, 1000);
+
+            MyRandom.setThreadRandom(new Random(2));
+            List<PaperCard> expected = randomByRoulette(pool, 10, false);
+            MyRandom.setThreadRandom(new Random(2));
+            List<PaperCard> actual = sheet.random(10, false);
+            AssertJUnit.assertEquals(expected, actual);
+            AssertJUnit.assertTrue(actual.contains(added));
+        } finally {
+            MyRandom.setThreadRandom(previous);
+        }
+    }
+
+    // how the cards were drawn before the sheets kept their summed weights, walking the sheet for each card
+    private static List<PaperCard> randomByRoulette(ItemPool<PaperCard> cardsWithWeights, int number, boolean wantUnique) {
+        List<PaperCard> result = new ArrayList<>();
+
+        int totalWeight = cardsWithWeights.countAll();
+        int uniqueCards = cardsWithWeights.countDistinct();
+        while (number >= uniqueCards) {
+            for (Entry<PaperCard, Integer> kv : cardsWithWeights) {
+                result.add(kv.getKey());
+            }
+            number -= uniqueCards;
+        }
+
+        List<PaperCard> uniques = wantUnique ? new ArrayList<>() : null;
+        for (int iC = 0; iC < number; iC++) {
+            int index = MyRandom.getRandom().nextInt(totalWeight);
+            PaperCard toAdd = fetchRoulette(cardsWithWeights, 0, index, uniques);
+            result.add(toAdd);
+            if (wantUnique) {
+                uniques.add(toAdd);
+            }
+        }
+        return result;
+    }
+
+    private static PaperCard fetchRoulette(ItemPool<PaperCard> cardsWithWeights, int start, int roulette, Collection<PaperCard> toSkip) {
+        int sum = start;
+        boolean isSecondRun = start > 0;
+        for (Entry<PaperCard, Integer> cc : cardsWithWeights) {
+            sum += cc.getValue();
+            if (sum > roulette) {
+                if (toSkip != null && toSkip.contains(cc.getKey())) {
+                    continue;
+                }
+                return cc.getKey();
+            }
+        }
+        if (isSecondRun) {
+            throw new IllegalStateException("Print sheet does not have enough unique cards");
+        }
+        return fetchRoulette(cardsWithWeights, sum + 1, roulette, toSkip);
+    }
+}
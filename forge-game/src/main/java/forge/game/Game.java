@@ -26,6 +26,7 @@ import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import forge.game.card.*;
 import org.apache.commons.lang3.tuple.Pair;
@@ -39,7 +40,6 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Table;
-import com.google.common.eventbus.EventBus;
 
 import forge.GameCommand;
 import forge.card.CardRarity;
@@ -48,8 +48,12 @@ import forge.card.CardType.Supertype;
 import forge.game.ability.AbilityKey;
 import forge.game.combat.Combat;
 import forge.game.event.Event;
+import forge.game.event.EventDispatcher;
+import forge.game.event.GameEvent;
 import forge.game.event.GameEventDayTimeChanged;
+import forge.game.event.GameEventGameFinished;
 import forge.game.event.GameEventGameOutcome;
+import forge.game.event.GameEventPlayerPriority;
 import forge.game.phase.Phase;
 import forge.game.phase.PhaseHandler;
 import forge.game.phase.PhaseType;
@@ -60,17 +64,22 @@ import forge.game.player.PlayerCollection;
 import forge.game.player.PlayerView;
 import forge.game.player.RegisteredPlayer;
 import forge.game.replacement.ReplacementHandler;
+import forge.game.replay.DecisionPlayback;
+import forge.game.replay.DecisionRecorder;
 import forge.game.spellability.SpellAbility;
 import forge.game.spellability.SpellAbilityStackInstance;
+import forge.game.staticability.StaticAbilityRegistry;
 import forge.game.trigger.TriggerHandler;
 import forge.game.trigger.TriggerType;
 import forge.game.zone.CostPaymentStack;
 import forge.game.zone.MagicStack;
+import forge.game.zone.PlayerZone;
 import forge.game.zone.Zone;
 import forge.game.zone.ZoneType;
 import forge.trackable.Tracker;
 import forge.util.Aggregates;
 import forge.util.MyRandom;
+import forge.util.SeededRandom;
 import forge.util.Visitor;
 import forge.util.collect.FCollection;
 
@@ -102,9 +111,15 @@ public class Game {
     public final CostPaymentStack costPaymentStack = new CostPaymentStack();
     private final PhaseHandler phaseHandler;
     private final StaticEffects staticEffects = new StaticEffects();
+    private final StaticAbilityRegistry staticAbilityRegistry = new StaticAbilityRegistry(this);
+    private volatile int cardsInZonesVersion;
+    // views by zone type, and by a hash of the lists of zone types asked for together
+    private final CardsInZones[] cardsInZone = new CardsInZones[ZoneType.values().length * 2];
+    private static final int CACHED_ZONE_LISTS = 8;
+    private final CardsInZones[] cardsInZones = new CardsInZones[CACHED_ZONE_LISTS * 2];
     private final TriggerHandler triggerHandler = new TriggerHandler(this);
     private final ReplacementHandler replacementHandler = new ReplacementHandler(this);
-    private final EventBus events = new EventBus("game events");
+    private final EventDispatcher events = new EventDispatcher("game events");
     private final GameLog gameLog = new GameLog();
 
     private final Zone stackZone = new Zone(ZoneType.Stack, this);
@@ -138,6 +153,9 @@ public class Game {
     private GameStage age = GameStage.BeforeMulligan;
     private GameOutcome outcome;
     private final Game maingame;
+    private final SeededRandom random;
+    private final DecisionRecorder decisionRecorder;
+    private final DecisionPlayback decisionPlayback;
 
     private final GameView view;
     private final Tracker tracker = new Tracker();
@@ -151,6 +169,30 @@ public class Game {
         return this.id;
     }
 
+    /**
+     * Gets the random stream of the game. MyRandom.getRandom() returns it as well on the thread running the game.
+     *
+     * @return the random
+     */
+    public SeededRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * @return the recorder the player controllers write their decisions to, null unless the match is recorded.
+     */
+    public DecisionRecorder getDecisionRecorder() {
+        return decisionRecorder;
+    }
+
+    /**
+     * @return the recorded decisions the player controllers give instead of deciding, null unless the match is a
+     * replay.
+     */
+    public DecisionPlayback getDecisionPlayback() {
+        return decisionPlayback;
+    }
+
     public Player getStartingPlayer() {
         return startingPlayer;
     }
@@ -267,7 +309,22 @@ public class Game {
         rules = rules0;
         match = match0;
         maingame = maingame0;
+        if (maingame0 != null) {
+            random = maingame0.getRandom().split();
+            // the decisions of a subgame are part of the main game's
+            decisionRecorder = maingame0.getDecisionRecorder();
+            decisionPlayback = maingame0.getDecisionPlayback();
+        } else if (match0 != null) {
+            random = match0.nextGameRandom();
+            decisionRecorder = match0.recordGame(this);
+            decisionPlayback = match0.nextGamePlayback();
+        } else {
+            random = new SeededRandom(MyRandom.newSeed());
+            decisionRecorder = null;
+            decisionPlayback = null;
+        }
         this.id = nextId();
+        tracker.setDetached(rules0.isHeadless());
 
         int highestTeam = -1;
         for (RegisteredPlayer psc : players0) {
@@ -324,7 +381,7 @@ public class Game {
         // update players
         view.updatePlayers(this);
 
-        subscribeToEvents(gameLog.getEventVisitor());
+        subscribeToEvents(GameEvent.class, gameLog.getEventVisitor()::recieve);
     }
 
     public GameView getView() {
@@ -335,6 +392,17 @@ public class Game {
         return tracker;
     }
 
+    /**
+     * Makes a headless game fully tracked again, to be called before a GUI or network client starts looking at it.
+     */
+    public void attachView() {
+        if (!tracker.isDetached()) {
+            return;
+        }
+        tracker.setDetached(false);
+        view.updateObjLookup();
+    }
+
     /**
      * Gets the players who are still fighting to win.
      */
@@ -429,6 +497,10 @@ public class Game {
         return staticEffects;
     }
 
+    public final StaticAbilityRegistry getStaticAbilityRegistry() {
+        return staticAbilityRegistry;
+    }
+
     public final TriggerHandler getTriggerHandler() {
         return triggerHandler;
     }
@@ -539,39 +611,105 @@ public class Game {
         return card.getLastKnownZone();
     }
 
-    public synchronized CardCollectionView getCardsIn(final ZoneType zone) {
+    public CardCollectionView getCardsIn(final ZoneType zone) {
         if (zone == ZoneType.Stack) {
             return getStackZone().getCards();
         }
-        return getPlayers().getCardsIn(zone);
+        return getCardsIn(zone, true);
     }
 
     public CardCollectionView getCardsIncludePhasingIn(final ZoneType zone) {
         if (zone == ZoneType.Stack) {
             return getStackZone().getCards();
         }
+        return getCardsIn(zone, false);
+    }
 
-        CardCollection cards = new CardCollection();
-        for (final Player p : getPlayers()) {
-            cards.addAll(p.getCardsIn(zone, false));
+    public CardCollectionView getCardsIn(final Iterable<ZoneType> zones) {
+        return getCardsIn(zones, true);
+    }
+
+    private CardCollectionView getCardsIn(final ZoneType zone, final boolean filterOutPhasedOut) {
+        final int version = cardsInZonesVersion;
+        final int index = zone.ordinal() * 2 + (filterOutPhasedOut ? 1 : 0);
+        final CardsInZones cached = cardsInZone[index];
+        if (cached != null && cached.version == version) {
+            return cached.cards;
+        }
+        final List<CardCollectionView> parts = Lists.newArrayListWithCapacity(ingamePlayers.size());
+        final boolean cacheable = addCardsIn(parts, zone, filterOutPhasedOut);
+        final CardCollectionView cards = CombinedCardCollectionView.of(parts);
+        if (cacheable && cardsInZonesVersion == version) {
+            cardsInZone[index] = new CardsInZones(zone, version, cards);
         }
         return cards;
     }
 
-    public CardCollectionView getCardsIn(final Iterable<ZoneType> zones) {
-        CardCollection cards = new CardCollection();
+    private CardCollectionView getCardsIn(final Iterable<ZoneType> zones, final boolean filterOutPhasedOut) {
+        final int version = cardsInZonesVersion;
+        final int index = (System.identityHashCode(zones) & (CACHED_ZONE_LISTS - 1)) * 2 + (filterOutPhasedOut ? 1 : 0);
+        final CardsInZones cached = cardsInZones[index];
+        if (cached != null && cached.zones == zones && cached.version == version) {
+            return cached.cards;
+        }
+        final List<CardCollectionView> parts = Lists.newArrayList();
+        boolean cacheable = true;
         for (final ZoneType z : zones) {
-            cards.addAll(getCardsIn(z));
+            cacheable &= addCardsIn(parts, z, filterOutPhasedOut);
+        }
+        final CardCollectionView cards = CombinedCardCollectionView.of(parts);
+        if (cacheable && cardsInZonesVersion == version) {
+            cardsInZones[index] = new CardsInZones(zones, version, cards);
         }
         return cards;
     }
 
-    public CardCollectionView getCardsInOwnedBy(final Iterable<ZoneType> zones, Player p) {
-        CardCollection cards = new CardCollection();
-        for (final ZoneType z : zones) {
-            cards.addAll(getCardsIncludePhasingIn(z));
+    // the zones are combined through their snapshots, which stay the same while the caller goes over them
+    private boolean addCardsIn(final List<CardCollectionView> parts, final ZoneType zone, final boolean filterOutPhasedOut) {
+        if (zone == ZoneType.Stack) {
+            parts.add(getStackZone().getCardsSnapshot(filterOutPhasedOut));
+            return true;
+        }
+        for (final Player p : ingamePlayers) {
+            if (zone == ZoneType.Flashback) {
+                parts.add(p.getCardsIn(zone, filterOutPhasedOut));
+                continue;
+            }
+            final PlayerZone playerZone = p.getZone(zone);
+            if (playerZone != null) {
+                parts.add(playerZone.getCardsSnapshot(filterOutPhasedOut));
+            }
+        }
+        // the cards that may be cast from other zones depend on their abilities, not only on the zones
+        return zone != ZoneType.Flashback;
+    }
+
+    /**
+     * Called when the cards in a zone change, a card in it phases in or out, or a player leaves the game.
+     */
+    public void onCardsInZonesChanged(final ZoneType zone) {
+        cardsInZonesVersion++;
+        // the cards in the zones static abilities work from are indexed by the registry
+        if (zone == null || ZoneType.STATIC_ABILITIES_SOURCE_ZONES.contains(zone)) {
+            staticAbilityRegistry.invalidate();
         }
-        return CardLists.filter(cards, CardPredicates.isOwner(p));
+    }
+
+    // a combined view of zones handed out for as long as their cards stay the same
+    private static final class CardsInZones {
+        private final Object zones;
+        private final int version;
+        private final CardCollectionView cards;
+
+        private CardsInZones(final Object zones0, final int version0, final CardCollectionView cards0) {
+            zones = zones0;
+            version = version0;
+            cards = cards0;
+        }
+    }
+
+    public CardCollectionView getCardsInOwnedBy(final Iterable<ZoneType> zones, Player p) {
+        return CardLists.filter(getCardsIn(zones, false), CardPredicates.isOwner(p));
     }
 
     public boolean isCardExiled(final Card c) {
@@ -884,6 +1022,7 @@ public class Game {
 
         ingamePlayers.remove(p);
         lostPlayers.add(p);
+        onCardsInZonesChanged(null);
 
         final Map<AbilityKey, Object> runParams = AbilityKey.mapFromPlayer(p);
         getTriggerHandler().runTrigger(TriggerType.LosesGame, runParams, false);
@@ -895,9 +1034,19 @@ public class Game {
      */
     public void fireEvent(final Event event) {
         events.post(event);
+        // batched listeners get the events of a priority pass once it is over
+        if (event instanceof GameEventPlayerPriority || event instanceof GameEventGameFinished) {
+            events.flushBatched();
+        }
+    }
+    public <T extends Event> void subscribeToEvents(final Class<T> eventClass, final Consumer<? super T> listener) {
+        events.subscribe(eventClass, listener);
     }
-    public void subscribeToEvents(final Object subscriber) {
-        events.register(subscriber);
+    public <T extends Event> void subscribeToEvents(final Class<T> eventClass, final Consumer<? super T> listener, final EventDispatcher.Delivery delivery) {
+        events.subscribe(eventClass, listener, delivery);
+    }
+    public EventDispatcher getEventDispatcher() {
+        return events;
     }
 
     public GameRules getRules() {
@@ -952,6 +1101,16 @@ public class Game {
     public int nextCardId() {
         return ++cardIdCounter;
     }
+    public int getLastCardId() {
+        return cardIdCounter;
+    }
+    /**
+     * Goes on handing out ids after the given one, for a replayed game to skip the ids of the cards the players made
+     * up while deciding in the recorded game.
+     */
+    public void skipCardIdsTo(int lastId) {
+        cardIdCounter = Math.max(cardIdCounter, lastId);
+    }
     public int nextHiddenCardId() {
         return ++hiddenCardIdCounter;
     }
@@ -987,7 +1146,7 @@ public class Game {
                 onePlayerHasTimeShifted = false;
             }
 
-            CardRarity anteRarity = validRarities.get(MyRandom.getRandom().nextInt(validRarities.size()));
+            CardRarity anteRarity = validRarities.get(random.nextInt(validRarities.size()));
 
             System.out.println("Rarity chosen for ante: " + anteRarity.name());
 
@@ -1017,7 +1176,7 @@ public class Game {
                 library.removeAll(toRemove);
 
                 if (library.size() > 0) { //Make sure that matches were found. If not, use the original method to choose antes
-                    Card ante = library.get(MyRandom.getRandom().nextInt(library.size()));
+                    Card ante = library.get(random.nextInt(library.size()));
                     anteed.put(player, ante);
                 } else {
                     chooseRandomCardsForAnte(player, anteed);
@@ -1041,17 +1041,15 @@ public class GameAction {
 
     // This doesn't check layers or if the ability gets removed by other effects
     public boolean hasStaticAbilityAffectingZone(ZoneType zone, StaticAbilityLayer layer) {
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions("Continuous")) {
-                    continue;
-                }
-                if (layer != null && !stAb.getLayers().contains(layer)) {
-                    continue;
-                }
-                if (ZoneType.listValueOf(stAb.getParamOrDefault("AffectedZone", ZoneType.Battlefield.toString())).contains(zone)) {
-                    return true;
-                }
+        for (final StaticAbility stAb : game.getStaticAbilityRegistry().getAbilities("Continuous")) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
+            if (layer != null && !stAb.getLayers().contains(layer)) {
+                continue;
+            }
+            if (ZoneType.listValueOf(stAb.getParamOrDefault("AffectedZone", ZoneType.Battlefield.toString())).contains(zone)) {
+                return true;
             }
         }
         return false;
@@ -2034,6 +2032,18 @@ public class GameAction {
         startGame(lastGameOutcome, null);
     }
     public void startGame(GameOutcome lastGameOutcome, Runnable startGameHook) {
+        // subgames run on the thread of their main game with their own random stream
+        final Random previousRandom = MyRandom.setThreadRandom(game.getRandom());
+        try {
+            playGame(lastGameOutcome, startGameHook);
+        } finally {
+            MyRandom.setThreadRandom(previousRandom);
+        }
+    }
+
+    private void playGame(GameOutcome lastGameOutcome, Runnable startGameHook) {
+        // the seed plays the same game again when the players make the same choices
+        game.getGameLog().add(GameLogEntryType.INFORMATION, "Random seed: " + game.getRandom().getSeed());
         Player first = determineFirstTurnPlayer(lastGameOutcome);
 
         GameType gameType = game.getRules().getGameType();
@@ -2117,7 +2127,7 @@ public class GameAction {
 
         if (!powerPlayers.isEmpty()) {
             List<Player> players = Lists.newArrayList(powerPlayers);
-            Collections.shuffle(players, MyRandom.getRandom());
+            Collections.shuffle(players, game.getRandom());
             return players.get(0);
         }
 
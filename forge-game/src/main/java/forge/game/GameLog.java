@@ -19,24 +19,35 @@ package forge.game;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Observable;
+import java.util.concurrent.CopyOnWriteArrayList;
 
-import forge.game.event.IGameEventVisitor;
 
 /**
  * <p>
  * GameLog class.
- * 
+ * <p>
+ * The entries are kept in a ring buffer per entry type, so the most recent entries of each type stay in memory and
+ * frequent types like phases and mana don't push out turns or outcomes. Entries are numbered as they are added, views
+ * ask for the entries since the last one they have, and sinks like {@link GameLogFileSink} take every entry to keep
+ * the whole log elsewhere.
+ *
  * @author Forge
  * @version $Id: GameLog.java 12297 2011-11-28 19:56:47Z slapshot5 $
  */
 public class GameLog extends Observable implements Serializable {
     private static final long serialVersionUID = 6465283802022948827L;
 
-    private final List<GameLogEntry> log = new ArrayList<>();
+    /** How many entries of each type are kept by default. */
+    public static final int DEFAULT_SEGMENT_CAPACITY = 1000;
+
+    private final Segment[] segments = new Segment[GameLogEntryType.values().length];
+    private long lastSequence = 0;
 
     private final transient GameLogFormatter formatter = new GameLogFormatter(this);
+    private final transient List<GameLogSink> sinks = new CopyOnWriteArrayList<>();
     
     private final boolean quiet = false;
 
@@ -49,6 +60,13 @@ public class GameLog extends Observable implements Serializable {
      */
 
     public GameLog() {
+        this(DEFAULT_SEGMENT_CAPACITY);
+    }
+
+    public GameLog(final int segmentCapacity) {
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = new Segment(segmentCapacity);
+        }
     }
 
     public void add(final GameLogEntryType type, final String message) {
@@ -58,11 +76,37 @@ public class GameLog extends Observable implements Serializable {
     void add(GameLogEntry entry) {
         if (quiet) return;
 
-        log.add(entry);
+        synchronized (this) {
+            entry.sequence = ++lastSequence;
+            segments[entry.type.ordinal()].add(entry);
+        }
+        if (sinks != null) {
+            for (final GameLogSink sink : sinks) {
+                sink.add(entry);
+            }
+        }
         this.setChanged();
         this.notifyObservers();
     }
 
+    /**
+     * Passes the entries added from now on to the sink too.
+     */
+    public void addSink(final GameLogSink sink) {
+        sinks.add(sink);
+    }
+
+    public void removeSink(final GameLogSink sink) {
+        sinks.remove(sink);
+    }
+
+    /**
+     * @return the sequence number of the last entry added, 0 if there is none.
+     */
+    public synchronized long getLastSequence() {
+        return lastSequence;
+    }
+
     /**
      * Gets the log entries below a certain level as a list.
      *
@@ -70,30 +114,95 @@ public class GameLog extends Observable implements Serializable {
      * @return the log text
      */
     public List<GameLogEntry> getLogEntries(final GameLogEntryType logLevel) { // null to fetch all
-        final List<GameLogEntry> result = new ArrayList<>();
-    
-        for (int i = log.size() - 1; i >= 0; i--) {
-            GameLogEntry le = log.get(i);
-            if (logLevel == null || le.type.compareTo(logLevel) <= 0) {
-                result.add(le);
+        return getLogEntriesSince(0, logLevel);
+    }
+
+    /**
+     * Gets the log entries below a certain level added after the given one, for a view to read only the new entries.
+     *
+     * @param sequence the sequence number of the last entry read, 0 for all
+     * @param logLevel the log level, null for all
+     * @return the entries, the latest first
+     */
+    public synchronized List<GameLogEntry> getLogEntriesSince(final long sequence, final GameLogEntryType logLevel) {
+        final int last = logLevel == null ? segments.length - 1 : logLevel.ordinal();
+        // the segments are merged by sequence, starting from their latest entries
+        final int[] positions = new int[last + 1];
+        int size = 0;
+        for (int i = 0; i <= last; i++) {
+            positions[i] = segments[i].size - 1;
+            size += segments[i].size;
+        }
+        final List<GameLogEntry> result = new ArrayList<>((int) Math.max(0, Math.min(size, lastSequence - sequence)));
+        while (true) {
+            GameLogEntry latest = null;
+            int latestSegment = -1;
+            for (int i = 0; i <= last; i++) {
+                if (positions[i] < 0) {
+                    continue;
+                }
+                final GameLogEntry le = segments[i].get(positions[i]);
+                if (latest == null || le.sequence > latest.sequence) {
+                    latest = le;
+                    latestSegment = i;
+                }
+            }
+            if (latest == null || latest.sequence <= sequence) {
+                return result;
             }
+            result.add(latest);
+            positions[latestSegment]--;
         }
-        return result;
     }
 
-    public List<GameLogEntry> getLogEntriesExact(final GameLogEntryType logLevel) { // null to fetch all
-        final List<GameLogEntry> result = new ArrayList<>();
-    
-        for (int i = log.size() - 1; i >= 0; i--) {
-            GameLogEntry le = log.get(i);
-            if (logLevel == null || le.type.compareTo(logLevel) == 0) {
-                result.add(le);
-            }
+    public synchronized List<GameLogEntry> getLogEntriesExact(final GameLogEntryType logLevel) { // null to fetch all
+        if (logLevel == null) {
+            return getLogEntries(null);
+        }
+        final Segment segment = segments[logLevel.ordinal()];
+        final List<GameLogEntry> result = new ArrayList<>(segment.size);
+        for (int i = segment.size - 1; i >= 0; i--) {
+            result.add(segment.get(i));
         }
         return result;
     }
     
-    public IGameEventVisitor<?> getEventVisitor() {
+    public GameLogFormatter getEventVisitor() {
         return formatter;
     }
+
+    // the latest entries of a type, the oldest one is replaced once it is full
+    private static final class Segment implements Serializable {
+        private static final long serialVersionUID = 1L;
+        // most types see few entries and the copies of a game made by the AI log little, so the buffer grows as needed
+        private static final int INITIAL_CAPACITY = 16;
+
+        private final int capacity;
+        private GameLogEntry[] entries;
+        private int start = 0;
+        private int size = 0;
+
+        private Segment(final int capacity) {
+            this.capacity = Math.max(1, capacity);
+            entries = new GameLogEntry[Math.min(INITIAL_CAPACITY, this.capacity)];
+        }
+
+        private void add(final GameLogEntry entry) {
+            if (size == entries.length && size < capacity) {
+                // nothing was replaced yet, so the entries are still in order from the start
+                entries = Arrays.copyOf(entries, Math.min(capacity, size * 2));
+            }
+            if (size < entries.length) {
+                entries[(start + size++) % entries.length] = entry;
+            } else {
+                entries[start] = entry;
+                start = (start + 1) % entries.length;
+            }
+        }
+
+        // index 0 is the oldest entry kept
+        private GameLogEntry get(final int index) {
+            return entries[(start + index) % entries.length];
+        }
+    }
 }
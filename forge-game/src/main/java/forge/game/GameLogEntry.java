@@ -8,12 +8,20 @@ public class GameLogEntry implements Serializable {
     public final String message;
     public final GameLogEntryType type;
     // might add here date and some other fields
+    long sequence;
 
     GameLogEntry(final GameLogEntryType type0, final String messageIn) {
         type = type0;
         message = messageIn;
     }
 
+    /**
+     * @return the number of the entry in its log, counting from 1 in the order they were added.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
     @Override
     public String toString() {
         return type.getCaption() + ": " + message;
@@ -0,0 +1,190 @@
+package forge.game;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Writes the entries of a game log on a thread of its own, as lines of text or of JSON.
+ * <p>
+ * The game only waits for the writer when it falls more than a few thousand entries behind. A JSON line holds the
+ * sequence number, type and message of an entry, with the source given to the sink, like the number of the game, as
+ * "game".
+ * </p>
+ */
+public class GameLogFileSink implements GameLogSink {
+    public enum Format {
+        TEXT,
+        JSON
+    }
+
+    private static final int QUEUE_SIZE = 4096;
+    private static final GameLogEntry END = new GameLogEntry(GameLogEntryType.INFORMATION, "");
+
+    private final BlockingQueue<GameLogEntry> queue = new ArrayBlockingQueue<>(QUEUE_SIZE);
+    private final Writer out;
+    private final Format format;
+    private final String source;
+    private final boolean closeOut;
+    private final Thread thread;
+    private volatile boolean closed = false;
+    private IOException error = null;
+
+    /**
+     * @param source0 written with each JSON entry and as a header before the text ones, null for none
+     */
+    public GameLogFileSink(final File file, final Format format0, final boolean append, final String source0) throws IOException {
+        this(new OutputStreamWriter(new FileOutputStream(file, append), StandardCharsets.UTF_8), format0, source0, true);
+    }
+
+    /**
+     * @return a sink writing to the writer, like one for the console, which is flushed but left open when the sink
+     * is closed.
+     */
+    public static GameLogFileSink forWriter(final Writer writer, final Format format, final String source) {
+        return new GameLogFileSink(writer, format, source, false);
+    }
+
+    private GameLogFileSink(final Writer writer, final Format format0, final String source0, final boolean closeOut0) {
+        out = new BufferedWriter(writer);
+        format = format0;
+        source = source0;
+        closeOut = closeOut0;
+        thread = new Thread(this::run, "GameLogWriter");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void add(final GameLogEntry entry) {
+        if (closed) {
+            return;
+        }
+        try {
+            queue.put(entry);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits for the entries added so far to be written.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            queue.put(END);
+            thread.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return the error writing the entries, null if there was none.
+     */
+    public synchronized IOException getError() {
+        return error;
+    }
+
+    private void run() {
+        try {
+            if (format == Format.TEXT && source != null) {
+                out.write(source);
+                out.write(System.lineSeparator());
+            }
+            while (true) {
+                final GameLogEntry entry = queue.take();
+                if (entry == END) {
+                    break;
+                }
+                write(entry);
+                if (queue.isEmpty()) {
+                    out.flush();
+                }
+            }
+            out.flush();
+        } catch (final IOException e) {
+            setError(e);
+            // drop the entries from now on, the game mustn't wait for a writer which failed
+            closed = true;
+            queue.clear();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (closeOut) {
+                try {
+                    out.close();
+                } catch (final IOException e) {
+                    setError(e);
+                }
+            }
+        }
+    }
+
+    private synchronized void setError(final IOException e) {
+        if (error == null) {
+            error = e;
+        }
+    }
+
+    private void write(final GameLogEntry entry) throws IOException {
+        if (format == Format.TEXT) {
+            out.write(entry.toString());
+        } else {
+            out.write("{\"seq\":");
+            out.write(Long.toString(entry.getSequence()));
+            if (source != null) {
+                out.write(",\"game\":");
+                writeJsonString(source);
+            }
+            out.write(",\"type\":\"");
+            out.write(entry.type.name());
+            out.write("\",\"message\":");
+            writeJsonString(entry.message == null ? "" : entry.message);
+            out.write('}');
+        }
+        out.write(format == Format.JSON ? "\n" : System.lineSeparator());
+    }
+
+    private void writeJsonString(final String s) throws IOException {
+        out.write('"');
+        for (int i = 0; i < s.length(); i++) {
+            final char c = s.charAt(i);
+            switch (c) {
+            case '"':
+                out.write("\\\"");
+                break;
+            case '\\':
+                out.write("\\\\");
+                break;
+            case '\n':
+                out.write("\\n");
+                break;
+            case '\r':
+                out.write("\\r");
+                break;
+            case '\t':
+                out.write("\\t");
+                break;
+            default:
+                if (c < 0x20) {
+                    out.write(String.format("\\u%04x", (int) c));
+                } else {
+                    out.write(c);
+                }
+            }
+        }
+        out.write('"');
+    }
+}
@@ -6,7 +6,6 @@ import java.util.List;
 import java.util.Map.Entry;
 
 import com.google.common.collect.Iterables;
-import com.google.common.eventbus.Subscribe;
 
 import forge.LobbyPlayer;
 import forge.game.card.Card;
@@ -297,7 +296,6 @@ public class GameLogFormatter extends IGameEventVisitor.Base<GameLogEntry> {
         return new GameLogEntry(GameLogEntryType.MULLIGAN, message);
     }
 
-    @Subscribe
     public void recieve(GameEvent ev) {
         GameLogEntry le = ev.visit(this);
         if (le != null) {
@@ -0,0 +1,17 @@
+package forge.game;
+
+/**
+ * Takes the entries of a game log as they are added, like to keep the whole log on disk while the log in memory keeps
+ * only the latest entries.
+ */
+public interface GameLogSink {
+    /**
+     * Called on the thread adding the entry, which waits for it to return.
+     */
+    void add(GameLogEntry entry);
+
+    /**
+     * Takes the last entries to where they go, the entries added afterwards are dropped.
+     */
+    void close();
+}
@@ -22,6 +22,9 @@ public class GameRules {
     // whether to warn about cards AI can't play well
     private boolean warnAboutAICards = true;
 
+    // nobody watches the game (e.g. simulations), card views are only built when read
+    private boolean headless = false;
+
     public GameRules(final GameType type) {
         this.gameType = type;
     }
@@ -119,4 +122,11 @@ public class GameRules {
     public void setWarnAboutAICards(final boolean warnAboutAICards) {
         this.warnAboutAICards = warnAboutAICards;
     }
+
+    public boolean isHeadless() {
+        return headless;
+    }
+    public void setHeadless(final boolean headless) {
+        this.headless = headless;
+    }
 }
@@ -1,7 +1,6 @@
 package forge.game;
 
 import com.google.common.collect.*;
-import com.google.common.eventbus.EventBus;
 import forge.LobbyPlayer;
 import forge.deck.CardPool;
 import forge.deck.Deck;
@@ -11,21 +10,27 @@ import forge.game.ability.AbilityKey;
 import forge.game.card.Card;
 import forge.game.card.CardCollectionView;
 import forge.game.event.Event;
+import forge.game.event.EventDispatcher;
 import forge.game.event.GameEventAnteCardsSelected;
 import forge.game.event.GameEventGameFinished;
 import forge.game.player.Player;
 import forge.game.player.PlayerController;
 import forge.game.player.RegisteredPlayer;
+import forge.game.replay.DecisionPlayback;
+import forge.game.replay.DecisionRecorder;
+import forge.game.replay.MatchRecording;
 import forge.game.trigger.Trigger;
 import forge.game.zone.PlayerZone;
 import forge.game.zone.ZoneType;
 import forge.item.PaperCard;
 import forge.util.Localizer;
 import forge.util.MyRandom;
+import forge.util.SeededRandom;
 import forge.util.collect.FCollectionView;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.function.Consumer;
 
 public class Match {
     private static List<PaperCard> removedCards = Lists.newArrayList();
@@ -33,17 +38,74 @@ public class Match {
     private final GameRules rules;
     private final String title;
 
-    private final EventBus events = new EventBus("match events");
+    private final EventDispatcher events = new EventDispatcher("match events");
     private final Map<Integer, GameOutcome> gameOutcomes = Maps.newHashMap();
 
     private GameOutcome lastOutcome = null;
 
+    // the random streams of the games are split off one started from the seed of the match
+    private long seed = MyRandom.newSeed();
+    private SeededRandom gameRandoms = null;
+
+    private MatchRecording recording = null;
+    private MatchRecording replay = null;
+    private int gamesReplayed = 0;
+
     public Match(final GameRules rules0, final List<RegisteredPlayer> players0, final String title) {
         players = Collections.unmodifiableList(Lists.newArrayList(players0));
         rules = rules0;
         this.title = title;
     }
 
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sets the seed the random streams of the games are made from, to play a match again. Must be called before
+     * creating the first game.
+     */
+    public void setSeed(final long seed0) {
+        if (gameRandoms != null) {
+            throw new IllegalStateException("The games of the match already got their random streams.");
+        }
+        seed = seed0;
+    }
+
+    public MatchRecording getRecording() {
+        return recording;
+    }
+
+    /**
+     * Records the decisions made in the games created from now on, to play them again with the seed of the match.
+     */
+    public void setRecording(final MatchRecording recording0) {
+        recording = recording0;
+    }
+
+    /**
+     * Plays the games of a recording again: the games get the seed of the recording and its decisions in order.
+     */
+    public void setReplay(final MatchRecording replay0) {
+        setSeed(replay0.getSeed());
+        replay = replay0;
+    }
+
+    DecisionRecorder recordGame(final Game game) {
+        return recording == null ? null : recording.recordGame(game);
+    }
+
+    DecisionPlayback nextGamePlayback() {
+        return replay == null ? null : replay.replayGame(gamesReplayed++);
+    }
+
+    SeededRandom nextGameRandom() {
+        if (gameRandoms == null) {
+            gameRandoms = new SeededRandom(seed);
+        }
+        return gameRandoms.split();
+    }
+
     public GameRules getRules() {
         return rules;
     }
@@ -76,6 +138,15 @@ public class Match {
     }
 
     public void startGame(final Game game, Runnable startGameHook) {
+        final Random previousRandom = MyRandom.setThreadRandom(game.getRandom());
+        try {
+            playGame(game, startGameHook);
+        } finally {
+            MyRandom.setThreadRandom(previousRandom);
+        }
+    }
+
+    private void playGame(final Game game, Runnable startGameHook) {
         prepareAllZones(game);
         if (rules.useAnte()) {  // Deciding which cards go to ante
             Multimap<Player, Card> list = game.chooseCardsForAnte(rules.getMatchAnteRarity());
@@ -88,6 +159,9 @@ public class Match {
         }
 
         game.getAction().startGame(this.lastOutcome, startGameHook);
+        if (game.getDecisionRecorder() != null) {
+            game.getDecisionRecorder().setFinished();
+        }
 
         if (rules.useAnte()) {
             executeAnte(game);
@@ -192,10 +266,16 @@ public class Match {
         removedCards.add(c);
     }
 
-    private static void preparePlayerZone(Player player, final ZoneType zoneType, CardPool section, boolean canRandomFoil) {
+    private static void preparePlayerZone(Player player, final ZoneType zoneType, CardPool section, boolean canRandomFoil, boolean sorted) {
         PlayerZone library = player.getZone(zoneType);
         List<Card> newLibrary = new ArrayList<>();
-        for (final Entry<PaperCard, Integer> stackOfCards : section) {
+        List<Entry<PaperCard, Integer>> stacks = Lists.newArrayList(section);
+        if (sorted) {
+            // the pool keeps its cards in no particular order, sorted they get the same ids and shuffle the same way
+            // for a seed however the deck was put together
+            stacks.sort(Entry.comparingByKey());
+        }
+        for (final Entry<PaperCard, Integer> stackOfCards : stacks) {
             final PaperCard cp = stackOfCards.getKey();
             for (int i = 0; i < stackOfCards.getValue(); i++) {
                 final Card card = Card.fromPaperCard(cp, player);
@@ -223,6 +303,8 @@ public class Match {
         final FCollectionView<Player> players = game.getPlayers();
         final List<RegisteredPlayer> playersConditions = game.getMatch().getPlayers();
 
+        // a recorded or replayed game needs its cards dealt the same way each time
+        boolean replayable = game.getDecisionRecorder() != null || game.getDecisionPlayback() != null;
         boolean isFirstGame = gameOutcomes.isEmpty();
         boolean canSideBoard = !isFirstGame && rules.getGameType().isSideboardingAllowed();
         // Only allow this if feature flag is on AND for certain match types
@@ -295,9 +377,9 @@ public class Match {
                 }
             }
 
-            preparePlayerZone(player, ZoneType.Library, myDeck.getMain(), psc.useRandomFoil());
+            preparePlayerZone(player, ZoneType.Library, myDeck.getMain(), psc.useRandomFoil(), replayable);
             if (myDeck.has(DeckSection.Sideboard)) {
-                preparePlayerZone(player, ZoneType.Sideboard, myDeck.get(DeckSection.Sideboard), psc.useRandomFoil());
+                preparePlayerZone(player, ZoneType.Sideboard, myDeck.get(DeckSection.Sideboard), psc.useRandomFoil(), replayable);
 
                 // Assign Companion
                 Card companion = player.assignCompanion(game, person);
@@ -424,8 +506,14 @@ public class Match {
     public void fireEvent(final Event event) {
         events.post(event);
     }
-    public void subscribeToEvents(final Object subscriber) {
-        events.register(subscriber);
+    public <T extends Event> void subscribeToEvents(final Class<T> eventClass, final Consumer<? super T> listener) {
+        events.subscribe(eventClass, listener);
+    }
+    public <T extends Event> void subscribeToEvents(final Class<T> eventClass, final Consumer<? super T> listener, final EventDispatcher.Delivery delivery) {
+        events.subscribe(eventClass, listener, delivery);
+    }
+    public EventDispatcher getEventDispatcher() {
+        return events;
     }
 
 }
@@ -169,7 +169,7 @@ public class ChooseCardEffect extends SpellAbilityEffect {
                 Card choice = null;
                 while (!choices.isEmpty() && chosenPool.size() < validAmount) {
                     boolean optional = chosenPool.size() >= minAmount;
-                    CardCollection creature = (CardCollection) choices;
+                    CardCollection creature = new CardCollection(choices);
                     if (!chosenPool.isEmpty()) {
                         title = Localizer.getInstance().getMessage("lblChooseCreatureWithDiffPower");
                     }
@@ -4,6 +4,7 @@ import forge.game.ability.AbilityUtils;
 import forge.game.ability.SpellAbilityEffect;
 import forge.game.card.Card;
 import forge.game.card.CardCollection;
+import forge.game.card.CardCollectionView;
 import forge.game.event.GameEventRandomLog;
 import forge.game.spellability.SpellAbility;
 import forge.game.zone.ZoneType;
@@ -18,7 +19,7 @@ public class RemoveFromMatchEffect extends SpellAbilityEffect {
         if (sa.hasParam("RemoveType")) {
             CardCollection cards = (CardCollection) host.getOwner().getGame().getCardsInGame();
             if (sa.hasParam("IncludeSideboard")) {
-                CardCollection sideboard = (CardCollection) host.getGame().getCardsIn(ZoneType.Sideboard);
+                CardCollectionView sideboard = host.getGame().getCardsIn(ZoneType.Sideboard);
                 cards.addAll(sideboard);
             }
             toRemove = (CardCollection) AbilityUtils.filterListByType(cards, sa.getParam("RemoveType"), sa);
@@ -258,6 +258,30 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     private String oracleText = "";
 
     private Map<Integer, Integer> damage = Maps.newHashMap();
+
+    // bumped whenever a characteristic or status of this card changes, so evaluations can be cached
+    private int stateVersion;
+    private CharacteristicsCache characteristics;
+
+    // when set, every cached characteristic is recomputed and compared against the cached one
+    public static boolean checkCachedCharacteristics = false;
+
+    /**
+     * Effective type, color and P/T of one state, valid as long as the state version doesn't change.
+     */
+    private static final class CharacteristicsCache {
+        final int version;
+        final CardState state;
+        CardTypeView type;
+        ColorSet color;
+        boolean hasPT;
+        int netPower, netToughness;
+
+        CharacteristicsCache(final int version0, final CardState state0) {
+            version = version0;
+            state = state0;
+        }
+    }
     private boolean hasBeenDealtDeathtouchDamage;
     private boolean hasBeenDealtExcessDamageThisTurn;
 
@@ -468,6 +492,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
 
     public void setOriginalStateAsFaceDown() {
         // For Ertai's Meddling a morph spell
+        incrementStateVersion();
         currentState = CardUtil.getFaceDownCharacteristic(this, CardStateName.Original);
         states.put(CardStateName.Original, currentState);
     }
@@ -506,6 +531,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
             this.setManifested(false);
         }
 
+        incrementStateVersion();
         currentStateName = state;
         currentState = getState(state);
 
@@ -559,6 +585,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
             return;
         }
         if (state == currentStateName) {
+            incrementStateVersion();
             currentStateName = CardStateName.Original;
         }
         if (updateView) {
@@ -888,11 +915,13 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
 
     public void addChangedName(final String name0, boolean addNonLegendaryCreatureNames, long timestamp, long staticId) {
+        incrementStateVersion();
         changedCardNames.put(timestamp, staticId, new CardChangedName(name0, addNonLegendaryCreatureNames));
         updateNameforView();
     }
 
     public void removeChangedName(long timestamp, long staticId) {
+        incrementStateVersion();
         if (changedCardNames.remove(timestamp, staticId) != null) {
             updateNameforView();
         }
@@ -900,6 +929,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
 
     public boolean clearChangedName() {
         boolean changed = !changedCardNames.isEmpty();
+        incrementStateVersion();
         changedCardNames.clear();
         return changed;
     }
@@ -913,6 +943,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
 
     public void setChangedCardNames(Table<Long, Long, CardChangedName> changedCardNames) {
+        incrementStateVersion();
         this.changedCardNames.clear();
         this.changedCardNames.putAll(changedCardNames);
     }
@@ -1140,15 +1171,19 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         return FCollection.hasElement(encodedCards, c);
     }
     public final void addEncodedCard(final Card c) {
+        incrementStateVersion();
         encodedCards = view.addCard(encodedCards, c, TrackableProperty.EncodedCards);
     }
     public final void addEncodedCards(final Iterable<Card> cards) {
+        incrementStateVersion();
         encodedCards = view.addCards(encodedCards, cards, TrackableProperty.EncodedCards);
     }
     public final void removeEncodedCard(final Card c) {
+        incrementStateVersion();
         encodedCards = view.removeCard(encodedCards, c, TrackableProperty.EncodedCards);
     }
     public final void clearEncodedCards() {
+        incrementStateVersion();
         encodedCards = view.clearCards(encodedCards, TrackableProperty.EncodedCards);
     }
 
@@ -1606,6 +1641,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         getGame().getTriggerHandler().runTrigger(TriggerType.CounterRemovedOnce, runParams, false);
     }
 
+    @Override
+    public void setCounters(final CounterType counterType, final Integer num) {
+        incrementStateVersion();
+        super.setCounters(counterType, num);
+    }
+
     @Override
     public final void setCounters(final Map<CounterType, Integer> allCounters) {
         boolean changed = false;
@@ -1614,6 +1655,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
                 changed = true;
             }
         }
+        incrementStateVersion();
         counters = allCounters;
         view.updateCounters(this);
 
@@ -1631,6 +1673,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     @Override
     public final void clearCounters() {
         if (counters.isEmpty()) { return; }
+        incrementStateVersion();
         counters.clear();
         view.updateCounters(this);
 
@@ -1673,10 +1716,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
 
     public final void setSVar(final String var, final String str) {
+        incrementStateVersion();
         currentState.setSVar(var, str);
     }
 
     public final void copyChangedSVarsFrom(Card other) {
+        incrementStateVersion();
         changedSVars.clear();
         changedSVars.putAll(other.changedSVars);
     }
@@ -1692,17 +1737,21 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
 
     public final void setSVars(final Map<String, String> newSVars) {
+        incrementStateVersion();
         currentState.setSVars(newSVars);
     }
 
     public final void removeSVar(final String var) {
+        incrementStateVersion();
         currentState.removeSVar(var);
     }
 
     public final void addChangedSVars(Map<String, String> map, long timestamp, long staticId) {
+        incrementStateVersion();
         this.changedSVars.put(timestamp, staticId, map);
     }
     public final void removeChangedSVars(long timestamp, long staticId) {
+        incrementStateVersion();
         this.changedSVars.remove(timestamp, staticId);
     }
 
@@ -1736,9 +1785,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
 
     public void addChangedManaCost(ManaCost cost, long timestamp, long staticId) {
+        incrementStateVersion();
         changedCardManaCost.put(timestamp, staticId, cost);
     }
     public boolean removeChangedManaCost(long timestamp, long staticId) {
+        incrementStateVersion();
         return changedCardManaCost.remove(timestamp, staticId) != null;
     }
 
@@ -3276,6 +3327,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
     public final void setToken(boolean token0) {
         if (token == token0) { return; }
+        incrementStateVersion();
         token = token0;
         view.updateToken(this);
     }
@@ -3399,6 +3451,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
 
     public final void setSickness(boolean sickness0) {
         if (sickness == sickness0) { return; }
+        incrementStateVersion();
         sickness = sickness0;
         view.updateSickness(this);
     }
@@ -3433,6 +3486,9 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         return cameUnderControlSinceLastUpkeep;
     }
     public void setCameUnderControlSinceLastUpkeep(boolean underControlSinceLastUpkeep) {
+        if (cameUnderControlSinceLastUpkeep != underControlSinceLastUpkeep) {
+            incrementStateVersion();
+        }
         this.cameUnderControlSinceLastUpkeep = underControlSinceLastUpkeep;
     }
 
@@ -3445,6 +3501,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
             // Sanity check.
             throw new RuntimeException();
         }
+        incrementStateVersion();
         owner = owner0;
         view.updateOwner(this);
         view.updateController(this);
@@ -3465,6 +3522,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
 
     public final void setController(final Player player, final long tstamp) {
+        incrementStateVersion();
         tempControllers.clear();
         controller = player;
         controllerTimestamp = tstamp;
@@ -3472,11 +3530,13 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
 
     public final void addTempController(final Player player, final long tstamp) {
+        incrementStateVersion();
         tempControllers.put(tstamp, player);
         view.updateController(this);
     }
 
     public final void removeTempController(final long tstamp) {
+        incrementStateVersion();
         if (tempControllers.remove(tstamp) != null) {
             view.updateController(this);
         }
@@ -3495,12 +3555,14 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
 
     public final void clearTempControllers() {
         if (tempControllers.isEmpty()) { return; }
+        incrementStateVersion();
         tempControllers.clear();
         view.updateController(this);
     }
 
     public final void clearControllers() {
         if (tempControllers.isEmpty() && controller == null) { return; }
+        incrementStateVersion();
         tempControllers.clear();
         controller = null;
         view.updateController(this);
@@ -3801,6 +3863,15 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         return getType(currentState);
     }
     public final CardTypeView getType(CardState state) {
+        final CharacteristicsCache cache = getCharacteristics(state);
+        if (cache.type == null) {
+            cache.type = computeType(state);
+        } else if (checkCachedCharacteristics) {
+            checkCached(this, "type", cache.type, computeType(state));
+        }
+        return cache.type;
+    }
+    private CardTypeView computeType(CardState state) {
         final Iterable<CardChangedType> changedCardTypes = getChangedCardTypes();
         if (Iterables.isEmpty(changedCardTypes)) {
             return state.getType();
@@ -3847,6 +3918,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
 
     public boolean clearChangedCardTypes() {
         boolean changed = false;
+        incrementStateVersion();
 
         if (changedTypeByText != null)
             changed = true;
@@ -3869,6 +3941,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
 
     public boolean clearChangedCardColors() {
         boolean changed = false;
+        incrementStateVersion();
 
         if (!changedCardColorsByText.isEmpty())
             changed = true;
@@ -3916,6 +3989,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
 
     public final void addChangedCardTypesByText(final CardType addType, final long timestamp, final long staticId, final boolean updateView) {
+        incrementStateVersion();
         changedCardTypesByText.put(timestamp, staticId, new CardChangedType(addType, null, false,
                 EnumSet.of(RemoveType.SuperTypes,
                         RemoveType.CardTypes,
@@ -3933,6 +4007,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     public final void addChangedCardTypes(final CardType addType, final CardType removeType, final boolean addAllCreatureTypes,
             final Set<RemoveType> remove,
             final long timestamp, final long staticId, final boolean updateView, final boolean cda) {
+        incrementStateVersion();
         (cda ? changedCardTypesCharacterDefining : changedCardTypes).put(timestamp, staticId, new CardChangedType(
                 addType, removeType, addAllCreatureTypes, remove));
         if (updateView) {
@@ -3961,6 +4036,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
     public final void removeChangedCardTypes(final long timestamp, final long staticId, final boolean updateView) {
         boolean removed = false;
+        incrementStateVersion();
         removed |= changedCardTypes.remove(timestamp, staticId) != null;
         removed |= changedCardTypesCharacterDefining.remove(timestamp, staticId) != null;
         if (removed && updateView) {
@@ -3969,17 +4045,20 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
 
     public void addColorByText(final ColorSet color, final long timestamp, final long staticId) {
+        incrementStateVersion();
         changedCardColorsByText.put(timestamp, staticId, new CardColor(color, false));
         updateColorForView();
     }
 
     public final void addColor(final ColorSet color, final boolean addToColors, final long timestamp, final long staticId, final boolean cda) {
+        incrementStateVersion();
         (cda ? changedCardColorsCharacterDefining : changedCardColors).put(timestamp, staticId, new CardColor(color, addToColors));
         updateColorForView();
     }
 
     public final void removeColor(final long timestampIn, final long staticId) {
         boolean removed = false;
+        incrementStateVersion();
         removed |= changedCardColorsByText.remove(timestampIn, staticId) != null;
         removed |= changedCardColors.remove(timestampIn, staticId) != null;
         removed |= changedCardColorsCharacterDefining.remove(timestampIn, staticId) != null;
@@ -3998,6 +4077,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         setColor(ColorSet.fromNames(color).getColor());
     }
     public final void setColor(final byte color) {
+        incrementStateVersion();
         currentState.setColor(color);
     }
 
@@ -4005,6 +4085,15 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         return getColor(currentState);
     }
     public final ColorSet getColor(CardState state) {
+        final CharacteristicsCache cache = getCharacteristics(state);
+        if (cache.color == null) {
+            cache.color = computeColor(state);
+        } else if (checkCachedCharacteristics) {
+            checkCached(this, "color", cache.color, computeColor(state));
+        }
+        return cache.color;
+    }
+    private ColorSet computeColor(CardState state) {
         byte colors = state.getColor();
         for (final CardColor cc : getChangedCardColors()) {
             if (cc.isAdditional()) {
@@ -4038,9 +4127,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
 
     public final void setBasePower(final int n) {
+        incrementStateVersion();
         currentState.setBasePower(n);
     }
     public final void setBaseToughness(final int n) {
+        incrementStateVersion();
         currentState.setBaseToughness(n);
     }
 
@@ -4054,18 +4145,22 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
 
     // values that are printed on card
     public final void setBasePowerString(final String s) {
+        incrementStateVersion();
         currentState.setBasePowerString(s);
     }
     public final void setBaseToughnessString(final String s) {
+        incrementStateVersion();
         currentState.setBaseToughnessString(s);
     }
 
     public final void addCloneState(CardCloneStates states, final long timestamp) {
+        incrementStateVersion();
         clonedStates.put(timestamp, states);
         updateCloneState(true);
     }
 
     public final boolean removeCloneState(final long timestamp) {
+        incrementStateVersion();
         if (clonedStates.remove(timestamp) != null) {
             updateCloneState(true);
             return true;
@@ -4083,6 +4178,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
             }
         }
         for (final Long l : toRemove) {
+            incrementStateVersion();
             clonedStates.remove(l);
         }
         if (changed) {
@@ -4104,6 +4200,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         if (clonedStates.isEmpty()) {
             return false;
         }
+        incrementStateVersion();
         clonedStates.clear();
         updateCloneState(false);
         return true;
@@ -4114,6 +4211,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
 
     public final void setCloneStates(Map<Long, CardCloneStates> val) {
+        incrementStateVersion();
         clonedStates.clear();
         clonedStates.putAll(val);
         updateCloneState(true);
@@ -4154,6 +4252,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
 
     public final void setPTTable(Table<Long, Long, Pair<Integer, Integer>> table) {
+        incrementStateVersion();
         newPT.clear();
         newPT.putAll(table);
     }
@@ -4163,11 +4262,13 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
 
     public final void setPTCharacterDefiningTable(Table<Long, Long, Pair<Integer, Integer>> table) {
+        incrementStateVersion();
         newPTCharacterDefining.clear();
         newPTCharacterDefining.putAll(table);
     }
 
     public final void addNewPTByText(final Integer power, final Integer toughness, final long timestamp, final long staticId) {
+        incrementStateVersion();
         newPTText.put(timestamp, staticId, Pair.of(power, toughness));
         updatePTforView();
     }
@@ -4176,6 +4277,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         addNewPT(power, toughness, timestamp, staticId, false);
     }
     public final void addNewPT(final Integer power, final Integer toughness, final long timestamp, final long staticId, final boolean cda) {
+        incrementStateVersion();
         (cda ? newPTCharacterDefining : newPT).put(timestamp, staticId, Pair.of(power, toughness));
         updatePTforView();
     }
@@ -4183,6 +4285,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     public final void removeNewPT(final long timestamp, final long staticId) {
         boolean removed = false;
 
+        incrementStateVersion();
         removed |= newPTText.remove(timestamp, staticId) != null;
         removed |= newPT.remove(timestamp, staticId) != null;
         removed |= newPTCharacterDefining.remove(timestamp, staticId) != null;
@@ -4206,14 +4309,17 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         boolean changed = false;
         if (!newPTText.isEmpty()) {
             changed = true;
+            incrementStateVersion();
             newPTText.clear();
         }
         if (!newPTCharacterDefining.isEmpty()) {
             changed = true;
+            incrementStateVersion();
             newPTCharacterDefining.clear();
         }
         if (!newPT.isEmpty()) {
             changed = true;
+            incrementStateVersion();
             newPT.clear();
         }
         return changed;
@@ -4253,10 +4359,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         return getUnswitchedPowerBreakdown();
     }
     public final int getNetPower() {
-        if (getAmountOfKeyword("CARDNAME's power and toughness are switched") % 2 != 0) {
-            return getUnswitchedToughness();
+        final CharacteristicsCache cache = getCachedPT();
+        if (checkCachedCharacteristics) {
+            checkCached(this, "power", cache.netPower, getNetPowerBreakdown().getTotal());
         }
-        return getUnswitchedPower();
+        return cache.netPower;
     }
 
     public final int getCurrentToughness() {
@@ -4317,7 +4424,24 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         return getUnswitchedToughnessBreakdown();
     }
     public final int getNetToughness() {
-        return getNetToughnessBreakdown().getTotal();
+        final CharacteristicsCache cache = getCachedPT();
+        if (checkCachedCharacteristics) {
+            checkCached(this, "toughness", cache.netToughness, getNetToughnessBreakdown().getTotal());
+        }
+        return cache.netToughness;
+    }
+
+    private CharacteristicsCache getCachedPT() {
+        final CharacteristicsCache cache = getCharacteristics(currentState);
+        if (!cache.hasPT) {
+            // computing may look up the type, which must not replace the cache we fill in
+            final int power = getNetPowerBreakdown().getTotal();
+            final int toughness = getNetToughnessBreakdown().getTotal();
+            cache.netPower = power;
+            cache.netToughness = toughness;
+            cache.hasPT = true;
+        }
+        return cache;
     }
 
     public final boolean toughnessAssignsDamage() {
@@ -4394,10 +4518,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
 
     public void addPTBoost(final Integer power, final Integer toughness, final long timestamp, final long staticId) {
+        incrementStateVersion();
         boostPT.put(timestamp, staticId, Pair.of(power, toughness));
     }
 
     public void removePTBoost(final long timestamp, final long staticId) {
+        incrementStateVersion();
         boostPT.remove(timestamp, staticId);
     }
 
@@ -4406,6 +4532,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
 
     public void setPTBoost(Table<Long, Long, Pair<Integer, Integer>> table) {
+        incrementStateVersion();
         this.boostPT.clear();
         boostPT.putAll(table);
     }
@@ -4419,6 +4546,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
     public final void setTapped(boolean tapped0) {
         if (tapped == tapped0) { return; }
+        incrementStateVersion();
         tapped = tapped0;
         view.updateTapped(this);
     }
@@ -4463,6 +4591,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         return changedCardTraitsByText;
     }
     public final void setChangedCardTraitsByText(Table<Long, Long, CardTraitChanges> changes) {
+        incrementStateVersion();
         changedCardTraitsByText.clear();
         for (Table.Cell<Long, Long, CardTraitChanges> e : changes.cellSet()) {
             changedCardTraitsByText.put(e.getRowKey(), e.getColumnKey(), e.getValue().copy(this, true));
@@ -4470,6 +4599,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
     public final void addChangedCardTraitsByText(Collection<SpellAbility> spells,
             Collection<Trigger> trigger, Collection<ReplacementEffect> replacements, Collection<StaticAbility> statics, long timestamp, long staticId) {
+        incrementStateVersion();
         changedCardTraitsByText.put(timestamp, staticId, new CardTraitChanges(
             spells, null, trigger, replacements, statics, true, false
         ));
@@ -4529,6 +4659,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     public final void addChangedCardTraits(Collection<SpellAbility> spells, Collection<SpellAbility> removedAbilities,
             Collection<Trigger> trigger, Collection<ReplacementEffect> replacements, Collection<StaticAbility> statics,
             boolean removeAll, boolean removeNonMana, long timestamp, long staticId) {
+        incrementStateVersion();
         changedCardTraits.put(timestamp, staticId, new CardTraitChanges(
             spells, removedAbilities, trigger, replacements, statics, removeAll, removeNonMana
         ));
@@ -4538,6 +4669,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
 
     public final boolean removeChangedCardTraits(long timestamp, long staticId) {
         boolean changed = false;
+        incrementStateVersion();
         changed |= changedCardTraitsByText.remove(timestamp, staticId) != null;
         changed |= changedCardTraits.remove(timestamp, staticId) != null;
         return changed;
@@ -4559,6 +4691,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
 
     public final void setChangedCardTraits(Table<Long, Long, CardTraitChanges> changes) {
+        incrementStateVersion();
         changedCardTraits.clear();
         for (Table.Cell<Long, Long, CardTraitChanges> e : changes.cellSet()) {
             changedCardTraits.put(e.getRowKey(), e.getColumnKey(), e.getValue().copy(this, true));
@@ -4570,10 +4703,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         if (changedCardTraitsByText.isEmpty()) {
             changed = true;
         }
+        incrementStateVersion();
         changedCardTraitsByText.clear();
         if (changedCardTraits.isEmpty()) {
             changed = true;
         }
+        incrementStateVersion();
         changedCardTraits.clear();
         return changed;
     }
@@ -4643,6 +4778,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         }
 
         final KeywordsChange newCks = new KeywordsChange(kws, removeKeywords, removeAllKeywords);
+        incrementStateVersion();
         changedCardKeywords.put(timestamp, staticId, newCks);
 
         if (updateView) {
@@ -4706,6 +4842,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     public final void addChangedCardKeywordsByText(final List<KeywordInterface> keywords, final long timestamp, final long staticId, final boolean updateView) {
         // keywords should already created for Card, so no addKeywordsToCard
         // this one is done for Volrath's Shapeshifter which replaces all the card text
+        incrementStateVersion();
         changedCardKeywordsByText.put(timestamp, staticId, new KeywordsChange(keywords, ImmutableList.<KeywordInterface>of(), true));
 
         if (updateView) {
@@ -4718,6 +4855,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         final boolean removeAllKeywords,
         final long timestamp, final long staticId, final boolean updateView) {
         final KeywordsChange newCks = new KeywordsChange(keywords, removeKeywords, removeAllKeywords);
+        incrementStateVersion();
         changedCardKeywords.put(timestamp, staticId, newCks);
 
         if (updateView) {
@@ -4730,6 +4868,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
     public final boolean removeChangedCardKeywords(final long timestamp, final long staticId, final boolean updateView) {
         boolean changed = false;
+        incrementStateVersion();
         changed |= changedCardKeywords.remove(timestamp, staticId) != null;
         changed |= changedCardKeywordsByText.remove(timestamp, staticId) != null;
         if (updateView) {
@@ -4748,10 +4887,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         if (!changedCardKeywordsByText.isEmpty()) {
             changed = true;
         }
+        incrementStateVersion();
         changedCardKeywordsByText.clear();
         if (!changedCardKeywords.isEmpty()) {
             changed = true;
         }
+        incrementStateVersion();
         changedCardKeywords.clear();
         if (changed && updateView) {
             updateKeywords();
@@ -4810,12 +4951,14 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         if (MagicColor.fromName(newWord) == 0) {
             throw new RuntimeException("Not a color: " + newWord);
         }
+        incrementStateVersion();
         changedTextColors.add(timestamp, staticId, StringUtils.capitalize(originalWord), StringUtils.capitalize(newWord));
 
         updateChangedText();
     }
 
     public final void removeChangedTextColorWord(final Long timestamp, final long staticId) {
+        incrementStateVersion();
         if (changedTextColors.remove(timestamp, staticId)) {
             updateChangedText();
         }
@@ -4827,11 +4970,13 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
      * @param newWord the new type word.
      */
     public final void addChangedTextTypeWord(final String originalWord, final String newWord, final Long timestamp, final long staticId) {
+        incrementStateVersion();
         changedTextTypes.add(timestamp, staticId, originalWord, newWord);
         updateChangedText();
     }
 
     public final void removeChangedTextTypeWord(final Long timestamp, final long staticId) {
+        incrementStateVersion();
         if (changedTextTypes.remove(timestamp, staticId)) {
             updateChangedText();
         }
@@ -4855,6 +5000,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
             }
         }
 
+        incrementStateVersion();
         this.changedTypeByText = new CardChangedType(new CardType(toAdd, true), new CardType(toRemove, true), false, EnumSet.noneOf(RemoveType.class));
 
         currentState.updateChangedText();
@@ -4882,6 +5028,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
             }
         }
 
+        incrementStateVersion();
         changedCardKeywordsByWord = new KeywordsChange(addKeywords, removeKeywords, false);
 
         text = AbilityUtils.applyDescriptionTextChangeEffects(originalText, this);
@@ -4946,6 +5093,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
 
     public final void addHiddenExtrinsicKeywords(long timestamp, long staticId, Iterable<String> keywords) {
         // TODO if some keywords aren't removed anymore, then no need for extra Array List
+        incrementStateVersion();
         hiddenExtrinsicKeywords.put(timestamp, staticId, Lists.newArrayList(keywords));
 
         view.updateNonAbilityText(this);
@@ -4953,6 +5101,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
 
     public final void removeHiddenExtrinsicKeywords(long timestamp, long staticId) {
+        incrementStateVersion();
         if (hiddenExtrinsicKeywords.remove(timestamp, staticId) != null) {
             view.updateNonAbilityText(this);
             updateKeywords();
@@ -4973,11 +5122,13 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
 
     public void addCantHaveKeyword(Keyword keyword, Long timestamp) {
+        incrementStateVersion();
         cantHaveKeywords.put(timestamp, keyword);
         getView().updateCantHaveKeyword(this);
     }
 
     public void addCantHaveKeyword(Long timestamp, Iterable<Keyword> keywords) {
+        incrementStateVersion();
         cantHaveKeywords.putAll(timestamp, keywords);
         getView().updateCantHaveKeyword(this);
     }
@@ -4986,6 +5137,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         return removeCantHaveKeyword(timestamp, true);
     }
     public boolean removeCantHaveKeyword(Long timestamp, boolean updateView) {
+        incrementStateVersion();
         boolean change = !cantHaveKeywords.removeAll(timestamp).isEmpty();
         if (change && updateView) {
             getView().updateCantHaveKeyword(this);
@@ -5121,7 +5273,11 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
     public final void setPhasedOut(final Player phasedOut0) {
         if (phasedOut == phasedOut0) { return; }
+        incrementStateVersion();
         phasedOut = phasedOut0;
+        if (currentZone != null) {
+            currentZone.onCardPhased();
+        }
         view.updatePhasedOut(this);
     }
 
@@ -5641,6 +5797,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
     public final void setDamage(int damage0) {
         if (getDamage() == damage0) { return; }
+        incrementStateVersion();
         damage.clear();
         if (damage0 != 0) {
             damage.put(0, damage0);
@@ -5830,6 +5987,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
             }
             else { // 120.3e
                 int old = damage.getOrDefault(Objects.hash(source.getId(), source.getTimestamp()), 0);
+                incrementStateVersion();
                 damage.put(Objects.hash(source.getId(), source.getTimestamp()), old + damageIn);
                 view.updateDamage(this);
             }
@@ -6097,6 +6255,34 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         bestowTimestamp = t;
     }
 
+    /**
+     * @return a counter increased on every change of this card's characteristics or status.
+     */
+    public final int getStateVersion() {
+        return stateVersion;
+    }
+    final void incrementStateVersion() {
+        stateVersion++;
+        if (game != null) {
+            game.getStaticAbilityRegistry().cardChanged(this);
+        }
+    }
+
+    private CharacteristicsCache getCharacteristics(final CardState state) {
+        CharacteristicsCache cache = characteristics;
+        if (cache == null || cache.version != stateVersion || cache.state != state) {
+            cache = new CharacteristicsCache(stateVersion, state);
+            characteristics = cache;
+        }
+        return cache;
+    }
+
+    private static void checkCached(final Card c, final String what, final Object cached, final Object computed) {
+        if (!String.valueOf(cached).equals(String.valueOf(computed))) {
+            throw new IllegalStateException("Cached " + what + " of " + c + " is " + cached + " but should be " + computed);
+        }
+    }
+
     public final long getTimestamp() {
         return timestamp;
     }
@@ -6150,6 +6336,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
         return pairedWith;
     }
     public final void setPairedWith(final Card c) {
+        incrementStateVersion();
         pairedWith = view.setCard(pairedWith, c, TrackableProperty.PairedWith);
     }
     public final boolean isPaired() {
@@ -6269,6 +6456,7 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
     public void setZone(Zone zone) {
         if (currentZone == zone) { return; }
+        incrementStateVersion();
         currentZone = zone;
         view.updateZone(this);
     }
@@ -7064,15 +7252,18 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
 
     public void setChangedCardTypes(Table<Long, Long, CardChangedType> changedCardTypes) {
+        incrementStateVersion();
         this.changedCardTypes.clear();
         this.changedCardTypes.putAll(changedCardTypes);
     }
     public void setChangedCardTypesCharacterDefining(Table<Long, Long, CardChangedType> changedCardTypes) {
+        incrementStateVersion();
         this.changedCardTypesCharacterDefining.clear();
         this.changedCardTypesCharacterDefining.putAll(changedCardTypes);
     }
 
     public void setChangedCardKeywords(Table<Long, Long, KeywordsChange> changedCardKeywords) {
+        incrementStateVersion();
         this.changedCardKeywords.clear();
         for (Table.Cell<Long, Long, KeywordsChange> entry : changedCardKeywords.cellSet()) {
             this.changedCardKeywords.put(entry.getRowKey(), entry.getColumnKey(), entry.getValue().copy(this, true));
@@ -7080,10 +7271,12 @@ public class Card extends GameEntity implements Comparable<Card>, IHasSVars {
     }
 
     public void setChangedCardColors(Table<Long, Long, CardColor> changedCardColors) {
+        incrementStateVersion();
         this.changedCardColors.clear();
         this.changedCardColors.putAll(changedCardColors);
     }
     public void setChangedCardColorsCharacterDefining(Table<Long, Long, CardColor> changedCardColors) {
+        incrementStateVersion();
         this.changedCardColorsCharacterDefining.clear();
         this.changedCardColorsCharacterDefining.putAll(changedCardColors);
     }
@@ -130,11 +130,13 @@ public class CardState extends GameObject implements IHasSVars {
     }
     public final void addType(String type0) {
         if (type.add(type0)) {
+            card.incrementStateVersion();
             view.updateType(this);
         }
     }
     public final void addType(Iterable<String> type0) {
         if (type.addAll(type0)) {
+            card.incrementStateVersion();
             view.updateType(this);
         }
     }
@@ -144,6 +146,7 @@ public class CardState extends GameObject implements IHasSVars {
             return;
         }
         if (type0.isEmpty() && type.isEmpty()) { return; }
+        card.incrementStateVersion();
         type.clear();
         type.addAll(type0);
         view.updateType(this);
@@ -151,16 +154,19 @@ public class CardState extends GameObject implements IHasSVars {
 
     public final void removeType(final CardType.Supertype st) {
         if (type.remove(st)) {
+            card.incrementStateVersion();
             view.updateType(this);
         }
     }
 
     public final void removeCardTypes() {
+        card.incrementStateVersion();
         type.removeCardTypes();
     }
 
     public final void setCreatureTypes(Collection<String> ctypes) {
         if (type.setCreatureTypes(ctypes)) {
+            card.incrementStateVersion();
             view.updateType(this);
         }
     }
@@ -177,10 +183,12 @@ public class CardState extends GameObject implements IHasSVars {
         return color;
     }
     public final void addColor(final byte color) {
+        card.incrementStateVersion();
         this.color |= color;
         view.updateColors(card);
     }
     public final void setColor(final byte color) {
+        card.incrementStateVersion();
         this.color = color;
         view.updateColors(card);
     }
@@ -190,6 +198,7 @@ public class CardState extends GameObject implements IHasSVars {
     }
     public final void setBasePower(final int basePower0) {
         if (basePower == basePower0) { return; }
+        card.incrementStateVersion();
         basePower = basePower0;
         view.updatePower(this);
     }
@@ -199,6 +208,7 @@ public class CardState extends GameObject implements IHasSVars {
     }
     public final void setBaseToughness(final int baseToughness0) {
         if (baseToughness == baseToughness0) { return; }
+        card.incrementStateVersion();
         baseToughness = baseToughness0;
         view.updateToughness(this);
     }
@@ -242,6 +252,7 @@ public class CardState extends GameObject implements IHasSVars {
     }
 
     public final void setCachedKeywords(final KeywordCollection col) {
+        card.incrementStateVersion();
         cachedKeywords = col;
     }
 
@@ -260,6 +271,7 @@ public class CardState extends GameObject implements IHasSVars {
         for (KeywordInterface k : intrinsicKeyword0) {
             intrinsicKeywords.insert(k.copy(card, lki));
         }
+        card.incrementStateVersion();
         card.updateKeywordsCache(this);
     }
 
@@ -284,6 +296,7 @@ public class CardState extends GameObject implements IHasSVars {
         if (inst != null && initTraits) {
             inst.createTraits(card, true);
         }
+        card.incrementStateVersion();
         return inst;
     }
     public final boolean addIntrinsicKeywords(final Iterable<String> keywords) {
@@ -300,9 +313,11 @@ public class CardState extends GameObject implements IHasSVars {
     }
 
     public final boolean removeIntrinsicKeyword(final String s) {
+        card.incrementStateVersion();
         return intrinsicKeywords.remove(s);
     }
     public final boolean removeIntrinsicKeyword(final KeywordInterface s) {
+        card.incrementStateVersion();
         return intrinsicKeywords.remove(s);
     }
 
@@ -432,15 +447,19 @@ public class CardState extends GameObject implements IHasSVars {
         return result;
     }
     public final boolean addStaticAbility(StaticAbility stab) {
+        card.incrementStateVersion();
         return staticAbilities.add(stab);
     }
     public final boolean removeStaticAbility(StaticAbility stab) {
+        card.incrementStateVersion();
         return staticAbilities.remove(stab);
     }
     public final void setStaticAbilities(final Iterable<StaticAbility> staticAbilities0) {
+        card.incrementStateVersion();
         staticAbilities = new FCollection<>(staticAbilities0);
     }
     public final void clearStaticAbilities() {
+        card.incrementStateVersion();
         staticAbilities.clear();
     }
 
@@ -702,6 +721,7 @@ public class CardState extends GameObject implements IHasSVars {
         for (KeywordInterface inst : intrinsicKeywords2) {
             intrinsicKeywords.insert(inst);
         }
+        card.incrementStateVersion();
     }
 
     public void updateChangedText() {
@@ -86,6 +86,10 @@ public class CardView extends GameEntityView {
         return false;
     }
 
+    // updates put off while the tracker is detached, applied by materialize()
+    private transient Card pendingCard;
+    private transient boolean pendingState, pendingNonAbilityText;
+
     public CardView(final int id0, final Tracker tracker) {
         super(id0, tracker);
         set(TrackableProperty.CurrentState, new CardStateView(id0, CardStateName.Original, tracker));
@@ -334,8 +338,8 @@ public class CardView extends GameEntityView {
     void updateDamage(Card c) {
         set(TrackableProperty.Damage, c.getDamage());
         updateLethalDamage(c);
-        //update CrackOverlay (currently 16 overlays)
-        set(TrackableProperty.CrackOverlay, c.getDamage() > 0 ? MyRandom.getRandom().nextInt(16) : 0);
+        //update CrackOverlay (currently 16 overlays), nobody sees it while detached
+        set(TrackableProperty.CrackOverlay, c.getDamage() > 0 && !isDetached() ? MyRandom.getRandom().nextInt(16) : 0);
     }
 
     public int getAssignedDamage() {
@@ -717,6 +721,12 @@ public class CardView extends GameEntityView {
     }
 
     void updateNonAbilityText(Card c) {
+        if (isDetached()) {
+            pendingCard = c;
+            pendingNonAbilityText = true;
+            markStale();
+            return;
+        }
         set(TrackableProperty.NonAbilityText, c.getNonAbilityText());
     }
 
@@ -921,6 +931,47 @@ public class CardView extends GameEntityView {
         set(TrackableProperty.NeedsTransformAnimation, value);
     }
     void updateState(Card c) {
+        if (isDetached()) {
+            pendingCard = c;
+            pendingState = true;
+            markStale();
+            // the keywords cache is part of the game state, it can't wait for the view
+            c.updateKeywordsCache(c.getCurrentState());
+            CardState alternateState = getAlternateStateToShow(c, c.isFaceDown());
+            if (alternateState != null) {
+                c.updateKeywordsCache(alternateState);
+            }
+            return;
+        }
+        applyState(c);
+    }
+
+    @Override
+    protected void materialize() {
+        final Card c = pendingCard;
+        pendingCard = null;
+        if (pendingState) {
+            pendingState = false;
+            applyState(c);
+        }
+        if (pendingNonAbilityText) {
+            pendingNonAbilityText = false;
+            set(TrackableProperty.NonAbilityText, c.getNonAbilityText());
+        }
+    }
+
+    private static CardState getAlternateStateToShow(Card c, boolean faceDown) {
+        if (c.isSplitCard() && faceDown) {
+            // face-down (e.g. manifested) split cards should show the original face on their flip side
+            return c.getState(CardStateName.Original);
+        }
+        if (c.isDoubleFaced() && faceDown) { //fixes facedown cards with backside...
+            return c.getState(CardStateName.Original);
+        }
+        return c.getAlternateState();
+    }
+
+    private void applyState(Card c) {
         updateName(c);
         updateZoneText(c);
         updateDamage(c);
@@ -1006,15 +1057,7 @@ public class CardView extends GameEntityView {
         currentState.getView().updateKeywords(c, currentState); //update keywords even if state doesn't change
         currentState.getView().setOriginalColors(c); //set original Colors
 
-        CardState alternateState = isSplitCard && isFaceDown() ? c.getState(CardStateName.RightSplit) : c.getAlternateState();
-
-        if (isSplitCard && isFaceDown()) {
-            // face-down (e.g. manifested) split cards should show the original face on their flip side
-            alternateState = c.getState(CardStateName.Original);
-        }
-
-        if (c.isDoubleFaced() && isFaceDown()) //fixes facedown cards with backside...
-            alternateState = c.getState(CardStateName.Original);
+        CardState alternateState = getAlternateStateToShow(c, isFaceDown());
 
         if (alternateState == null) {
             set(TrackableProperty.AlternateState, null);
@@ -1132,11 +1175,52 @@ public class CardView extends GameEntityView {
 
         private final CardStateName state;
 
+        // updates put off while the tracker is detached, applied by materialize()
+        private transient Card pendingCard;
+        private transient CardState pendingState;
+        private transient boolean pendingType, pendingOracleText, pendingAbilityText, pendingKeywords;
+
         public CardStateView(final int id0, final CardStateName state0, final Tracker tracker) {
             super(id0, tracker);
             state = state0;
         }
 
+        private boolean deferUpdate(Card c, CardState state0) {
+            if (!isDetached()) {
+                return false;
+            }
+            if (c != null) {
+                pendingCard = c;
+            }
+            if (state0 != null) {
+                pendingState = state0;
+            }
+            markStale();
+            return true;
+        }
+
+        @Override
+        protected void materialize() {
+            if (pendingType) {
+                pendingType = false;
+                applyType(pendingState);
+            }
+            if (pendingKeywords) {
+                pendingKeywords = pendingAbilityText = false;
+                applyKeywords(pendingCard, pendingState);
+            }
+            if (pendingAbilityText) {
+                pendingAbilityText = false;
+                set(TrackableProperty.AbilityText, pendingCard.getAbilityText(pendingState));
+            }
+            if (pendingOracleText) {
+                pendingOracleText = false;
+                applyOracleText(pendingCard);
+            }
+            pendingCard = null;
+            pendingState = null;
+        }
+
         public String getDisplayId() {
             if (getState().equals(CardStateName.FaceDown)) {
                 return "H" + getHiddenId();
@@ -1242,6 +1326,13 @@ public class CardView extends GameEntityView {
             return get(TrackableProperty.Type);
         }
         void updateType(CardState c) {
+            if (deferUpdate(null, c)) {
+                pendingType = true;
+                return;
+            }
+            applyType(c);
+        }
+        private void applyType(CardState c) {
             CardTypeView type = c.getType();
             if (CardView.this.getCurrentState() == this) {
                 Card card = c.getCard();
@@ -1264,6 +1355,13 @@ public class CardView extends GameEntityView {
             return get(TrackableProperty.OracleText);
         }
         void updateOracleText(Card c) {
+            if (deferUpdate(c, null)) {
+                pendingOracleText = true;
+                return;
+            }
+            applyOracleText(c);
+        }
+        private void applyOracleText(Card c) {
             set(TrackableProperty.OracleText, c.getOracleText().replace("\\n", "\r\n\r\n").trim());
         }
 
@@ -1501,10 +1599,21 @@ public class CardView extends GameEntityView {
             return get(TrackableProperty.AbilityText);
         }
         void updateAbilityText(Card c, CardState state) {
+            if (deferUpdate(c, state)) {
+                pendingAbilityText = true;
+                return;
+            }
             set(TrackableProperty.AbilityText, c.getAbilityText(state));
         }
         void updateKeywords(Card c, CardState state) {
             c.updateKeywordsCache(state);
+            if (deferUpdate(c, state)) {
+                pendingKeywords = true;
+                return;
+            }
+            applyKeywords(c, state);
+        }
+        private void applyKeywords(Card c, CardState state) {
             set(TrackableProperty.HasDeathtouch, c.hasKeyword(Keyword.DEATHTOUCH, state));
             set(TrackableProperty.HasToxic, c.hasKeyword(Keyword.TOXIC, state));
             set(TrackableProperty.HasDevoid, c.hasKeyword(Keyword.DEVOID, state));
@@ -1531,7 +1640,7 @@ public class CardView extends GameEntityView {
             set(TrackableProperty.HasStorm, c.hasKeyword(Keyword.STORM, state));
             set(TrackableProperty.HasLandwalk, c.hasKeyword(Keyword.LANDWALK, state));
             set(TrackableProperty.HasAftermath, c.hasKeyword(Keyword.AFTERMATH, state));
-            updateAbilityText(c, state);
+            set(TrackableProperty.AbilityText, c.getAbilityText(state));
             //set protectionKey for Icons
             set(TrackableProperty.ProtectionKey, c.getProtectionKey());
             //set hexproofKeys for Icons
@@ -0,0 +1,201 @@
+package forge.game.card;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A read-only {@link CardCollectionView} of several card collections one after the other, without copying them.
+ * <p>
+ * The collections must not change while the view is in use, like the snapshots of the zones Game.getCardsIn combines.
+ * </p>
+ */
+public class CombinedCardCollectionView implements CardCollectionView {
+    private final CardCollectionView[] parts;
+    private final int size;
+
+    /**
+     * @return the cards of the collections in order, the collection itself if only one of them has cards.
+     */
+    public static CardCollectionView of(final List<CardCollectionView> parts) {
+        CardCollectionView withCards = null;
+        int nonEmpty = 0;
+        for (final CardCollectionView part : parts) {
+            if (!part.isEmpty()) {
+                withCards = part;
+                nonEmpty++;
+            }
+        }
+        if (nonEmpty == 0) {
+            return CardCollection.EMPTY;
+        }
+        if (nonEmpty == 1) {
+            return withCards;
+        }
+        return new CombinedCardCollectionView(parts, nonEmpty);
+    }
+
+    /**
+     * @return a read-only view of the collection, for snapshots handed out many times.
+     */
+    public static CardCollectionView readOnly(final CardCollectionView cards) {
+        if (cards.isEmpty()) {
+            return CardCollection.EMPTY;
+        }
+        return new CombinedCardCollectionView(Collections.singletonList(cards), 1);
+    }
+
+    private CombinedCardCollectionView(final List<CardCollectionView> parts0, final int nonEmpty) {
+        parts = new CardCollectionView[nonEmpty];
+        int i = 0, total = 0;
+        for (final CardCollectionView part : parts0) {
+            if (!part.isEmpty()) {
+                parts[i++] = part;
+                total += part.size();
+            }
+        }
+        size = total;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Card get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        int offset = index;
+        for (final CardCollectionView part : parts) {
+            if (offset < part.size()) {
+                return part.get(offset);
+            }
+            offset -= part.size();
+        }
+        throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    @Override
+    public Card getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return parts[0].getFirst();
+    }
+
+    @Override
+    public Card getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return parts[parts.length - 1].getLast();
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+        int offset = 0;
+        for (final CardCollectionView part : parts) {
+            final int index = part.indexOf(o);
+            if (index >= 0) {
+                return offset + index;
+            }
+            offset += part.size();
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(final Object o) {
+        int offset = size;
+        for (int i = parts.length - 1; i >= 0; i--) {
+            offset -= parts[i].size();
+            final int index = parts[i].lastIndexOf(o);
+            if (index >= 0) {
+                return offset + index;
+            }
+        }
+        return -1;
+    }
+
+    // each part looks the card up in its set
+    @Override
+    public boolean contains(final Object o) {
+        for (final CardCollectionView part : parts) {
+            if (part.contains(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public List<Card> subList(final int fromIndex, final int toIndex) {
+        final List<Card> result = new ArrayList<>(Math.max(0, toIndex - fromIndex));
+        for (int i = fromIndex; i < toIndex; i++) {
+            result.add(get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public Iterable<Card> threadSafeIterable() {
+        return this; // the parts don't change
+    }
+
+    @Override
+    public Card get(final Card obj) {
+        for (final CardCollectionView part : parts) {
+            final Card result = part.get(obj);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Iterator<Card> iterator() {
+        return new Iterator<Card>() {
+            private int part = 0;
+            private Iterator<Card> current = parts.length == 0 ? null : parts[0].iterator();
+
+            @Override
+            public boolean hasNext() {
+                while (current != null && !current.hasNext()) {
+                    part++;
+                    current = part < parts.length ? parts[part].iterator() : null;
+                }
+                return current != null;
+            }
+
+            @Override
+            public Card next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return current.next();
+            }
+        };
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("[");
+        for (final Card c : this) {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(c);
+        }
+        return sb.append(']').toString();
+    }
+}
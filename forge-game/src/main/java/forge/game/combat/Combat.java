@@ -66,6 +66,9 @@ public class Combat {
     // List holds creatures who have dealt 1st strike damage to disallow them deal damage on regular basis (unless they have double-strike KW)
     private CardCollection combatantsThatDealtFirstStrikeDamage = new CardCollection();
 
+    // bumped whenever attackers or blockers change, so predictions made for this combat can tell they're outdated
+    private int changeCount = 0;
+
     public Combat(final Player attacker) {
         playerWhoAttacks = attacker;
         initConstraints();
@@ -111,6 +114,7 @@ public class Combat {
     }
 
     public void initConstraints() {
+        changeCount++;
         attackableEntries.clear();
         // Create keys for all possible attack targets
         attackableEntries.addAll(CombatUtil.getAllPossibleDefenders(playerWhoAttacks));
@@ -141,6 +145,7 @@ public class Combat {
     }
 
     public void endCombat() {
+        changeCount++;
         //backup attackers and blockers
         CardCollection attackers = getAttackers();
         CardCollection blockers = getAllBlockers();
@@ -171,6 +176,10 @@ public class Combat {
         }
     }
 
+    public final int getChangeCount() {
+        return changeCount;
+    }
+
     public final Player getAttackingPlayer() {
         return playerWhoAttacks;
     }
@@ -245,6 +254,7 @@ public class Combat {
         addAttacker(c, defender, null);
     }
     public final void addAttacker(final Card c, GameEntity defender, AttackingBand band) {
+        changeCount++;
         Collection<AttackingBand> attackersOfDefender = attackedByBands.get(defender);
         if (attackersOfDefender == null) {
             System.out.println("Trying to add Attacker " + c + " to missing defender " + defender);
@@ -362,10 +372,12 @@ public class Combat {
 
     // Some cards in Alpha may UNBLOCK an attacker, so second parameter is not always-true
     public final void setBlocked(final Card attacker, boolean value) {
+        changeCount++;
         getBandOfAttackerNotNull(attacker).setBlocked(value); // called by Curtain of Light, Dazzling Beauty, Trap Runner
     }
 
     public final void addBlocker(final Card attacker, final Card blocker) {
+        changeCount++;
         final AttackingBand band = getBandOfAttackerNotNull(attacker);
         blockedBands.put(band, blocker);
         // If damage is already assigned, add this blocker as a "late entry"
@@ -377,6 +389,7 @@ public class Combat {
 
     // remove blocker from specific attacker
     public final void removeBlockAssignment(final Card attacker, final Card blocker) {
+        changeCount++;
         AttackingBand band = getBandOfAttackerNotNull(attacker);
         Collection<Card> cc = blockedBands.get(band);
         if (cc != null) {
@@ -387,6 +400,7 @@ public class Combat {
 
     // remove blocker from everywhere
     public final void undoBlockingAssignment(final Card blocker) {
+        changeCount++;
         CardCollection toRemove = new CardCollection(blocker);
         blockedBands.values().removeAll(toRemove);
         blocker.updateBlockingForView();
@@ -588,6 +602,7 @@ public class Combat {
 
     // remove a combatant whose side is unknown
     public final void removeFromCombat(final Card c) {
+        changeCount++;
         AttackingBand ab = getBandOfAttacker(c);
         if (ab != null) {
             unregisterAttacker(c, ab);
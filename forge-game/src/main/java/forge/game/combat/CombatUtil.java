@@ -312,8 +312,8 @@ public class CombatUtil {
         final Cost attackCost = new Cost(ManaCost.ZERO, true);
         boolean hasCost = false;
         // Sort abilities to apply them in proper order
-        for (final Card card : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : card.getStaticAbilities()) {
+        for (final String mode : new String[] { "CantAttackUnless", "OptionalAttackCost" }) {
+            for (final StaticAbility stAb : game.getStaticAbilityRegistry().getAbilities(mode)) {
                 final Cost additionalCost = stAb.getAttackCost(attacker, defender, attackersWithOptionalCost);
                 if (null != additionalCost) {
                     attackCost.add(additionalCost);
@@ -356,13 +356,11 @@ public class CombatUtil {
         Cost blockCost = new Cost(ManaCost.ZERO, true);
         // Sort abilities to apply them in proper order
         boolean noCost = true;
-        for (Card card : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : card.getStaticAbilities()) {
-                Cost c1 = stAb.getBlockCost(blocker, attacker);
-                if (c1 != null) {
-                    blockCost.add(c1);
-                    noCost = false;
-                }
+        for (final StaticAbility stAb : game.getStaticAbilityRegistry().getAbilities("CantBlockUnless")) {
+            Cost c1 = stAb.getBlockCost(blocker, attacker);
+            if (c1 != null) {
+                blockCost.add(c1);
+                noCost = false;
             }
         }
 
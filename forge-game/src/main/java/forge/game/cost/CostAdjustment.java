@@ -32,10 +32,12 @@ import forge.game.spellability.SpellAbility;
 import forge.game.spellability.SpellAbilityPredicates;
 import forge.game.spellability.TargetChoices;
 import forge.game.staticability.StaticAbility;
+import forge.game.staticability.StaticAbilityRegistry;
 import forge.game.zone.Zone;
 import forge.game.zone.ZoneType;
 
 public class CostAdjustment {
+    private static final ZoneType[] COST_ADJUSTMENT_ZONES = { ZoneType.Battlefield, ZoneType.Stack, ZoneType.Command };
 
     public static Cost adjust(final Cost cost, final SpellAbility sa) {
         if (sa.isTrigger() || cost == null) {
@@ -64,22 +66,8 @@ public class CostAdjustment {
             }
         } // isSpell
 
-        CardCollection cardsOnBattlefield = new CardCollection(game.getCardsIn(ZoneType.Battlefield));
-        cardsOnBattlefield.addAll(game.getCardsIn(ZoneType.Stack));
-        cardsOnBattlefield.addAll(game.getCardsIn(ZoneType.Command));
-        if (!cardsOnBattlefield.contains(host)) {
-            cardsOnBattlefield.add(host);
-        }
-        final List<StaticAbility> raiseAbilities = Lists.newArrayList();
-
         // Sort abilities to apply them in proper order
-        for (Card c : cardsOnBattlefield) {
-            for (final StaticAbility stAb : c.getStaticAbilities()) {
-                if (stAb.checkMode("RaiseCost")) {
-                    raiseAbilities.add(stAb);
-                }
-            }
-        }
+        final List<StaticAbility> raiseAbilities = getCostAbilities(game, host, "RaiseCost");
         if (sa.hasParam("RaiseCost")) {
             String raise = sa.getParam("RaiseCost");
             ManaCost mc;
@@ -104,6 +92,25 @@ public class CostAdjustment {
         return result;
     }
 
+    // the abilities of the mode on the battlefield, the stack and in the command zone, then the ones of the card itself
+    private static List<StaticAbility> getCostAbilities(final Game game, final Card card, final String mode) {
+        final StaticAbilityRegistry registry = game.getStaticAbilityRegistry();
+        final List<StaticAbility> result = Lists.newArrayList();
+        boolean found = false;
+        for (final ZoneType zone : COST_ADJUSTMENT_ZONES) {
+            result.addAll(registry.getAbilities(mode, zone));
+            found |= registry.isIn(card, zone);
+        }
+        if (!found) {
+            for (final StaticAbility stAb : card.getStaticAbilities()) {
+                if (stAb.checkMode(mode)) {
+                    result.add(stAb);
+                }
+            }
+        }
+        return result;
+    }
+
     private static void applyRaise(final Cost cost, final SpellAbility sa, final StaticAbility st) {
         final Card hostCard = st.getHostCard();
 
@@ -185,26 +192,9 @@ public class CostAdjustment {
             }
         }
 
-        CardCollection cardsOnBattlefield = new CardCollection(game.getCardsIn(ZoneType.Battlefield));
-        cardsOnBattlefield.addAll(game.getCardsIn(ZoneType.Stack));
-        cardsOnBattlefield.addAll(game.getCardsIn(ZoneType.Command));
-        if (!cardsOnBattlefield.contains(originalCard)) {
-            cardsOnBattlefield.add(originalCard);
-        }
-        final List<StaticAbility> reduceAbilities = Lists.newArrayList();
-        final List<StaticAbility> setAbilities = Lists.newArrayList();
-
         // Sort abilities to apply them in proper order
-        for (Card c : cardsOnBattlefield) {
-            for (final StaticAbility stAb : c.getStaticAbilities()) {
-                if (stAb.checkMode("ReduceCost")) {
-                    reduceAbilities.add(stAb);
-                }
-                else if (stAb.checkMode("SetCost")) {
-                    setAbilities.add(stAb);
-                }
-            }
-        }
+        final List<StaticAbility> reduceAbilities = getCostAbilities(game, originalCard, "ReduceCost");
+        final List<StaticAbility> setAbilities = getCostAbilities(game, originalCard, "SetCost");
 
         // Reduce cost
         int sumGeneric = 0;
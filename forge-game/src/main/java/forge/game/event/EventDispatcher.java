@@ -0,0 +1,230 @@
+package forge.game.event;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Delivers the events of a game or match to the listeners registered for their class.
+ * <p>
+ * Listeners are plain callbacks registered per event class, so posting only has to look up the listeners of the
+ * concrete event class (done once per class) and call them. Like before, an event posted by a listener is delivered
+ * once the current event has been handed to all listeners, keeping every listener's view of the events in order.
+ * </p>
+ * Listeners that don't need to see an event right away may ask for {@link Delivery#BATCHED} delivery, getting the
+ * events gathered since the last {@link #flushBatched()} at once, or {@link Delivery#ASYNC} delivery on a separate
+ * thread. Both must not rely on the game state still being the one the event was fired in.
+ */
+public final class EventDispatcher {
+    public enum Delivery {
+        /** on the posting thread, before post returns */
+        IMMEDIATE,
+        /** on the posting thread, when the pending batch is flushed */
+        BATCHED,
+        /** on the dispatcher's own thread, in posting order */
+        ASYNC
+    }
+
+    private static final class Listener {
+        private final Class<? extends Event> eventClass;
+        private final Consumer<Event> callback;
+        private final Delivery delivery;
+
+        @SuppressWarnings("unchecked")
+        private <T extends Event> Listener(final Class<T> eventClass0, final Consumer<? super T> callback0, final Delivery delivery0) {
+            eventClass = eventClass0;
+            callback = (Consumer<Event>) callback0;
+            delivery = delivery0;
+        }
+    }
+
+    private static final Listener[] NO_LISTENERS = new Listener[0];
+
+    private final String name;
+    private final Object lock = new Object();
+    private volatile List<Listener> listeners = new ArrayList<>();
+    // listeners of each concrete event class, dropped whenever a listener is added
+    private volatile Map<Class<?>, Listener[]> listenersByClass = new HashMap<>();
+
+    private static final class PostQueue {
+        private final ArrayDeque<Event> events = new ArrayDeque<>();
+        private boolean dispatching;
+    }
+
+    private final ThreadLocal<PostQueue> queue = ThreadLocal.withInitial(PostQueue::new);
+    private final List<Event> batch = new ArrayList<>();
+    private ExecutorService asyncExecutor;
+
+    private final AtomicLong posted = new AtomicLong();
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong totalLatency = new AtomicLong();
+    private final AtomicLong maxLatency = new AtomicLong();
+
+    public EventDispatcher(final String name0) {
+        name = name0;
+    }
+
+    public <T extends Event> void subscribe(final Class<T> eventClass, final Consumer<? super T> listener) {
+        subscribe(eventClass, listener, Delivery.IMMEDIATE);
+    }
+
+    public <T extends Event> void subscribe(final Class<T> eventClass, final Consumer<? super T> listener, final Delivery delivery) {
+        synchronized (lock) {
+            final List<Listener> newListeners = new ArrayList<>(listeners);
+            newListeners.add(new Listener(eventClass, listener, delivery));
+            listeners = newListeners;
+            listenersByClass = new HashMap<>();
+        }
+    }
+
+    public void post(final Event event) {
+        posted.incrementAndGet();
+        final PostQueue pending = queue.get();
+        pending.events.add(event);
+        if (pending.dispatching) {
+            return; // posted by a listener, delivered when the current event is done
+        }
+        pending.dispatching = true;
+        try {
+            Event next;
+            while ((next = pending.events.poll()) != null) {
+                dispatch(next);
+            }
+        } finally {
+            pending.dispatching = false;
+        }
+    }
+
+    private void dispatch(final Event event) {
+        boolean batched = false;
+        for (final Listener l : getListeners(event.getClass())) {
+            switch (l.delivery) {
+            case IMMEDIATE:
+                deliver(l, event, System.nanoTime());
+                break;
+            case BATCHED:
+                batched = true;
+                break;
+            case ASYNC:
+                final long postTime = System.nanoTime();
+                getAsyncExecutor().execute(() -> deliver(l, event, postTime));
+                break;
+            }
+        }
+        if (batched) {
+            synchronized (batch) {
+                batch.add(event);
+            }
+        }
+    }
+
+    /**
+     * Hands the events gathered since the last flush to the listeners asking for batched delivery.
+     */
+    public void flushBatched() {
+        final Event[] events;
+        synchronized (batch) {
+            if (batch.isEmpty()) {
+                return;
+            }
+            events = batch.toArray(new Event[0]);
+            batch.clear();
+        }
+        final long flushTime = System.nanoTime();
+        for (final Event event : events) {
+            for (final Listener l : getListeners(event.getClass())) {
+                if (l.delivery == Delivery.BATCHED) {
+                    deliver(l, event, flushTime);
+                }
+            }
+        }
+    }
+
+    private void deliver(final Listener l, final Event event, final long postTime) {
+        try {
+            l.callback.accept(event);
+        } catch (final RuntimeException e) {
+            // a failing listener must not keep the others from getting the event
+            System.err.println("Could not dispatch " + event.getClass().getSimpleName() + " in " + name);
+            e.printStackTrace();
+        }
+        final long latency = System.nanoTime() - postTime;
+        delivered.incrementAndGet();
+        totalLatency.addAndGet(latency);
+        long max;
+        while (latency > (max = maxLatency.get()) && !maxLatency.compareAndSet(max, latency)) {
+            // retry
+        }
+    }
+
+    private Listener[] getListeners(final Class<?> eventClass) {
+        final Map<Class<?>, Listener[]> byClass = listenersByClass;
+        Listener[] result = byClass.get(eventClass);
+        if (result != null) {
+            return result;
+        }
+        final List<Listener> matching = new ArrayList<>();
+        for (final Listener l : listeners) {
+            if (l.eventClass.isAssignableFrom(eventClass)) {
+                matching.add(l);
+            }
+        }
+        result = matching.isEmpty() ? NO_LISTENERS : matching.toArray(NO_LISTENERS);
+        synchronized (lock) {
+            if (listenersByClass == byClass) {
+                final Map<Class<?>, Listener[]> newByClass = new HashMap<>(byClass);
+                newByClass.put(eventClass, result);
+                listenersByClass = newByClass;
+            }
+        }
+        return result;
+    }
+
+    private ExecutorService getAsyncExecutor() {
+        synchronized (lock) {
+            if (asyncExecutor == null) {
+                // a single thread keeps the posting order, it goes away while no events come in
+                asyncExecutor = new ThreadPoolExecutor(0, 1, 5, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+                    final Thread t = new Thread(r, "Events - " + name);
+                    t.setDaemon(true);
+                    return t;
+                });
+            }
+            return asyncExecutor;
+        }
+    }
+
+    public long getPostedCount() {
+        return posted.get();
+    }
+
+    public long getDeliveredCount() {
+        return delivered.get();
+    }
+
+    /**
+     * @return the average time in nanoseconds between posting an event and a listener being done with it.
+     */
+    public long getAverageLatency() {
+        final long count = delivered.get();
+        return count == 0 ? 0 : totalLatency.get() / count;
+    }
+
+    public long getMaxLatency() {
+        return maxLatency.get();
+    }
+
+    @Override
+    public String toString() {
+        return name + ": " + posted.get() + " events posted, " + delivered.get() + " deliveries, average latency "
+                + getAverageLatency() / 1000 + " us, max " + getMaxLatency() / 1000 + " us";
+    }
+}
@@ -114,7 +114,6 @@ import forge.item.PaperCard;
 import forge.util.Aggregates;
 import forge.util.Lang;
 import forge.util.Localizer;
-import forge.util.MyRandom;
 import forge.util.TextUtil;
 import forge.util.collect.FCollection;
 import forge.util.collect.FCollectionView;
@@ -1660,7 +1659,7 @@ public class Player extends GameEntity implements Comparable<Player> {
         final CardCollection list = new CardCollection(getCardsIn(ZoneType.Library));
 
         // Note: Shuffling once is sufficient.
-        Collections.shuffle(list, MyRandom.getRandom());
+        Collections.shuffle(list, game.getRandom());
 
         getZone(ZoneType.Library).setCards(getController().cheatShuffle(list));
 
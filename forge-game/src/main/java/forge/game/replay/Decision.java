@@ -0,0 +1,88 @@
+package forge.game.replay;
+
+/**
+ * The decisions of a player controller a recorded game keeps, in the order the game asks for them.
+ * <p>
+ * The ordinals are written to the recordings, new kinds go at the end.
+ * </p>
+ */
+public enum Decision {
+    SPELL_ABILITY_TO_PLAY,
+    SETUP_ABILITY,
+    PLAY_FROM_EFFECT,
+    SETUP_COPIED_ABILITY,
+    ORDER_SIMULTANEOUS_ABILITIES,
+    PAY_TO_PREVENT_EFFECT,
+    DECLARE_ATTACKERS,
+    DECLARE_BLOCKERS,
+    TARGETS,
+    ASSIGN_COMBAT_DAMAGE,
+    DIVIDE_SHIELD,
+    MANA_COMBO,
+    ANNOUNCE_REQUIREMENTS,
+    PERMANENTS_TO_SACRIFICE,
+    PERMANENTS_TO_DESTROY,
+    TARGET_ON_STACK,
+    CARDS_FOR_EFFECT,
+    ENTITY_FOR_EFFECT,
+    SPELL_ABILITIES_FOR_EFFECT,
+    SPELL_FOR_EFFECT,
+    ENTITIES_FOR_EFFECT,
+    CONFIRM_ACTION,
+    CONFIRM_BID,
+    CONFIRM_REPLACEMENT_EFFECT,
+    CONFIRM_STATIC_APPLICATION,
+    CONFIRM_TRIGGER,
+    STARTING_PLAYER,
+    ORDER_BLOCKERS,
+    EXERT_ATTACKERS,
+    ENLIST_ATTACKERS,
+    ORDER_BLOCKER,
+    ORDER_ATTACKERS,
+    SCRY,
+    SURVEIL,
+    PUT_CARD_ON_TOP,
+    ORDER_MOVE_TO_ZONE,
+    DISCARD_FROM,
+    DISCARD_UNLESS_TYPE,
+    DISCARD_TO_HAND_SIZE,
+    DELVE,
+    REVEAL_FROM_HAND,
+    ACTIVATE_FROM_OPENING_HAND,
+    MANA_FROM_POOL,
+    TYPE,
+    SECTOR,
+    PLANAR_DIE_TO_IGNORE,
+    VOTE,
+    CARDS_TO_MULLIGAN,
+    KEEP_HAND,
+    LONDON_MULLIGAN_RETURN,
+    NUMBER_FOR_KEYWORD_COST,
+    NUMBER,
+    NUMBER_FROM_VALUES,
+    BINARY,
+    FLIP_RESULT,
+    PROTECTION_SHIELD,
+    MODES,
+    COLOR,
+    COLOR_ALLOW_COLORLESS,
+    CARD_FACE,
+    COLORS,
+    COUNTER_TYPE,
+    KEYWORD_FOR_PUMP,
+    CONFIRM_PAYMENT,
+    REPLACEMENT_EFFECT,
+    PROTECTION_TYPE,
+    PILE,
+    CONVOKE_OR_IMPROVISE,
+    SPLICE,
+    CARD_NAME,
+    CARD_NAME_FROM_FACES,
+    DUNGEON,
+    CARD_FOR_ZONE_CHANGE,
+    CARDS_FOR_ZONE_CHANGE,
+    OPTIONAL_COSTS,
+    MULLIGAN_SCRY,
+    CARDS_FOR_EFFECT_MULTIPLE,
+    CHEAT_SHUFFLE
+}
@@ -0,0 +1,299 @@
+package forge.game.replay;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import forge.game.Game;
+import forge.game.GameObject;
+import forge.game.card.Card;
+import forge.game.card.CardCollection;
+import forge.game.player.Player;
+import forge.game.spellability.OptionalCost;
+import forge.game.spellability.SpellAbility;
+import forge.game.spellability.SpellAbilityStackInstance;
+
+/**
+ * Reads the decisions {@link DecisionRecorder} wrote for a game, in the order the replayed game asks for them.
+ * <p>
+ * A replayed game asking for another decision than the recording has next, or getting to a different card id before
+ * it, went another way than the recorded game: a {@link ReplayException} tells at which decision.
+ * </p>
+ */
+public class DecisionPlayback {
+    private final byte[] data;
+    private final int decisions;
+    private final boolean complete;
+    private int pos = 0;
+    private int decision = 0;
+    private Game deciding = null;
+    private int lastCardId = 0;
+
+    /**
+     * @param complete0 false if the recorded game was stopped before it was over, running out of decisions ends
+     * the replay then.
+     */
+    public DecisionPlayback(final byte[] data0, final int decisions0, final boolean complete0) {
+        data = data0;
+        decisions = decisions0;
+        complete = complete0;
+    }
+
+    /**
+     * @return how many of the recorded decisions the game asked for so far.
+     */
+    public int getDecisionsReplayed() {
+        return decision;
+    }
+
+    public int getDecisionCount() {
+        return decisions;
+    }
+
+    public boolean isFinished() {
+        return decision == decisions && pos == data.length;
+    }
+
+    public void begin(final Decision expected, final Player player) {
+        if (decision >= decisions) {
+            throw new ReplayException("The game asked " + player + " for " + expected + " after the last recorded decision", !complete);
+        }
+        deciding = player.getGame();
+        final int kind = readVarInt();
+        final int playerId = readVarInt();
+        lastCardId = readVarInt();
+        decision++;
+        if (kind != expected.ordinal() || playerId != player.getId()) {
+            final String recorded = kind < Decision.values().length ? Decision.values()[kind].toString() : String.valueOf(kind);
+            throw new ReplayException(String.format("Out of sync at decision %d: the game asked %s for %s, the recording has %s by player %d",
+                    decision, player, expected, recorded, playerId));
+        }
+        if (lastCardId != deciding.getLastCardId()) {
+            throw new ReplayException(String.format("Out of sync at decision %d (%s): the game handed out %d card ids, the recorded one %d",
+                    decision, expected, deciding.getLastCardId(), lastCardId));
+        }
+    }
+
+    public void end() {
+        deciding.skipCardIdsTo(lastCardId + readVarInt());
+        deciding = null;
+    }
+
+    public boolean readBoolean() {
+        return data[pos++] != 0;
+    }
+
+    public int readInt() {
+        final int value = readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public Integer readInteger() {
+        final int value = readVarInt();
+        if (value == 0) {
+            return null;
+        }
+        return ((value - 1) >>> 1) ^ -((value - 1) & 1);
+    }
+
+    public String readString() {
+        final int length = readVarInt();
+        if (length == 0) {
+            return null;
+        }
+        final String value = new String(data, pos, length - 1, StandardCharsets.UTF_8);
+        pos += length - 1;
+        return value;
+    }
+
+    /**
+     * @return the card with the recorded id, looked up among the cards given first, then in the game.
+     */
+    public Card readCard(final Iterable<Card> preferred) {
+        final Integer id = readInteger();
+        if (id == null) {
+            return null;
+        }
+        if (preferred != null) {
+            for (final Card c : preferred) {
+                if (c != null && c.getId() == id) {
+                    return c;
+                }
+            }
+        }
+        final Card c = deciding.findById(id);
+        if (c == null) {
+            throw new ReplayException("Out of sync at decision " + decision + ": no card with id " + id);
+        }
+        return c;
+    }
+
+    public Card readCard() {
+        return readCard(null);
+    }
+
+    public CardCollection readCards(final Iterable<Card> preferred) {
+        final int size = readVarInt();
+        if (size == 0) {
+            return null;
+        }
+        final CardCollection cards = new CardCollection();
+        for (int i = 1; i < size; i++) {
+            cards.add(readCard(preferred));
+        }
+        return cards;
+    }
+
+    public Player readPlayer() {
+        final int id = readVarInt() - 1;
+        if (id < 0) {
+            return null;
+        }
+        for (final Player p : deciding.getRegisteredPlayers()) {
+            if (p.getId() == id) {
+                return p;
+            }
+        }
+        throw new ReplayException("Out of sync at decision " + decision + ": no player with id " + id);
+    }
+
+    public GameObject readObject() {
+        switch (readVarInt()) {
+        case 1:
+            return readCard();
+        case 2:
+            return readPlayer();
+        case 3:
+            final int index = readInt();
+            int i = 0;
+            for (final SpellAbilityStackInstance si : deciding.getStack()) {
+                if (i++ == index) {
+                    return si.getSpellAbility(false);
+                }
+            }
+            throw new ReplayException("Out of sync at decision " + decision + ": nothing at " + index + " on the stack");
+        default:
+            return null;
+        }
+    }
+
+    public <T> T readChoice(final Iterable<T> options) {
+        return get(options, readInt());
+    }
+
+    public <T> List<T> readChoices(final Iterable<T> options) {
+        final int size = readVarInt();
+        if (size == 0) {
+            return null;
+        }
+        final List<T> chosen = new ArrayList<>();
+        for (int i = 1; i < size; i++) {
+            chosen.add(get(options, readInt()));
+        }
+        return chosen;
+    }
+
+    /**
+     * @return the number of entries of the recorded map, -1 for none.
+     */
+    public int readMapSize() {
+        return readVarInt() - 1;
+    }
+
+    public Map<Card, Integer> readCardAmounts(final Iterable<Card> preferred) {
+        final int size = readMapSize();
+        if (size < 0) {
+            return null;
+        }
+        final Map<Card, Integer> amounts = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            final Card c = readCard(preferred);
+            amounts.put(c, readInteger());
+        }
+        return amounts;
+    }
+
+    /**
+     * @return the recorded ability, set up with the recorded choices.
+     */
+    public SpellAbility readAbility() {
+        if (readVarInt() == 0) {
+            return null;
+        }
+        final Card host = readCard();
+        final Player activator = readPlayer();
+        final int index = readInt();
+        final List<OptionalCost> optionalCosts = new ArrayList<>();
+        for (int n = readVarInt(); n > 0; n--) {
+            optionalCosts.add(OptionalCost.values()[readVarInt()]);
+        }
+        if (index < 0 || host == null || activator == null) {
+            throw new ReplayException("Out of sync at decision " + decision + ": the recorded ability of " + host + " wasn't found when recording");
+        }
+        final List<SpellAbility> candidates = DecisionRecorder.getCandidates(host, activator);
+        if (index >= candidates.size()) {
+            throw new ReplayException("Out of sync at decision " + decision + ": " + host + " has " + candidates.size() + " abilities, the recorded one was at " + index);
+        }
+        final SpellAbility sa = DecisionRecorder.withOptionalCosts(candidates.get(index), optionalCosts);
+        sa.setActivatingPlayer(activator, true);
+        return readAbilityChoices(sa);
+    }
+
+    public SpellAbility readAbilityChoices(final SpellAbility sa) {
+        final Integer x = readInteger();
+        if (x != null) {
+            sa.getRootAbility().setXManaCostPaid(x);
+        }
+        final int chainLength = readVarInt();
+        SpellAbility s = sa;
+        for (int i = 0; i < chainLength; i++) {
+            if (s == null) {
+                throw new ReplayException("Out of sync at decision " + decision + ": " + sa + " has fewer sub-abilities than recorded");
+            }
+            final int targets = readVarInt();
+            if (targets > 0) {
+                s.resetTargets();
+                for (int t = 1; t < targets; t++) {
+                    final GameObject target = readObject();
+                    final Integer divided = readInteger();
+                    s.getTargets().add(target);
+                    if (divided != null) {
+                        s.addDividedAllocation(target, divided);
+                    }
+                }
+            }
+            s = s.getSubAbility();
+        }
+        return sa;
+    }
+
+    private <T> T get(final Iterable<T> options, final int index) {
+        if (index == -1) {
+            return null;
+        }
+        int i = 0;
+        for (final T option : options) {
+            if (i++ == index) {
+                return option;
+            }
+        }
+        throw new ReplayException("Out of sync at decision " + decision + ": the recorded choice " + index + " is not one of the " + i + " options");
+    }
+
+    private int readVarInt() {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            if (pos >= data.length) {
+                throw new ReplayException("The recording ends in the middle of decision " + decision, !complete);
+            }
+            b = data[pos++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
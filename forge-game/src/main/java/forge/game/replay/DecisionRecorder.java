@@ -0,0 +1,362 @@
+package forge.game.replay;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.google.common.collect.Lists;
+
+import forge.game.Game;
+import forge.game.GameActionUtil;
+import forge.game.GameObject;
+import forge.game.card.Card;
+import forge.game.player.Player;
+import forge.game.spellability.OptionalCost;
+import forge.game.spellability.OptionalCostValue;
+import forge.game.spellability.SpellAbility;
+import forge.game.spellability.SpellAbilityStackInstance;
+
+/**
+ * Writes the decisions the players of a game make, for {@link DecisionPlayback} to give the same answers when the
+ * game is replayed.
+ * <p>
+ * Cards and players are written by id, the game hands out the same ids when it is played again with the same seed
+ * and decisions. Choices among options the game offers are written as the index of the option, spell abilities by the
+ * card they are on and their place among the abilities the card offers. A decision starts with the last card id the
+ * game handed out, which the playback checks, and ends with the number of ids handed out while making it, like for
+ * the cards the AI makes up to think about tokens, which the playback skips.
+ * </p>
+ * A decision made while making another one, like the optional costs the AI looks at while choosing what to play, is
+ * not written: the replayed game doesn't ask for it.
+ */
+public class DecisionRecorder {
+    private final Game game;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+    private int decisions = 0;
+    private int depth = 0;
+    private Game deciding = null;
+    private int lastCardId = 0;
+    private boolean finished = false;
+    private byte[] stopped = null;
+    private int stoppedDecisions = 0;
+
+    public DecisionRecorder(final Game game0) {
+        game = game0;
+    }
+
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * @return true while a decision is being made, the decisions made meanwhile are part of it.
+     */
+    public synchronized boolean isDeciding() {
+        return depth > 0;
+    }
+
+    public synchronized void begin(final Decision decision, final Player player) {
+        if (depth++ > 0) {
+            return;
+        }
+        deciding = player.getGame();
+        lastCardId = deciding.getLastCardId();
+        writeVarInt(decision.ordinal());
+        writeVarInt(player.getId());
+        writeVarInt(lastCardId);
+        decisions++;
+    }
+
+    public synchronized void end() {
+        if (--depth > 0) {
+            return;
+        }
+        writeVarInt(deciding.getLastCardId() - lastCardId);
+        deciding = null;
+    }
+
+    public synchronized int getDecisionCount() {
+        return stopped != null ? stoppedDecisions : decisions;
+    }
+
+    public synchronized byte[] toByteArray() {
+        return stopped != null ? stopped : out.toByteArray();
+    }
+
+    /**
+     * Marks the game as played to its end, replaying it has to end the same way.
+     */
+    public synchronized void setFinished() {
+        finished = stopped == null;
+    }
+
+    public synchronized boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Keeps the decisions made so far as the recording of a game stopped before its end, like one taking too long.
+     */
+    public synchronized void stop() {
+        if (stopped == null) {
+            stopped = out.toByteArray();
+            stoppedDecisions = decisions;
+        }
+    }
+
+    public synchronized boolean writeBoolean(final boolean value) {
+        out.write(value ? 1 : 0);
+        return value;
+    }
+
+    public synchronized int writeInt(final int value) {
+        writeVarInt((value << 1) ^ (value >> 31));
+        return value;
+    }
+
+    public synchronized Integer writeInteger(final Integer value) {
+        if (value == null) {
+            writeVarInt(0);
+        } else {
+            writeVarInt(((value << 1) ^ (value >> 31)) + 1);
+        }
+        return value;
+    }
+
+    public synchronized String writeString(final String value) {
+        if (value == null) {
+            writeVarInt(0);
+            return null;
+        }
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length + 1);
+        out.write(bytes, 0, bytes.length);
+        return value;
+    }
+
+    public synchronized Card writeCard(final Card card) {
+        writeInteger(card == null ? null : card.getId());
+        return card;
+    }
+
+    public synchronized <T extends Iterable<Card>> T writeCards(final T cards) {
+        if (cards == null) {
+            writeVarInt(0);
+            return null;
+        }
+        final List<Card> list = new ArrayList<>();
+        for (final Card c : cards) {
+            list.add(c);
+        }
+        writeVarInt(list.size() + 1);
+        for (final Card c : list) {
+            writeCard(c);
+        }
+        return cards;
+    }
+
+    public synchronized Player writePlayer(final Player player) {
+        writeVarInt(player == null ? 0 : player.getId() + 1);
+        return player;
+    }
+
+    /**
+     * Writes a card, a player or a spell on the stack, like the target of an ability.
+     */
+    public synchronized <T extends GameObject> T writeObject(final T o) {
+        if (o instanceof Card) {
+            writeVarInt(1);
+            writeCard((Card) o);
+        } else if (o instanceof Player) {
+            writeVarInt(2);
+            writePlayer((Player) o);
+        } else if (o instanceof SpellAbility) {
+            writeVarInt(3);
+            writeInt(getStackIndex(deciding, (SpellAbility) o));
+        } else {
+            writeVarInt(0);
+        }
+        return o;
+    }
+
+    /**
+     * Writes which of the options was chosen, -1 for none.
+     */
+    public synchronized <T> T writeChoice(final Iterable<?> options, final T chosen) {
+        writeInt(chosen == null ? -1 : indexOf(options, chosen));
+        return chosen;
+    }
+
+    public synchronized <T extends Iterable<?>> T writeChoices(final Iterable<?> options, final T chosen) {
+        if (chosen == null) {
+            writeVarInt(0);
+            return null;
+        }
+        final List<Object> list = new ArrayList<>();
+        for (final Object o : chosen) {
+            list.add(o);
+        }
+        writeVarInt(list.size() + 1);
+        for (final Object o : list) {
+            writeInt(indexOf(options, o));
+        }
+        return chosen;
+    }
+
+    public synchronized <K, V> Map<K, V> writeMapSize(final Map<K, V> map) {
+        writeVarInt(map == null ? 0 : map.size() + 1);
+        return map;
+    }
+
+    /**
+     * Writes a card with damage or another amount for it, like the combat damage an attacker assigns.
+     */
+    public synchronized Map<Card, Integer> writeCardAmounts(final Map<Card, Integer> amounts) {
+        writeMapSize(amounts);
+        if (amounts != null) {
+            for (final Entry<Card, Integer> e : amounts.entrySet()) {
+                writeCard(e.getKey());
+                writeInteger(e.getValue());
+            }
+        }
+        return amounts;
+    }
+
+    /**
+     * Writes the ability by the card it is on, followed by the choices made for it.
+     */
+    public synchronized SpellAbility writeAbility(final SpellAbility sa) {
+        if (sa == null) {
+            writeVarInt(0);
+            return null;
+        }
+        final Player activator = sa.getActivatingPlayer();
+        final List<OptionalCost> optionalCosts = Lists.newArrayList(sa.getOptionalCosts());
+        int index = -1;
+        if (sa.getHostCard() != null && activator != null) {
+            final String description = describe(sa);
+            final List<SpellAbility> candidates = getCandidates(sa.getHostCard(), activator);
+            for (int i = 0; i < candidates.size(); i++) {
+                final SpellAbility candidate = candidates.get(i);
+                if (candidate == sa || description.equals(describe(withOptionalCosts(candidate, optionalCosts)))) {
+                    index = i;
+                    break;
+                }
+            }
+        }
+        writeVarInt(1);
+        writeCard(sa.getHostCard());
+        writePlayer(activator);
+        writeInt(index);
+        writeVarInt(optionalCosts.size());
+        for (final OptionalCost cost : optionalCosts) {
+            writeVarInt(cost.ordinal());
+        }
+        writeAbilityChoices(sa);
+        return sa;
+    }
+
+    /**
+     * Writes the targets of the ability and its sub-abilities and the announced X, the choices the AI makes while
+     * deciding to play it.
+     */
+    public synchronized SpellAbility writeAbilityChoices(final SpellAbility sa) {
+        final SpellAbility root = sa.getRootAbility();
+        writeInteger(root.getXManaCostPaid());
+        int chainLength = 0;
+        for (SpellAbility s = sa; s != null; s = s.getSubAbility()) {
+            chainLength++;
+        }
+        writeVarInt(chainLength);
+        for (SpellAbility s = sa; s != null; s = s.getSubAbility()) {
+            if (!s.usesTargeting()) {
+                writeVarInt(0);
+                continue;
+            }
+            writeVarInt(s.getTargets().size() + 1);
+            for (final GameObject target : s.getTargets()) {
+                writeObject(target);
+                writeInteger(s.getTargets().getDividedValue(target));
+            }
+        }
+        return sa;
+    }
+
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    static int indexOf(final Iterable<?> options, final Object o) {
+        int i = 0;
+        for (final Object option : options) {
+            if (option == o) {
+                return i;
+            }
+            i++;
+        }
+        i = 0;
+        for (final Object option : options) {
+            if (o.equals(option)) {
+                return i;
+            }
+            i++;
+        }
+        return -2;
+    }
+
+    static int getStackIndex(final Game game, final SpellAbility sa) {
+        int i = 0;
+        for (final SpellAbilityStackInstance si : game.getStack()) {
+            if (si.getSpellAbility(false) == sa || si.getSpellAbility(false).getId() == sa.getId()) {
+                return i;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the abilities of the card like the AI looks them up, with their additional and alternative costs.
+     */
+    static List<SpellAbility> getCandidates(final Card host, final Player activator) {
+        final List<SpellAbility> result = new ArrayList<>();
+        for (final SpellAbility sa : host.getAllPossibleAbilities(activator, false)) {
+            sa.setActivatingPlayer(activator, true);
+            for (final SpellAbility withCosts : GameActionUtil.getAdditionalCostSpell(sa)) {
+                result.add(withCosts);
+                result.addAll(GameActionUtil.getAlternativeCosts(withCosts, activator));
+            }
+        }
+        return result;
+    }
+
+    static SpellAbility withOptionalCosts(final SpellAbility sa, final List<OptionalCost> costs) {
+        if (costs.isEmpty()) {
+            return sa;
+        }
+        final List<OptionalCostValue> chosen = new ArrayList<>();
+        for (final OptionalCostValue value : GameActionUtil.getOptionalCostValues(sa)) {
+            if (costs.contains(value.getType())) {
+                chosen.add(value);
+            }
+        }
+        if (chosen.size() != costs.size()) {
+            return sa;
+        }
+        final SpellAbility result = GameActionUtil.addOptionalCosts(sa, chosen);
+        result.setActivatingPlayer(sa.getActivatingPlayer(), true);
+        return result;
+    }
+
+    static String describe(final SpellAbility sa) {
+        return sa.getDescription() + '|' + sa.getAlternativeCost() + '|' + sa.getPayCosts() + '|'
+                + sa.getOptionalCosts() + '|' + (sa.getMayPlay() == null ? "" : sa.getMayPlay().toString());
+    }
+}
@@ -0,0 +1,274 @@
+package forge.game.replay;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import forge.deck.CardPool;
+import forge.deck.Deck;
+import forge.deck.DeckSection;
+import forge.game.Game;
+import forge.game.GameOutcome;
+import forge.game.GameType;
+
+/**
+ * What it takes to play the games of a match again: the seed of the match, the players with their decks and the
+ * decisions made in each game.
+ * <p>
+ * With the seed every shuffle and other random choice of the engine comes out the same, and with the decisions the
+ * players don't need to think again, so a replay runs the engine alone. The recording is written gzipped, the
+ * decisions of a game taking a few bytes each.
+ * </p>
+ */
+public class MatchRecording {
+    private static final int MAGIC = 0x46524543; // FREC
+    private static final int VERSION = 2;
+
+    private final long seed;
+    private final GameType gameType;
+    private final List<RecordedPlayer> players = new ArrayList<>();
+    private final List<RecordedGame> games = new ArrayList<>();
+
+    public MatchRecording(final long seed0, final GameType gameType0) {
+        seed = seed0;
+        gameType = gameType0;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public GameType getGameType() {
+        return gameType;
+    }
+
+    public void addPlayer(final String name, final String aiProfile, final int startingLife, final int team, final Deck deck) {
+        players.add(new RecordedPlayer(name, aiProfile, startingLife, team, deck));
+    }
+
+    public List<RecordedPlayer> getPlayers() {
+        return Collections.unmodifiableList(players);
+    }
+
+    /**
+     * @return the recorder for the decisions of a new game of the match.
+     */
+    public synchronized DecisionRecorder recordGame(final Game game) {
+        final RecordedGame recorded = new RecordedGame();
+        recorded.recorder = new DecisionRecorder(game);
+        games.add(recorded);
+        return recorded.recorder;
+    }
+
+    /**
+     * @return the games recorded so far, with their decisions and outcome up to now.
+     */
+    public synchronized List<RecordedGame> getGames() {
+        for (final RecordedGame game : games) {
+            game.update();
+        }
+        return new ArrayList<>(games);
+    }
+
+    /**
+     * @return the playback of the decisions of a recorded game, null past the last one.
+     */
+    public synchronized DecisionPlayback replayGame(final int index) {
+        if (index >= games.size()) {
+            return null;
+        }
+        final RecordedGame game = games.get(index);
+        game.update();
+        return new DecisionPlayback(game.decisions, game.decisionCount, game.finished);
+    }
+
+    public void write(final File file) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            write(out);
+        }
+    }
+
+    public synchronized void write(final OutputStream out0) throws IOException {
+        final GZIPOutputStream zip = new GZIPOutputStream(out0);
+        final DataOutputStream out = new DataOutputStream(zip);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(seed);
+        out.writeUTF(gameType.name());
+        out.writeInt(players.size());
+        for (final RecordedPlayer p : players) {
+            out.writeUTF(p.name);
+            out.writeUTF(p.aiProfile);
+            out.writeInt(p.startingLife);
+            out.writeInt(p.team);
+            out.writeUTF(p.deck.getName());
+            final List<Entry<DeckSection, CardPool>> sections = new ArrayList<>();
+            for (final Entry<DeckSection, CardPool> section : p.deck) {
+                sections.add(section);
+            }
+            out.writeInt(sections.size());
+            for (final Entry<DeckSection, CardPool> section : sections) {
+                out.writeUTF(section.getKey().name());
+                writeLongUTF(out, section.getValue().toCardList("\n"));
+            }
+        }
+        out.writeInt(games.size());
+        for (final RecordedGame game : games) {
+            game.update();
+            out.writeBoolean(game.finished);
+            out.writeUTF(game.winner == null ? "" : game.winner);
+            out.writeInt(game.turns);
+            out.writeInt(game.decisionCount);
+            out.writeInt(game.decisions.length);
+            out.write(game.decisions);
+        }
+        out.flush();
+        zip.finish();
+    }
+
+    public static MatchRecording read(final File file) throws IOException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            return read(in);
+        }
+    }
+
+    public static MatchRecording read(final InputStream in0) throws IOException {
+        final DataInputStream in = new DataInputStream(new GZIPInputStream(in0));
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a match recording");
+        }
+        final int version = in.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported match recording version " + version);
+        }
+        final MatchRecording recording = new MatchRecording(in.readLong(), GameType.valueOf(in.readUTF()));
+        for (int n = in.readInt(); n > 0; n--) {
+            final String name = in.readUTF();
+            final String aiProfile = in.readUTF();
+            final int startingLife = in.readInt();
+            final int team = in.readInt();
+            final Deck deck = new Deck(in.readUTF());
+            for (int s = in.readInt(); s > 0; s--) {
+                final DeckSection section = DeckSection.valueOf(in.readUTF());
+                final String cards = readLongUTF(in);
+                deck.getOrCreate(section).addAll(CardPool.fromCardList(Arrays.asList(cards.split("\n"))));
+            }
+            recording.addPlayer(name, aiProfile, startingLife, team, deck);
+        }
+        for (int n = in.readInt(); n > 0; n--) {
+            final RecordedGame game = new RecordedGame();
+            game.finished = in.readBoolean();
+            game.winner = in.readUTF();
+            game.turns = in.readInt();
+            game.decisionCount = in.readInt();
+            game.decisions = new byte[in.readInt()];
+            in.readFully(game.decisions);
+            recording.games.add(game);
+        }
+        return recording;
+    }
+
+    private static void writeLongUTF(final DataOutputStream out, final String s) throws IOException {
+        final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readLongUTF(final DataInputStream in) throws IOException {
+        final byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static final class RecordedPlayer {
+        private final String name;
+        private final String aiProfile;
+        private final int startingLife;
+        private final int team;
+        private final Deck deck;
+
+        private RecordedPlayer(final String name0, final String aiProfile0, final int startingLife0, final int team0, final Deck deck0) {
+            name = name0;
+            aiProfile = aiProfile0 == null ? "" : aiProfile0;
+            startingLife = startingLife0;
+            team = team0;
+            deck = deck0;
+        }
+
+        public String getName() {
+            return name;
+        }
+        public String getAiProfile() {
+            return aiProfile;
+        }
+        public int getStartingLife() {
+            return startingLife;
+        }
+        public int getTeam() {
+            return team;
+        }
+        public Deck getDeck() {
+            return deck;
+        }
+    }
+
+    public static final class RecordedGame {
+        private DecisionRecorder recorder;
+        private byte[] decisions = new byte[0];
+        private int decisionCount;
+        private boolean finished;
+        private String winner = "";
+        private int turns;
+
+        // takes the decisions and the outcome so far of a game being recorded
+        private void update() {
+            if (recorder == null) {
+                return;
+            }
+            decisions = recorder.toByteArray();
+            decisionCount = recorder.getDecisionCount();
+            final Game game = recorder.getGame();
+            finished = recorder.isFinished();
+            final GameOutcome outcome = finished ? game.getOutcome() : null;
+            winner = outcome == null || outcome.isDraw() ? "" : outcome.getWinningLobbyPlayer().getName();
+            turns = outcome == null ? game.getPhaseHandler().getTurn() : outcome.getLastTurnNumber();
+        }
+
+        public int getDecisionCount() {
+            return decisionCount;
+        }
+        public int getSize() {
+            return decisions.length;
+        }
+        /**
+         * @return false if the game was stopped before it was over.
+         */
+        public boolean isFinished() {
+            return finished;
+        }
+        /**
+         * @return the name of the player who won, empty for a draw.
+         */
+        public String getWinner() {
+            return winner;
+        }
+        public int getTurns() {
+            return turns;
+        }
+    }
+}
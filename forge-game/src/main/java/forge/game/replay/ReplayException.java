@@ -0,0 +1,27 @@
+package forge.game.replay;
+
+/**
+ * Thrown when a replayed game asks for a decision the recording doesn't have, which means it went another way than
+ * the recorded game.
+ */
+public class ReplayException extends RuntimeException {
+    private static final long serialVersionUID = -4871726403513954162L;
+
+    private final boolean endOfRecording;
+
+    public ReplayException(final String message) {
+        this(message, false);
+    }
+
+    public ReplayException(final String message, final boolean endOfRecording0) {
+        super(message);
+        endOfRecording = endOfRecording0;
+    }
+
+    /**
+     * @return true if the game used up the decisions of the recording, like a game stopped before it was over.
+     */
+    public boolean isEndOfRecording() {
+        return endOfRecording;
+    }
+}
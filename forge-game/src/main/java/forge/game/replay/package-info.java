@@ -0,0 +1,3 @@
+/** Forge Card Game. */
+package forge.game.replay;
+
@@ -25,6 +25,9 @@ public class SpellAbilityView extends TrackableObject implements IHasCardView {
         return spellViewCache;
     }
 
+    // description put off while the tracker is detached
+    private transient SpellAbility pendingDescription;
+
     SpellAbilityView(final SpellAbility sa) {
         this(sa, sa.getHostCard() == null || sa.getHostCard().getGame() == null ? null : sa.getHostCard().getGame().getTracker());
     }
@@ -51,9 +54,22 @@ public class SpellAbilityView extends TrackableObject implements IHasCardView {
         return get(TrackableProperty.Description);
     }
     void updateDescription(SpellAbility sa) {
+        if (isDetached()) {
+            pendingDescription = sa;
+            markStale();
+            return;
+        }
         set(TrackableProperty.Description, sa.toUnsuppressedString());
     }
 
+    @Override
+    protected void materialize() {
+        if (pendingDescription != null) {
+            set(TrackableProperty.Description, pendingDescription.toUnsuppressedString());
+            pendingDescription = null;
+        }
+    }
+
     public boolean canPlay() {
         return get(TrackableProperty.CanPlay);
     }
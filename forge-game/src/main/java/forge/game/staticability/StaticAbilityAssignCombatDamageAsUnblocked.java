@@ -2,7 +2,6 @@ package forge.game.staticability;
 
 import forge.game.Game;
 import forge.game.card.Card;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilityAssignCombatDamageAsUnblocked {
 
@@ -14,25 +13,23 @@ public class StaticAbilityAssignCombatDamageAsUnblocked {
 
     public static boolean assignCombatDamageAsUnblocked(final Card card, final boolean optional)  {
         final Game game = card.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
+        for (final StaticAbility stAb : game.getStaticAbilityRegistry().getAbilities(MODE)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
+
+            if (stAb.hasParam("Optional")) {
+                if (!optional) {
                     continue;
                 }
-
-                if (stAb.hasParam("Optional")) {
-                    if (!optional) {
-                        continue;
-                    }
-                } else {
-                    if (optional) {
-                        continue;
-                    }
+            } else {
+                if (optional) {
+                    continue;
                 }
+            }
 
-                if (applyAssignCombatDamageAsUnblocked(stAb, card)) {
-                    return true;
-                }
+            if (applyAssignCombatDamageAsUnblocked(stAb, card)) {
+                return true;
             }
         }
         return false;
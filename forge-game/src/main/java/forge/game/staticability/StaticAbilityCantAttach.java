@@ -2,7 +2,6 @@ package forge.game.staticability;
 
 import forge.game.GameEntity;
 import forge.game.card.Card;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilityCantAttach {
 
@@ -10,15 +9,13 @@ public class StaticAbilityCantAttach {
 
     public static boolean cantAttach(final GameEntity target, final Card card, boolean checkSBA) {
         // CantTarget static abilities
-        for (final Card ca : target.getGame().getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
-
-                if (applyCantAttachAbility(stAb, card, target, checkSBA)) {
-                    return true;
-                }
+        for (final StaticAbility stAb : target.getGame().getStaticAbilityRegistry().getAbilities(MODE)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
+
+            if (applyCantAttachAbility(stAb, card, target, checkSBA)) {
+                return true;
             }
         }
         return false;
@@ -50,15 +50,13 @@ public class StaticAbilityCantAttackBlock {
             return true;
         }
 
-        for (final Card ca : attacker.getGame().getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(CantAttackMode)) {
-                    continue;
-                }
+        for (final StaticAbility stAb : attacker.getGame().getStaticAbilityRegistry().getAbilities(CantAttackMode)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
 
-                if (applyCantAttackAbility(stAb, attacker, defender)) {
-                    return true;
-                }
+            if (applyCantAttackAbility(stAb, attacker, defender)) {
+                return true;
             }
         }
         return false;
@@ -123,14 +121,12 @@ public class StaticAbilityCantAttackBlock {
     }
 
     public static boolean cantBlockBy(final Card attacker, final Card blocker) {
-        for (final Card ca : attacker.getGame().getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(CantBlockByMode)) {
-                    continue;
-                }
-                if (applyCantBlockByAbility(stAb, attacker, blocker)) {
-                    return true;
-                }
+        for (final StaticAbility stAb : attacker.getGame().getStaticAbilityRegistry().getAbilities(CantBlockByMode)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
+            if (applyCantBlockByAbility(stAb, attacker, blocker)) {
+                return true;
             }
         }
         return false;
@@ -183,14 +179,12 @@ public class StaticAbilityCantAttackBlock {
     }
 
     public static boolean canBlockIfReach(final Card attacker, final Card blocker) {
-        for (final Card ca : attacker.getGame().getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(CanBlockIfReachMode)) {
-                    continue;
-                }
-                if (applyCanBlockIfReachAbility(stAb, attacker, blocker)) {
-                    return true;
-                }
+        for (final StaticAbility stAb : attacker.getGame().getStaticAbilityRegistry().getAbilities(CanBlockIfReachMode)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
+            if (applyCanBlockIfReachAbility(stAb, attacker, blocker)) {
+                return true;
             }
         }
         return false;
@@ -275,14 +269,12 @@ public class StaticAbilityCantAttackBlock {
         if (!attacker.isSick()) {
             return true;
         }
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(CanAttackIfHasteMode)) {
-                    continue;
-                }
-                if (applyCanAttackHasteAbility(stAb, attacker, defender)) {
-                    return true;
-                }
+        for (final StaticAbility stAb : game.getStaticAbilityRegistry().getAbilities(CanAttackIfHasteMode)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
+            if (applyCanAttackHasteAbility(stAb, attacker, defender)) {
+                return true;
             }
         }
         return false;
@@ -309,13 +301,11 @@ public class StaticAbilityCantAttackBlock {
         }
 
         final Game game = attacker.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MinMaxBlockerMode)) {
-                    continue;
-                }
-                applyMinMaxBlockerAbility(stAb, attacker, defender, result);
+        for (final StaticAbility stAb : game.getStaticAbilityRegistry().getAbilities(MinMaxBlockerMode)) {
+            if (!stAb.checkConditions()) {
+                continue;
             }
+            applyMinMaxBlockerAbility(stAb, attacker, defender, result);
         }
         if (attacker.hasKeyword("CARDNAME can't be blocked unless all creatures defending player controls block it.")) {
             if (defender != null) {
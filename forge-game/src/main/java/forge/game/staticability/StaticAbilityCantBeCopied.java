@@ -19,7 +19,6 @@ package forge.game.staticability;
 
 import forge.game.Game;
 import forge.game.card.Card;
-import forge.game.zone.ZoneType;
 
 /**
  * The Class StaticAbility_CantBeCopied.
@@ -30,14 +29,12 @@ public class StaticAbilityCantBeCopied {
 
     public static boolean cantBeCopied(final Card c) {
         final Game game = c.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
-                if (cantBeCopiedCheck(stAb, c)) {
-                    return true;
-                }
+        for (final StaticAbility stAb : game.getStaticAbilityRegistry().getAbilities(MODE)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
+            if (cantBeCopiedCheck(stAb, c)) {
+                return true;
             }
         }
         return false;
@@ -1,10 +1,8 @@
 package forge.game.staticability;
 
 import forge.game.Game;
-import forge.game.card.Card;
 import forge.game.player.Player;
 import forge.game.spellability.SpellAbility;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilityCantGainLosePayLife {
 
@@ -14,12 +12,8 @@ public class StaticAbilityCantGainLosePayLife {
 
     public static boolean anyCantGainLife(final Player player) {
         final Game game = player.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!(stAb.checkMode(MODE_CANT_GAIN_LIFE) || stAb.checkMode(MODE_CANT_CHANGE_LIFE))) {
-                    continue;
-                }
-
+        for (final String mode : new String[] { MODE_CANT_GAIN_LIFE, MODE_CANT_CHANGE_LIFE }) {
+            for (final StaticAbility stAb : game.getStaticAbilityRegistry().getAbilities(mode)) {
                 if (!stAb.checkConditions()) {
                     continue;
                 }
@@ -34,15 +28,13 @@ public class StaticAbilityCantGainLosePayLife {
 
     public static boolean anyCantLoseLife(final Player player)  {
         final Game game = player.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE_CANT_CHANGE_LIFE)) {
-                    continue;
-                }
+        for (final StaticAbility stAb : game.getStaticAbilityRegistry().getAbilities(MODE_CANT_CHANGE_LIFE)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
 
-                if (applyCommonAbility(stAb, player)) {
-                    return true;
-                }
+            if (applyCommonAbility(stAb, player)) {
+                return true;
             }
         }
 
@@ -51,12 +43,8 @@ public class StaticAbilityCantGainLosePayLife {
 
     public static boolean anyCantPayLife(final Player player, final boolean effect, final SpellAbility cause)  {
         final Game game = player.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!(stAb.checkMode(MODE_CANT_PAY_LIFE) || stAb.checkMode(MODE_CANT_CHANGE_LIFE))) {
-                    continue;
-                }
-
+        for (final String mode : new String[] { MODE_CANT_PAY_LIFE, MODE_CANT_CHANGE_LIFE }) {
+            for (final StaticAbility stAb : game.getStaticAbilityRegistry().getAbilities(mode)) {
                 if (!stAb.checkConditions()) {
                     continue;
                 }
@@ -11,6 +11,7 @@ import forge.game.trigger.TriggerType;
 import forge.game.zone.ZoneType;
 import org.apache.commons.lang3.ArrayUtils;
 
+import java.util.List;
 import java.util.Map;
 
 public class StaticAbilityDisableTriggers {
@@ -18,6 +19,7 @@ public class StaticAbilityDisableTriggers {
     static String MODE = "DisableTriggers";
 
     public static boolean disabled(final Game game, final Trigger regtrig, final Map<AbilityKey, Object> runParams)  {
+        final List<StaticAbility> abilities;
         CardCollectionView cardList = null;
         // if LTB look back
         if ((regtrig.getMode() == TriggerType.ChangesZone || regtrig.getMode() == TriggerType.ChangesZoneAll) && "Battlefield".equals(regtrig.getParam("Origin"))) {
@@ -27,19 +29,18 @@ public class StaticAbilityDisableTriggers {
             if (cardList == null) {
                 cardList = game.getLastStateBattlefield();
             }
+            abilities = StaticAbilityRegistry.getAbilities(MODE, cardList);
         } else {
-            cardList = game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES);
+            abilities = game.getStaticAbilityRegistry().getAbilities(MODE);
         }
 
-        for (final Card ca : cardList) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
+        for (final StaticAbility stAb : abilities) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
 
-                if (isDisabled(stAb, regtrig, runParams)) {
-                    return true;
-                }
+            if (isDisabled(stAb, regtrig, runParams)) {
+                return true;
             }
         }
         return false;
@@ -2,7 +2,6 @@ package forge.game.staticability;
 
 import forge.game.Game;
 import forge.game.card.Card;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilityIgnoreLegendRule {
 
@@ -10,15 +9,13 @@ public class StaticAbilityIgnoreLegendRule {
 
     public static boolean ignoreLegendRule(final Card card)  {
         final Game game = card.getGame();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
+        for (final StaticAbility stAb : game.getStaticAbilityRegistry().getAbilities(MODE)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
 
-                if (applyIgnoreLegendRuleAbility(stAb, card)) {
-                    return true;
-                }
+            if (applyIgnoreLegendRuleAbility(stAb, card)) {
+                return true;
             }
         }
         return false;
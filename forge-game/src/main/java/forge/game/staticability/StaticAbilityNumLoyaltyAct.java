@@ -3,7 +3,6 @@ package forge.game.staticability;
 import forge.game.ability.AbilityUtils;
 import forge.game.card.Card;
 import forge.game.spellability.SpellAbility;
-import forge.game.zone.ZoneType;
 
 /**
  * The Class StaticAbility_NumLoyaltyAct.
@@ -14,15 +13,13 @@ public class StaticAbilityNumLoyaltyAct {
     static String MODE = "NumLoyaltyAct";
 
     public static boolean limitIncrease(final Card card) {
-        for (final Card ca : card.getGame().getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
+        for (final StaticAbility stAb : card.getGame().getStaticAbilityRegistry().getAbilities(MODE)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
 
-                if (applyLimitIncrease(stAb, card)) {
-                    return true;
-                }
+            if (applyLimitIncrease(stAb, card)) {
+                return true;
             }
         }
         return false;
@@ -42,23 +39,21 @@ public class StaticAbilityNumLoyaltyAct {
 
     public static int additionalActivations(final Card card, final SpellAbility sa) {
         int addl = 0;
-        for (final Card ca : card.getGame().getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
-                if (!stAb.matchesValidParam("ValidCard", card)) {
-                    continue;
-                }
-                if (stAb.hasParam("Additional")) {
-                    if (stAb.hasParam("OnlySourceAbs")) {
-                        if (!stAb.getHostCard().getEffectSourceAbility().getRootAbility().equals(sa)) {
-                            continue;
-                        }
+        for (final StaticAbility stAb : card.getGame().getStaticAbilityRegistry().getAbilities(MODE)) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
+            if (!stAb.matchesValidParam("ValidCard", card)) {
+                continue;
+            }
+            if (stAb.hasParam("Additional")) {
+                if (stAb.hasParam("OnlySourceAbs")) {
+                    if (!stAb.getHostCard().getEffectSourceAbility().getRootAbility().equals(sa)) {
+                        continue;
                     }
-                    int more = AbilityUtils.calculateAmount(card, stAb.getParam("Additional"), stAb);
-                    addl += more;
                 }
+                int more = AbilityUtils.calculateAmount(card, stAb.getParam("Additional"), stAb);
+                addl += more;
             }
         }
         return addl;
@@ -13,6 +13,7 @@ import forge.game.trigger.Trigger;
 import forge.game.trigger.TriggerType;
 import forge.game.zone.ZoneType;
 
+import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang3.ArrayUtils;
@@ -35,6 +36,7 @@ public class StaticAbilityPanharmonicon {
             return n;
         }
 
+        final List<StaticAbility> abilities;
         CardCollectionView cardList = null;
         // if LTB look back
         if ((t.getMode() == TriggerType.ChangesZone || t.getMode() == TriggerType.ChangesZoneAll) && "Battlefield".equals(t.getParam("Origin"))) {
@@ -44,19 +46,18 @@ public class StaticAbilityPanharmonicon {
             if (cardList == null) {
                 cardList = game.getLastStateBattlefield();
             }
+            abilities = StaticAbilityRegistry.getAbilities(MODE, cardList);
         } else {
-            cardList = game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES);
+            abilities = game.getStaticAbilityRegistry().getAbilities(MODE);
         }
 
         // Checks only the battlefield, as those effects only work from there
-        for (final Card ca : cardList) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
-                if (applyPanharmoniconAbility(stAb, t, runParams)) {
-                    n++;
-                }
+        for (final StaticAbility stAb : abilities) {
+            if (!stAb.checkConditions()) {
+                continue;
+            }
+            if (applyPanharmoniconAbility(stAb, t, runParams)) {
+                n++;
             }
         }
 
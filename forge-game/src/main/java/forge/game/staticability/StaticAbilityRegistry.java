@@ -0,0 +1,197 @@
+package forge.game.staticability;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.zone.ZoneType;
+
+/**
+ * The static abilities of the cards in the zones static abilities work from, grouped by their mode.
+ * <p>
+ * Rule checks like CantBeCast or MustAttack used to collect every card of those zones and go over all of their
+ * static abilities for the few of the right mode. The registry keeps the abilities of each mode in the order that
+ * scan found them, and builds them again after a card enters or leaves one of the zones, a player leaves the game or
+ * the state of a card in them changes, which covers the abilities it gains and loses.
+ * </p>
+ * The lists handed out are never changed, so a check can go on with its list while a rule it applies changes the
+ * game.
+ */
+public class StaticAbilityRegistry {
+    private final Game game;
+    private volatile Index index;
+    private volatile int generation;
+
+    private long queries, rebuilds, abilitiesScanned, abilitiesInZones;
+
+    public StaticAbilityRegistry(final Game game0) {
+        game = game0;
+    }
+
+    /**
+     * Drops the abilities found so far, they are looked up again on the next query.
+     */
+    public void invalidate() {
+        generation++;
+        index = null;
+    }
+
+    /**
+     * Drops the abilities found so far if the card was in one of the zones when they were found.
+     */
+    public void cardChanged(final Card c) {
+        final Index current = index;
+        if (current == null || current.cards.contains(c)) {
+            invalidate(); // without an index it may be looking for the abilities right now
+        }
+    }
+
+    /**
+     * @return the static abilities of the mode on the cards in STATIC_ABILITIES_SOURCE_ZONES, in the order of
+     * Game.getCardsIn, without checking their conditions.
+     */
+    public List<StaticAbility> getAbilities(final String mode) {
+        final Index current = getIndex();
+        final List<StaticAbility> result = current.byMode.get(mode);
+        return count(current, result == null ? Collections.<StaticAbility>emptyList() : result);
+    }
+
+    /**
+     * @return the static abilities of the mode like getAbilities(mode), followed by the ones of the card if neither
+     * it nor a card with the same id is in those zones, like a spell about to be cast.
+     */
+    public List<StaticAbility> getAbilities(final String mode, final Card card) {
+        final Index current = getIndex();
+        List<StaticAbility> result = current.byMode.get(mode);
+        if (result == null) {
+            result = Collections.emptyList();
+        }
+        if (!current.ids.contains(card.getId())) {
+            List<StaticAbility> withCard = null;
+            for (final StaticAbility stAb : card.getStaticAbilities()) {
+                if (stAb.checkMode(mode)) {
+                    if (withCard == null) {
+                        withCard = new ArrayList<>(result);
+                    }
+                    withCard.add(stAb);
+                }
+            }
+            if (withCard != null) {
+                result = withCard;
+            }
+        }
+        return count(current, result);
+    }
+
+    /**
+     * @return the static abilities of the mode on the cards in one of the zones, in the order of Game.getCardsIn.
+     */
+    public List<StaticAbility> getAbilities(final String mode, final ZoneType zone) {
+        final Index current = getIndex();
+        final Map<String, List<StaticAbility>> inZone = current.byZone.get(zone);
+        final List<StaticAbility> result = inZone == null ? null : inZone.get(mode);
+        return count(current, result == null ? Collections.<StaticAbility>emptyList() : result);
+    }
+
+    /**
+     * @return true if the card, or a card with the same id, is one Game.getCardsIn finds in the zone.
+     */
+    public boolean isIn(final Card c, final ZoneType zone) {
+        final Set<Integer> inZone = getIndex().idsByZone.get(zone);
+        return inZone != null && inZone.contains(c.getId());
+    }
+
+    /**
+     * @return the static abilities of the mode on other cards, like the last known state of the battlefield.
+     */
+    public static List<StaticAbility> getAbilities(final String mode, final Iterable<Card> cards) {
+        final List<StaticAbility> result = new ArrayList<>();
+        for (final Card c : cards) {
+            for (final StaticAbility stAb : c.getStaticAbilities()) {
+                if (stAb.checkMode(mode)) {
+                    result.add(stAb);
+                }
+            }
+        }
+        return result;
+    }
+
+    private List<StaticAbility> count(final Index current, final List<StaticAbility> result) {
+        queries++;
+        abilitiesScanned += result.size();
+        abilitiesInZones += current.size;
+        return result;
+    }
+
+    private Index getIndex() {
+        Index current = index;
+        if (current != null) {
+            return current;
+        }
+        final int started = generation;
+        current = new Index();
+        for (final ZoneType zone : ZoneType.STATIC_ABILITIES_SOURCE_ZONES) {
+            final Map<String, List<StaticAbility>> inZone = new HashMap<>();
+            current.byZone.put(zone, inZone);
+            // phased out cards are watched as well, phasing in changes their state
+            for (final Card c : game.getCardsIncludePhasingIn(zone)) {
+                current.cards.add(c);
+            }
+            final Set<Integer> ids = new HashSet<>();
+            current.idsByZone.put(zone, ids);
+            for (final Card c : game.getCardsIn(zone)) {
+                ids.add(c.getId());
+                current.ids.add(c.getId());
+                for (final StaticAbility stAb : c.getStaticAbilities()) {
+                    final String mode = stAb.getParam("Mode");
+                    add(current.byMode, mode, stAb);
+                    add(inZone, mode, stAb);
+                    current.size++;
+                }
+            }
+        }
+        rebuilds++;
+        // a change while looking for the abilities leaves the result for this query only
+        if (generation == started) {
+            index = current;
+        }
+        return current;
+    }
+
+    private static void add(final Map<String, List<StaticAbility>> map, final String mode, final StaticAbility stAb) {
+        List<StaticAbility> list = map.get(mode);
+        if (list == null) {
+            list = new ArrayList<>();
+            map.put(mode, list);
+        }
+        list.add(stAb);
+    }
+
+    /**
+     * @return how many queries the registry answered, how often it looked for the abilities, and how many abilities
+     * the queries went over compared to the ones going over every static ability in the zones would have.
+     */
+    public String getStats() {
+        return String.format("%d queries, %d rebuilds, %d static abilities scanned instead of %d (%.2f per query instead of %.2f)",
+                queries, rebuilds, abilitiesScanned, abilitiesInZones,
+                queries == 0 ? 0.0 : (double) abilitiesScanned / queries,
+                queries == 0 ? 0.0 : (double) abilitiesInZones / queries);
+    }
+
+    private static final class Index {
+        private final Map<String, List<StaticAbility>> byMode = new HashMap<>();
+        private final Map<ZoneType, Map<String, List<StaticAbility>>> byZone = new EnumMap<>(ZoneType.class);
+        private final Set<Card> cards = Collections.newSetFromMap(new IdentityHashMap<Card, Boolean>());
+        private final Set<Integer> ids = new HashSet<>();
+        private final Map<ZoneType, Set<Integer>> idsByZone = new EnumMap<>(ZoneType.class);
+        private int size;
+    }
+}
@@ -8,9 +8,7 @@ import com.google.common.collect.Sets;
 import forge.card.MagicColor;
 import forge.card.mana.ManaAtom;
 import forge.game.Game;
-import forge.game.card.Card;
 import forge.game.player.Player;
-import forge.game.zone.ZoneType;
 
 public class StaticAbilityUnspentMana {
 
@@ -19,13 +17,11 @@ public class StaticAbilityUnspentMana {
     public static Collection<Byte> getManaToKeep(final Player player) {
         final Game game = player.getGame();
         Set<Byte> result = Sets.newHashSet();
-        for (final Card ca : game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES)) {
-            for (final StaticAbility stAb : ca.getStaticAbilities()) {
-                if (!stAb.checkConditions(MODE)) {
-                    continue;
-                }
-                applyUnspentManaAbility(stAb, player, result);
+        for (final StaticAbility stAb : game.getStaticAbilityRegistry().getAbilities(MODE)) {
+            if (!stAb.checkConditions()) {
+                continue;
             }
+            applyUnspentManaAbility(stAb, player, result);
         }
         return result;
     }
@@ -35,11 +35,11 @@ import forge.game.card.Card;
 import forge.game.card.CardCollection;
 import forge.game.card.CardCollectionView;
 import forge.game.card.CardUtil;
+import forge.game.card.CombinedCardCollectionView;
 import forge.game.event.EventValueChangeType;
 import forge.game.event.GameEventZone;
 import forge.game.player.Player;
 import forge.util.CollectionSuppliers;
-import forge.util.MyRandom;
 import forge.util.maps.EnumMapOfLists;
 import forge.util.maps.MapOfLists;
 
@@ -58,6 +58,10 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
     protected final ZoneType zoneType;
     protected final Game game;
 
+    // copies of the cards for callers reading several zones at once, until the zone changes
+    private transient volatile CardCollectionView snapshot, unfilteredSnapshot;
+    private transient volatile int changes;
+
     protected final transient MapOfLists<ZoneType, Card> cardsAddedThisTurn = new EnumMapOfLists<>(ZoneType.class, CollectionSuppliers.arrayLists());
     protected final transient MapOfLists<ZoneType, Card> cardsAddedLastTurn = new EnumMapOfLists<>(ZoneType.class, CollectionSuppliers.arrayLists());
 
@@ -69,6 +73,20 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
     protected void onChanged() {
     }
 
+    private void cardsChanged() {
+        changes++;
+        snapshot = null;
+        unfilteredSnapshot = null;
+        game.onCardsInZonesChanged(zoneType);
+    }
+
+    /**
+     * Called when a card in the zone phases in or out, which changes the cards getCards(true) returns.
+     */
+    public final void onCardPhased() {
+        cardsChanged();
+    }
+
     public Player getPlayer() { // generic zones like stack have no player associated
         return null;
     }
@@ -76,6 +94,7 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
     public final void reorder(final Card c, final int index) {
         cardList.remove(c);
         cardList.add(index, c);
+        cardsChanged();
     }
 
     public final void add(final Card c) {
@@ -130,6 +149,7 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
                 cardList.add(index.intValue(), c);
             }
         }
+        cardsChanged();
         onChanged();
 
         game.fireEvent(new GameEventZone(zoneType, getPlayer(), EventValueChangeType.Added, c));
@@ -145,6 +165,7 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
 
     public void remove(final Card c) {
         if (cardList.remove(c)) {
+            cardsChanged();
             onChanged();
             game.fireEvent(new GameEventZone(zoneType, getPlayer(), EventValueChangeType.Removed, c));
         }
@@ -156,6 +177,7 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
             c.setZone(this);
             cardList.add(c);
         }
+        cardsChanged();
         onChanged();
         game.fireEvent(new GameEventZone(zoneType, getPlayer(), EventValueChangeType.ComplexUpdate, null));
     }
@@ -163,6 +185,7 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
     public final void removeAllCards(boolean forcedWithoutEvents) {
         if (forcedWithoutEvents) {
             cardList.clear();
+            cardsChanged();
         } else {
             for (Card c : cardList) {
                 remove(c);
@@ -198,6 +221,28 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
         return cardList; // Non-Battlefield PlayerZones don't care about the filter
     }
 
+    /**
+     * @return the cards of getCards(filter) in a collection that doesn't change, kept until the zone changes. Callers
+     * combining several zones share it instead of copying the zone every time.
+     */
+    public final CardCollectionView getCardsSnapshot(final boolean filter) {
+        CardCollectionView result = filter ? snapshot : unfilteredSnapshot;
+        if (result != null) {
+            return result;
+        }
+        final int started = changes;
+        final CardCollectionView cards = getCards(filter);
+        result = CombinedCardCollectionView.readOnly(new CardCollection(cards));
+        if (changes == started) {
+            if (filter) {
+                snapshot = result;
+            } else {
+                unfilteredSnapshot = result;
+            }
+        }
+        return result;
+    }
+
     public final boolean isEmpty() {
         return cardList.isEmpty();
     }
@@ -272,7 +317,8 @@ public class Zone implements java.io.Serializable, Iterable<Card> {
     }
 
     public void shuffle() {
-        Collections.shuffle(cardList, MyRandom.getRandom());
+        Collections.shuffle(cardList, game.getRandom());
+        cardsChanged();
         onChanged();
     }
 
@@ -1,6 +1,9 @@
 package forge.trackable;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.Collection;
 import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.Map;
@@ -18,6 +21,8 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
     private final Map<TrackableProperty, Object> props;
     private final Set<TrackableProperty> changedProps;
     private boolean copyingProps;
+    private transient boolean stale;
+    private transient int changeCount;
 
     protected TrackableObject(final int id0, final Tracker tracker) {
         id = id0;
@@ -50,13 +55,58 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
         return o.hashCode() == id && o.getClass().equals(getClass());
     }
 
+    /**
+     * @return a number that goes up whenever a property of this object changes, for views to tell whether what they
+     * drew from it is still current.
+     */
+    public final int getChangeCount() {
+        ensureMaterialized();
+        return changeCount;
+    }
+
     // don't know if this is really needed, but don't know a better way
     public <T> T getProps() {
+        ensureMaterialized();
         return (T)props;
     }
 
+    /**
+     * Flags this object as having updates that were put off while its tracker is detached,
+     * they will be applied by {@link #materialize()} as soon as any property is read.
+     */
+    protected final void markStale() {
+        stale = true;
+    }
+
+    /**
+     * @return true if nobody is looking at this object right now, so updates that are expensive to compute may be put off.
+     */
+    protected final boolean isDetached() {
+        return tracker != null && tracker.isDetached();
+    }
+
+    /**
+     * Applies the updates put off while the tracker was detached.
+     */
+    protected void materialize() {
+    }
+
+    private void ensureMaterialized() {
+        if (stale) {
+            stale = false;
+            materialize();
+        }
+    }
+
+    // sent to network clients as is, so the updates put off have to be applied first
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        ensureMaterialized();
+        out.defaultWriteObject();
+    }
+
     @SuppressWarnings("unchecked")
     protected final <T> T get(final TrackableProperty key) {
+        ensureMaterialized();
         T value = (T)props.get(key);
         if (value == null) {
             value = key.getDefaultValue();
@@ -80,11 +130,26 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
         if (value == null || value.equals(key.getDefaultValue())) {
             if (props.remove(key) != null) {
                 changedProps.add(key);
-                key.updateObjLookup(tracker, value);
+                changeCount++;
+                updateObjLookup(key, value);
+            }
+        }
+        else {
+            final Object old = props.put(key, value);
+            if (!value.equals(old)) {
+                changedProps.add(key);
+                changeCount++;
+                updateObjLookup(key, value);
+            } else if (old == value && (value instanceof Map || value instanceof Collection)) {
+                // set again after being changed in place, like the counters of a card
+                changeCount++;
             }
         }
-        else if (!value.equals(props.put(key, value))) {
-            changedProps.add(key);
+    }
+
+    private <T> void updateObjLookup(final TrackableProperty key, final T value) {
+        // nobody looks objects up while detached, the lookups are rebuilt when a view gets attached
+        if (tracker == null || !tracker.isDetached()) {
             key.updateObjLookup(tracker, value);
         }
     }
@@ -101,6 +166,7 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
     public final void copyChangedProps(final TrackableObject from) {
         if (copyingProps) { return; } //prevent infinite loop from circular reference
         copyingProps = true;
+        from.ensureMaterialized();
         for (final TrackableProperty prop : from.changedProps) {
             prop.copyChangedProps(from, this);
         }
@@ -110,10 +176,12 @@ public abstract class TrackableObject implements IIdentifiable, Serializable {
     //use when updating collection type properties with using set
     protected final void flagAsChanged(final TrackableProperty key) {
         changedProps.add(key);
+        changeCount++;
         key.updateObjLookup(tracker, props.get(key));
     }
 
     public final void serialize(final TrackableSerializer ts) {
+        ensureMaterialized();
         ts.write(changedProps.size());
         for (TrackableProperty key : changedProps) {
             ts.write(TrackableProperty.serialize(key));
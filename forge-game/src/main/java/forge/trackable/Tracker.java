@@ -10,6 +10,7 @@ import forge.trackable.TrackableTypes.TrackableType;
 
 public class Tracker {
     private int freezeCounter = 0;
+    private boolean detached = false;
     private final List<DelayedPropChange> delayedPropChanges = Lists.newArrayList();
 
     private final Table<TrackableType<?>, Integer, Object> objLookups = HashBasedTable.create();
@@ -22,6 +23,18 @@ public class Tracker {
         freezeCounter++;
     }
 
+    /**
+     * A detached tracker has no GUI or network client looking at its objects (e.g. headless simulations),
+     * so expensive view updates may be put off until something actually reads the view.
+     */
+    public final boolean isDetached() {
+        return detached;
+    }
+
+    public void setDetached(final boolean detached0) {
+        detached = detached0;
+    }
+
     // Note: objLookups exist on the tracker and not on the TrackableType because
     // TrackableType is global and Tracker is per game.
     @SuppressWarnings("unchecked")
@@ -0,0 +1,70 @@
+package forge.game;
+
+import java.util.List;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+public class GameLogTest {
+
+    @Test
+    public void testEntriesOfAllTypesInOrder() {
+        GameLog log = new GameLog();
+        log.add(GameLogEntryType.TURN, "turn 1");
+        log.add(GameLogEntryType.PHASE, "upkeep");
+        log.add(GameLogEntryType.MANA, "mana");
+        log.add(GameLogEntryType.STACK_ADD, "spell");
+        log.add(GameLogEntryType.PHASE, "draw");
+
+        assertMessages(log.getLogEntries(null), "draw", "spell", "mana", "upkeep", "turn 1");
+        // the types up to the given one
+        assertMessages(log.getLogEntries(GameLogEntryType.MANA), "spell", "mana", "turn 1");
+        assertMessages(log.getLogEntriesExact(GameLogEntryType.PHASE), "draw", "upkeep");
+        AssertJUnit.assertEquals(5, log.getLastSequence());
+    }
+
+    @Test
+    public void testEntriesSince() {
+        GameLog log = new GameLog();
+        log.add(GameLogEntryType.TURN, "turn 1");
+        log.add(GameLogEntryType.PHASE, "upkeep");
+        long read = log.getLastSequence();
+        log.add(GameLogEntryType.COMBAT, "attack");
+        log.add(GameLogEntryType.PHASE, "end");
+
+        assertMessages(log.getLogEntriesSince(read, null), "end", "attack");
+        assertMessages(log.getLogEntriesSince(read, GameLogEntryType.COMBAT), "attack");
+        assertMessages(log.getLogEntriesSince(log.getLastSequence(), null));
+        assertMessages(log.getLogEntriesSince(0, null), "end", "attack", "upkeep", "turn 1");
+    }
+
+    @Test
+    public void testOldestEntriesOfTypeReplaced() {
+        // more than the segments start with, to have them grow first
+        final int capacity = 40;
+        GameLog log = new GameLog(capacity);
+        log.add(GameLogEntryType.TURN, "turn 1");
+        for (int i = 0; i < 100; i++) {
+            log.add(GameLogEntryType.PHASE, "phase " + i);
+        }
+
+        List<GameLogEntry> phases = log.getLogEntriesExact(GameLogEntryType.PHASE);
+        AssertJUnit.assertEquals(capacity, phases.size());
+        for (int i = 0; i < capacity; i++) {
+            AssertJUnit.assertEquals("phase " + (99 - i), phases.get(i).message);
+        }
+
+        // the other types keep their entries
+        List<GameLogEntry> all = log.getLogEntries(null);
+        AssertJUnit.assertEquals(capacity + 1, all.size());
+        AssertJUnit.assertEquals("turn 1", all.get(capacity).message);
+        AssertJUnit.assertEquals(101, log.getLastSequence());
+    }
+
+    private static void assertMessages(List<GameLogEntry> entries, String... expected) {
+        AssertJUnit.assertEquals(expected.length, entries.size());
+        for (int i = 0; i < expected.length; i++) {
+            AssertJUnit.assertEquals(expected[i], entries.get(i).message);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package forge.game.event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+public class EventDispatcherTest {
+    private static class TestEvent extends Event {
+        private final String name;
+        TestEvent(String name) {
+            this.name = name;
+        }
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private static class OtherEvent extends TestEvent {
+        OtherEvent(String name) {
+            super(name);
+        }
+    }
+
+    @Test
+    public void testListenersOnlyGetTheirEventClass() {
+        EventDispatcher events = new EventDispatcher("test");
+        List<String> all = new ArrayList<>();
+        List<String> others = new ArrayList<>();
+        events.subscribe(TestEvent.class, e -> all.add(e.toString()));
+        events.subscribe(OtherEvent.class, e -> others.add(e.toString()));
+
+        events.post(new TestEvent("a"));
+        events.post(new OtherEvent("b"));
+
+        AssertJUnit.assertEquals("[a, b]", all.toString());
+        AssertJUnit.assertEquals("[b]", others.toString());
+        AssertJUnit.assertEquals(2, events.getPostedCount());
+        AssertJUnit.assertEquals(3, events.getDeliveredCount());
+    }
+
+    @Test
+    public void testEventsPostedByListenersKeepTheirOrder() {
+        EventDispatcher events = new EventDispatcher("test");
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        events.subscribe(TestEvent.class, e -> {
+            first.add(e.toString());
+            if (e.toString().equals("a")) {
+                events.post(new TestEvent("b"));
+            }
+        });
+        events.subscribe(TestEvent.class, e -> second.add(e.toString()));
+
+        events.post(new TestEvent("a"));
+
+        // the second listener must see "a" before the "b" fired while the first one handled it
+        AssertJUnit.assertEquals("[a, b]", first.toString());
+        AssertJUnit.assertEquals("[a, b]", second.toString());
+    }
+
+    @Test
+    public void testBatchedListenersWaitForFlush() {
+        EventDispatcher events = new EventDispatcher("test");
+        List<String> batched = new ArrayList<>();
+        events.subscribe(TestEvent.class, e -> batched.add(e.toString()), EventDispatcher.Delivery.BATCHED);
+
+        events.post(new TestEvent("a"));
+        events.post(new TestEvent("b"));
+        AssertJUnit.assertTrue(batched.isEmpty());
+
+        events.flushBatched();
+        AssertJUnit.assertEquals("[a, b]", batched.toString());
+    }
+}
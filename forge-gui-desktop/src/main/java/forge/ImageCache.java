@@ -25,7 +25,9 @@ import java.awt.geom.RoundRectangle2D;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.util.Calendar;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -48,6 +50,7 @@ import forge.gui.FThreads;
 import forge.gui.GuiBase;
 import forge.item.IPaperCard;
 import forge.item.InventoryItem;
+import forge.item.PaperCard;
 import forge.localinstance.properties.ForgeConstants;
 import forge.localinstance.properties.ForgePreferences;
 import forge.localinstance.properties.ForgePreferences.FPref;
@@ -55,6 +58,7 @@ import forge.localinstance.skin.FSkinProp;
 import forge.model.FModel;
 import forge.toolbox.FSkin;
 import forge.toolbox.FSkin.SkinIcon;
+import forge.toolbox.imaging.FCardImageCache;
 import forge.toolbox.imaging.FCardImageRenderer;
 import forge.util.ImageUtil;
 import forge.util.TextUtil;
@@ -299,15 +303,17 @@ public class ImageCache {
                 int width = Math.round(488 * screenScale), height = Math.round(680 * screenScale);
                 BufferedImage art = original;
                 CardView card = ipc != null ? Card.getCardForUi(ipc).getView() : cardView;
-                String legalString = null;
-                original = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-                if (art != null) {
+                if (art == null) {
+                    // drawn from the card text alone, which is kept on disk
+                    original = FCardImageCache.getCardImage(card, altState, width, height);
+                } else {
+                    original = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
                     Calendar cal = Calendar.getInstance();
                     cal.setTime(StaticData.instance().getCardEdition(ipc.getEdition()).getDate());
                     int year = cal.get(Calendar.YEAR);
-                    legalString = "Illus. " + ipc.getArtist() + "   ©" + year + " WOTC";
+                    String legalString = "Illus. " + ipc.getArtist() + "   ©" + year + " WOTC";
+                    FCardImageRenderer.drawCardImage(original.createGraphics(), card, altState, width, height, art, legalString);
                 }
-                FCardImageRenderer.drawCardImage(original.createGraphics(), card, altState, width, height, art, legalString);
                 // Skip store cache since the rendering speed seems to be fast enough
                 // Also the scaleImage below will already cache re-sized image for CardPanel anyway
                 // if (art != null || !fetcherEnabled)
@@ -329,6 +335,25 @@ public class ImageCache {
             setCode.equals("6E") || setCode.equals("7E") || setCode.equals("8E") || setCode.equals("9E");
     }
 
+    /**
+     * Draws ahead in the background the images of the listed cards which have no picture, like the cards of a custom
+     * set being browsed, unless the pictures are to be downloaded or art crops are drawn on.
+     */
+    public static void prerenderCardImages(final Iterable<? extends InventoryItem> items) {
+        if (isPreferenceEnabled(ForgePreferences.FPref.UI_ENABLE_ONLINE_IMAGE_FETCHER)
+                || "Crop".equals(FModel.getPreferences().getPref(ForgePreferences.FPref.UI_CARD_ART_FORMAT))) {
+            return;
+        }
+        final List<PaperCard> cards = new ArrayList<>();
+        for (final InventoryItem item : items) {
+            if (item instanceof PaperCard) {
+                cards.add((PaperCard) item);
+            }
+        }
+        float screenScale = GuiBase.getInterface().getScreenScale();
+        FCardImageCache.prerender(cards, Math.round(488 * screenScale), Math.round(680 * screenScale));
+    }
+
     public static boolean isSupportedImageSize(final int width, final int height) {
         return !((3 > width && -1 != width) || (3 > height && -1 != height));
     }
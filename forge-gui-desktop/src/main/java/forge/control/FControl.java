@@ -193,6 +193,7 @@ public enum FControl implements KeyEventDispatcher {
         }
 
         if (RestartUtil.prepareForRestart()) {
+            QuestDataIO.waitForPendingSaves();
             System.exit(0);
             return true;
         }
@@ -204,6 +205,7 @@ public enum FControl implements KeyEventDispatcher {
             return false;
         }
         Singletons.getView().getFrame().setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
+        QuestDataIO.waitForPendingSaves(); // a quest saved just before quitting is still being written
         System.exit(0);
         return true;
     }
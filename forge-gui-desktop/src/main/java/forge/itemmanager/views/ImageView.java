@@ -579,6 +579,17 @@ public class ImageView<T extends InventoryItem> extends ItemView<T> {
         }
 
         updateLayout(true);
+
+        //draw the cards without pictures in the background before they are scrolled to
+        List<T> shownItems = new ArrayList<>();
+        for (Group group : groups) {
+            if (!group.isCollapsed) {
+                for (ItemInfo itemInfo : group.items) {
+                    shownItems.add(itemInfo.item);
+                }
+            }
+        }
+        ImageCache.prerenderCardImages(shownItems);
     }
 
     private void updateLayout(boolean forRefresh) {
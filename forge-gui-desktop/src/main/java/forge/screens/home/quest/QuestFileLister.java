@@ -17,6 +17,7 @@ import javax.swing.border.Border;
 
 import forge.gamemodes.quest.QuestUtil;
 import forge.gamemodes.quest.data.QuestData;
+import forge.gamemodes.quest.io.QuestDataIO;
 import forge.gui.UiCommand;
 import forge.localinstance.properties.ForgeConstants;
 import forge.localinstance.skin.FSkinProp;
@@ -390,6 +391,8 @@ public class QuestFileLister extends JPanel {
             return;
         }
 
+        QuestDataIO.waitForPendingSaves();
+
         new File(ForgeConstants.QUEST_SAVE_DIR, r0.getQuestData().getName() + ".dat").delete();
         new File(ForgeConstants.QUEST_SAVE_DIR, r0.getQuestData().getName() + ".dat.bak").delete();
 
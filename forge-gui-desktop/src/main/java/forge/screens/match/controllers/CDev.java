@@ -12,6 +12,7 @@ import forge.interfaces.IGameController;
 import forge.screens.match.CMatchUI;
 import forge.screens.match.views.IDevListener;
 import forge.screens.match.views.VDev;
+import forge.view.arcane.CardPanel;
 
 /**
  * Controls the combat panel in the match UI.
@@ -76,6 +77,11 @@ public final class CDev implements ICDoc {
         };
     }
 
+    public void toggleShowRepaintTimes() {
+        CardPanel.setShowRepaintTimes(!CardPanel.isShowRepaintTimes());
+        matchUI.repaintCardOverlays();
+    }
+
     public void togglePlayManyLandsPerTurn() {
         final boolean newValue = !view.getLblUnlimitedLands().getToggled();
         getController().cheat().setCanPlayUnlimitedLands(newValue);
@@ -47,6 +47,7 @@ public class DevModeMenu implements ActionListener, IDevListener {
         UNTAP_PERMANENT("lblUntapPermanent"),
         RIGGED_PLANAR_ROLL("lblRiggedRoll"),
         PLANESWALK_TO("lblWalkTo"),
+        SHOW_REPAINT_TIMES("lblShowRepaintTimes"),
         DEV_CORNER("lblDeveloperCorner");
 
         protected String caption;
@@ -98,6 +99,8 @@ public class DevModeMenu implements ActionListener, IDevListener {
         menu.add(getMenuItem(DevMenuItem.RIGGED_PLANAR_ROLL));
         menu.add(getMenuItem(DevMenuItem.PLANESWALK_TO));
         menu.addSeparator();
+        menu.add(getCheckboxMenuItem(DevMenuItem.SHOW_REPAINT_TIMES));
+        menu.addSeparator();
         menu.add(getMenuItem(DevMenuItem.DEV_CORNER));
         return menu;
     }
@@ -137,6 +140,7 @@ public class DevModeMenu implements ActionListener, IDevListener {
         case UNTAP_PERMANENT:      { controller.untapPermanent(); break; }
         case RIGGED_PLANAR_ROLL:   { controller.riggedPlanerRoll(); break; }
         case PLANESWALK_TO:        { controller.planeswalkTo(); break; }
+        case SHOW_REPAINT_TIMES:   { controller.toggleShowRepaintTimes(); break; }
         case DEV_CORNER:           { openDevForumInBrowser(); break; }
         default:
             break;
@@ -47,9 +47,9 @@ import net.miginfocom.swing.MigLayout;
  */
 public class VLog implements IVDoc<CLog> {
 
-    // Keeps a record of log entries currently displayed so we can
-    // easily identify new entries to be added to the game log.
-    private final List<GameLogEntry> displayedLogEntries = Lists.newArrayList();
+    // The sequence number of the last log entry displayed, so only
+    // the entries added since are fetched from the game log.
+    private long lastDisplayedSequence = 0;
 
     // Used to determine when a new game has started.
     private GameView gameLogModel = null;
@@ -141,7 +141,7 @@ public class VLog implements IVDoc<CLog> {
     private void resetDisplayIfNewGame(final GameView model) {
         if (this.gameLogModel != model) {
             gameLog.reset();
-            this.displayedLogEntries.clear();
+            this.lastDisplayedSequence = 0;
             this.gameLogModel = model;
         }
     }
@@ -176,10 +176,7 @@ public class VLog implements IVDoc<CLog> {
         final String logEntryType = FModel.getPreferences().getPref(FPref.DEV_LOG_ENTRY_TYPE);
         final GameLogEntryType logVerbosityFilter = GameLogEntryType.valueOf(logEntryType);
         if (model != null && model.getGameLog() != null) {
-            final List<GameLogEntry> logEntries = model.getGameLog().getLogEntries(logVerbosityFilter);
-            // Set subtraction - remove all log entries from new list which are already displayed.
-            logEntries.removeAll(this.displayedLogEntries);
-            return logEntries;
+            return model.getGameLog().getLogEntriesSince(this.lastDisplayedSequence, logVerbosityFilter);
         }
         return new ArrayList<>();
     }
@@ -188,7 +185,7 @@ public class VLog implements IVDoc<CLog> {
         for (final GameLogEntry logEntry : newLogEntries) {
             gameLog.setTextFont(getJTextAreaFont(logEntry.type));
             gameLog.addLogEntry(logEntry.message);
-            this.displayedLogEntries.add(logEntry);
+            this.lastDisplayedSequence = logEntry.getSequence();
         }
     }
 
@@ -0,0 +1,238 @@
+package forge.toolbox.imaging;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+
+import forge.game.card.Card;
+import forge.game.card.CardView;
+import forge.game.card.CardView.CardStateView;
+import forge.gui.FThreads;
+import forge.gui.GuiBase;
+import forge.item.PaperCard;
+import forge.localinstance.properties.ForgeConstants;
+import forge.localinstance.properties.ForgePreferences.FPref;
+import forge.model.FModel;
+
+/**
+ * Keeps the card images {@link FCardImageRenderer} draws for cards without a picture on disk, so each one is drawn
+ * once instead of every session and after every eviction from the image cache.
+ * <p>
+ * A render is stored under a hash of everything it shows: the names, costs, types, text, stats and colors of the card
+ * states, the language and the preferences the renderer reads, the size and {@link FCardImageRenderer#VERSION}. The
+ * files are written on a background pool, which also draws ahead the cards of a list being browsed.
+ * </p>
+ */
+public final class FCardImageCache {
+    // how many cards of a list are drawn ahead, the first ones being those shown first
+    private static final int PRERENDER_LIMIT = 120;
+
+    private static final File DIR = new File(ForgeConstants.CACHE_RENDERED_CARD_PICS_DIR, "v" + FCardImageRenderer.VERSION);
+    private static final Set<String> pending = ConcurrentHashMap.newKeySet();
+    private static final AtomicInteger prerenderGeneration = new AtomicInteger();
+    private static final ExecutorService pool = Executors.newFixedThreadPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2), r -> {
+                final Thread t = new Thread(r, "CardImageCache");
+                t.setDaemon(true);
+                t.setPriority(Thread.MIN_PRIORITY);
+                return t;
+            });
+
+    static {
+        pool.execute(FCardImageCache::deleteOldVersions);
+    }
+
+    private FCardImageCache() {
+    }
+
+    /**
+     * @return the image of the card drawn at the given size, read from the cache or drawn and stored in it.
+     */
+    public static BufferedImage getCardImage(final CardView card, final boolean altState, final int width, final int height) {
+        final String key = getKey(card, altState, width, height);
+        BufferedImage image = key == null ? null : read(key);
+        if (image == null) {
+            image = render(card, altState, width, height);
+            if (key != null && pending.add(key)) {
+                final BufferedImage toWrite = image;
+                pool.execute(() -> write(key, toWrite));
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Draws ahead in the background the first cards of a list which have no picture, replacing the cards given before.
+     */
+    public static void prerender(final Iterable<PaperCard> cards, final int width, final int height) {
+        final List<PaperCard> missing = new ArrayList<>();
+        for (final PaperCard pc : cards) {
+            if (!pc.hasImage()) {
+                missing.add(pc);
+                if (missing.size() >= PRERENDER_LIMIT) {
+                    break;
+                }
+            }
+        }
+        final int generation = prerenderGeneration.incrementAndGet();
+        if (missing.isEmpty()) {
+            return;
+        }
+        pool.execute(() -> {
+            for (final PaperCard pc : missing) {
+                if (prerenderGeneration.get() != generation) {
+                    return; // another list is shown now
+                }
+                prerender(pc, width, height);
+            }
+        });
+    }
+
+    private static void prerender(final PaperCard pc, final int width, final int height) {
+        // cards for the UI are made and read on the EDT, the drawing happens here
+        final CardView[] card = new CardView[1];
+        final String[] key = new String[1];
+        FThreads.invokeInEdtAndWait(() -> {
+            card[0] = Card.getCardForUi(pc).getView();
+            key[0] = getKey(card[0], false, width, height);
+        });
+        if (key[0] == null || getFile(key[0]).exists() || !pending.add(key[0])) {
+            return;
+        }
+        write(key[0], render(card[0], false, width, height));
+    }
+
+    private static BufferedImage render(final CardView card, final boolean altState, final int width, final int height) {
+        // with an alpha channel like the images drawn on the fly, CardPanel only rounds the corners of those
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        final Graphics2D g = image.createGraphics();
+        try {
+            FCardImageRenderer.drawCardImage(g, card, altState, width, height, null, null);
+        } finally {
+            g.dispose();
+        }
+        return image;
+    }
+
+    private static BufferedImage read(final String key) {
+        final File file = getFile(key);
+        if (!file.exists()) {
+            return null;
+        }
+        try {
+            final BufferedImage image = ImageIO.read(file);
+            if (image != null) {
+                return image;
+            }
+        } catch (final Exception e) {
+            System.err.println("Failed to read cached card image " + file + ": " + e.getMessage());
+        }
+        file.delete();
+        return null;
+    }
+
+    private static void write(final String key, final BufferedImage image) {
+        final File file = getFile(key);
+        // written to a temporary file first so that nothing reads a partial one
+        final File tmp = new File(file.getPath() + ".tmp");
+        try {
+            file.getParentFile().mkdirs();
+            if (ImageIO.write(image, "png", tmp) && !tmp.renameTo(file)) {
+                tmp.delete();
+            }
+        } catch (final Exception e) {
+            System.err.println("Failed to cache card image " + file + ": " + e.getMessage());
+            tmp.delete();
+        } finally {
+            pending.remove(key);
+        }
+    }
+
+    private static File getFile(final String key) {
+        // spread over subfolders so no folder holds too many files
+        return new File(new File(DIR, key.substring(0, 2)), key + ".png");
+    }
+
+    private static void deleteOldVersions() {
+        final File[] versions = DIR.getParentFile().listFiles();
+        if (versions == null) {
+            return;
+        }
+        for (final File version : versions) {
+            if (version.isDirectory() && !version.equals(DIR)) {
+                delete(version);
+            }
+        }
+    }
+
+    private static void delete(final File file) {
+        final File[] children = file.listFiles();
+        if (children != null) {
+            for (final File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+    /**
+     * @return the hash of what the image of the card drawn at the given size shows, null if it can't be made.
+     */
+    static String getKey(final CardView card, final boolean altState, final int width, final int height) {
+        final StringBuilder sb = new StringBuilder(512);
+        sb.append(FModel.getPreferences().getPref(FPref.UI_LANGUAGE)).append('|');
+        sb.append(FModel.getPreferences().getPrefBoolean(FPref.UI_CARD_IMAGE_RENDER_USE_SANS_SERIF_FONT)).append('|');
+        sb.append(FModel.getPreferences().getPrefBoolean(FPref.UI_CARD_IMAGE_RENDER_HIDE_REMINDER_TEXT)).append('|');
+        sb.append(GuiBase.getInterface().getScreenScale()).append('|');
+        sb.append(width).append('x').append(height).append('|').append(altState).append('|');
+        sb.append(card.isSplitCard()).append(card.isFlipCard()).append(card.isAdventureCard());
+        sb.append(card.isToken()).append(card.getCloneOrigin() != null).append(card.getId() < 0).append('|');
+        if (card.isSplitCard()) {
+            appendState(sb, card, card.getLeftSplitState());
+            appendState(sb, card, card.getRightSplitState());
+        }
+        appendState(sb, card, card.getState(false));
+        if (card.hasAlternateState()) {
+            appendState(sb, card, card.getState(true));
+        }
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-1").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+            final StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (final byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (final NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    private static void appendState(final StringBuilder sb, final CardView card, final CardStateView state) {
+        if (state == null) {
+            sb.append("-|");
+            return;
+        }
+        sb.append(state.getName()).append('|');
+        sb.append(state.getManaCost()).append('|');
+        sb.append(state.getType()).append('|');
+        sb.append(card.getText(state, null)).append('|');
+        sb.append(state.getOracleText()).append('|');
+        sb.append(state.getKeywordKey()).append('|');
+        sb.append(state.getPower()).append('/').append(state.getToughness()).append('/').append(state.getLoyalty()).append('|');
+        sb.append(state.getColors()).append('|');
+        sb.append(state.getRarity()).append('|');
+        sb.append(state.getSetCode()).append('|');
+    }
+}
@@ -38,6 +38,9 @@ import forge.toolbox.FSkin.SkinIcon;
 import forge.util.CardTranslation;
 
 public class FCardImageRenderer {
+    /** To be raised when the drawing changes, the images kept by {@link FCardImageCache} are drawn again. */
+    public static final int VERSION = 2;
+
     private static boolean isInitialed = false;
     private static final float BASE_IMAGE_WIDTH = 488;
     private static final float BASE_IMAGE_HEIGHT = 680;
@@ -163,7 +166,8 @@ public class FCardImageRenderer {
         OUTER_BORDER_THICKNESS = Math.round(1.2f * BLACK_BORDER_THICKNESS) - ART_INSET;
     }
 
-    public static void drawCardImage(Graphics2D g, CardView card, boolean altState, int width, int height, BufferedImage art, String legalString) {
+    // synchronized since the sizes are kept in static fields while drawing, the cache draws in the background
+    public static synchronized void drawCardImage(Graphics2D g, CardView card, boolean altState, int width, int height, BufferedImage art, String legalString) {
         if (!isInitialed) {
             initialize();
         }
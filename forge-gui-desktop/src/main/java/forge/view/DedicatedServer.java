@@ -0,0 +1,69 @@
+package forge.view;
+
+import forge.gamemodes.net.server.FServerManager;
+import forge.gamemodes.net.server.RemoteClient;
+import forge.gamemodes.net.server.ServerRoom;
+import forge.localinstance.properties.ForgePreferences.FPref;
+import forge.localinstance.properties.ForgeProfileProperties;
+import forge.model.FModel;
+
+public class DedicatedServer {
+    public static void start(String[] args) {
+        int port = ForgeProfileProperties.getServerPort();
+        int statsInterval = 60;
+        for (int i = 1; i < args.length - 1; i += 2) {
+            // "server" is in the 0th slot
+            try {
+                switch (args[i]) {
+                case "-p":
+                    port = Integer.parseInt(args[i + 1]);
+                    break;
+                case "-s":
+                    statsInterval = Integer.parseInt(args[i + 1]);
+                    break;
+                default:
+                    argumentHelp();
+                    return;
+                }
+            } catch (NumberFormatException e) {
+                argumentHelp();
+                return;
+            }
+        }
+
+        // card data is loaded once and shared by all rooms
+        FModel.initialize(null, preferences -> {
+            preferences.setPref(FPref.UI_ENABLE_SOUNDS, false);
+            preferences.setPref(FPref.UI_ENABLE_MUSIC, false);
+            return null;
+        });
+
+        final FServerManager server = FServerManager.getInstance();
+        server.startDedicatedServer(port);
+        System.out.println("Dedicated server listening on port " + port);
+
+        while (server.isHosting()) {
+            try {
+                Thread.sleep(statsInterval * 1000L);
+            } catch (InterruptedException e) {
+                break;
+            }
+            final Runtime rt = Runtime.getRuntime();
+            System.out.println(String.format("%d rooms, heap used %d MB", server.getRooms().size(),
+                    (rt.totalMemory() - rt.freeMemory()) / (1024 * 1024)));
+            for (ServerRoom room : server.getRooms()) {
+                System.out.println("  " + room.getStats());
+                for (RemoteClient client : room.getClients()) {
+                    System.out.println("    " + client.getUsername() + ": " + client.getSendStats());
+                }
+            }
+        }
+    }
+
+    private static void argumentHelp() {
+        System.out.println("Syntax: forge.exe server -p [P] -s [S]");
+        System.out.println("\tserver - runs a server without a local player, clients join rooms with host:port/room");
+        System.out.println("\tP - port to listen on, defaults to the server port of the profile");
+        System.out.println("\tS - seconds between room statistics, defaults to 60");
+    }
+}
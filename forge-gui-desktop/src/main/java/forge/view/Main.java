@@ -70,16 +70,20 @@ public final class Main {
                 SimulateMatch.simulate(args);
                 break;
 
+            case "replay":
+                SimulateMatch.replay(args);
+                break;
+
             case "parse":
             	CardReaderExperiments.parseAllCards(args);
                 break;
 
             case "server":
-                System.out.println("Dedicated server mode.\nNot implemented.");
+                DedicatedServer.start(args);
                 break;
             
             default:
-                System.out.println("Unknown mode.\nKnown mode is 'sim', 'parse' ");
+                System.out.println("Unknown mode.\nKnown modes are 'sim', 'replay', 'parse', 'server' ");
                 break;
         }
         
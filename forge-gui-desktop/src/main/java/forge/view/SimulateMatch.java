@@ -2,6 +2,8 @@ package forge.view;
 
 import java.io.File;
 import java.io.FilenameFilter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -14,17 +16,21 @@ import java.util.concurrent.TimeoutException;
 import org.apache.commons.lang3.time.StopWatch;
 
 import forge.LobbyPlayer;
+import forge.ai.replay.MatchReplay;
 import forge.deck.Deck;
 import forge.deck.DeckGroup;
 import forge.deck.io.DeckSerializer;
 import forge.game.Game;
 import forge.game.GameEndReason;
 import forge.game.GameLogEntry;
+import forge.game.GameLogFileSink;
+import forge.game.GameLogSink;
 import forge.game.GameLogEntryType;
 import forge.game.GameRules;
 import forge.game.GameType;
 import forge.game.Match;
 import forge.game.player.RegisteredPlayer;
+import forge.game.replay.MatchRecording;
 import forge.gamemodes.tournament.system.AbstractTournament;
 import forge.gamemodes.tournament.system.TournamentBracket;
 import forge.gamemodes.tournament.system.TournamentPairing;
@@ -86,6 +92,7 @@ public class SimulateMatch {
         }
 
         boolean outputGamelog = !params.containsKey("q");
+        File logFile = params.containsKey("l") ? new File(params.get("l").get(0)) : null;
 
         GameType type = GameType.Constructed;
         if (params.containsKey("f")) {
@@ -94,13 +101,14 @@ public class SimulateMatch {
 
         GameRules rules = new GameRules(type);
         rules.setAppliedVariants(EnumSet.of(type));
+        rules.setHeadless(true);
 
         if (matchSize != 0) {
             rules.setGamesPerMatch(matchSize);
         }
 
         if (params.containsKey("t")) {
-            simulateTournament(params, rules, outputGamelog);
+            simulateTournament(params, rules, outputGamelog, logFile);
             System.out.flush();
             return;
         }
@@ -141,25 +149,76 @@ public class SimulateMatch {
         System.out.println(sb.toString());
 
         Match mc = new Match(rules, pp, "Test");
+        if (params.containsKey("s")) {
+            mc.setSeed(Long.parseLong(params.get("s").get(0)));
+        }
+        System.out.println("Match seed: " + mc.getSeed());
+        final MatchRecording recording = params.containsKey("r") ? MatchReplay.record(mc) : null;
 
         if (matchSize != 0) {
             int iGame = 0;
             while (!mc.isMatchOver()) {
                 // play games until the match ends
-                simulateSingleMatch(mc, iGame, outputGamelog);
+                simulateSingleMatch(mc, iGame, outputGamelog, logFile);
                 iGame++;
             }
         } else {
             for (int iGame = 0; iGame < nGames; iGame++) {
-                simulateSingleMatch(mc, iGame, outputGamelog);
+                simulateSingleMatch(mc, iGame, outputGamelog, logFile);
+            }
+        }
+
+        if (recording != null) {
+            final File file = new File(params.get("r").get(0));
+            try {
+                recording.write(file);
+                System.out.println("Recorded the decisions of the games to " + file.getAbsolutePath());
+            } catch (IOException e) {
+                System.err.println("Could not write the recording to " + file + ": " + e.getMessage());
             }
         }
 
         System.out.flush();
     }
 
+    /**
+     * Plays the games of a recording made with "sim -r" again, without the AI, and times them.
+     */
+    public static void replay(String[] args) {
+        if (args.length < 2) {
+            System.out.println("Syntax: forge.exe replay <recording> [-n N]");
+            System.out.println("\tN - number of times to replay the games, defaults to 1");
+            return;
+        }
+        FModel.initialize(null, null);
+
+        final MatchRecording recording;
+        try {
+            recording = MatchRecording.read(new File(args[1]));
+        } catch (IOException e) {
+            System.err.println("Could not read the recording " + args[1] + ": " + e.getMessage());
+            return;
+        }
+        int times = 1;
+        if (args.length > 3 && "-n".equals(args[2])) {
+            times = Integer.parseInt(args[3]);
+        }
+        System.out.println(TextUtil.concatNoSpace("Replaying ", Lang.nounWithNumeral(recording.getGames().size(), "game"),
+                " of ", recording.getGameType().toString(), " with seed ", String.valueOf(recording.getSeed())));
+
+        for (int i = 0; i < times; i++) {
+            int iGame = 0;
+            for (MatchReplay.Result result : MatchReplay.replay(recording)) {
+                iGame++;
+                System.out.printf("Game %d: %d turns, %d decisions in %d ms%s%n", iGame, result.getTurns(), result.getDecisions(),
+                        TimeUnit.NANOSECONDS.toMillis(result.getNanos()), result.isInSync() ? "" : ". " + result.getError());
+            }
+        }
+        System.out.flush();
+    }
+
     private static void argumentHelp() {
-        System.out.println("Syntax: forge.exe sim -d <deck1[.dck]> ... <deckX[.dck]> -D [D] -n [N] -m [M] -t [T] -p [P] -f [F] -q");
+        System.out.println("Syntax: forge.exe sim -d <deck1[.dck]> ... <deckX[.dck]> -D [D] -n [N] -m [M] -t [T] -p [P] -f [F] -s [S] -r [R] -l [L] -q");
         System.out.println("\tsim - stands for simulation mode");
         System.out.println("\tdeck1 (or deck2,...,X) - constructed deck name or filename (has to be quoted when contains multiple words)");
         System.out.println("\tdeck is treated as file if it ends with a dot followed by three numbers or letters");
@@ -169,14 +228,41 @@ public class SimulateMatch {
         System.out.println("\tT - Type of tournament to run with all provided decks (Bracket, RoundRobin, Swiss)");
         System.out.println("\tP - Amount of players per match (used only with Tournaments, defaults to 2)");
         System.out.println("\tF - format of games, defaults to constructed");
+        System.out.println("\tS - seed of the random choices, to play the games of a match again");
+        System.out.println("\tR - file to record the decisions of the games to, they are played again without the AI with 'forge.exe replay R'");
+        System.out.println("\tL - file to add the logs of the games to, as JSON lines if it ends with .json or .jsonl");
         System.out.println("\tq - Quiet flag. Output just the game result, not the entire game log.");
     }
 
     public static void simulateSingleMatch(final Match mc, int iGame, boolean outputGamelog) {
+        simulateSingleMatch(mc, iGame, outputGamelog, null);
+    }
+
+    /**
+     * @param logFile the file to add the log of the game to, null for none
+     */
+    public static void simulateSingleMatch(final Match mc, int iGame, boolean outputGamelog, File logFile) {
         final StopWatch sw = new StopWatch();
         sw.start();
 
         final Game g1 = mc.createGame();
+        // the log is written while the game goes on instead of being kept for the end
+        final List<GameLogSink> logSinks = new ArrayList<>();
+        if (outputGamelog) {
+            logSinks.add(GameLogFileSink.forWriter(new OutputStreamWriter(System.out), GameLogFileSink.Format.TEXT, null));
+        }
+        if (logFile != null) {
+            String name = logFile.getName().toLowerCase();
+            GameLogFileSink.Format format = name.endsWith(".json") || name.endsWith(".jsonl") ? GameLogFileSink.Format.JSON : GameLogFileSink.Format.TEXT;
+            try {
+                logSinks.add(new GameLogFileSink(logFile, format, true, "Game " + (1 + iGame)));
+            } catch (IOException e) {
+                System.err.println("Could not write the game log to " + logFile + ": " + e.getMessage());
+            }
+        }
+        for (GameLogSink sink : logSinks) {
+            g1.getGameLog().addSink(sink);
+        }
         // will run match in the same thread
         try {
             TimeLimitedCodeBlock.runWithTimeout(() -> {
@@ -185,6 +271,10 @@ public class SimulateMatch {
             }, 120, TimeUnit.SECONDS);
         } catch (TimeoutException e) {
             System.out.println("Stopping slow match as draw");
+            if (g1.getDecisionRecorder() != null) {
+                // the game goes on in the background, the recording ends here
+                g1.getDecisionRecorder().stop();
+            }
         } catch (Exception | StackOverflowError e) {
             e.printStackTrace();
         } finally {
@@ -196,15 +286,16 @@ public class SimulateMatch {
             }
         }
 
-        List<GameLogEntry> log;
-        if (outputGamelog) {
-            log = g1.getGameLog().getLogEntries(null);
-        } else {
-            log = g1.getGameLog().getLogEntries(GameLogEntryType.MATCH_RESULTS);
+        for (GameLogSink sink : logSinks) {
+            g1.getGameLog().removeSink(sink);
+            sink.close();
         }
-        Collections.reverse(log);
-        for (GameLogEntry l : log) {
-            System.out.println(l);
+        if (!outputGamelog) {
+            List<GameLogEntry> log = g1.getGameLog().getLogEntries(GameLogEntryType.MATCH_RESULTS);
+            Collections.reverse(log);
+            for (GameLogEntry l : log) {
+                System.out.println(l);
+            }
         }
 
         // If both players life totals to 0 in a single turn, the game should end in a draw
@@ -215,7 +306,7 @@ public class SimulateMatch {
         }
     }
 
-    private static void simulateTournament(Map<String, List<String>> params, GameRules rules, boolean outputGamelog) {
+    private static void simulateTournament(Map<String, List<String>> params, GameRules rules, boolean outputGamelog, File logFile) {
         String tournament = params.get("t").get(0);
         AbstractTournament tourney = null;
         int matchPlayers = params.containsKey("p") ? Integer.parseInt(params.get("p").get(0)) : 2;
@@ -317,7 +408,7 @@ public class SimulateMatch {
                 while (!mc.isMatchOver()) {
                     // play games until the match ends
                     try {
-                        simulateSingleMatch(mc, iGame, outputGamelog);
+                        simulateSingleMatch(mc, iGame, outputGamelog, logFile);
                         iGame++;
                     } catch (Exception e) {
                         exceptions++;
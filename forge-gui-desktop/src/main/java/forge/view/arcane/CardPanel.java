@@ -17,7 +17,9 @@
  */
 package forge.view.arcane;
 
+import java.awt.AlphaComposite;
 import java.awt.Color;
+import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.FontFormatException;
@@ -28,6 +30,7 @@ import java.awt.GraphicsEnvironment;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
+import java.awt.Transparency;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.awt.font.TextAttribute;
@@ -41,6 +44,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import javax.swing.JRootPane;
 import javax.swing.SwingUtilities;
@@ -113,6 +117,16 @@ public class CardPanel extends SkinnedPanel implements CardContainer, IDisposabl
     private boolean hasFlash;
     private CachedCardImage cachedImage;
 
+    // the panel as it was last drawn, drawn again only when something it shows has changed
+    private BufferedImage rendered;
+    private RenderKey renderedKey;
+    private int overlayVersion;
+    private int updatedCardChanges = -1, updatedStateChanges = -1;
+    private int updatedImageWidth, updatedImageHeight;
+    private boolean lastPaintRendered;
+
+    private static boolean showRepaintTimes = false;
+
     private static Font smallCounterFont;
     private static Font largeCounterFont;
 
@@ -259,11 +273,23 @@ public class CardPanel extends SkinnedPanel implements CardContainer, IDisposabl
         repaint();
     }
 
+    /**
+     * Shows how long each card panel took to paint, and whether it had to be drawn again or came from its cached
+     * image, for finding what slows down the battlefield.
+     */
+    public static void setShowRepaintTimes(final boolean showRepaintTimes0) {
+        showRepaintTimes = showRepaintTimes0;
+    }
+    public static boolean isShowRepaintTimes() {
+        return showRepaintTimes;
+    }
+
     @Override
     public final void paint(final Graphics g) {
         if (!displayEnabled) {
             return;
         }
+        final long start = showRepaintTimes ? System.nanoTime() : 0;
         if (!isValid()) {
             super.validate();
         }
@@ -274,7 +300,119 @@ public class CardPanel extends SkinnedPanel implements CardContainer, IDisposabl
             g2d.rotate(getTappedAngle(), cardXOffset + edgeOffset, (cardYOffset + cardHeight)
                     - edgeOffset);
         }
-        super.paint(g2d);
+        if (isAnimationPanel || card == null || getWidth() <= 0 || getHeight() <= 0) {
+            // animations change the panel every frame, caching it wouldn't pay off
+            lastPaintRendered = true;
+            super.paint(g2d);
+        } else {
+            paintRendered(g2d);
+        }
+        if (showRepaintTimes) {
+            drawRepaintTime(g2d, System.nanoTime() - start);
+        }
+    }
+
+    private void paintRendered(final Graphics2D g2d) {
+        final float screenScale = GuiBase.getInterface().getScreenScale();
+        final int width = Math.round(getWidth() * screenScale);
+        final int height = Math.round(getHeight() * screenScale);
+        final RenderKey key = new RenderKey(this);
+        lastPaintRendered = rendered == null || rendered.getWidth() != width || rendered.getHeight() != height || !key.equals(renderedKey);
+        if (lastPaintRendered) {
+            if (rendered == null || rendered.getWidth() != width || rendered.getHeight() != height) {
+                // a compatible image is kept in video memory once it stops changing, like a VolatileImage
+                rendered = g2d.getDeviceConfiguration().createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+            }
+            render(screenScale);
+            renderedKey = new RenderKey(this);
+            if (!renderedKey.equals(key)) {
+                // the flash outline is drawn before the icon overlay finds out whether the card has flash
+                render(screenScale);
+                renderedKey = new RenderKey(this);
+            }
+        }
+        g2d.drawImage(rendered, 0, 0, getWidth(), getHeight(), null);
+    }
+
+    private void render(final float screenScale) {
+        final Graphics2D g2d = rendered.createGraphics();
+        try {
+            g2d.setComposite(AlphaComposite.Clear);
+            g2d.fillRect(0, 0, rendered.getWidth(), rendered.getHeight());
+            g2d.setComposite(AlphaComposite.SrcOver);
+            g2d.scale(screenScale, screenScale);
+            g2d.setClip(0, 0, getWidth(), getHeight());
+            super.paint(g2d);
+        } finally {
+            g2d.dispose();
+        }
+    }
+
+    private void drawRepaintTime(final Graphics2D g2d, final long nanos) {
+        final String text = String.format("%s %.2f ms", lastPaintRendered ? "drawn" : "cached", nanos / 1000000.0);
+        g2d.setFont(smallCounterFont != null ? smallCounterFont : getFont());
+        final FontMetrics fm = g2d.getFontMetrics();
+        final int x = cardXOffset + 2;
+        final int y = cardYOffset + 2;
+        g2d.setColor(new Color(0, 0, 0, 180));
+        g2d.fillRect(x, y, fm.stringWidth(text) + 4, fm.getHeight());
+        g2d.setColor(lastPaintRendered ? Color.ORANGE : Color.GREEN);
+        g2d.drawString(text, x + 2, y + fm.getAscent());
+    }
+
+    /**
+     * What the look of the panel depends on, besides the children laid out by {@link #doLayout()}: the card and how
+     * many times its properties changed, and how the match shows it right now.
+     */
+    private static final class RenderKey {
+        private final CardView card;
+        private final int cardChanges;
+        private final CardStateView state;
+        private final int stateChanges;
+        private final BufferedImage image;
+        private final int overlayVersion;
+        private final int flags;
+        private final int width, height, cardWidth, cardHeight, cardXOffset, cardYOffset;
+
+        private RenderKey(final CardPanel panel) {
+            final CMatchUI matchUI = panel.matchUI;
+            card = panel.card;
+            cardChanges = card.getChangeCount();
+            state = card.getCurrentState();
+            stateChanges = state.getChangeCount();
+            image = panel.imagePanel == null ? null : panel.imagePanel.getSrcImage();
+            overlayVersion = panel.overlayVersion;
+            flags = (matchUI.mayView(card) ? 1 : 0)
+                    | (matchUI.isUsedToPay(card) ? 2 : 0)
+                    | (matchUI.isSelectable(card) ? 4 : 0)
+                    | (matchUI.isSelecting() ? 8 : 0)
+                    | (panel.isSelected ? 16 : 0)
+                    | (panel.tapped ? 32 : 0)
+                    | (panel.hasFlash ? 64 : 0);
+            width = panel.getWidth();
+            height = panel.getHeight();
+            cardWidth = panel.cardWidth;
+            cardHeight = panel.cardHeight;
+            cardXOffset = panel.cardXOffset;
+            cardYOffset = panel.cardYOffset;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof RenderKey)) {
+                return false;
+            }
+            final RenderKey k = (RenderKey) o;
+            return card == k.card && cardChanges == k.cardChanges && state == k.state && stateChanges == k.stateChanges
+                    && image == k.image && overlayVersion == k.overlayVersion && flags == k.flags
+                    && width == k.width && height == k.height && cardWidth == k.cardWidth && cardHeight == k.cardHeight
+                    && cardXOffset == k.cardXOffset && cardYOffset == k.cardYOffset;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(card, cardChanges, stateChanges, overlayVersion, flags, width, height);
+        }
     }
 
     @Override
@@ -395,6 +533,7 @@ public class CardPanel extends SkinnedPanel implements CardContainer, IDisposabl
 
     @Override
     public final void doLayout() {
+        final List<Object> lastLayout = getChildLayout();
         int borderSize = calculateBorderSize();
 
         final Point imgPos = new Point(cardXOffset + borderSize, cardYOffset + borderSize);
@@ -409,6 +548,20 @@ public class CardPanel extends SkinnedPanel implements CardContainer, IDisposabl
         displayCardNameOverlay(showText && canShow && showCardNameOverlay(), imgSize, imgPos);
         displayPTOverlay(showText && (canShow || card.isFaceDown()) && showCardPowerOverlay(), imgSize, imgPos);
         displayCardIdOverlay(showText && canShow && showCardIdOverlay(), imgSize, imgPos);
+
+        // a panel that only moved keeps its cached look
+        if (!getChildLayout().equals(lastLayout)) {
+            overlayVersion++;
+        }
+    }
+
+    private List<Object> getChildLayout() {
+        final List<Object> layout = new ArrayList<>();
+        for (final Component child : getComponents()) {
+            layout.add(child.getBounds());
+            layout.add(child.isVisible());
+        }
+        return layout;
     }
 
     private int calculateBorderSize() {
@@ -980,7 +1133,7 @@ public class CardPanel extends SkinnedPanel implements CardContainer, IDisposabl
         }
 
         // Card name overlay
-        titleText.setText(CardTranslation.getTranslatedName(card.getCurrentState().getName()));
+        setOverlayText(titleText, CardTranslation.getTranslatedName(card.getCurrentState().getName()));
         // Screen readers can't tell if a card is tapped.
         if (isPreferenceEnabled(FPref.UI_SR_OPTIMIZE)) {
                 if (this.isTapped()) {
@@ -990,10 +1143,17 @@ public class CardPanel extends SkinnedPanel implements CardContainer, IDisposabl
                 }
             }
         final int damage = card.getDamage();
-        damageText.setText(damage > 0 ? "\u00BB " + damage + " \u00AB" : "");
+        setOverlayText(damageText, damage > 0 ? "\u00BB " + damage + " \u00AB" : "");
 
         // Card Id overlay
-        cardIdText.setText(card.getCurrentState().getDisplayId());
+        setOverlayText(cardIdText, card.getCurrentState().getDisplayId());
+    }
+
+    private void setOverlayText(final OutlinedLabel label, final String text) {
+        if (!text.equals(label.getText())) {
+            label.setText(text);
+            overlayVersion++;
+        }
     }
 
     public final void updatePTOverlay() {
@@ -1013,7 +1173,7 @@ public class CardPanel extends SkinnedPanel implements CardContainer, IDisposabl
         else if (state.isPlaneswalker()) {
             sPt = state.getLoyalty();
         }
-        ptText.setText(sPt);
+        setOverlayText(ptText, sPt);
     }
 
     @Override
@@ -1033,10 +1193,21 @@ public class CardPanel extends SkinnedPanel implements CardContainer, IDisposabl
         if (oldCard != null && oldCard.equals(card) && isAnimationPanel && imagePanel.hasImage()) {
             return; //prevent unnecessary update logic for animation panel
         }
+        if (card != null && card == oldCard && card.getChangeCount() == updatedCardChanges
+                && card.getCurrentState().getChangeCount() == updatedStateChanges
+                && imagePanel.getWidth() == updatedImageWidth && imagePanel.getHeight() == updatedImageHeight) {
+            return; //nothing changed since the last update, like for the other cards of a zone being refreshed
+        }
 
         updateText();
         updatePTOverlay();
         updateImage();
+        if (card != null) {
+            updatedCardChanges = card.getChangeCount();
+            updatedStateChanges = card.getCurrentState().getChangeCount();
+            updatedImageWidth = imagePanel.getWidth();
+            updatedImageHeight = imagePanel.getHeight();
+        }
         repaint();
     }
 
@@ -1048,6 +1219,8 @@ public class CardPanel extends SkinnedPanel implements CardContainer, IDisposabl
         imagePanel.setImage(null);
         imagePanel = null;
         card = null;
+        rendered = null;
+        renderedKey = null;
     }
 
     public static CardPanel getDragAnimationPanel() {
@@ -1119,6 +1292,7 @@ public class CardPanel extends SkinnedPanel implements CardContainer, IDisposabl
     }
 
     public void repaintOverlays() {
+        overlayVersion++;
         repaint();
         doLayout();
     }
@@ -19,6 +19,8 @@ package forge.view.arcane;
 
 import java.awt.Color;
 import java.awt.Dimension;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
 import java.awt.Rectangle;
 import java.awt.event.MouseEvent;
 import java.util.ArrayList;
@@ -78,6 +80,14 @@ public class PlayArea extends CardPanelContainer implements CardPanelMouseListen
     private boolean makeTokenRow = true;
     private boolean stackCreatures = false;
 
+    // the card width found for the last shape of the rows, searched again only when a stack is added, removed or
+    // changes size, so tapping a card or updating it lays out the zone in one pass. Adding or removing cards
+    // arranges the rows again, starting the search from the last width
+    private List<Integer> lastShape;
+    private int lastShapeCardWidth;
+    private static final int SHAPE_AREA = 4; // the size of the area and the card width bounds come first
+    private long lastLayoutNanos;
+
     public PlayArea(final CMatchUI matchUI, final FScrollPane scrollPane, final boolean mirror, final PlayerView player, final ZoneType zone) {
         super(matchUI, scrollPane);
         this.setBackground(Color.white);
@@ -256,6 +266,7 @@ public class PlayArea extends CardPanelContainer implements CardPanelMouseListen
 
     @Override
     public final void doLayout() {
+        final long start = System.nanoTime();
         final Rectangle rect = this.getScrollPane().getVisibleRect();
 
         this.playAreaWidth = rect.width;
@@ -284,10 +295,46 @@ public class PlayArea extends CardPanelContainer implements CardPanelMouseListen
             tokens.clear();
         }
 
+        final List<Integer> shape = getShape(lands, tokens, creatures, others);
+        if (shape.equals(lastShape)) {
+            setCardWidth(lastShapeCardWidth);
+            layoutRows(tryArrangePilesOfWidth(lands, tokens, creatures, others));
+            lastLayoutNanos = System.nanoTime() - start;
+            return;
+        }
+
         // should find an appropriate width of card
         int maxCardWidth = this.getCardWidthMax();
-        setCardWidth(maxCardWidth);
         int minCardWidth = this.getCardWidthMin();
+        List<CardStackRow> template = null;
+        if (lastShape != null && shape.subList(0, SHAPE_AREA).equals(lastShape.subList(0, SHAPE_AREA))) {
+            // cards were added or removed in the same area: the cards fit no wider than before after an add and at
+            // least as wide after a remove, so an add that still fits is laid out in one pass
+            final int cards = countCards(shape);
+            final int lastCards = countCards(lastShape);
+            if (cards > lastCards) {
+                template = findCardWidth(lands, tokens, creatures, others, minCardWidth, Math.min(maxCardWidth, lastShapeCardWidth));
+            } else if (cards < lastCards) {
+                template = findCardWidth(lands, tokens, creatures, others, Math.max(minCardWidth, lastShapeCardWidth), maxCardWidth);
+            }
+        }
+        if (template == null) {
+            template = findCardWidth(lands, tokens, creatures, others, minCardWidth, maxCardWidth);
+        }
+
+        lastShape = shape;
+        lastShapeCardWidth = getCardWidth();
+        layoutRows(template);
+        lastLayoutNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Searches the widest card width between the bounds that fits, the lower bound taken to fit.
+     * @return the rows at that width, or null if the cards don't fit even at the lower bound.
+     */
+    private List<CardStackRow> findCardWidth(final CardStackRow lands, final CardStackRow tokens, final CardStackRow creatures,
+            final CardStackRow others, final int minCardWidth, final int maxCardWidth) {
+        setCardWidth(maxCardWidth);
         int lastGoodCardWidth = minCardWidth;
         int deltaCardWidth = (maxCardWidth - minCardWidth) / 2;
         List<CardStackRow> lastTemplate = null;
@@ -312,7 +359,37 @@ public class PlayArea extends CardPanelContainer implements CardPanelMouseListen
         setCardWidth(lastGoodCardWidth);
         if (null == lastTemplate) 
             lastTemplate = tryArrangePilesOfWidth(lands, tokens, creatures, others);
+        return lastTemplate;
+    }
+
+    private static int countCards(final List<Integer> shape) {
+        int cards = 0;
+        for (int i = SHAPE_AREA; i < shape.size(); i++) {
+            cards += Math.max(0, shape.get(i));
+        }
+        return cards;
+    }
+
+    /**
+     * @return what the card width search depends on: the size of the play area and the sizes of the stacks of
+     * each row.
+     */
+    private List<Integer> getShape(final CardStackRow lands, final CardStackRow tokens, final CardStackRow creatures, final CardStackRow others) {
+        final List<Integer> shape = new ArrayList<>();
+        shape.add(playAreaWidth);
+        shape.add(playAreaHeight);
+        shape.add(getCardWidthMin());
+        shape.add(getCardWidthMax());
+        for (final CardStackRow row : new CardStackRow[] { lands, tokens, creatures, others }) {
+            shape.add(-row.size());
+            for (final CardStack stack : row) {
+                shape.add(stack.size());
+            }
+        }
+        return shape;
+    }
 
+    private void layoutRows(final List<CardStackRow> lastTemplate) {
         this.rows = lastTemplate;
         // Get size of all the rows.
         int x, y = PlayArea.GUTTER_Y;
@@ -328,8 +405,12 @@ public class PlayArea extends CardPanelContainer implements CardPanelMouseListen
             y = rowBottom;
             maxRowWidth = Math.max(maxRowWidth, x);
         }
-        this.setPreferredSize(new Dimension(maxRowWidth - this.cardSpacingX, y - this.cardSpacingY));
-        this.revalidate();
+        final Dimension preferredSize = new Dimension(maxRowWidth - this.cardSpacingX, y - this.cardSpacingY);
+        if (!preferredSize.equals(this.getPreferredSize())) {
+            // the scroll pane lays out the area again, which is only needed when it changed size
+            this.setPreferredSize(preferredSize);
+            this.revalidate();
+        }
         positionAllCards(lastTemplate);
         repaint();
 
@@ -494,6 +575,20 @@ public class PlayArea extends CardPanelContainer implements CardPanelMouseListen
         return (height - this.cardSpacingY) + (PlayArea.GUTTER_Y * 2);
     }
 
+    @Override
+    protected void paintChildren(final Graphics g) {
+        super.paintChildren(g);
+        if (CardPanel.isShowRepaintTimes()) {
+            final Rectangle visible = getVisibleRect();
+            final String text = String.format("layout %.2f ms, %d cards", lastLayoutNanos / 1000000.0, getCardPanels().size());
+            final FontMetrics fm = g.getFontMetrics();
+            g.setColor(new Color(0, 0, 0, 180));
+            g.fillRect(visible.x, visible.y, fm.stringWidth(text) + 6, fm.getHeight() + 2);
+            g.setColor(Color.YELLOW);
+            g.drawString(text, visible.x + 3, visible.y + 1 + fm.getAscent());
+        }
+    }
+
     @Override
     public final CardPanel getCardPanel(final int x, final int y) {
         for (final CardStackRow row : this.rows) {
@@ -0,0 +1,209 @@
+package forge;
+
+import static org.testng.AssertJUnit.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.google.common.base.Function;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.Lists;
+
+import forge.card.CardEdition;
+import forge.card.ColorSet;
+import forge.card.DeckHints;
+import forge.deck.CardPool;
+import forge.deck.DeckSection;
+import forge.gamemodes.limited.CardRanker;
+import forge.gamemodes.limited.CardRankingComparator;
+import forge.gamemodes.limited.LimitedPlayerAI;
+import forge.gui.GuiBase;
+import forge.item.PaperCard;
+import forge.localinstance.properties.ForgePreferences;
+import forge.localinstance.properties.ForgePreferences.FPref;
+import forge.model.FModel;
+
+/**
+ * Checks the DeckHints scores CardRanker keeps in an index against matching every pair of cards, the way they were
+ * scored before.
+ */
+public class CardRankerDeckHintsTest {
+    private static final Map<DeckHints.Type, Integer> typeFactors = ImmutableMap.<DeckHints.Type, Integer>builder()
+            .put(DeckHints.Type.ABILITY, 3)
+            .put(DeckHints.Type.COLOR, 1)
+            .put(DeckHints.Type.KEYWORD, 3)
+            .put(DeckHints.Type.NAME, 10)
+            .put(DeckHints.Type.TYPE, 3)
+            .build();
+    private static final Map<DeckHints.Type, Integer> typeThresholds = ImmutableMap.<DeckHints.Type, Integer>builder()
+            .put(DeckHints.Type.ABILITY, 5)
+            .put(DeckHints.Type.COLOR, 10)
+            .put(DeckHints.Type.KEYWORD, 8)
+            .put(DeckHints.Type.NAME, 2)
+            .put(DeckHints.Type.TYPE, 8)
+            .build();
+
+    // cards hinting at or needing several types, names and abilities
+    private static final String[] HINTED = { "Krenko, Mob Boss", "Marwyn, the Nurturer", "Blaring Captain",
+            "Baru, Fist of Krosa", "Brilliant Restoration", "Biovisionary", "Bramblewood Paragon", "Barbarian Outcast",
+            "Bog Gnarr", "Bring the Ending", "Blighted Cataract", "Llanowar Elves", "Raging Goblin", "Biovisionary" };
+
+    @BeforeClass
+    public void setUp() {
+        GuiBase.setInterface(new GuiDesktop());
+        FModel.initialize(null, new Function<ForgePreferences, Void>() {
+            @Override
+            public Void apply(ForgePreferences preferences) {
+                preferences.setPref(FPref.LOAD_CARD_SCRIPTS_LAZILY, false);
+                preferences.setPref(FPref.UI_LANGUAGE, "en-US");
+                return null;
+            }
+        });
+    }
+
+    private static PaperCard card(String name) {
+        return FModel.getMagicDb().getCommonCards().getCard(name);
+    }
+
+    private static List<PaperCard> edition(String code, int count) {
+        List<PaperCard> cards = new ArrayList<>();
+        CardEdition edition = FModel.getMagicDb().getEditions().get(code);
+        for (CardEdition.CardInSet cis : edition.getAllCardsInSet()) {
+            PaperCard pc = FModel.getMagicDb().getCommonCards().getCard(cis.name, code);
+            if (pc != null && cards.size() < count) {
+                cards.add(pc);
+            }
+        }
+        return cards;
+    }
+
+    private static List<PaperCard> createPool() {
+        List<PaperCard> pool = edition("DOM", 60);
+        for (String name : HINTED) {
+            pool.add(card(name));
+        }
+        return pool;
+    }
+
+    @Test
+    public void testRankCardsInDeck() {
+        List<PaperCard> pool = createPool();
+        List<Pair<Double, PaperCard>> scores = new ArrayList<>();
+        for (int i = 0; i < pool.size(); i++) {
+            PaperCard card = pool.get(i);
+            List<PaperCard> others = new ArrayList<>(pool);
+            others.remove(i);
+            scores.add(Pair.of(getScore(card) + getPairwiseScore(card, others), card));
+        }
+        assertEquals(sort(scores), CardRanker.rankCardsInDeck(pool));
+    }
+
+    @Test
+    public void testRankCardsInPack() {
+        List<PaperCard> pool = createPool();
+        List<PaperCard> pack = edition("M19", 15);
+        pack.addAll(Lists.newArrayList(card("Goblin Piker"), card("Elvish Mystic"), card("Biovisionary")));
+        for (boolean canAddMoreColors : new boolean[] { true, false }) {
+            ColorSet colors = ColorSet.fromNames("R", "G");
+            List<Pair<Double, PaperCard>> scores = new ArrayList<>();
+            for (PaperCard card : pack) {
+                double score = getScore(card);
+                if (!canAddMoreColors && !card.getRules().getDeckbuildingColors().hasNoColorsExcept(colors)) {
+                    score -= 50.0;
+                }
+                scores.add(Pair.of(score + getPairwiseScore(card, pool), card));
+            }
+            assertEquals(sort(scores), CardRanker.rankCardsInPack(pack, pool, colors, canAddMoreColors));
+        }
+    }
+
+    @Test
+    public void testDraftAiFollowsChangedPool() {
+        // close enough in the M19 rankings for ten cards hinting at either to decide
+        PaperCard goblin = FModel.getMagicDb().getCommonCards().getCard("Goblin Instigator", "M19");
+        PaperCard elf = FModel.getMagicDb().getCommonCards().getCard("Elvish Rejuvenator", "M19");
+        DraftingAI player = new DraftingAI();
+        player.getPool().add(card("Krenko, Mob Boss"), 10);
+        PaperCard first = player.pickFrom(Lists.newArrayList(goblin, elf));
+
+        // the same number of cards, hinting at the other tribe
+        player.getPool().remove(card("Krenko, Mob Boss"), 10);
+        player.getPool().add(card("Marwyn, the Nurturer"), 10);
+        PaperCard second = player.pickFrom(Lists.newArrayList(goblin, elf));
+
+        assertEquals(goblin, first);
+        assertEquals(elf, second);
+    }
+
+    private static class DraftingAI extends LimitedPlayerAI {
+        DraftingAI() {
+            super(0);
+        }
+
+        CardPool getPool() {
+            return deck.getOrCreate(DeckSection.Sideboard);
+        }
+
+        PaperCard pickFrom(List<PaperCard> pack) {
+            receiveOpenedPack(pack);
+            // what the pool as a whole hints at right now
+            PaperCard expected = CardRanker.rankCardsInPack(pack, getPool().toFlatList(),
+                    deckCols.getChosenColors(), deckCols.canChoseMoreColors()).get(0);
+            PaperCard pick = chooseCard();
+            assertEquals(expected, pick);
+            passPack();
+            return pick;
+        }
+    }
+
+    private static List<PaperCard> sort(List<Pair<Double, PaperCard>> scores) {
+        Collections.sort(scores, Collections.reverseOrder(new CardRankingComparator()));
+        List<PaperCard> ranked = new ArrayList<>();
+        for (Pair<Double, PaperCard> pair : scores) {
+            ranked.add(pair.getValue());
+        }
+        return ranked;
+    }
+
+    private static double getScore(PaperCard card) {
+        double score = CardRanker.getRawScore(card);
+        if (card.getRules().getAiHints().getRemAIDecks()) {
+            score -= 20.0;
+        }
+        return score;
+    }
+
+    // the scoring before the index, matching the card against the hints of every other card
+    private static double getPairwiseScore(PaperCard card, List<PaperCard> otherCards) {
+        double score = 0.0;
+
+        List<PaperCard> toBeRanked = Lists.newArrayList(card);
+        for (PaperCard other : otherCards) {
+            final DeckHints hints = other.getRules().getAiHints().getDeckHints();
+            if (hints != null && hints.isValid()) {
+                final Map<DeckHints.Type, Iterable<PaperCard>> cardsByType = hints.filterByType(toBeRanked);
+                for (DeckHints.Type type : cardsByType.keySet()) {
+                    score += Iterables.size(cardsByType.get(type)) * typeFactors.get(type);
+                }
+            }
+        }
+
+        final DeckHints needs = card.getRules().getAiHints().getDeckNeeds();
+        if (needs != null && needs.isValid()) {
+            final Map<DeckHints.Type, Iterable<PaperCard>> cardsByType = needs.filterByType(otherCards);
+            for (DeckHints.Type type : cardsByType.keySet()) {
+                int found = Iterables.size(cardsByType.get(type));
+                score -= (Math.max(typeThresholds.get(type) - found, 0) / (double) typeThresholds.get(type)) * typeFactors.get(type);
+            }
+        }
+
+        return score;
+    }
+}
@@ -0,0 +1,96 @@
+package forge.ai;
+
+import java.util.List;
+import java.util.Random;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import forge.ai.simulation.SimulationTest;
+import forge.card.MagicColor;
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.mana.Mana;
+import forge.game.phase.PhaseType;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+import forge.game.zone.ZoneType;
+import forge.util.MyRandom;
+
+public class AiPlayabilityCacheTest extends SimulationTest {
+    private Random previous;
+
+    // the AI rolls whether to play some spells, like burn at a creature
+    @BeforeMethod
+    public void seedRandom() {
+        previous = MyRandom.setThreadRandom(new Random(1));
+    }
+
+    @AfterMethod
+    public void restoreRandom() {
+        MyRandom.setThreadRandom(previous);
+    }
+
+    @Test
+    public void testRejectedAbilityReconsideredWithOtherMana() {
+        Game game = initAndCreateGame();
+        // the player without simulation, which keeps its decisions
+        Player p = game.getPlayers().get(0);
+        AiController aic = ((PlayerControllerAi) p.getController()).getAi();
+
+        Card forest = addCard("Forest", p);
+        Card mountain = addCard("Mountain", p);
+        forest.setTapped(true);
+        mountain.setTapped(true);
+        Card shock = addCardToZone("Shock", p, ZoneType.Hand);
+
+        Player opponent = game.getPlayers().get(1);
+        Card bear = addCard("Runeclaw Bear", opponent);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN2, p);
+        game.getAction().checkStateEffects(true);
+
+        Mana green = new Mana(MagicColor.GREEN, forest, null);
+        p.getManaPool().addMana(green);
+        AssertJUnit.assertNull(aic.chooseSpellAbilityToPlay());
+
+        // as much mana as before, of the color Shock needs
+        p.getManaPool().removeMana(green);
+        p.getManaPool().addMana(new Mana(MagicColor.RED, mountain, null));
+        List<SpellAbility> chosen = aic.chooseSpellAbilityToPlay();
+        AssertJUnit.assertNotNull(chosen);
+        AssertJUnit.assertEquals(shock, chosen.get(0).getHostCard());
+        AssertJUnit.assertEquals(bear, chosen.get(0).getTargetCard());
+    }
+
+    @Test
+    public void testRejectionReusedInSameState() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(0);
+        AiController aic = ((PlayerControllerAi) p.getController()).getAi();
+        AiPlayabilityCache cache = aic.getPlayabilityCache();
+
+        Card forest = addCard("Forest", p);
+        forest.setTapped(true);
+        addCardToZone("Shock", p, ZoneType.Hand);
+        addCard("Runeclaw Bear", game.getPlayers().get(1));
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN2, p);
+        game.getAction().checkStateEffects(true);
+        p.getManaPool().addMana(new Mana(MagicColor.GREEN, forest, null));
+
+        int hits = cache.getDecisionHits();
+        int misses = cache.getDecisionMisses();
+        AssertJUnit.assertNull(aic.chooseSpellAbilityToPlay());
+        AssertJUnit.assertEquals(hits, cache.getDecisionHits());
+        AssertJUnit.assertTrue(cache.getDecisionMisses() > misses);
+
+        // nothing changed, Shock is still rejected without deciding again
+        misses = cache.getDecisionMisses();
+        AssertJUnit.assertNull(aic.chooseSpellAbilityToPlay());
+        AssertJUnit.assertTrue(cache.getDecisionHits() > hits);
+        AssertJUnit.assertEquals(misses, cache.getDecisionMisses());
+    }
+}
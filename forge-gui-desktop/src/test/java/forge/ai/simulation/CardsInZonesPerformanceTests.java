@@ -0,0 +1,109 @@
+package forge.ai.simulation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.Lists;
+
+import forge.ai.LobbyPlayerAi;
+import forge.deck.Deck;
+import forge.game.Game;
+import forge.game.GameRules;
+import forge.game.GameStage;
+import forge.game.GameType;
+import forge.game.Match;
+import forge.game.card.Card;
+import forge.game.card.CardCollectionView;
+import forge.game.player.Player;
+import forge.game.player.RegisteredPlayer;
+import forge.game.zone.ZoneType;
+
+public class CardsInZonesPerformanceTests extends SimulationTest {
+    private static final String[] PERMANENTS = { "Forest", "Island", "Grizzly Bears", "Serra Angel", "Sol Ring",
+            "Glorious Anthem", "Llanowar Elves", "Shivan Dragon", "Crusade", "Gaddock Teeg" };
+
+    private Game createCommanderGame() {
+        initAndCreateGame();
+        List<RegisteredPlayer> players = Lists.newArrayList();
+        for (int i = 0; i < 4; i++) {
+            players.add(new RegisteredPlayer(new Deck()).setPlayer(new LobbyPlayerAi("p" + i, null)));
+        }
+        GameRules rules = new GameRules(GameType.Commander);
+        Match match = new Match(rules, players, "Test");
+        Game game = new Game(players, rules, match);
+        game.setAge(GameStage.Play);
+        return game;
+    }
+
+    private void createBoard(Game game) {
+        for (Player p : game.getPlayers()) {
+            for (int i = 0; i < 40; i++) {
+                addCard(PERMANENTS[i % PERMANENTS.length], p);
+            }
+            addCards("Lightning Bolt", 20, p);
+        }
+        game.getAction().checkStateEffects(true);
+    }
+
+    @Test
+    public void testCardsInZonesFollowZoneChanges() {
+        Game game = createCommanderGame();
+        Player p = game.getPlayers().get(0);
+        Card bears = addCard("Grizzly Bears", p);
+        Card bolt = addCardToZone("Lightning Bolt", p, ZoneType.Graveyard);
+        addCard("Forest", game.getPlayers().get(2));
+
+        CardCollectionView cards = game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES);
+        assertTrue(cards.contains(bears));
+        assertTrue(cards.contains(bolt));
+        assertEquals(cards.size(), 3);
+
+        // a list handed out stays the same while cards move
+        game.getAction().moveToGraveyard(bears, null);
+        assertTrue(cards.contains(bears));
+        assertFalse(game.getCardsIn(ZoneType.Battlefield).contains(bears));
+        assertTrue(game.getCardsIn(ZoneType.Graveyard).contains(bears));
+        assertEquals(game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES).size(), 3);
+    }
+
+    @Test(enabled = false) // disabled to not run in battery
+    public void testBenchmarkCardsInZones() {
+        Game game = createCommanderGame();
+        createBoard(game);
+        Card last = game.getPlayers().get(3).getCardsIn(ZoneType.Battlefield).getLast();
+
+        int nRuns = 200000;
+        for (int r = 0; r < nRuns / 10; r++) { // warm up
+            query(game, last);
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long id = Thread.currentThread().getId();
+        long bytes = threads.getThreadAllocatedBytes(id);
+        long start = System.nanoTime();
+        int found = 0;
+        for (int r = 0; r < nRuns; r++) {
+            found += query(game, last);
+        }
+        long elapsed = Math.max(1, System.nanoTime() - start);
+        bytes = threads.getThreadAllocatedBytes(id) - bytes;
+        assertEquals(found, 2 * nRuns);
+        System.out.println("[CARDS IN ZONES] ns/query: " + elapsed / nRuns + ", bytes/query: " + bytes / nRuns);
+    }
+
+    private static int query(Game game, Card c) {
+        int found = 0;
+        if (game.getCardsIn(ZoneType.Battlefield).contains(c)) {
+            found++;
+        }
+        if (game.getCardsIn(ZoneType.STATIC_ABILITIES_SOURCE_ZONES).contains(c)) {
+            found++;
+        }
+        return found;
+    }
+}
@@ -0,0 +1,107 @@
+package forge.ai.simulation;
+
+import static org.testng.Assert.assertEquals;
+
+import org.testng.annotations.Test;
+
+import forge.ai.CreatureEvaluator;
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.card.CardCollectionView;
+import forge.game.player.Player;
+import forge.game.zone.ZoneType;
+
+public class CreatureEvaluatorPerformanceTests extends SimulationTest {
+    private static final String[] CREATURES = { "Grizzly Bears", "Serra Angel", "Llanowar Elves", "Shivan Dragon",
+            "Prodigal Pyromancer", "Electrostatic Pummeler", "Wall of Omens", "Baneslayer Angel" };
+
+    // evaluates everything again, just like before evaluations were cached
+    private static class UncachedCreatureEvaluator extends CreatureEvaluator {
+        @Override
+        protected boolean isDebugging() {
+            return true;
+        }
+    }
+
+    private CardCollectionView createBoard(Game game) {
+        for (Player p : game.getPlayers()) {
+            for (int i = 0; i < 25; i++) {
+                addCard(CREATURES[i % CREATURES.length], p);
+            }
+        }
+        game.getAction().checkStateEffects(true);
+        return game.getCardsIn(ZoneType.Battlefield);
+    }
+
+    @Test
+    public void testCachedValuesMatch() {
+        Game game = initAndCreateGame();
+        CardCollectionView board = createBoard(game);
+        CreatureEvaluator cached = new CreatureEvaluator();
+        CreatureEvaluator uncached = new UncachedCreatureEvaluator();
+        for (int r = 0; r < 2; r++) {
+            for (Card c : board) {
+                assertEquals(cached.evaluateCreature(c), uncached.evaluateCreature(c), c.getName());
+            }
+        }
+        Card bears = findCardWithName(game, "Grizzly Bears");
+        bears.setDamage(1);
+        assertEquals(cached.evaluateCreature(bears), uncached.evaluateCreature(bears));
+    }
+
+    @Test
+    public void testCachedValuesFollowEchoAndStatics() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(0);
+        Card marshal = addCard("Mogg War Marshal", p);
+        Card anima = addCard("Tome Anima", p);
+        for (int i = 0; i < 3; i++) {
+            addCardToZone("Island", p, ZoneType.Library);
+        }
+        game.getAction().checkStateEffects(true);
+        CreatureEvaluator cached = new CreatureEvaluator();
+        CreatureEvaluator uncached = new UncachedCreatureEvaluator();
+
+        // echo unpaid until the next upkeep
+        marshal.setCameUnderControlSinceLastUpkeep(true);
+        int unpaid = cached.evaluateCreature(marshal);
+        assertEquals(unpaid, uncached.evaluateCreature(marshal));
+        marshal.setCameUnderControlSinceLastUpkeep(false);
+        assertEquals(cached.evaluateCreature(marshal), uncached.evaluateCreature(marshal));
+        assertEquals(cached.evaluateCreature(marshal), unpaid + 10);
+
+        // can't be blocked while two cards were drawn this turn, which a new turn resets without touching the card
+        p.drawCards(2);
+        int unblockable = cached.evaluateCreature(anima);
+        assertEquals(unblockable, uncached.evaluateCreature(anima));
+        p.resetNumDrawnThisTurn();
+        assertEquals(cached.evaluateCreature(anima), uncached.evaluateCreature(anima));
+        assertEquals(cached.evaluateCreature(anima), unblockable - anima.getNetCombatDamage() * 10);
+    }
+
+    @Test(enabled = false) // disabled to not run in battery
+    public void testBenchmarkEvaluateBoard() {
+        Game game = initAndCreateGame();
+        CardCollectionView board = createBoard(game);
+        int nRuns = 2000;
+        System.out.println("[UNCACHED] evaluations/sec: " + benchmark(new UncachedCreatureEvaluator(), board, nRuns));
+        System.out.println("[CACHED] evaluations/sec: " + benchmark(new CreatureEvaluator(), board, nRuns));
+    }
+
+    private static long benchmark(CreatureEvaluator evaluator, CardCollectionView board, int nRuns) {
+        // warm up
+        for (int r = 0; r < nRuns / 10; r++) {
+            for (Card c : board) {
+                evaluator.evaluateCreature(c);
+            }
+        }
+        long start = System.nanoTime();
+        for (int r = 0; r < nRuns; r++) {
+            for (Card c : board) {
+                evaluator.evaluateCreature(c);
+            }
+        }
+        long elapsed = Math.max(1, System.nanoTime() - start);
+        return (long) nRuns * board.size() * 1000000000L / elapsed;
+    }
+}
@@ -11,6 +11,7 @@ import forge.ai.ComputerUtilAbility;
 import forge.card.CardStateName;
 import forge.card.MagicColor;
 import forge.game.Game;
+import forge.game.Match;
 import forge.game.ability.ApiType;
 import forge.game.card.Card;
 import forge.game.card.CardCollection;
@@ -19,6 +20,7 @@ import forge.game.keyword.Keyword;
 import forge.game.phase.PhaseType;
 import forge.game.player.Player;
 import forge.game.spellability.SpellAbility;
+import forge.game.staticability.StaticAbilityCantBeCast;
 import forge.game.zone.ZoneType;
 
 public class GameSimulationTest extends SimulationTest {
@@ -2509,4 +2511,47 @@ public class GameSimulationTest extends SimulationTest {
         AssertJUnit.assertTrue(transformedHeliodToken.isTransformed());
         AssertJUnit.assertTrue(transformedHeliodToken.isBackSide());
     }
+
+    @Test
+    public void testCantBeCastFollowsZoneChanges() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(0);
+
+        Card teeg = addCard("Gaddock Teeg", p);
+        Card wrath = addCardToZone("Wrath of God", p, ZoneType.Hand);
+        SpellAbility wrathSA = wrath.getFirstSpellAbility();
+        wrathSA.setActivatingPlayer(p, true);
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p);
+        game.getAction().checkStateEffects(true);
+
+        AssertJUnit.assertTrue(StaticAbilityCantBeCast.cantBeCastAbility(wrathSA, wrath, p));
+
+        teeg = game.getAction().moveToGraveyard(teeg, null);
+        AssertJUnit.assertFalse(StaticAbilityCantBeCast.cantBeCastAbility(wrathSA, wrath, p));
+
+        game.getAction().moveToPlay(teeg, null, null);
+        AssertJUnit.assertTrue(StaticAbilityCantBeCast.cantBeCastAbility(wrathSA, wrath, p));
+    }
+
+    @Test
+    public void testSameSeedShufflesTheSame() {
+        Game game = initAndCreateGame();
+        List<String> orders = Lists.newArrayList();
+        for (int i = 0; i < 2; i++) {
+            Match match = new Match(game.getRules(), game.getMatch().getPlayers(), "Test");
+            match.setSeed(20221019L);
+            Game seeded = new Game(match.getPlayers(), game.getRules(), match);
+            Player p = seeded.getPlayers().get(0);
+            for (int c = 0; c < 20; c++) {
+                addCardToZone(c % 2 == 0 ? "Forest" : "Grizzly Bears", p, ZoneType.Library).setName("Card " + c);
+            }
+            p.shuffle(null);
+            StringBuilder order = new StringBuilder();
+            for (Card c : p.getCardsIn(ZoneType.Library)) {
+                order.append(c.getName()).append(',');
+            }
+            orders.add(order.append(seeded.getRandom().nextInt()).toString());
+        }
+        AssertJUnit.assertEquals(orders.get(0), orders.get(1));
+    }
 }
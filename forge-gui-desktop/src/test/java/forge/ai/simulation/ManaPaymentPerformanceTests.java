@@ -0,0 +1,110 @@
+package forge.ai.simulation;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.Lists;
+
+import forge.ai.ComputerUtilMana;
+import forge.ai.PlayerControllerAi;
+import forge.game.Game;
+import forge.game.card.Card;
+import forge.game.phase.PhaseType;
+import forge.game.player.Player;
+import forge.game.spellability.SpellAbility;
+import forge.game.zone.ZoneType;
+
+public class ManaPaymentPerformanceTests extends SimulationTest {
+    private static final String[] SOURCES = { "Forest", "Plains", "Island", "Swamp", "Mountain", "Savannah", "Tundra",
+            "Badlands", "Command Tower", "Birds of Paradise", "Llanowar Elves", "Sol Ring", "Bayou", "Scrubland" };
+    private static final String[] SPELLS = { "Shivan Dragon", "Serra Angel", "Qasali Pridemage", "Lightning Bolt",
+            "Fireball", "Cryptic Command", "Kozilek, Butcher of Truth", "Kitchen Finks", "Dismember",
+            "Sphinx of the Steel Wind" };
+
+    private SpellAbility addSpell(String name, Player p) {
+        Card c = addCardToZone(name, p, ZoneType.Hand);
+        SpellAbility sa = c.getFirstSpellAbility();
+        sa.setActivatingPlayer(p, true);
+        return sa;
+    }
+
+    private static void useSolver(Player p, boolean value) {
+        ((PlayerControllerAi) p.getController()).getAi().setUseManaPaymentSolver(value);
+    }
+
+    @Test
+    public void testPaysWithSourceNeededForAnotherShard() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p);
+        addCard("Savannah", p);
+        Card pilgrim = addCard("Avacyn's Pilgrim", p);
+        pilgrim.setSickness(false);
+        SpellAbility pridemage = addSpell("Qasali Pridemage", p);
+        game.getAction().checkStateEffects(true);
+
+        // Savannah comes first for {W}, but the Pilgrim can't pay for {G}
+        assertTrue(ComputerUtilMana.canPayManaCost(pridemage, p, 0, false));
+    }
+
+    @Test
+    public void testPaysGenericWithManaAndPhyrexianWithLife() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p);
+        addCard("Swamp", p);
+        SpellAbility dismember = addSpell("Dismember", p);
+        game.getAction().checkStateEffects(true);
+
+        assertTrue(ComputerUtilMana.canPayManaCost(dismember, p, 0, false));
+    }
+
+    @Test(enabled = false) // disabled to not run in battery
+    public void testBenchmarkLargeManaBase() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN1, p);
+        for (int i = 0; i < 40; i++) {
+            addCard(SOURCES[i % SOURCES.length], p).setSickness(false);
+        }
+        List<SpellAbility> spells = Lists.newArrayList();
+        for (String name : SPELLS) {
+            spells.add(addSpell(name, p));
+        }
+        game.getAction().checkStateEffects(true);
+
+        int nRuns = 50;
+        useSolver(p, false);
+        int greedyLeftover = leftoverMana(spells, p);
+        System.out.println("[GREEDY] leftover checks/sec: " + benchmark(spells, p, nRuns));
+        useSolver(p, true);
+        int solverLeftover = leftoverMana(spells, p);
+        System.out.println("[SOLVER] leftover checks/sec: " + benchmark(spells, p, nRuns));
+        assertEquals(solverLeftover, greedyLeftover);
+    }
+
+    private static int leftoverMana(List<SpellAbility> spells, Player p) {
+        int result = 0;
+        for (SpellAbility sa : spells) {
+            result += ComputerUtilMana.determineLeftoverMana(sa, p, false);
+        }
+        return result;
+    }
+
+    private static long benchmark(List<SpellAbility> spells, Player p, int nRuns) {
+        // warm up
+        for (int r = 0; r < nRuns / 10; r++) {
+            leftoverMana(spells, p);
+        }
+        long start = System.nanoTime();
+        for (int r = 0; r < nRuns; r++) {
+            leftoverMana(spells, p);
+        }
+        long elapsed = Math.max(1, System.nanoTime() - start);
+        return (long) nRuns * spells.size() * 1000000000L / elapsed;
+    }
+}
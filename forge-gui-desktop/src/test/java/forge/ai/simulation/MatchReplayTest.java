@@ -0,0 +1,76 @@
+package forge.ai.simulation;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.Test;
+
+import com.google.common.collect.Lists;
+
+import forge.ai.LobbyPlayerAi;
+import forge.ai.replay.MatchReplay;
+import forge.deck.Deck;
+import forge.game.Game;
+import forge.game.GameRules;
+import forge.game.GameType;
+import forge.game.Match;
+import forge.game.player.RegisteredPlayer;
+import forge.game.replay.MatchRecording;
+import forge.game.replay.MatchRecording.RecordedGame;
+import forge.model.FModel;
+
+public class MatchReplayTest extends SimulationTest {
+
+    private static Deck createDeck(String land, String... spells) {
+        Deck deck = new Deck();
+        deck.getMain().add(FModel.getMagicDb().getCommonCards().getCard(land), 16);
+        for (String name : spells) {
+            deck.getMain().add(FModel.getMagicDb().getCommonCards().getCard(name), 4);
+        }
+        return deck;
+    }
+
+    private static Match createMatch(long seed) {
+        GameRules rules = new GameRules(GameType.Constructed);
+        rules.setAppliedVariants(EnumSet.of(GameType.Constructed));
+        rules.setHeadless(true);
+        // creatures, burn and combat tricks, the AI holds mana back for some of them
+        List<RegisteredPlayer> players = Lists.newArrayList(
+                new RegisteredPlayer(createDeck("Mountain", "Raging Goblin", "Goblin Piker", "Shock", "Lightning Bolt",
+                        "Brute Force", "Hill Giant"))
+                        .setPlayer(new LobbyPlayerAi("Red", null)),
+                new RegisteredPlayer(createDeck("Forest", "Llanowar Elves", "Grizzly Bears", "Giant Growth", "Fog",
+                        "Rancor", "Craw Wurm"))
+                        .setPlayer(new LobbyPlayerAi("Green", null)));
+        Match match = new Match(rules, players, "Replay test");
+        match.setSeed(seed);
+        return match;
+    }
+
+    @Test
+    public void testReplayedGamesStayInSync() {
+        initAndCreateGame();
+
+        for (long seed = 1; seed <= 3; seed++) {
+            Match match = createMatch(seed);
+            MatchRecording recording = MatchReplay.record(match);
+            Game game = match.createGame();
+            match.startGame(game);
+            AssertJUnit.assertTrue(game.isGameOver());
+
+            List<RecordedGame> games = recording.getGames();
+            AssertJUnit.assertEquals(1, games.size());
+            RecordedGame recorded = games.get(0);
+            AssertJUnit.assertTrue(recorded.isFinished());
+
+            List<MatchReplay.Result> results = MatchReplay.replay(recording);
+            AssertJUnit.assertEquals(1, results.size());
+            MatchReplay.Result result = results.get(0);
+            AssertJUnit.assertTrue("seed " + seed + ": " + result.getError(), result.isInSync());
+            AssertJUnit.assertEquals(recorded.getWinner(), result.getWinner());
+            AssertJUnit.assertEquals(recorded.getTurns(), result.getTurns());
+            AssertJUnit.assertEquals(recorded.getDecisionCount(), result.getDecisions());
+        }
+    }
+}
@@ -4,9 +4,11 @@ import forge.game.spellability.LandAbility;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 import forge.item.PaperCard;
 import forge.model.FModel;
+import forge.util.MyRandom;
 import org.testng.AssertJUnit;
 import org.testng.annotations.Test;
 
@@ -45,6 +47,36 @@ public class SpellAbilityPickerSimulationTest extends SimulationTest {
         AssertJUnit.assertEquals(opponent, sa.getTargets().getFirstTargetedPlayer());
     }
 
+    @Test
+    public void testPickingKeepsThreadRandom() {
+        Game game = initAndCreateGame();
+        Player p = game.getPlayers().get(1);
+
+        addCard("Mountain", p);
+        addCardToZone("Shock", p, ZoneType.Hand);
+
+        Player opponent = game.getPlayers().get(0);
+        addCard("Runeclaw Bear", opponent);
+
+        game.getPhaseHandler().devModeSet(PhaseType.MAIN2, p);
+        game.getAction().checkStateEffects(true);
+
+        Random gameRandom = new Random(1);
+        Random previous = MyRandom.setThreadRandom(gameRandom);
+        try {
+            SpellAbilityPicker picker = new SpellAbilityPicker(game, p);
+            AssertJUnit.assertNotNull(picker.chooseSpellAbilityToPlay(null));
+            AssertJUnit.assertSame(gameRandom, MyRandom.getRandom());
+
+            // nothing was left overriding the streams of the threads
+            Random otherRandom = new Random(2);
+            MyRandom.setThreadRandom(otherRandom);
+            AssertJUnit.assertSame(otherRandom, MyRandom.getRandom());
+        } finally {
+            MyRandom.setThreadRandom(previous);
+        }
+    }
+
     @Test
     public void testPickingKillingCreature() {
         Game game = initAndCreateGame();
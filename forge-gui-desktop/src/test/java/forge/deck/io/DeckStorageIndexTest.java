@@ -0,0 +1,201 @@
+package forge.deck.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.commons.lang3.StringUtils;
+import org.testng.AssertJUnit;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.google.common.base.Function;
+import com.google.common.collect.Sets;
+
+import forge.GuiDesktop;
+import forge.card.CardRules;
+import forge.deck.CardPool;
+import forge.deck.Deck;
+import forge.deck.DeckProxy;
+import forge.deck.DeckSection;
+import forge.gui.GuiBase;
+import forge.item.PaperCard;
+import forge.localinstance.properties.ForgePreferences;
+import forge.localinstance.properties.ForgePreferences.FPref;
+import forge.model.FModel;
+import forge.util.storage.StorageIndex;
+
+public class DeckStorageIndexTest {
+    private File dir;
+
+    // a deck storage that remembers which files it had to parse
+    private static final class CountingDeckStorage extends DeckStorage {
+        private final List<String> parsed = Collections.synchronizedList(new ArrayList<>());
+
+        CountingDeckStorage(File dir) {
+            super(dir, dir.getPath());
+        }
+
+        @Override
+        protected Deck read(final File file, final Map<String, String> description) {
+            parsed.add(file.getName());
+            return super.read(file, description);
+        }
+    }
+
+    @BeforeClass
+    public void setUp() {
+        GuiBase.setInterface(new GuiDesktop());
+        FModel.initialize(null, new Function<ForgePreferences, Void>() {
+            @Override
+            public Void apply(ForgePreferences preferences) {
+                preferences.setPref(FPref.LOAD_CARD_SCRIPTS_LAZILY, false);
+                preferences.setPref(FPref.UI_LANGUAGE, "en-US");
+                return null;
+            }
+        });
+    }
+
+    @BeforeMethod
+    public void createFolder() throws IOException {
+        dir = Files.createTempDirectory("DeckStorageIndexTest").toFile();
+    }
+
+    @AfterMethod
+    public void deleteFolder() {
+        for (File file : dir.listFiles()) {
+            file.delete();
+        }
+        dir.delete();
+    }
+
+    private static PaperCard card(String name) {
+        return FModel.getMagicDb().getCommonCards().getCard(name);
+    }
+
+    private File writeDeck(String fileName, Deck deck) {
+        File file = new File(dir, fileName);
+        DeckSerializer.writeDeck(deck, file);
+        return file;
+    }
+
+    private static Deck bears() {
+        Deck deck = new Deck("Bears");
+        deck.setComment("Two colors");
+        deck.getTags().addAll(Sets.newHashSet("Beatdown", "Budget"));
+        deck.getMain().add(card("Grizzly Bears"), 4);
+        deck.getMain().add(card("Kitchen Finks"), 2);
+        deck.getMain().add(card("Forest"), 16);
+        deck.getMain().add(card("Plains"), 2);
+        deck.getOrCreate(DeckSection.Sideboard).add(card("Lightning Bolt"), 3);
+        return deck;
+    }
+
+    private static Deck burn() {
+        Deck deck = new Deck("Burn");
+        deck.getMain().add(card("Lightning Bolt"), 4);
+        deck.getMain().add(card("Mountain"), 18);
+        return deck;
+    }
+
+    private static Deck samurai() {
+        Deck deck = new Deck("Samurai");
+        deck.getOrCreate(DeckSection.Commander).add(card("Isamaru, Hound of Konda"), 1);
+        deck.getMain().add(card("Savannah Lions"), 1);
+        deck.getMain().add(card("Plains"), 30);
+        return deck;
+    }
+
+    private static void assertSameAsParsed(File file, Deck deck) {
+        Deck parsed = DeckSerializer.fromFile(file);
+        StorageIndex.Entry entry = deck.getIndexEntry();
+        AssertJUnit.assertNotNull(file.getName(), entry);
+
+        AssertJUnit.assertEquals(parsed.getName(), entry.get(DeckStorage.KEY_NAME));
+        AssertJUnit.assertEquals(parsed.getComment(), entry.get(DeckStorage.KEY_COMMENT));
+        AssertJUnit.assertEquals(parsed.getTags().isEmpty() ? null : StringUtils.join(parsed.getTags(), DeckFileHeader.TAGS_SEPARATOR),
+                entry.get(DeckStorage.KEY_TAGS));
+
+        List<CardRules> colorCards = new ArrayList<>();
+        int main = 0;
+        for (Entry<DeckSection, CardPool> section : parsed) {
+            if (section.getKey() == DeckSection.Main || section.getKey() == DeckSection.Commander) {
+                main += section.getValue().countAll();
+                for (Entry<PaperCard, Integer> e : section.getValue()) {
+                    colorCards.add(e.getKey().getRules());
+                }
+            }
+        }
+        CardPool side = parsed.get(DeckSection.Sideboard);
+        AssertJUnit.assertEquals(Deck.getColor(colorCards).getColor(), entry.getInt(DeckStorage.KEY_COLOR, -1));
+        AssertJUnit.assertEquals(DeckProxy.getColorIdentity(parsed).getColor(), entry.getInt(DeckStorage.KEY_COLOR_IDENTITY, -1));
+        AssertJUnit.assertEquals(main, entry.getInt(DeckStorage.KEY_MAIN_SIZE, -1));
+        AssertJUnit.assertEquals(side == null ? 0 : side.countAll(), entry.getInt(DeckStorage.KEY_SIDE_SIZE, -1));
+    }
+
+    @Test
+    public void testOnlyChangedDecksAreParsedAgain() {
+        File bearsFile = writeDeck("bears.dck", bears());
+        File burnFile = writeDeck("burn.dck", burn());
+        File samuraiFile = writeDeck("samurai.dck", samurai());
+
+        // no index yet, every deck is parsed and indexed
+        CountingDeckStorage storage = new CountingDeckStorage(dir);
+        Map<String, Deck> decks = storage.readAll();
+        AssertJUnit.assertEquals(Sets.newHashSet("bears.dck", "burn.dck", "samurai.dck"), Sets.newHashSet(storage.parsed));
+        AssertJUnit.assertTrue(new File(dir, DeckStorage.INDEX_FILE_NAME).isFile());
+        assertSameAsParsed(bearsFile, decks.get("Bears"));
+        assertSameAsParsed(burnFile, decks.get("Burn"));
+        assertSameAsParsed(samuraiFile, decks.get("Samurai"));
+
+        // nothing changed, the decks come from the index and read their files once their cards are needed
+        storage = new CountingDeckStorage(dir);
+        decks = storage.readAll();
+        AssertJUnit.assertTrue(storage.parsed.isEmpty());
+        AssertJUnit.assertEquals(Sets.newHashSet("Bears", "Burn", "Samurai"), decks.keySet());
+        Deck indexed = decks.get("Bears");
+        AssertJUnit.assertEquals("Two colors", indexed.getComment());
+        AssertJUnit.assertEquals(Sets.newHashSet("Beatdown", "Budget"), indexed.getTags());
+        assertSameAsParsed(bearsFile, indexed);
+        AssertJUnit.assertEquals(24, indexed.getMain().countAll());
+        AssertJUnit.assertEquals(3, indexed.get(DeckSection.Sideboard).countAll());
+
+        // one deck changes, one is added and one deleted
+        Deck changed = burn();
+        changed.getMain().add(card("Shock"), 4);
+        changed.getOrCreate(DeckSection.Sideboard).add(card("Giant Growth"), 2);
+        writeDeck("burn.dck", changed);
+        burnFile.setLastModified(burnFile.lastModified() + 10000);
+        Deck added = new Deck("Elves");
+        added.getMain().add(card("Llanowar Elves"), 4);
+        added.getMain().add(card("Forest"), 16);
+        File addedFile = writeDeck("elves.dck", added);
+        AssertJUnit.assertTrue(samuraiFile.delete());
+
+        storage = new CountingDeckStorage(dir);
+        decks = storage.readAll();
+        AssertJUnit.assertEquals(Sets.newHashSet("burn.dck", "elves.dck"), Sets.newHashSet(storage.parsed));
+        AssertJUnit.assertEquals(2, storage.parsed.size());
+        AssertJUnit.assertEquals(Sets.newHashSet("Bears", "Burn", "Elves"), decks.keySet());
+        assertSameAsParsed(bearsFile, decks.get("Bears"));
+        assertSameAsParsed(burnFile, decks.get("Burn"));
+        assertSameAsParsed(addedFile, decks.get("Elves"));
+        AssertJUnit.assertEquals(26, decks.get("Burn").getMain().countAll());
+
+        // the deleted deck left the index, the changed and added ones are read from it now
+        storage = new CountingDeckStorage(dir);
+        decks = storage.readAll();
+        AssertJUnit.assertTrue(storage.parsed.isEmpty());
+        AssertJUnit.assertEquals(Sets.newHashSet("Bears", "Burn", "Elves"), decks.keySet());
+        AssertJUnit.assertEquals(3, StorageIndex.load(new File(dir, DeckStorage.INDEX_FILE_NAME)).size());
+        assertSameAsParsed(burnFile, decks.get("Burn"));
+        assertSameAsParsed(addedFile, decks.get("Elves"));
+    }
+}
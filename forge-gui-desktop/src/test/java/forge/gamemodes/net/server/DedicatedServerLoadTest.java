@@ -0,0 +1,134 @@
+package forge.gamemodes.net.server;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.testng.annotations.Test;
+
+import com.google.common.collect.Lists;
+
+import forge.ai.simulation.SimulationTest;
+import forge.deck.Deck;
+import forge.gamemodes.match.LobbySlot;
+import forge.gamemodes.match.LobbySlotType;
+import forge.gamemodes.net.CompatibleObjectDecoder;
+import forge.gamemodes.net.CompatibleObjectEncoder;
+import forge.gamemodes.net.event.LobbyUpdateEvent;
+import forge.gamemodes.net.event.LoginEvent;
+import forge.localinstance.properties.ForgePreferences.FPref;
+import forge.model.FModel;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.serialization.ClassResolvers;
+
+public class DedicatedServerLoadTest extends SimulationTest {
+    private static final int PORT = 36743;
+    private static final int ROOMS = 24;
+
+    // watches the match of a room and counts what it gets sent
+    private static class LoopbackClient extends ChannelInboundHandlerAdapter {
+        private final String room;
+        private final CountDownLatch joined;
+        private final AtomicLong received;
+        private boolean inRoom;
+
+        LoopbackClient(String room, CountDownLatch joined, AtomicLong received) {
+            this.room = room;
+            this.joined = joined;
+            this.received = received;
+        }
+
+        @Override
+        public void channelActive(ChannelHandlerContext ctx) {
+            ctx.writeAndFlush(new LoginEvent("watcher of " + room, 0, 0, room));
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            if (msg instanceof LobbyUpdateEvent && !inRoom) {
+                inRoom = true;
+                joined.countDown();
+            }
+            received.incrementAndGet();
+        }
+    }
+
+    private static Deck createDeck(String land, String creature, String spell) {
+        Deck deck = new Deck();
+        deck.getMain().add(land, 24);
+        deck.getMain().add(creature, 24);
+        deck.getMain().add(spell, 12);
+        return deck;
+    }
+
+    @Test(enabled = false) // disabled to not run in battery
+    public void testBenchmarkAiRooms() throws Exception {
+        initAndCreateGame();
+        FModel.getPreferences().setPref(FPref.UI_MATCHES_PER_GAME, "1");
+
+        FServerManager server = FServerManager.getInstance();
+        server.startDedicatedServer(PORT);
+        EventLoopGroup group = new NioEventLoopGroup();
+        try {
+            CountDownLatch joined = new CountDownLatch(ROOMS);
+            AtomicLong received = new AtomicLong();
+            List<Channel> channels = Lists.newArrayList();
+            for (int i = 0; i < ROOMS; i++) {
+                String name = "load" + i;
+                ServerRoom room = server.createRoom(name);
+                for (int s = 0; s < 2; s++) {
+                    LobbySlot slot = room.getLobby().getSlot(s);
+                    slot.setType(LobbySlotType.AI);
+                    slot.setName("AI " + s);
+                    slot.setDeck(s == 0 ? createDeck("Forest", "Grizzly Bears", "Giant Growth")
+                            : createDeck("Mountain", "Hill Giant", "Shock"));
+                }
+                channels.add(new Bootstrap().group(group).channel(NioSocketChannel.class)
+                        .handler(new ChannelInitializer<SocketChannel>() {
+                            @Override
+                            public void initChannel(SocketChannel ch) {
+                                ch.pipeline().addLast(new CompatibleObjectEncoder(),
+                                        new CompatibleObjectDecoder(9766 * 1024, ClassResolvers.cacheDisabled(null)),
+                                        new LoopbackClient(name, joined, received));
+                            }
+                        }).connect("localhost", PORT).sync().channel());
+            }
+            joined.await(30, TimeUnit.SECONDS);
+
+            long start = System.nanoTime();
+            for (ServerRoom room : server.getRooms()) {
+                room.startMatch();
+            }
+            while (server.isMatchActive()) {
+                Thread.sleep(500);
+            }
+            long elapsed = System.nanoTime() - start;
+
+            long cpu = 0, allocated = 0, sent = 0;
+            for (ServerRoom room : server.getRooms()) {
+                System.out.println(room.getStats());
+                cpu += room.getCpuTime();
+                allocated += room.getAllocatedBytes();
+                sent += room.getSentBytes();
+            }
+            System.out.println(String.format("%d rooms in %d ms: CPU %d ms, allocated %d MB, sent %d KB, %d events received",
+                    ROOMS, elapsed / 1000000, cpu / 1000000, allocated / (1024 * 1024), sent / 1024, received.get()));
+
+            for (Channel ch : channels) {
+                ch.close().sync();
+            }
+        } finally {
+            group.shutdownGracefully();
+            server.stopServer();
+        }
+    }
+}
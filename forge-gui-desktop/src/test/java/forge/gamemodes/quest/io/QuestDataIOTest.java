@@ -0,0 +1,132 @@
+package forge.gamemodes.quest.io;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+
+import org.testng.AssertJUnit;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.google.common.base.Function;
+
+import forge.GuiDesktop;
+import forge.deck.Deck;
+import forge.deck.DeckSection;
+import forge.gamemodes.quest.QuestMode;
+import forge.gamemodes.quest.data.DeckConstructionRules;
+import forge.gamemodes.quest.data.QuestData;
+import forge.gui.GuiBase;
+import forge.item.PaperCard;
+import forge.localinstance.properties.ForgeConstants;
+import forge.localinstance.properties.ForgePreferences;
+import forge.localinstance.properties.ForgePreferences.FPref;
+import forge.model.FModel;
+
+public class QuestDataIOTest {
+    private final String questName = "QuestDataIOTest" + System.nanoTime();
+
+    @BeforeClass
+    public void setUp() {
+        GuiBase.setInterface(new GuiDesktop());
+        FModel.initialize(null, new Function<ForgePreferences, Void>() {
+            @Override
+            public Void apply(ForgePreferences preferences) {
+                preferences.setPref(FPref.LOAD_CARD_SCRIPTS_LAZILY, false);
+                preferences.setPref(FPref.UI_LANGUAGE, "en-US");
+                return null;
+            }
+        });
+    }
+
+    @AfterMethod
+    public void deleteSaves() {
+        QuestDataIO.waitForPendingSaves();
+        getSaveFile().delete();
+        new File(getSaveFile().getPath() + ".bak").delete();
+    }
+
+    private File getSaveFile() {
+        return new File(ForgeConstants.QUEST_SAVE_DIR, questName + ".dat");
+    }
+
+    private static PaperCard card(String name) {
+        return FModel.getMagicDb().getCommonCards().getCard(name);
+    }
+
+    private QuestData createQuest() {
+        QuestData qd = new QuestData(questName, 0, QuestMode.Classic, null, false, null, DeckConstructionRules.Default);
+        qd.getAssets().setCredits(1234);
+        qd.getAssets().getCardPool().add(card("Grizzly Bears"), 3);
+        qd.getAssets().getCardPool().add(card("Lightning Bolt"), 1);
+        Deck deck = new Deck("Bears");
+        deck.getMain().add(card("Grizzly Bears"), 2);
+        deck.getMain().add(card("Forest"), 18);
+        deck.getOrCreate(DeckSection.Sideboard).add(card("Lightning Bolt"), 1);
+        qd.getAssets().getDeckStorage().add(deck);
+        return qd;
+    }
+
+    private static void assertSameQuest(QuestData expected, QuestData actual) {
+        AssertJUnit.assertEquals(expected.getName(), actual.getName());
+        AssertJUnit.assertEquals(expected.getAssets().getCredits(), actual.getAssets().getCredits());
+        AssertJUnit.assertEquals(expected.getAssets().getCardPool().toFlatList().size(), actual.getAssets().getCardPool().toFlatList().size());
+        for (PaperCard pc : expected.getAssets().getCardPool().toFlatList()) {
+            AssertJUnit.assertEquals(pc.getName(), expected.getAssets().getCardPool().count(pc), actual.getAssets().getCardPool().count(pc));
+        }
+        AssertJUnit.assertEquals(expected.getAssets().getDeckStorage().size(), actual.getAssets().getDeckStorage().size());
+        for (Deck deck : expected.getAssets().getDeckStorage()) {
+            Deck loaded = actual.getAssets().getDeckStorage().get(deck.getName());
+            AssertJUnit.assertNotNull(deck.getName(), loaded);
+            AssertJUnit.assertEquals(deck.getMain().toCardList("\n"), loaded.getMain().toCardList("\n"));
+            AssertJUnit.assertEquals(deck.get(DeckSection.Sideboard).toCardList("\n"), loaded.get(DeckSection.Sideboard).toCardList("\n"));
+        }
+    }
+
+    private QuestData saveAndLoad(QuestData qd) throws IOException {
+        QuestDataIO.saveData(qd);
+        return QuestDataIO.loadData(getSaveFile());
+    }
+
+    @Test
+    public void testSaveAndLoad() throws IOException {
+        QuestData qd = createQuest();
+        assertSameQuest(qd, saveAndLoad(qd));
+    }
+
+    @Test
+    public void testSaveAfterChangesInPlace() throws IOException {
+        QuestData qd = createQuest();
+        saveAndLoad(qd);
+
+        // the same number of cards, other ones
+        qd.getAssets().getCardPool().remove(card("Lightning Bolt"), 1);
+        qd.getAssets().getCardPool().add(card("Giant Growth"), 1);
+        Deck deck = qd.getAssets().getDeckStorage().get("Bears");
+        deck.getMain().remove(card("Grizzly Bears"), 2);
+        deck.getMain().add(card("Llanowar Elves"), 2);
+
+        QuestData loaded = saveAndLoad(qd);
+        assertSameQuest(qd, loaded);
+        AssertJUnit.assertEquals(0, loaded.getAssets().getCardPool().count(card("Lightning Bolt")));
+        AssertJUnit.assertEquals(2, loaded.getAssets().getDeckStorage().get("Bears").getMain().count(card("Llanowar Elves")));
+    }
+
+    @Test
+    public void testLoadSingleXmlSave() throws IOException {
+        QuestData qd = createQuest();
+        // the format written before the save was split into sections
+        File saveFile = getSaveFile();
+        try (GZIPOutputStream out = new GZIPOutputStream(new BufferedOutputStream(new FileOutputStream(saveFile)))) {
+            QuestDataIO.getSerializer(false).toXML(qd, out);
+        }
+        QuestData loaded = QuestDataIO.loadData(saveFile);
+        assertSameQuest(qd, loaded);
+
+        // and saved again as sections
+        assertSameQuest(qd, saveAndLoad(loaded));
+    }
+}
@@ -101,6 +101,7 @@ public class Forge implements ApplicationListener {
     public static String enableUIMask = "Crop";
     public static String selector = "Default";
     public static boolean enablePreloadExtendedArt = false;
+    public static boolean enableCardThumbnailAtlas = true;
     public static boolean isTabletDevice = false;
     public static String locale = "en-US";
     public Assets assets;
@@ -213,6 +214,7 @@ public class Forge implements ApplicationListener {
         else if (getForgePreferences().getPref(FPref.UI_ENABLE_BORDER_MASKING).equals("false"))
             enableUIMask = "Off";
         enablePreloadExtendedArt = getForgePreferences().getPrefBoolean(FPref.UI_ENABLE_PRELOAD_EXTENDED_ART);
+        enableCardThumbnailAtlas = getForgePreferences().getPrefBoolean(FPref.UI_ENABLE_CARD_THUMBNAIL_ATLAS);
         locale = getForgePreferences().getPref(FPref.UI_LANGUAGE);
         autoCache = getForgePreferences().getPrefBoolean(FPref.UI_AUTO_CACHE_SIZE);
         disposeTextures = getForgePreferences().getPrefBoolean(FPref.UI_ENABLE_DISPOSE_TEXTURES);
@@ -844,7 +846,7 @@ public class Forge implements ApplicationListener {
     @Override
     public void render() {
         if (showFPS)
-            frameRate.update(ImageCache.counter, getAssets().manager().getMemoryInMegabytes());
+            frameRate.update(ImageCache.counter, getAssets().manager().getMemoryInMegabytes(), graphics.getDrawCalls(), getAssets().cardThumbnails().getThumbnailCount());
 
         try {
             ImageCache.allowSingleLoad();
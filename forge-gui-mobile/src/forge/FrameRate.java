@@ -18,6 +18,8 @@ public class FrameRate implements Disposable{
     long lastTimeCounted;
     int cardsLoaded = 0;
     int allocT = 0;
+    int drawCalls = 0;
+    int thumbnails = 0;
     private float sinceChange;
     private float frameRate;
     private BitmapFont font;
@@ -40,9 +42,11 @@ public class FrameRate implements Disposable{
         batch.setProjectionMatrix(cam.combined);
     }
 
-    public void update(int loadedCardSize, float toAlloc) {
+    public void update(int loadedCardSize, float toAlloc, int lastDrawCalls, int thumbnailCount) {
         allocT = (int) toAlloc;
         cardsLoaded = loadedCardSize;
+        drawCalls = lastDrawCalls;
+        thumbnails = thumbnailCount;
         long delta = TimeUtils.timeSinceMillis(lastTimeCounted);
         lastTimeCounted = TimeUtils.millis();
         sinceChange += delta;
@@ -54,7 +58,7 @@ public class FrameRate implements Disposable{
 
     public void render() {
         batch.begin();
-        font.draw(batch, (int)frameRate + " FPS | " + cardsLoaded + " cards re/loaded | " + allocT + " MB", 3, Gdx.graphics.getHeight() - 3);
+        font.draw(batch, (int)frameRate + " FPS | " + drawCalls + " draw calls | " + cardsLoaded + " cards re/loaded | " + thumbnails + " thumbnails | " + allocT + " MB", 3, Gdx.graphics.getHeight() - 3);
         batch.end();
     }
 
@@ -18,6 +18,7 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.scenes.scene2d.utils.ScissorStack;
 import forge.adventure.util.Config;
+import forge.assets.CardThumbnailAtlas;
 import forge.assets.FImage;
 import forge.assets.FSkinColor;
 import forge.assets.FSkinFont;
@@ -43,6 +44,9 @@ public class Graphics {
     private int failedClipCount;
     private float alphaComposite = 1;
     private int transformCount = 0;
+    private int renderCallsAtBegin, drawCalls, thumbnailsPacked;
+    //packing renders to a FrameBuffer, so limit it per frame like ImageCache limits texture loads
+    private static final int MAX_THUMBNAILS_PACKED_PER_FRAME = 4;
     private final ShaderProgram shaderOutline = new ShaderProgram(Gdx.files.internal("shaders").child("outline.vert"), Gdx.files.internal("shaders").child("outline.frag"));
     private final ShaderProgram shaderGrayscale = new ShaderProgram(Gdx.files.internal("shaders").child("grayscale.vert"), Gdx.files.internal("shaders").child("grayscale.frag"));
     private final ShaderProgram shaderWarp = new ShaderProgram(Gdx.files.internal("shaders").child("grayscale.vert"), Gdx.files.internal("shaders").child("warp.frag"));
@@ -89,6 +93,8 @@ public class Graphics {
         return shaderNightDay;
     }
     public void begin(float regionWidth0, float regionHeight0) {
+        renderCallsAtBegin = batch.totalRenderCalls;
+        thumbnailsPacked = 0;
         batch.begin();
         bounds = new Rectangle(0, 0, regionWidth0, regionHeight0);
         regionHeight = regionHeight0;
@@ -102,6 +108,31 @@ public class Graphics {
         if (shapeRenderer.getCurrentType() != null) {
             shapeRenderer.end();
         }
+        drawCalls = batch.totalRenderCalls - renderCallsAtBegin;
+    }
+
+    /**
+     * number of SpriteBatch draw calls issued between the last begin() and end().
+     */
+    public int getDrawCalls() {
+        return drawCalls;
+    }
+
+    /**
+     * Returns the shared atlas thumbnail for a card texture, packing it first if needed.
+     * Returns null when the card hasn't been packed and the per frame packing budget is used up,
+     * in which case the caller should draw the texture itself.
+     */
+    public TextureRegion getCardThumbnail(Texture image, boolean cropBorder) {
+        CardThumbnailAtlas atlas = Forge.getAssets().cardThumbnails();
+        TextureRegion thumbnail = atlas.get(image, cropBorder);
+        if (thumbnail != null || thumbnailsPacked >= MAX_THUMBNAILS_PACKED_PER_FRAME || !batch.isDrawing())
+            return thumbnail;
+        thumbnailsPacked++;
+        batch.end();
+        thumbnail = atlas.pack(image, cropBorder);
+        batch.begin();
+        return thumbnail;
     }
 
     public void dispose() {
@@ -137,15 +137,17 @@ public class AdventureEventData implements Serializable {
     }
 
     public BoosterDraft getDraft() {
-        Random placeholder = MyRandom.getRandom();
-        MyRandom.setRandom(getEventRandom());
-        if (draft == null && (eventStatus == AdventureEventController.EventStatus.Available || eventStatus == AdventureEventController.EventStatus.Entered)) {
-            draft = BoosterDraft.createDraft(LimitedPoolType.Block, getCardBlock(), packConfiguration);
-        }
-        if (packConfiguration == null) {
-            packConfiguration = getBoosterConfiguration(getCardBlock());
+        Random placeholder = MyRandom.setThreadRandom(getEventRandom());
+        try {
+            if (draft == null && (eventStatus == AdventureEventController.EventStatus.Available || eventStatus == AdventureEventController.EventStatus.Entered)) {
+                draft = BoosterDraft.createDraft(LimitedPoolType.Block, getCardBlock(), packConfiguration);
+            }
+            if (packConfiguration == null) {
+                packConfiguration = getBoosterConfiguration(getCardBlock());
+            }
+        } finally {
+            MyRandom.setThreadRandom(placeholder);
         }
-        MyRandom.setRandom(placeholder);
         return draft;
     }
 
@@ -244,17 +246,19 @@ public class AdventureEventData implements Serializable {
     };
 
     public String[] getBoosterConfiguration(CardBlock selectedBlock) {
-        Random placeholder = MyRandom.getRandom();
-        MyRandom.setRandom(getEventRandom());
+        Random placeholder = MyRandom.setThreadRandom(getEventRandom());
         String[] ret = new String[selectedBlock.getCntBoostersDraft()];
 
-        for (int i = 0; i < selectedBlock.getCntBoostersDraft(); i++) {
-            if (i < selectedBlock.getNumberSets())
-                ret[i] = selectedBlock.getSets().get(i).getCode();
-            else
-                ret[i] = Aggregates.random(selectedBlock.getSets()).getCode();
+        try {
+            for (int i = 0; i < selectedBlock.getCntBoostersDraft(); i++) {
+                if (i < selectedBlock.getNumberSets())
+                    ret[i] = selectedBlock.getSets().get(i).getCode();
+                else
+                    ret[i] = Aggregates.random(selectedBlock.getSets()).getCode();
+            }
+        } finally {
+            MyRandom.setThreadRandom(placeholder);
         }
-        MyRandom.setRandom(placeholder);
         return ret;
     }
 
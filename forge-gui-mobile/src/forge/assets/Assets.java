@@ -46,6 +46,7 @@ public class Assets implements Disposable {
     private HashMap<Integer, TextureRegion> cursor;
     private ObjectMap<Integer, BitmapFont> counterFonts;
     private ObjectMap<String, Texture> generatedCards;
+    private CardThumbnailAtlas cardThumbnails;
     private ObjectMap<String, Texture> fallback_skins;
     private ObjectMap<String, Texture> tmxMap;
     private Texture defaultImage, dummy;
@@ -86,6 +87,10 @@ public class Assets implements Disposable {
                     texture.dispose();
                 generatedCards.clear();
             }
+            if (cardThumbnails != null) {
+                cardThumbnails.dispose();
+                cardThumbnails = null;
+            }
             if (fallback_skins != null) {
                 for (Texture texture : fallback_skins.values())
                     texture.dispose();
@@ -213,6 +218,12 @@ public class Assets implements Disposable {
         return generatedCards;
     }
 
+    public CardThumbnailAtlas cardThumbnails() {
+        if (cardThumbnails == null)
+            cardThumbnails = new CardThumbnailAtlas();
+        return cardThumbnails;
+    }
+
     public ObjectMap<String, Texture> fallback_skins() {
         if (fallback_skins == null)
             fallback_skins = new ObjectMap<String, Texture>() {
@@ -0,0 +1,203 @@
+package forge.assets;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FrameBuffer;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dynamic texture atlas for card thumbnails.
+ * <p>
+ * Card images are loaded as individual textures by {@link ImageCache}, so drawing a grid of cards binds a
+ * different texture for every card and forces a SpriteBatch flush each time. This atlas copies a downscaled
+ * version of each card texture into a few shared pages (rendered on the GPU through a FrameBuffer, so nothing
+ * is read back from disk), which lets every card living on the same page be drawn in a single draw call.
+ * Slots are uniform since all card images share the same aspect ratio, and when all pages are full the least
+ * recently used thumbnail gives up its slot.
+ * </p>
+ * Thumbnails are copies, so they stay valid after ImageCache unloads the source texture.
+ */
+public class CardThumbnailAtlas implements Disposable {
+    public static final int PAGE_SIZE = 2048;
+    public static final int SLOT_WIDTH = 186;
+    public static final int SLOT_HEIGHT = 260;
+    public static final int MAX_PAGES = 3;
+    //thumbnails are only used when they won't be magnified too much
+    private static final float MAX_UPSCALE = 1.25f;
+    private static final int COLUMNS = PAGE_SIZE / SLOT_WIDTH;
+    private static final int ROWS = PAGE_SIZE / SLOT_HEIGHT;
+
+    private final List<FrameBuffer> pages = new ArrayList<>();
+    private final Deque<Slot> freeSlots = new ArrayDeque<>();
+    //access ordered, so the first entry is always the least recently drawn thumbnail
+    private final LinkedHashMap<String, Slot> slots = new LinkedHashMap<>(256, 0.75f, true);
+    private SpriteBatch packBatch;
+    private final Matrix4 packProjection = new Matrix4();
+    private int packCount, evictionCount;
+
+    private static class Slot {
+        final int page;
+        final int x, y;
+        final TextureRegion region;
+        TextureRegion croppedRegion;
+
+        Slot(int page0, int x0, int y0, Texture pageTexture) {
+            page = page0;
+            x = x0;
+            y = y0;
+            region = new TextureRegion(pageTexture, x, y, SLOT_WIDTH, SLOT_HEIGHT);
+            region.flip(false, true); //FrameBuffer textures are upside down
+        }
+    }
+
+    /**
+     * checks whether a card drawn at the given size can use a thumbnail without visible quality loss.
+     */
+    public static boolean fits(float w, float h) {
+        return w <= SLOT_WIDTH * MAX_UPSCALE && h <= SLOT_HEIGHT * MAX_UPSCALE;
+    }
+
+    /**
+     * returns the thumbnail of an already packed texture, or null if it hasn't been packed yet.
+     */
+    public TextureRegion get(Texture image, boolean cropBorder) {
+        Slot slot = slots.get(image.toString());
+        if (slot == null)
+            return null;
+        return cropBorder ? slot.croppedRegion : slot.region;
+    }
+
+    /**
+     * copies the given texture into a free slot, evicting the least recently used thumbnail if needed.
+     * Must be called on the render thread while no other SpriteBatch is drawing.
+     */
+    public TextureRegion pack(Texture image, boolean cropBorder) {
+        String key = image.toString();
+        Slot slot = slots.get(key);
+        if (slot == null) {
+            slot = obtainSlot();
+            if (slot == null)
+                return null;
+            renderToSlot(image, slot);
+            slot.croppedRegion = cropRegion(slot, image);
+            slots.put(key, slot);
+            packCount++;
+        }
+        return cropBorder ? slot.croppedRegion : slot.region;
+    }
+
+    private Slot obtainSlot() {
+        if (freeSlots.isEmpty() && pages.size() < MAX_PAGES)
+            addPage();
+        if (!freeSlots.isEmpty())
+            return freeSlots.poll();
+        Iterator<Map.Entry<String, Slot>> it = slots.entrySet().iterator();
+        if (!it.hasNext())
+            return null;
+        Slot eldest = it.next().getValue();
+        it.remove();
+        evictionCount++;
+        return eldest;
+    }
+
+    private void addPage() {
+        FrameBuffer page = new FrameBuffer(Pixmap.Format.RGBA8888, PAGE_SIZE, PAGE_SIZE, false);
+        page.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        int index = pages.size();
+        pages.add(page);
+        for (int row = 0; row < ROWS; row++) {
+            for (int col = 0; col < COLUMNS; col++) {
+                freeSlots.add(new Slot(index, col * SLOT_WIDTH, row * SLOT_HEIGHT, page.getColorBufferTexture()));
+            }
+        }
+    }
+
+    private void renderToSlot(Texture image, Slot slot) {
+        if (packBatch == null) {
+            packBatch = new SpriteBatch(1);
+            packProjection.setToOrtho2D(0, 0, PAGE_SIZE, PAGE_SIZE);
+        }
+        boolean scissor = Gdx.gl.glIsEnabled(GL20.GL_SCISSOR_TEST);
+        if (scissor)
+            Gdx.gl.glDisable(GL20.GL_SCISSOR_TEST);
+        FrameBuffer page = pages.get(slot.page);
+        page.begin();
+        packBatch.setProjectionMatrix(packProjection);
+        packBatch.disableBlending(); //overwrite whatever was left in the slot, including transparent corners
+        packBatch.begin();
+        packBatch.draw(image, slot.x, slot.y, SLOT_WIDTH, SLOT_HEIGHT);
+        packBatch.end();
+        page.end();
+        if (scissor)
+            Gdx.gl.glEnable(GL20.GL_SCISSOR_TEST);
+    }
+
+    /**
+     * same crop as {@link ImageCache#croppedBorderImage(Texture)}, scaled to the slot.
+     */
+    private static TextureRegion cropRegion(Slot slot, Texture image) {
+        if (!image.toString().contains(".fullborder."))
+            return slot.region;
+        float rscale = 0.96f;
+        int rw = Math.round(SLOT_WIDTH * rscale);
+        int rh = Math.round(SLOT_HEIGHT * rscale);
+        int rx = Math.round((SLOT_WIDTH - rw) / 2f);
+        int ry = Math.round((SLOT_HEIGHT - rh) / 2f) - Math.round(2f * SLOT_HEIGHT / image.getHeight());
+        //page rows run bottom-up, so the offset from the top of the image is applied from the end of the slot
+        TextureRegion cropped = new TextureRegion(slot.region.getTexture(), slot.x + rx, slot.y + SLOT_HEIGHT - ry - rh, rw, rh);
+        cropped.flip(false, true);
+        return cropped;
+    }
+
+    public int getPageCount() {
+        return pages.size();
+    }
+
+    public int getThumbnailCount() {
+        return slots.size();
+    }
+
+    public int getCapacity() {
+        return MAX_PAGES * COLUMNS * ROWS;
+    }
+
+    public int getPackCount() {
+        return packCount;
+    }
+
+    public int getEvictionCount() {
+        return evictionCount;
+    }
+
+    public void clear() {
+        for (Slot slot : slots.values())
+            freeSlots.add(slot);
+        slots.clear();
+    }
+
+    @Override
+    public void dispose() {
+        slots.clear();
+        freeSlots.clear();
+        for (FrameBuffer page : pages)
+            page.dispose();
+        pages.clear();
+        if (packBatch != null) {
+            packBatch.dispose();
+            packBatch = null;
+        }
+    }
+}
@@ -31,6 +31,7 @@ import com.badlogic.gdx.utils.Array;
 import forge.CachedCardImage;
 import forge.Forge;
 import forge.Graphics;
+import forge.assets.CardThumbnailAtlas;
 import forge.assets.FImage;
 import forge.assets.FImageComplex;
 import forge.assets.FRotatedImage;
@@ -578,29 +579,11 @@ public class CardRenderer {
 
     public static void drawCard(Graphics g, IPaperCard pc, float x, float y, float w, float h, CardStackPosition pos) {
         Texture image = new RendererCachedCardImage(pc, false).getImage();
-        float radius = (h - w) / 8;
-        float croppedArea = isModernFrame(pc) ? CROP_MULTIPLIER : 0.97f;
-        float minusxy = isModernFrame(pc) ? 0.0f : 0.13f * radius;
-        if (pc.getEdition().equals("LEA") || pc.getEdition().equals("LEB")) {
-            croppedArea = 0.975f;
-            minusxy = 0.135f * radius;
-        }
         if (image != null) {
             if (image == ImageCache.getDefaultImage() || Forge.enableUIMask.equals("Art")) {
                 CardImageRenderer.drawCardImage(g, CardView.getCardForUi(pc), false, x, y, w, h, pos, true, true);
             } else {
-                if (Forge.enableUIMask.equals("Full")) {
-                    if (image.toString().contains(".fullborder."))
-                        g.drawCardRoundRect(image, null, x, y, w, h, false, false);
-                    else {
-                        //tint the border
-                        g.drawImage(ImageCache.getBorderImage(image.toString()), ImageCache.borderColor(image), x, y, w, h);
-                        g.drawImage(ImageCache.croppedBorderImage(image), x + radius / 2.4f - minusxy, y + radius / 2 - minusxy, w * croppedArea, h * croppedArea);
-                    }
-                } else if (Forge.enableUIMask.equals("Crop")) {
-                    g.drawImage(ImageCache.croppedBorderImage(image), x, y, w, h);
-                } else
-                    g.drawImage(image, x, y, w, h);
+                drawPaperCardImage(g, pc, image, getCardThumbnail(g, image, w, h), true, true, x, y, w, h);
             }
             if (pc.isFoil()) { //draw foil effect if needed
                 final CardView card = CardView.getCardForUi(pc);
@@ -615,6 +598,73 @@ public class CardRenderer {
         }
     }
 
+    /**
+     * Returns the atlas thumbnail to draw for a card of the given size, or null if the card should be drawn
+     * from its own texture (card too large, thumbnails disabled, or the card not packed yet).
+     */
+    public static TextureRegion getCardThumbnail(Graphics g, Texture image, float w, float h) {
+        if (!Forge.enableCardThumbnailAtlas || !CardThumbnailAtlas.fits(w, h))
+            return null;
+        if (Forge.enableUIMask.equals("Full") && image.toString().contains(".fullborder."))
+            return null; //drawn with the rounded corner shader which needs the whole texture
+        return g.getCardThumbnail(image, Forge.enableUIMask.equals("Full") || Forge.enableUIMask.equals("Crop"));
+    }
+
+    /**
+     * Returns the atlas thumbnail a card grid can draw with {@link #drawCardThumbnail}, or null if the card needs
+     * the regular {@link #drawCard(Graphics, IPaperCard, float, float, float, float, CardStackPosition)} path.
+     * Grids draw every underlay first and then every thumbnail, so that cards sharing an atlas page go out in a single draw call.
+     */
+    public static TextureRegion getCardThumbnail(Graphics g, IPaperCard pc, float w, float h) {
+        if (pc.isFoil() || Forge.enableUIMask.equals("Art"))
+            return null;
+        Texture image = new RendererCachedCardImage(pc, false).getImage();
+        if (image == null || image == ImageCache.getDefaultImage())
+            return null;
+        return getCardThumbnail(g, image, w, h);
+    }
+
+    public static void drawCardUnderlay(Graphics g, IPaperCard pc, float x, float y, float w, float h) {
+        if (!Forge.enableUIMask.equals("Full"))
+            return; //only the masked border is drawn below the card image
+        Texture image = new RendererCachedCardImage(pc, false).getImage();
+        if (image != null)
+            drawPaperCardImage(g, pc, image, null, true, false, x, y, w, h);
+    }
+
+    public static void drawCardThumbnail(Graphics g, IPaperCard pc, TextureRegion thumbnail, float x, float y, float w, float h) {
+        drawPaperCardImage(g, pc, null, thumbnail, false, true, x, y, w, h);
+    }
+
+    private static void drawPaperCardImage(Graphics g, IPaperCard pc, Texture image, TextureRegion thumbnail, boolean drawBorder, boolean drawArt, float x, float y, float w, float h) {
+        float radius = (h - w) / 8;
+        float croppedArea = isModernFrame(pc) ? CROP_MULTIPLIER : 0.97f;
+        float minusxy = isModernFrame(pc) ? 0.0f : 0.13f * radius;
+        if (pc.getEdition().equals("LEA") || pc.getEdition().equals("LEB")) {
+            croppedArea = 0.975f;
+            minusxy = 0.135f * radius;
+        }
+        if (Forge.enableUIMask.equals("Full")) {
+            if (image != null && image.toString().contains(".fullborder.")) {
+                if (drawArt)
+                    g.drawCardRoundRect(image, null, x, y, w, h, false, false);
+            } else {
+                //tint the border
+                if (drawBorder)
+                    g.drawImage(ImageCache.getBorderImage(image.toString()), ImageCache.borderColor(image), x, y, w, h);
+                if (drawArt)
+                    g.drawImage(thumbnail != null ? thumbnail : ImageCache.croppedBorderImage(image), x + radius / 2.4f - minusxy, y + radius / 2 - minusxy, w * croppedArea, h * croppedArea);
+            }
+        } else if (!drawArt) {
+            return;
+        } else if (Forge.enableUIMask.equals("Crop")) {
+            g.drawImage(thumbnail != null ? thumbnail : ImageCache.croppedBorderImage(image), x, y, w, h);
+        } else if (thumbnail != null) {
+            g.drawImage(thumbnail, x, y, w, h);
+        } else
+            g.drawImage(image, x, y, w, h);
+    }
+
     public static void drawCard(Graphics g, CardView card, float x, float y, float w, float h, CardStackPosition pos, boolean rotate) {
         drawCard(g, card, x, y, w, h, pos, rotate, false, false, false);
     }
@@ -658,18 +708,22 @@ public class CardRenderer {
                     } else
                         g.drawRotatedImage(image, x, y, w, h, x + w / 2, y + h / 2, -90);
                 } else {
+                    //battlefield sized cards share atlas pages, so consecutive cards don't need a texture switch
+                    TextureRegion thumbnail = canshow && !magnify ? getCardThumbnail(g, image, w, h) : null;
                     if (Forge.enableUIMask.equals("Full") && canshow) {
                         if (image.toString().contains(".fullborder."))
                             g.drawCardRoundRect(image, crack_overlay, x, y, w, h, card.wasDestroyed(), magnify ? false : card.getDamage() > 0);
                         else {
                             boolean t = (card.getCurrentState().getOriginalColors() != card.getCurrentState().getColors()) || card.getCurrentState().hasChangeColors();
                             g.drawBorderImage(ImageCache.getBorderImage(image.toString(), canshow), ImageCache.borderColor(image), ImageCache.getTint(card, image), x, y, w, h, t); //tint check for changed colors
-                            g.drawCardImage(ImageCache.croppedBorderImage(image), crack_overlay, x + radius / 2.4f-minusxy, y + radius / 2-minusxy, w * croppedArea, h * croppedArea, card.wasDestroyed(), magnify ? false : card.getDamage() > 0);
+                            g.drawCardImage(thumbnail != null ? thumbnail : ImageCache.croppedBorderImage(image), crack_overlay, x + radius / 2.4f-minusxy, y + radius / 2-minusxy, w * croppedArea, h * croppedArea, card.wasDestroyed(), magnify ? false : card.getDamage() > 0);
                         }
                     } else if (Forge.enableUIMask.equals("Crop") && canshow) {
-                        g.drawCardImage(ImageCache.croppedBorderImage(image), crack_overlay, x, y, w, h, card.wasDestroyed(), magnify ? false : card.getDamage() > 0);
+                        g.drawCardImage(thumbnail != null ? thumbnail : ImageCache.croppedBorderImage(image), crack_overlay, x, y, w, h, card.wasDestroyed(), magnify ? false : card.getDamage() > 0);
                     } else {
-                        if (canshow)
+                        if (thumbnail != null)
+                            g.drawCardImage(thumbnail, crack_overlay, x, y, w, h, card.wasDestroyed(), magnify ? false : card.getDamage() > 0);
+                        else if (canshow)
                             g.drawCardImage(image, crack_overlay, x, y, w, h, card.wasDestroyed(), magnify ? false : card.getDamage() > 0);
                         else // draw card back sleeves
                             g.drawCardImage(sleeves, crack_overlay, x, y, w, h, card.wasDestroyed(), magnify ? false : card.getDamage() > 0);
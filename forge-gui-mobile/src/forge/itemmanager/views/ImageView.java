@@ -31,6 +31,7 @@ import forge.util.TextUtil;
 import forge.util.Utils;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -69,6 +70,7 @@ public class ImageView<T extends InventoryItem> extends ItemView<T> {
     private float totalZoomAmount;
     private final List<ItemInfo> orderedItems = new ArrayList<>();
     private final List<Group> groups = new ArrayList<>();
+    private final List<ItemInfo> visibleItems = new ArrayList<>();
 
     private class ExpandCollapseButton extends FLabel {
         private boolean isAllCollapsed;
@@ -868,6 +870,10 @@ public class ImageView<T extends InventoryItem> extends ItemView<T> {
 
             final float visibleTop = getScrollValue();
             final float visibleBottom = visibleTop + getScroller().getHeight();
+            if (Forge.enableCardThumbnailAtlas) {
+                drawBatched(g, visibleTop, visibleBottom);
+                return;
+            }
             for (ItemInfo itemInfo : items) {
                 if (itemInfo.getBottom() < visibleTop) {
                     continue;
@@ -879,6 +885,36 @@ public class ImageView<T extends InventoryItem> extends ItemView<T> {
             }
         }
 
+        //items in a grid never overlap, so they can be drawn in passes: everything below the card images,
+        //then all atlas thumbnails back to back (one draw call per atlas page), then overlays and any item
+        //that couldn't be drawn from the atlas
+        private void drawBatched(Graphics g, float visibleTop, float visibleBottom) {
+            visibleItems.clear();
+            for (ItemInfo itemInfo : items) {
+                if (itemInfo.getBottom() < visibleTop) {
+                    continue;
+                }
+                if (itemInfo.getTop() >= visibleBottom) {
+                    break;
+                }
+                itemInfo.drawUnderlay(g);
+                visibleItems.add(itemInfo);
+            }
+            visibleItems.sort(thumbnailPageOrder);
+            for (ItemInfo itemInfo : visibleItems) {
+                if (itemInfo.thumbnail != null) {
+                    itemInfo.drawThumbnail(g);
+                }
+            }
+            for (ItemInfo itemInfo : visibleItems) {
+                if (itemInfo.thumbnail != null) {
+                    itemInfo.drawOverlays(g);
+                } else {
+                    itemInfo.draw(g);
+                }
+            }
+        }
+
         @Override
         protected ScrollBounds layoutAndGetScrollBounds(float visibleWidth, float visibleHeight) {
             return new ScrollBounds(scrollWidth, visibleHeight);
@@ -964,12 +1000,16 @@ public class ImageView<T extends InventoryItem> extends ItemView<T> {
         }
     }
 
+    private final Comparator<ItemInfo> thumbnailPageOrder = Comparator.comparingInt(itemInfo ->
+            itemInfo.thumbnail == null ? 0 : System.identityHashCode(itemInfo.thumbnail.getTexture()));
+
     private class ItemInfo extends FDisplayObject implements Entry<InventoryItem, Integer> {
         private final T item;
         private final Group group;
         private int index;
         private CardStackPosition pos;
         private boolean selected;
+        private TextureRegion thumbnail;
         private final float IMAGE_SIZE = CardRenderer.MANA_SYMBOL_SIZE;
 
         private ItemInfo(T item0, Group group0) {
@@ -997,6 +1037,70 @@ public class ImageView<T extends InventoryItem> extends ItemView<T> {
             return 1;
         }
 
+        private void drawUnderlay(Graphics g) {
+            thumbnail = null;
+            if (!(item instanceof PaperCard)) {
+                return;
+            }
+            final float x = getLeft() - group.getScrollLeft();
+            final float y = getTop() - group.getTop() - getScrollValue();
+            final float w = getWidth();
+            final float h = getHeight();
+            thumbnail = CardRenderer.getCardThumbnail(g, (PaperCard) item, w, h);
+            if (thumbnail == null) {
+                return;
+            }
+            if (selected) {
+                drawSelection(g, x, y, w, h);
+            }
+            CardRenderer.drawCardUnderlay(g, (PaperCard) item, x, y, w, h);
+        }
+
+        private void drawThumbnail(Graphics g) {
+            CardRenderer.drawCardThumbnail(g, (PaperCard) item, thumbnail, getLeft() - group.getScrollLeft(),
+                    getTop() - group.getTop() - getScrollValue(), getWidth(), getHeight());
+        }
+
+        private void drawOverlays(Graphics g) {
+            drawRanking(g, getLeft() - group.getScrollLeft(), getTop() - group.getTop() - getScrollValue(), getWidth());
+        }
+
+        private void drawSelection(Graphics g, float x, float y, float w, float h) {
+            //if round border is enabled, the select highlight is also rounded..
+            if (Forge.enableUIMask.equals("Full")) {
+                //fillroundrect has rough/aliased corner
+                g.fillRoundRect(Color.GREEN, x - SEL_BORDER_SIZE, y - SEL_BORDER_SIZE, w + 2 * SEL_BORDER_SIZE, h + 2 * SEL_BORDER_SIZE, (h - w) / 10);
+                //drawroundrect has GL_SMOOTH to `smoothen/faux` the aliased corner
+                g.drawRoundRect(1f, Color.GREEN, x - SEL_BORDER_SIZE, y - SEL_BORDER_SIZE, w + 1.5f * SEL_BORDER_SIZE, h + 1.5f * SEL_BORDER_SIZE, (h - w) / 10);
+            } else //default rectangle highlight
+                g.fillRect(Color.GREEN, x - SEL_BORDER_SIZE, y - SEL_BORDER_SIZE, w + 2 * SEL_BORDER_SIZE, h + 2 * SEL_BORDER_SIZE);
+        }
+
+        private void drawRanking(Graphics g, float x, float y, float w) {
+            if (!itemManager.getShowRanking() || !FModel.getPreferences().getPrefBoolean(ForgePreferences.FPref.UI_OVERLAY_DRAFT_RANKING)) {
+                return;
+            }
+            final float h = getHeight();
+            double score = CardRanker.getRawScore((PaperCard) item);
+            int draftRank = score <= 0 ? 0 : score > 99 ? 99 : (int) Math.round(CardRanker.getRawScore((PaperCard) item));
+            float rankSize = w / 2;
+            float y2 = y + (rankSize - (rankSize * 0.1f));
+            float x2 = x + rankSize / 2;
+            if (draftRank >= 90) {
+                g.drawImage(FSkinImage.DRAFTRANK_S, x2, y2 + 1, rankSize, rankSize);
+            } else if (draftRank >= 80 && draftRank <= 89) {
+                g.drawImage(FSkinImage.DRAFTRANK_A, x2, y2 + 1, rankSize, rankSize);
+            } else if (draftRank >= 60 && draftRank <= 79) {
+                g.drawImage(FSkinImage.DRAFTRANK_B, x2, y2 + 1, rankSize, rankSize);
+            } else if (draftRank >= 25 && draftRank <= 59) {
+                g.drawImage(FSkinImage.DRAFTRANK_C, x2, y2 + 1, rankSize, rankSize);
+            } else {
+                g.drawImage(FSkinImage.DRAFTRANK_D, x2, y2 + 1, rankSize, rankSize);
+            }
+            String value = String.valueOf(draftRank);
+            g.drawText(value, FSkinFont.forHeight(rankSize / 4), Color.WHITE, x, y, w, h, true, Align.center, true);
+        }
+
         @Override
         public void draw(Graphics g) {
             final float x = getLeft() - group.getScrollLeft();
@@ -1009,41 +1113,13 @@ public class ImageView<T extends InventoryItem> extends ItemView<T> {
                 dpImg = ImageCache.getImage(item);
                 deckSelectMode = true;
             }
-            if (selected) {
-                if (!deckSelectMode) {
-                    //if round border is enabled, the select highlight is also rounded..
-                    if (Forge.enableUIMask.equals("Full")) {
-                        //fillroundrect has rough/aliased corner
-                        g.fillRoundRect(Color.GREEN, x - SEL_BORDER_SIZE, y - SEL_BORDER_SIZE, w + 2 * SEL_BORDER_SIZE, h + 2 * SEL_BORDER_SIZE, (h - w) / 10);
-                        //drawroundrect has GL_SMOOTH to `smoothen/faux` the aliased corner
-                        g.drawRoundRect(1f, Color.GREEN, x - SEL_BORDER_SIZE, y - SEL_BORDER_SIZE, w + 1.5f * SEL_BORDER_SIZE, h + 1.5f * SEL_BORDER_SIZE, (h - w) / 10);
-                    } else //default rectangle highlight
-                        g.fillRect(Color.GREEN, x - SEL_BORDER_SIZE, y - SEL_BORDER_SIZE, w + 2 * SEL_BORDER_SIZE, h + 2 * SEL_BORDER_SIZE);
-                }
+            if (selected && !deckSelectMode) {
+                drawSelection(g, x, y, w, h);
             }
 
             if (item instanceof PaperCard) {
                 CardRenderer.drawCard(g, (PaperCard) item, x, y, w, h, pos);
-                if (itemManager.getShowRanking() && FModel.getPreferences().getPrefBoolean(ForgePreferences.FPref.UI_OVERLAY_DRAFT_RANKING)) {
-                    double score = CardRanker.getRawScore((PaperCard) item);
-                    int draftRank = score <= 0 ? 0 : score > 99 ? 99 : (int) Math.round(CardRanker.getRawScore((PaperCard) item));
-                    float rankSize = w / 2;
-                    float y2 = y + (rankSize - (rankSize * 0.1f));
-                    float x2 = x + rankSize / 2;
-                    if (draftRank >= 90) {
-                        g.drawImage(FSkinImage.DRAFTRANK_S, x2, y2 + 1, rankSize, rankSize);
-                    } else if (draftRank >= 80 && draftRank <= 89) {
-                        g.drawImage(FSkinImage.DRAFTRANK_A, x2, y2 + 1, rankSize, rankSize);
-                    } else if (draftRank >= 60 && draftRank <= 79) {
-                        g.drawImage(FSkinImage.DRAFTRANK_B, x2, y2 + 1, rankSize, rankSize);
-                    } else if (draftRank >= 25 && draftRank <= 59) {
-                        g.drawImage(FSkinImage.DRAFTRANK_C, x2, y2 + 1, rankSize, rankSize);
-                    } else {
-                        g.drawImage(FSkinImage.DRAFTRANK_D, x2, y2 + 1, rankSize, rankSize);
-                    }
-                    String value = String.valueOf(draftRank);
-                    g.drawText(value, FSkinFont.forHeight(rankSize / 4), Color.WHITE, x, y, w, h, true, Align.center, true);
-                }
+                drawRanking(g, x, y, w);
             } else if (item instanceof ConquestCommander) {
                 CardRenderer.drawCard(g, ((ConquestCommander) item).getCard(), x, y, w, h, pos);
             } else if (deckSelectMode) {
@@ -10,6 +10,7 @@ import forge.animation.ForgeAnimation;
 import forge.assets.FSkin;
 import forge.assets.FSkinImage;
 import forge.assets.FSkinTexture;
+import forge.gamemodes.quest.io.QuestDataIO;
 import forge.sound.SoundSystem;
 import forge.toolbox.FContainer;
 import forge.toolbox.FOverlay;
@@ -73,6 +74,7 @@ public class ClosingScreen extends FContainer {
 
         @Override
         protected void onEnd(boolean endingAll) {
+            QuestDataIO.waitForPendingSaves(); // a quest saved just before closing is still being written
             if (restart)
                 Forge.getDeviceAdapter().restart();
             else
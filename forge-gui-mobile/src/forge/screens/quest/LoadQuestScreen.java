@@ -253,6 +253,7 @@ public class LoadQuestScreen extends LaunchScreen {
                 FThreads.invokeInEdtLater(new Runnable() {
                     @Override
                     public void run() {
+                        QuestDataIO.waitForPendingSaves();
                         new File(ForgeConstants.QUEST_SAVE_DIR, quest.getName() + ".dat").delete();
                         new File(ForgeConstants.QUEST_SAVE_DIR, quest.getName() + ".dat.bak").delete();
         
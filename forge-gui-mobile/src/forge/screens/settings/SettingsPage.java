@@ -584,6 +584,17 @@ public class SettingsPage extends TabPage<SettingsScreen> {
                         Forge.enablePreloadExtendedArt = FModel.getPreferences().getPrefBoolean(FPref.UI_ENABLE_PRELOAD_EXTENDED_ART);
                     }
                 },4);
+        lstSettings.addItem(new BooleanSetting(FPref.UI_ENABLE_CARD_THUMBNAIL_ATLAS,
+                Forge.getLocalizer().getMessage("lblCardThumbnailAtlas"),
+                Forge.getLocalizer().getMessage("nlCardThumbnailAtlas")){
+                @Override
+                    public void select() {
+                        super.select();
+                        //update
+                        Forge.enableCardThumbnailAtlas = FModel.getPreferences().getPrefBoolean(FPref.UI_ENABLE_CARD_THUMBNAIL_ATLAS);
+                        Forge.getAssets().cardThumbnails().clear();
+                    }
+                },4);
         lstSettings.addItem(new BooleanSetting(FPref.UI_ENABLE_MATCH_SCROLL_INDICATOR,
                 Forge.getLocalizer().getMessage("lblMatchScrollIndicator"),
                 Forge.getLocalizer().getMessage("nlMatchScrollIndicator")),
@@ -8,6 +8,7 @@ import forge.StaticData;
 import forge.card.*;
 import forge.card.mana.ManaCostShard;
 import forge.deck.io.DeckPreferences;
+import forge.deck.io.DeckStorage;
 import forge.game.GameFormat;
 import forge.game.GameType;
 import forge.gamemodes.quest.QuestController;
@@ -22,6 +23,7 @@ import forge.model.FModel;
 import forge.util.BinaryUtil;
 import forge.util.IHasName;
 import forge.util.storage.IStorage;
+import forge.util.storage.StorageIndex;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 import org.apache.commons.lang3.tuple.Pair;
@@ -37,6 +39,10 @@ public class DeckProxy implements InventoryItem {
 
     public static final Function<DeckProxy, String> FN_GET_NAME = arg0 -> arg0.getName();
 
+    private static final String KEY_FORMATS = "formats";
+    private static final String KEY_EXHAUSTIVE_FORMATS = "allformats";
+    private static String formatsStamp;
+
     // cached values
     protected ColorSet color;
     protected ColorSet colorIdentity;
@@ -142,53 +148,36 @@ public class DeckProxy implements InventoryItem {
 
     public ColorSet getColor() {
         if (color == null && !isGeneratedDeck()) {
-            byte colorProfile = MagicColor.COLORLESS;
-            byte landProfile = MagicColor.COLORLESS;
-            Set<Byte> nonReqColors = null;
-
+            final int indexed = getIndexedInt(DeckStorage.KEY_COLOR);
+            if (indexed >= 0) {
+                color = ColorSet.fromMask(indexed);
+                return color;
+            }
+            final List<CardRules> cards = new ArrayList<>();
             for (final Entry<DeckSection, CardPool> deckEntry : getDeck()) {
                 switch (deckEntry.getKey()) {
                 case Main:
                 case Commander:
                     for (final Entry<PaperCard, Integer> poolEntry : deckEntry.getValue()) {
-                        final CardRules rules = poolEntry.getKey().getRules();
-                        if (rules.getType().isLand()) { //track color identity of lands separately
-                            landProfile |= rules.getColorIdentity().getColor();
-                        }
-                        else {
-                            for (final ManaCostShard shard : rules.getManaCost()) {
-                                //track phyrexian and hybrid costs separately as they won't always affect color
-                                if (shard.isPhyrexian() || shard.isOr2Generic() || !shard.isMonoColor()) {
-                                    if (nonReqColors == null) {
-                                        nonReqColors = new HashSet<>();
-                                    }
-                                    nonReqColors.add(shard.getColorMask());
-                                }
-                                else {
-                                    colorProfile |= shard.getColorMask();
-                                }
-                            }
-                        }
+                        cards.add(poolEntry.getKey().getRules());
                     }
                     break;
                 default:
                     break; //ignore other sections
                 }
             }
-            if (nonReqColors != null) {
-                //if any non-required mana colors present, determine which colors, if any,
-                //need to be accounted for in color profile of deck
-                for (final Byte colorMask : nonReqColors) {
-                    colorProfile |= (colorMask & landProfile);
-                }
-            }
-            color = ColorSet.fromMask(colorProfile);
+            color = Deck.getColor(cards);
         }
         return color;
     }
 
     public ColorSet getColorIdentity() {
         if (colorIdentity == null) {
+            final int indexed = getIndexedInt(DeckStorage.KEY_COLOR_IDENTITY);
+            if (indexed >= 0) {
+                colorIdentity = ColorSet.fromMask(indexed);
+                return colorIdentity;
+            }
             byte colorProfile = MagicColor.COLORLESS;
 
             for (final Entry<DeckSection, CardPool> deckEntry : getDeck()) {
@@ -349,18 +338,86 @@ public class DeckProxy implements InventoryItem {
 
     public Set<GameFormat> getFormats() {
         if (formats == null) {
-            formats = FModel.getFormats().getAllFormatsOfDeck(getDeck());
+            formats = getIndexedFormats(KEY_FORMATS);
+            if (formats == null) {
+                formats = FModel.getFormats().getAllFormatsOfDeck(getDeck());
+                setIndexedFormats(KEY_FORMATS, formats);
+            }
         }
         return formats;
     }
 
     public Set<GameFormat> getExhaustiveFormats() {
         if (exhaustiveFormats == null) {
-            exhaustiveFormats = FModel.getFormats().getAllFormatsOfDeck(getDeck(), true);
+            exhaustiveFormats = getIndexedFormats(KEY_EXHAUSTIVE_FORMATS);
+            if (exhaustiveFormats == null) {
+                exhaustiveFormats = FModel.getFormats().getAllFormatsOfDeck(getDeck(), true);
+                setIndexedFormats(KEY_EXHAUSTIVE_FORMATS, exhaustiveFormats);
+            }
         }
         return exhaustiveFormats;
     }
 
+    // stats of decks from indexed folders are kept in the index, so the deck doesn't need loading to be listed
+    private StorageIndex.Entry getIndexEntry() {
+        return deck instanceof Deck && fnGetDeck == null ? ((Deck) deck).getIndexEntry() : null;
+    }
+
+    private int getIndexedInt(final String key) {
+        final StorageIndex.Entry entry = getIndexEntry();
+        return entry == null ? -1 : entry.getInt(key, -1);
+    }
+
+    /**
+     * Format legality depends on the format definitions and on the printings picked for cards without a set,
+     * so indexed formats are only trusted while those didn't change.
+     */
+    private static String getFormatsStamp() {
+        if (formatsStamp == null) {
+            final StringBuilder sb = new StringBuilder();
+            for (final GameFormat gf : FModel.getFormats().getOrderedList()) {
+                sb.append(gf.getName()).append(gf.getAllowedSetCodes()).append(gf.getBannedCardNames());
+            }
+            formatsStamp = Integer.toHexString(sb.toString().hashCode()) + "-" + StaticData.instance().getCardArtPreferenceName()
+                    + "-" + StaticData.instance().isEnabledCardArtSmartSelection();
+        }
+        return formatsStamp;
+    }
+
+    private Set<GameFormat> getIndexedFormats(final String key) {
+        final StorageIndex.Entry entry = getIndexEntry();
+        final String value = entry == null ? null : entry.get(key);
+        if (value == null || !value.startsWith(getFormatsStamp() + "|")) {
+            return null;
+        }
+        final Set<GameFormat> result = new TreeSet<>();
+        for (final String name : StringUtils.split(value.substring(getFormatsStamp().length() + 1), ';')) {
+            final GameFormat format = FModel.getFormats().getFormat(name);
+            if (format == null) {
+                return null;
+            }
+            result.add(format);
+        }
+        if (result.isEmpty()) {
+            result.add(GameFormat.NoFormat);
+        }
+        return result;
+    }
+
+    private void setIndexedFormats(final String key, final Set<GameFormat> value) {
+        final StorageIndex.Entry entry = getIndexEntry();
+        if (entry == null) {
+            return;
+        }
+        final List<String> names = new ArrayList<>();
+        for (final GameFormat format : value) {
+            if (format != GameFormat.NoFormat) {
+                names.add(format.getName());
+            }
+        }
+        entry.set(key, getFormatsStamp() + "|" + StringUtils.join(names, ';'));
+    }
+
     public String getFormatsString() {
         Set<GameFormat> formats = getFormats();
         if (formats.size() > 1)
@@ -389,8 +446,11 @@ public class DeckProxy implements InventoryItem {
 
     public int getMainSize() {
         if (mainSize == null) {
+            final int indexed = getIndexedInt(DeckStorage.KEY_MAIN_SIZE);
             if (deck == null) {
                 mainSize = -1;
+            } else if (indexed >= 0) {
+                mainSize = indexed;
             } else {
                 final Deck d = getDeck();
                 mainSize = d.getMain().countAll();
@@ -407,8 +467,13 @@ public class DeckProxy implements InventoryItem {
 
     public int getSideSize() {
         if (sbSize == null) {
-            final CardPool sb = getDeck().get(DeckSection.Sideboard);
-            sbSize = sb == null ? -1 : sb.countAll();
+            final int indexed = getIndexedInt(DeckStorage.KEY_SIDE_SIZE);
+            if (indexed >= 0) {
+                sbSize = indexed;
+            } else {
+                final CardPool sb = getDeck().get(DeckSection.Sideboard);
+                sbSize = sb == null ? -1 : sb.countAll();
+            }
             if (sbSize == 0) {
                 sbSize = -1;
             }
@@ -18,7 +18,9 @@
 package forge.gamemodes.limited;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import forge.card.ColorSet;
 import forge.deck.Deck;
@@ -42,6 +44,8 @@ public class BoosterDraftAI {
     // holds all the cards for each of the computer's decks
     protected final List<List<PaperCard>> decks = new ArrayList<>();
     protected final List<DeckColors> playerColors = new ArrayList<>();
+    // what the picks of each deck hint at, kept up to date as the decks grow
+    private final Map<List<PaperCard>, DeckHintsIndex> deckHints = new IdentityHashMap<>();
 
     /**
      * <p>
@@ -64,7 +68,7 @@ public class BoosterDraftAI {
         final ColorSet chosenColors = deckCols.getChosenColors();
         final boolean canAddMoreColors = deckCols.canChoseMoreColors();
 
-        List<PaperCard> rankedCards = CardRanker.rankCardsInPack(chooseFrom, deck, chosenColors, canAddMoreColors);
+        List<PaperCard> rankedCards = CardRanker.rankCardsInPack(chooseFrom, getDeckHints(deck), chosenColors, canAddMoreColors);
         PaperCard bestPick = rankedCards.get(0);
 
         if (canAddMoreColors) {
@@ -79,6 +83,19 @@ public class BoosterDraftAI {
         return bestPick;
     }
 
+    private DeckHintsIndex getDeckHints(final List<PaperCard> deck) {
+        DeckHintsIndex index = deckHints.get(deck);
+        if (index == null || index.size() > deck.size()) {
+            index = new DeckHintsIndex();
+            deckHints.put(deck, index);
+        }
+        // decks only grow, so the cards not indexed yet are the last ones
+        for (final PaperCard card : deck.subList(index.size(), deck.size())) {
+            index.add(card);
+        }
+        return index;
+    }
+
     public Deck[] getDecks() {
         final Deck[] out = new Deck[this.decks.size()];
 
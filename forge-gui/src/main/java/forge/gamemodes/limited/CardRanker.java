@@ -1,8 +1,6 @@
 package forge.gamemodes.limited;
 
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Iterables;
-import com.google.common.collect.Lists;
 
 import forge.card.ColorSet;
 import forge.card.DeckHints;
@@ -61,6 +59,23 @@ public class CardRanker {
             final List<PaperCard> deck,
             ColorSet chosenColors,
             boolean canAddMoreColors
+    ) {
+        return rankCardsInPack(cardsInPack, new DeckHintsIndex(deck), chosenColors, canAddMoreColors);
+    }
+
+    /**
+     * Rank cards in pack comparing to the cards picked so far, which the index keeps track of between picks.
+     * @param cardsInPack PaperCards to rank
+     * @param deck index of the cards in the deck
+     * @param chosenColors colors of deck
+     * @param canAddMoreColors can deck add more colors
+     * @return sorted List of ranked cards
+     */
+    public static List<PaperCard> rankCardsInPack(
+            final Iterable<PaperCard> cardsInPack,
+            final DeckHintsIndex deck,
+            ColorSet chosenColors,
+            boolean canAddMoreColors
     ) {
         List<Pair<Double, PaperCard>> cardScores = getScoresForPack(cardsInPack, deck, chosenColors, canAddMoreColors);
 
@@ -70,18 +85,16 @@ public class CardRanker {
     private static List<Pair<Double, PaperCard>> getScores(Iterable<PaperCard> cards) {
         List<Pair<Double, PaperCard>> cardScores = new ArrayList<>();
 
-        List<PaperCard> cache = Lists.newArrayList(cards);
-
-        for (int i = 0; i < cache.size(); i++) {
-            final PaperCard card = cache.get(i);
+        // each card is scored against all the others
+        DeckHintsIndex index = new DeckHintsIndex(cards);
 
+        for (PaperCard card : cards) {
             double score = getRawScore(card);
             if (card.getRules().getAiHints().getRemAIDecks()) {
                 score -= 20.0;
             }
 
-            List<PaperCard> otherCards = getCardsExceptOne(cache, i);
-            score += getScoreForDeckHints(card, otherCards);
+            score += getScoreForDeckHints(card, index, true);
 
             cardScores.add(Pair.of(score, card));
         }
@@ -91,7 +104,7 @@ public class CardRanker {
 
     private static List<Pair<Double, PaperCard>> getScoresForPack(
             Iterable<PaperCard> cardsInPack,
-            List<PaperCard> deck,
+            DeckHintsIndex deck,
             ColorSet chosenColors,
             boolean canAddMoreColors
     ) {
@@ -106,7 +119,7 @@ public class CardRanker {
                 score -= 50.0;
             }
 
-            score += getScoreForDeckHints(card, deck);
+            score += getScoreForDeckHints(card, deck, false);
 
             cardScores.add(Pair.of(score, card));
         }
@@ -148,40 +161,30 @@ public class CardRanker {
         return rawScore;
     }
 
-    private static List<PaperCard> getCardsExceptOne(List<PaperCard> cache, int i) {
-        List<PaperCard> otherCards = new ArrayList<>(cache.subList(0, i));
-        if (i + 1 < cache.size()) {
-            otherCards.addAll(cache.subList(i + 1, cache.size()));
-        }
-        return otherCards;
-    }
-
-    private static double getScoreForDeckHints(PaperCard card, Iterable<PaperCard> otherCards) {
+    private static double getScoreForDeckHints(PaperCard card, DeckHintsIndex otherCards, boolean inPool) {
         double score = 0.0;
 
-        List<PaperCard> toBeRanked = Lists.newArrayList(card);
-        for (PaperCard other : otherCards) {
-            final DeckHints hints = other.getRules().getAiHints().getDeckHints();
-            if (hints != null && hints.isValid()) {
-                final Map<DeckHints.Type, Iterable<PaperCard>> cardsByType = hints.filterByType(toBeRanked);
-                for (DeckHints.Type type : cardsByType.keySet()) {
-                    Iterable<PaperCard> cards = cardsByType.get(type);
-                    score += Iterables.size(cards) * typeFactors.get(type);
-                    if (logToConsole && Iterables.size(cards) > 0) {
-                        System.out.println(" - " + card.getName() + ": Found " + Iterables.size(cards) + " cards for " + type);
-                    }
+        final int[] hintMatches = otherCards.getHintMatches(card, inPool);
+        for (DeckHints.Type type : DeckHints.Type.values()) {
+            int found = hintMatches[type.ordinal()];
+            if (found > 0) {
+                score += found * typeFactors.get(type);
+                if (logToConsole) {
+                    System.out.println(" - " + card.getName() + ": Found " + found + " cards for " + type);
                 }
             }
         }
 
-        final DeckHints needs = card.getRules().getAiHints().getDeckNeeds();
-        if (needs != null && needs.isValid()) {
-            final Map<DeckHints.Type, Iterable<PaperCard>> cardsByType = needs.filterByType(otherCards);
-            for (DeckHints.Type type : cardsByType.keySet()) {
-                Iterable<PaperCard> cards = cardsByType.get(type);
-                score -= (Math.max(typeThresholds.get(type) - Iterables.size(cards), 0) / (double) typeThresholds.get(type)) * typeFactors.get(type);
-                if (logToConsole && Iterables.size(cards) > 0) {
-                    System.out.println(" - " + card.getName() + ": Found " + Iterables.size(cards) + " cards for " + type);
+        final int[] needMatches = otherCards.getNeedMatches(card, inPool);
+        if (needMatches != null) {
+            for (DeckHints.Type type : DeckHints.Type.values()) {
+                int found = needMatches[type.ordinal()];
+                if (found < 0) {
+                    continue;
+                }
+                score -= (Math.max(typeThresholds.get(type) - found, 0) / (double) typeThresholds.get(type)) * typeFactors.get(type);
+                if (logToConsole && found > 0) {
+                    System.out.println(" - " + card.getName() + ": Found " + found + " cards for " + type);
                 }
             }
         }
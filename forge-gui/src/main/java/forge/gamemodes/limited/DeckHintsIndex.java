@@ -0,0 +1,150 @@
+package forge.gamemodes.limited;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.tuple.Pair;
+
+import forge.card.CardRules;
+import forge.card.DeckHints;
+import forge.item.PaperCard;
+
+/**
+ * How the cards of a pool match the DeckHints and DeckNeeds of the cards ranked against it.
+ * <p>
+ * Matches are counted one card at a time and kept for every card ranked so far. Adding a pick to the pool only
+ * matches that card against the ranked ones, and ranking a card again doesn't go over the pool at all, which is
+ * what a drafting AI does with every pack it is passed.
+ * </p>
+ */
+public class DeckHintsIndex {
+    private static final int N_TYPES = DeckHints.Type.values().length;
+
+    private static final class Matches {
+        // matches of the card with the DeckHints of the pool, summed per type
+        private final int[] byHints = new int[N_TYPES];
+        // matches of the card's DeckNeeds in the pool, -1 for the types it doesn't need
+        private final int[] byNeeds;
+
+        private Matches(final DeckHints needs) {
+            if (needs == null) {
+                byNeeds = null;
+                return;
+            }
+            byNeeds = new int[N_TYPES];
+            Arrays.fill(byNeeds, -1);
+            for (final Pair<DeckHints.Type, String> filter : needs.filters) {
+                byNeeds[filter.getLeft().ordinal()] = 0;
+            }
+        }
+    }
+
+    private final Map<CardRules, Integer> pool = new HashMap<>();
+    private final Map<CardRules, Matches> ranked = new HashMap<>();
+    private int size = 0;
+
+    public DeckHintsIndex() {
+    }
+
+    public DeckHintsIndex(final Iterable<PaperCard> cards) {
+        for (final PaperCard card : cards) {
+            add(card);
+        }
+    }
+
+    public void add(final PaperCard card) {
+        final CardRules rules = card.getRules();
+        pool.merge(rules, 1, Integer::sum);
+        size++;
+        final DeckHints hints = getHints(rules);
+        for (final Map.Entry<CardRules, Matches> e : ranked.entrySet()) {
+            addMatches(e.getKey(), e.getValue(), rules, hints, 1);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param inPool whether one copy of the card is part of the pool, which isn't matched with itself then
+     * @return the matches of the card with the hints of the pool, summed per type
+     */
+    public int[] getHintMatches(final PaperCard card, final boolean inPool) {
+        final CardRules rules = card.getRules();
+        final int[] result = getMatches(rules).byHints.clone();
+        final DeckHints hints = getHints(rules);
+        if (inPool && hints != null) {
+            subtract(result, hints.countByType(rules));
+        }
+        return result;
+    }
+
+    /**
+     * @param inPool whether one copy of the card is part of the pool, which isn't matched with itself then
+     * @return the matches of the card's needs in the pool per type, -1 for the types it doesn't need, or null if
+     * the card needs nothing.
+     */
+    public int[] getNeedMatches(final PaperCard card, final boolean inPool) {
+        final CardRules rules = card.getRules();
+        final int[] byNeeds = getMatches(rules).byNeeds;
+        if (byNeeds == null) {
+            return null;
+        }
+        final int[] result = byNeeds.clone();
+        if (inPool) {
+            subtract(result, getNeeds(rules).countByType(rules));
+        }
+        return result;
+    }
+
+    private Matches getMatches(final CardRules rules) {
+        Matches matches = ranked.get(rules);
+        if (matches == null) {
+            matches = new Matches(getNeeds(rules));
+            for (final Map.Entry<CardRules, Integer> e : pool.entrySet()) {
+                addMatches(rules, matches, e.getKey(), getHints(e.getKey()), e.getValue());
+            }
+            ranked.put(rules, matches);
+        }
+        return matches;
+    }
+
+    private static void addMatches(final CardRules rules, final Matches matches, final CardRules other, final DeckHints otherHints, final int copies) {
+        if (otherHints != null) {
+            final int[] counts = otherHints.countByType(rules);
+            for (int i = 0; i < N_TYPES; i++) {
+                if (counts[i] > 0) {
+                    matches.byHints[i] += copies * counts[i];
+                }
+            }
+        }
+        if (matches.byNeeds != null) {
+            final int[] counts = getNeeds(rules).countByType(other);
+            for (int i = 0; i < N_TYPES; i++) {
+                if (counts[i] > 0) {
+                    matches.byNeeds[i] += copies * counts[i];
+                }
+            }
+        }
+    }
+
+    private static void subtract(final int[] matches, final int[] counts) {
+        for (int i = 0; i < N_TYPES; i++) {
+            if (counts[i] > 0) {
+                matches[i] -= counts[i];
+            }
+        }
+    }
+
+    private static DeckHints getHints(final CardRules rules) {
+        final DeckHints hints = rules.getAiHints().getDeckHints();
+        return hints != null && hints.isValid() ? hints : null;
+    }
+
+    private static DeckHints getNeeds(final CardRules rules) {
+        final DeckHints needs = rules.getAiHints().getDeckNeeds();
+        return needs != null && needs.isValid() ? needs : null;
+    }
+}
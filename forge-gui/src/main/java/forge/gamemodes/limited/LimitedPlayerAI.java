@@ -1,6 +1,8 @@
 package forge.gamemodes.limited;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import forge.card.ColorSet;
 import forge.deck.CardPool;
@@ -11,6 +13,9 @@ import forge.localinstance.properties.ForgePreferences;
 
 public class LimitedPlayerAI extends LimitedPlayer {
     protected DeckColors deckCols;
+    private DeckHintsIndex deckHints = new DeckHintsIndex();
+    // the cards of the pool the index holds, to tell whether the pool only grew since
+    private final Map<PaperCard, Integer> indexedPool = new HashMap<>();
 
     public LimitedPlayerAI(int seatingOrder) {
         super(seatingOrder);
@@ -36,7 +41,7 @@ public class LimitedPlayerAI extends LimitedPlayer {
         final ColorSet chosenColors = deckCols.getChosenColors();
         final boolean canAddMoreColors = deckCols.canChoseMoreColors();
 
-        List<PaperCard> rankedCards = CardRanker.rankCardsInPack(chooseFrom, pool.toFlatList(), chosenColors, canAddMoreColors);
+        List<PaperCard> rankedCards = CardRanker.rankCardsInPack(chooseFrom, getDeckHints(pool), chosenColors, canAddMoreColors);
         PaperCard bestPick = rankedCards.get(0);
 
         if (canAddMoreColors) {
@@ -50,6 +55,24 @@ public class LimitedPlayerAI extends LimitedPlayer {
         return bestPick;
     }
 
+    private DeckHintsIndex getDeckHints(CardPool pool) {
+        // picks are added to the index, cards taken out of the pool or swapped mean starting over
+        for (Map.Entry<PaperCard, Integer> e : indexedPool.entrySet()) {
+            if (pool.count(e.getKey()) < e.getValue()) {
+                deckHints = new DeckHintsIndex();
+                indexedPool.clear();
+                break;
+            }
+        }
+        for (Map.Entry<PaperCard, Integer> e : pool) {
+            Integer indexed = indexedPool.put(e.getKey(), e.getValue());
+            for (int i = indexed == null ? 0 : indexed; i < e.getValue(); i++) {
+                deckHints.add(e.getKey());
+            }
+        }
+        return deckHints;
+    }
+
     public Deck buildDeck(String landSetCode) {
         CardPool section = deck.getOrCreate(DeckSection.Sideboard);
         return new BoosterDeckBuilder(section.toFlatList(), deckCols).buildDeck(landSetCode);
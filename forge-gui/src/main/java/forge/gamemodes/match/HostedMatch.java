@@ -14,7 +14,6 @@ import org.apache.commons.lang3.StringUtils;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.eventbus.Subscribe;
 
 import forge.LobbyPlayer;
 import forge.game.Game;
@@ -82,7 +81,7 @@ public class HostedMatch {
     }
     public void setEndGameHook(Runnable hook) { endGameHook = hook; }
 
-    private static GameRules getDefaultRules(final GameType gameType) {
+    public static GameRules getDefaultRules(final GameType gameType) {
         final GameRules gameRules = new GameRules(gameType);
         gameRules.setPlayForAnte(FModel.getPreferences().getPrefBoolean(FPref.UI_ANTE));
         gameRules.setMatchAnteRarity(FModel.getPreferences().getPrefBoolean(FPref.UI_ANTE_MATCH_RARITY));
@@ -134,8 +133,8 @@ public class HostedMatch {
             title = TextUtil.concatNoSpace("Multiplayer Game (", String.valueOf(sortedPlayers.size()), " players)");
         }
         this.match = new Match(gameRules, sortedPlayers, title);
-        this.match.subscribeToEvents(SoundSystem.instance);
-        this.match.subscribeToEvents(visitor);
+        this.match.subscribeToEvents(UiEvent.class, SoundSystem.instance::receiveEvent);
+        this.match.subscribeToEvents(UiEvent.class, visitor::receiveEvent);
         this.matchPlaylist = playlist;
         startGame();
     }
@@ -162,11 +161,11 @@ public class HostedMatch {
             if (game.getMatch().getOutcomes().isEmpty()) {
                 qc.getCards().resetNewList();
             }
-            game.subscribeToEvents(qc); // this one listens to player's mulligans ATM
+            game.subscribeToEvents(GameEvent.class, qc::receiveGameEvent); // this one listens to player's mulligans ATM
         }
 
-        game.subscribeToEvents(SoundSystem.instance);
-        game.subscribeToEvents(visitor);
+        game.subscribeToEvents(GameEvent.class, SoundSystem.instance::receiveEvent);
+        game.subscribeToEvents(GameEvent.class, visitor::receiveGameEvent);
 
         final FCollectionView<Player> players = game.getPlayers();
         final String[] avatarIndices = FModel.getPreferences().getPref(FPref.UI_AVATARS).split(",");
@@ -207,7 +206,7 @@ public class HostedMatch {
                 gui.setGameView(gameView);
                 gui.setOriginalGameController(p.getView(), humanController);
 
-                game.subscribeToEvents(new FControlGameEventHandler(humanController));
+                game.subscribeToEvents(GameEvent.class, new FControlGameEventHandler(humanController)::receiveGameEvent);
                 playersPerGui.add(gui, p.getView());
 
                 if (gameControllers != null ) {
@@ -249,7 +248,7 @@ public class HostedMatch {
                     // Create FControlGamePlayback in game thread to allow pausing
                     playbackControl = new FControlGamePlayback(humanControllers.get(0));
                     playbackControl.setGame(game);
-                    game.subscribeToEvents(playbackControl);
+                    game.subscribeToEvents(GameEvent.class, playbackControl::receiveGameEvent);
                 }
                 // Actually start the game!
                 match.startGame(game, startGameHook);
@@ -292,7 +291,7 @@ public class HostedMatch {
     public void registerSpectator(final IGuiGame gui, final PlayerControllerHuman humanController) {
         gui.setSpectator(humanController);
         gui.openView(null);
-        game.subscribeToEvents(new FControlGameEventHandler(humanController));
+        game.subscribeToEvents(GameEvent.class, new FControlGameEventHandler(humanController)::receiveGameEvent);
         humanControllers.add(humanController);
     }
 
@@ -373,8 +372,8 @@ public class HostedMatch {
         @Override
         public Void visit(final GameEventSubgameStart event) {
             subGameCount++;
-            event.subgame.subscribeToEvents(SoundSystem.instance);
-            event.subgame.subscribeToEvents(visitor);
+            event.subgame.subscribeToEvents(GameEvent.class, SoundSystem.instance::receiveEvent);
+            event.subgame.subscribeToEvents(GameEvent.class, visitor::receiveGameEvent);
 
             final GameView gameView = event.subgame.getView();
 
@@ -392,7 +391,7 @@ public class HostedMatch {
                             gui.openView(new TrackableCollection<>(p.getView()));
                             gui.setGameView(null);
                             gui.setGameView(gameView);
-                            event.subgame.subscribeToEvents(new FControlGameEventHandler(humanController));
+                            event.subgame.subscribeToEvents(GameEvent.class, new FControlGameEventHandler(humanController)::receiveGameEvent);
                             gui.message(event.message);
                         }
                     }
@@ -441,7 +440,6 @@ public class HostedMatch {
             return null;
         }
 
-        @Subscribe
         public void receiveEvent(final UiEvent evt) {
             try {
                 evt.visit(this);
@@ -451,7 +449,6 @@ public class HostedMatch {
             }
         }
 
-        @Subscribe
         public void receiveGameEvent(final GameEvent evt) {
             try {
                 evt.visit(this);
@@ -1,5 +1,6 @@
 package forge.gamemodes.net;
 
+import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
@@ -15,6 +16,14 @@ public class CompatibleObjectEncoder extends MessageToByteEncoder<Serializable>
 
     @Override
     protected void encode(ChannelHandlerContext ctx, Serializable msg, ByteBuf out) throws Exception {
+        encodeFrame(msg, out);
+    }
+
+    /**
+     * Writes the frame of the given object, used to encode messages before handing them to the channel
+     * (such ready frames simply pass through this encoder).
+     */
+    public static void encodeFrame(Serializable msg, ByteBuf out) throws IOException {
         int startIdx = out.writerIndex();
         ByteBufOutputStream bout = new ByteBufOutputStream(out);
         ObjectOutputStream oout = null;
@@ -127,8 +127,30 @@ public class NetConnectUtil {
     }
 
     public static ChatMessage join(final String url, final IOnlineLobby onlineLobby, final IOnlineChatInterface chatInterface) {
+        String hostname = url;
+        int port = ForgeProfileProperties.getServerPort();
+        String room = null;
+
+        //see if a room on a dedicated server is specified in URL
+        int index = url.indexOf('/');
+        if (index >= 0) {
+            room = url.substring(index + 1);
+            hostname = url.substring(0, index);
+        }
+
+        //see if port specified in URL
+        index = hostname.indexOf(':');
+        if (index >= 0) {
+            String portStr = hostname.substring(index + 1);
+            hostname = hostname.substring(0, index);
+            try {
+                port = Integer.parseInt(portStr);
+            }
+            catch (Exception ex) {}
+        }
+
         final IGuiGame gui = GuiBase.getInterface().getNewGuiGame();
-        final FGameClient client = new FGameClient(FModel.getPreferences().getPref(FPref.PLAYER_NAME), "0", gui);
+        final FGameClient client = new FGameClient(FModel.getPreferences().getPref(FPref.PLAYER_NAME), room, gui);
         onlineLobby.setClient(client);
         chatInterface.setGameClient(client);
         final ClientGameLobby lobby = new ClientGameLobby();
@@ -161,20 +183,6 @@ public class NetConnectUtil {
             }
         });
 
-        String hostname = url;
-        int port = ForgeProfileProperties.getServerPort();
-
-        //see if port specified in URL
-        int index = url.indexOf(':');
-        if (index >= 0) {
-            hostname = url.substring(0, index);
-            String portStr = url.substring(index + 1);
-            try {
-                port = Integer.parseInt(portStr);
-            }
-            catch (Exception ex) {}
-        }
-
         try {
             client.connect(hostname, port);
         }
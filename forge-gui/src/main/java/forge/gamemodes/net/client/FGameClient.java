@@ -31,12 +31,18 @@ import io.netty.handler.codec.serialization.ClassResolvers;
 public class FGameClient implements IToServer {
 
     private final IGuiGame clientGui;
+    private final String roomKey;
     private final List<ILobbyListener> lobbyListeners = Lists.newArrayList();
     private final ReplyPool replies = new ReplyPool();
     private Channel channel;
 
     public FGameClient(final String username, final String roomKey, final IGuiGame clientGui) {
         this.clientGui = clientGui;
+        this.roomKey = roomKey;
+    }
+
+    final String getRoomKey() {
+        return roomKey;
     }
 
     final IGuiGame getGui() {
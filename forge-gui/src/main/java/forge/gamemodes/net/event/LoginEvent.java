@@ -7,10 +7,15 @@ public class LoginEvent implements NetEvent {
 
     private final String username;
     private final int avatarIndex, sleeveIndex;
+    private final String room;
     public LoginEvent(final String username, final int avatarIndex, final int sleeveIndex) {
+        this(username, avatarIndex, sleeveIndex, null);
+    }
+    public LoginEvent(final String username, final int avatarIndex, final int sleeveIndex, final String room) {
         this.username = username;
         this.avatarIndex = avatarIndex;
         this.sleeveIndex = sleeveIndex;
+        this.room = room;
     }
 
     @Override
@@ -28,4 +33,11 @@ public class LoginEvent implements NetEvent {
     public int getSleeveIndex() {
         return sleeveIndex;
     }
+
+    /**
+     * @return the room to join on a dedicated server, null for the room of whoever hosts the server.
+     */
+    public String getRoom() {
+        return room;
+    }
 }
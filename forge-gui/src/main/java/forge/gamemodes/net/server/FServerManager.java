@@ -16,29 +16,26 @@ import java.util.Collections;
 import java.util.Enumeration;
 import java.util.Map;
 
+import org.apache.commons.lang3.StringUtils;
 import org.fourthline.cling.UpnpService;
 import org.fourthline.cling.UpnpServiceImpl;
 import org.fourthline.cling.support.igd.PortMappingListener;
 import org.fourthline.cling.support.model.PortMapping;
 
-import com.google.common.base.Predicates;
-import com.google.common.collect.Iterables;
 import com.google.common.collect.Maps;
 
-import forge.gamemodes.match.LobbySlot;
-import forge.gamemodes.match.LobbySlotType;
 import forge.gamemodes.net.CompatibleObjectDecoder;
 import forge.gamemodes.net.CompatibleObjectEncoder;
-import forge.gamemodes.net.event.LobbyUpdateEvent;
 import forge.gamemodes.net.event.LoginEvent;
 import forge.gamemodes.net.event.LogoutEvent;
 import forge.gamemodes.net.event.MessageEvent;
 import forge.gamemodes.net.event.NetEvent;
 import forge.gamemodes.net.event.UpdateLobbyPlayerEvent;
-import forge.gui.GuiBase;
 import forge.gui.interfaces.IGuiGame;
-import forge.interfaces.IGameController;
 import forge.interfaces.ILobbyListener;
+import forge.localinstance.properties.ForgePreferences;
+import forge.localinstance.properties.ForgePreferences.FPref;
+import forge.model.FModel;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
@@ -62,8 +59,10 @@ public final class FServerManager {
     private EventLoopGroup bossGroup = new NioEventLoopGroup(1);
     private EventLoopGroup workerGroup = new NioEventLoopGroup();
     private UpnpService upnpService = null;
-    private final Map<Channel, RemoteClient> clients = Maps.newTreeMap();
-    private ServerGameLobby localLobby;
+    private final Map<Channel, RemoteClient> clients = Maps.newConcurrentMap();
+    private final Map<String, ServerRoom> rooms = Maps.newConcurrentMap();
+    private ServerRoom defaultRoom;
+    private boolean dedicated = false;
     private ILobbyListener lobbyListener;
     private final Thread shutdownHook = new Thread(new Runnable() {
         @Override public final void run() {
@@ -79,9 +78,6 @@ public final class FServerManager {
     RemoteClient getClient(final Channel ch) {
         return clients.get(ch);
     }
-    IGameController getController(final int index) {
-        return localLobby.getController(index);
-    }
 
     /**
      * Get the singleton instance of {@link FServerManager}.
@@ -95,6 +91,15 @@ public final class FServerManager {
         return instance;
     }
 
+    /**
+     * Starts a server without a host of its own. Clients name the room they join in their login, rooms are created
+     * for them as needed and go away once the last client has left. All rooms share the server's event loops.
+     */
+    public void startDedicatedServer(final int port) {
+        dedicated = true;
+        startServer(port);
+    }
+
     public void startServer(final int port) {
         try {
             final ServerBootstrap b = new ServerBootstrap()
@@ -129,7 +134,9 @@ public final class FServerManager {
                     }
                 }
             }).start();
-            mapNatPort(port);
+            if (!dedicated) {
+                mapNatPort(port);
+            }
             Runtime.getRuntime().addShutdownHook(shutdownHook);
             isHosting = true;
         } catch (final InterruptedException e) {
@@ -151,6 +158,8 @@ public final class FServerManager {
             Runtime.getRuntime().removeShutdownHook(shutdownHook);
         }
         isHosting = false;
+        dedicated = false;
+        rooms.clear();
         // create new EventLoopGroups for potential restart
         bossGroup = new NioEventLoopGroup(1);
         workerGroup = new NioEventLoopGroup();
@@ -160,44 +169,85 @@ public final class FServerManager {
         return isHosting;
     }
 
+    public boolean isDedicated() {
+        return dedicated;
+    }
+
     public void broadcast(final NetEvent event) {
-        if (event instanceof MessageEvent) {
+        broadcast(defaultRoom, event);
+    }
+    private void broadcast(final ServerRoom room, final NetEvent event) {
+        if (event instanceof MessageEvent && room == defaultRoom && lobbyListener != null) {
             MessageEvent msgEvent = (MessageEvent) event;
             lobbyListener.message(msgEvent.getSource(), msgEvent.getMessage());
         }
-        broadcastTo(event, clients.values());
+        room.broadcast(event);
     }
     public void broadcastExcept(final NetEvent event, final RemoteClient notTo) {
-        broadcastExcept(event, Collections.singleton(notTo));
+        defaultRoom.broadcastExcept(event, notTo);
     }
-    public void broadcastExcept(final NetEvent event, final Collection<RemoteClient> notTo) {
-        broadcastTo(event, Iterables.filter(clients.values(), Predicates.not(Predicates.in(notTo))));
+
+    public void setLobby(final ServerGameLobby lobby) {
+        this.defaultRoom = new ServerRoom("", lobby, false);
     }
-    private void broadcastTo(final NetEvent event, final Iterable<RemoteClient> to) {
-        for (final RemoteClient client : to) {
-            broadcastTo(event, client);
-        }
+
+    /**
+     * Opens a room without any clients yet, e.g. for matches between AI players only.
+     */
+    public ServerRoom createRoom(final String name) {
+        return rooms.computeIfAbsent(name, n -> new ServerRoom(n, new ServerGameLobby(false), true));
     }
-    private void broadcastTo(final NetEvent event, final RemoteClient to) {
-        event.updateForClient(to);
-        to.send(event);
+
+    public ServerRoom getRoom(final String name) {
+        return rooms.get(name);
     }
 
-    public void setLobby(final ServerGameLobby lobby) {
-        this.localLobby = lobby;
+    public Collection<ServerRoom> getRooms() {
+        return Collections.unmodifiableCollection(rooms.values());
+    }
+
+    private ServerRoom joinRoom(final RemoteClient client, final String name) {
+        if (!dedicated) {
+            defaultRoom.addClient(client);
+            return defaultRoom;
+        }
+        // joined while the map holds the room, so it can't be removed for being empty meanwhile
+        return rooms.compute(StringUtils.defaultString(name), (n, room) -> {
+            final ServerRoom joined = room != null ? room : new ServerRoom(n, new ServerGameLobby(false), true);
+            joined.addClient(client);
+            return joined;
+        });
+    }
+
+    /**
+     * Closes a room of the dedicated server once its last client has left and its match is over.
+     */
+    void removeRoomIfUnused(final ServerRoom room) {
+        if (!room.isDedicated()) {
+            return;
+        }
+        rooms.computeIfPresent(room.getName(), (n, r) -> r == room && room.isEmpty() && !room.isMatchActive() ? null : r);
     }
 
     public void unsetReady() {
-        if (this.localLobby != null) {
-            if (this.localLobby.getSlot(0) != null) {
-                this.localLobby.getSlot(0).setIsReady(false);
+        if (this.defaultRoom != null) {
+            if (this.defaultRoom.getLobby().getSlot(0) != null) {
+                this.defaultRoom.getLobby().getSlot(0).setIsReady(false);
                 updateLobbyState();
             }
         }
     }
 
     public boolean isMatchActive() {
-        return this.localLobby != null && this.localLobby.isMatchActive();
+        if (this.defaultRoom != null && this.defaultRoom.isMatchActive()) {
+            return true;
+        }
+        for (final ServerRoom room : rooms.values()) {
+            if (room.isMatchActive()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public void setLobbyListener(final ILobbyListener listener) {
@@ -205,27 +255,15 @@ public final class FServerManager {
     }
 
     public void updateLobbyState() {
-        final LobbyUpdateEvent event = new LobbyUpdateEvent(localLobby.getData());
-        broadcast(event);
+        defaultRoom.updateLobbyState();
     }
 
     public void updateSlot(final int index, final UpdateLobbyPlayerEvent event) {
-        localLobby.applyToSlot(index, event);
+        defaultRoom.getLobby().applyToSlot(index, event);
     }
 
     public IGuiGame getGui(final int index) {
-        final LobbySlot slot = localLobby.getSlot(index);
-        final LobbySlotType type = slot.getType();
-        if (type == LobbySlotType.LOCAL) {
-            return GuiBase.getInterface().getNewGuiGame();
-        } else if (type == LobbySlotType.REMOTE) {
-            for (final RemoteClient client : clients.values()) {
-                if (client.getIndex() == index) {
-                    return new NetGuiGame(client);
-                }
-            }
-        }
-        return null;
+        return defaultRoom.getGui(index);
     }
 
     // inspired by:
@@ -302,12 +340,16 @@ public final class FServerManager {
         }
     }
 
+    private static boolean isSeated(final RemoteClient client) {
+        return client.getRoom() != null && client.getIndex() >= 0;
+    }
+
     private class MessageHandler extends ChannelInboundHandlerAdapter {
         @Override
         public final void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
             final RemoteClient client = clients.get(ctx.channel());
-            if (msg instanceof MessageEvent) {
-                broadcast(new MessageEvent(client.getUsername(), ((MessageEvent) msg).getMessage()));
+            if (msg instanceof MessageEvent && client.getRoom() != null) {
+                broadcast(client.getRoom(), new MessageEvent(client.getUsername(), ((MessageEvent) msg).getMessage()));
             }
             super.channelRead(ctx, msg);
         }
@@ -316,10 +358,11 @@ public final class FServerManager {
     private class RegisterClientHandler extends ChannelInboundHandlerAdapter {
         @Override
         public void channelActive(final ChannelHandlerContext ctx) throws Exception {
-            final RemoteClient client = new RemoteClient(ctx.channel());
+            final ForgePreferences prefs = FModel.getPreferences();
+            final RemoteClient client = new RemoteClient(ctx.channel(), prefs.getPrefInt(FPref.NET_MAX_QUEUED_EVENTS),
+                    prefs.getPrefInt(FPref.NET_MAX_QUEUED_MB) * 1024L * 1024L);
             clients.put(ctx.channel(), client);
             System.out.println("Client connected to server at " + ctx.channel().remoteAddress());
-            updateLobbyState();
             super.channelActive(ctx);
         }
 
@@ -327,12 +370,13 @@ public final class FServerManager {
         public void channelRead(final ChannelHandlerContext ctx, final Object msg) throws Exception {
             final RemoteClient client = clients.get(ctx.channel());
             if (msg instanceof LoginEvent) {
-                final String username = ((LoginEvent) msg).getUsername();
-                client.setUsername(username);
-                broadcast(new MessageEvent(String.format("%s joined the room", username)));
-                updateLobbyState();
-            } else if (msg instanceof UpdateLobbyPlayerEvent) {
-                localLobby.applyToSlot(client.getIndex(), (UpdateLobbyPlayerEvent) msg);
+                final LoginEvent event = (LoginEvent) msg;
+                final ServerRoom room = joinRoom(client, event.getRoom());
+                client.setUsername(event.getUsername());
+                broadcast(room, new MessageEvent(String.format("%s joined the room", event.getUsername())));
+                room.updateLobbyState();
+            } else if (msg instanceof UpdateLobbyPlayerEvent && isSeated(client)) {
+                client.getRoom().getLobby().applyToSlot(client.getIndex(), (UpdateLobbyPlayerEvent) msg);
             }
             super.channelRead(ctx, msg);
         }
@@ -343,17 +387,19 @@ public final class FServerManager {
             final RemoteClient client = clients.get(ctx.channel());
             if (msg instanceof LoginEvent) {
                 final LoginEvent event = (LoginEvent) msg;
-                final int index = localLobby.connectPlayer(event.getUsername(), event.getAvatarIndex(), event.getSleeveIndex());
-                if (index == -1) {
+                final ServerRoom room = client.getRoom();
+                final int index = room.getLobby().connectPlayer(event.getUsername(), event.getAvatarIndex(), event.getSleeveIndex());
+                if (index == -1 && !room.isDedicated()) {
                     ctx.close();
                 } else {
+                    // with all seats taken, clients of a dedicated server watch the match
                     client.setIndex(index);
-                    broadcast(event);
-                    updateLobbyState();
+                    broadcast(room, event);
+                    room.updateLobbyState();
                 }
-            } else if (msg instanceof UpdateLobbyPlayerEvent) {
-                updateSlot(client.getIndex(), (UpdateLobbyPlayerEvent) msg);
-            } else if (msg instanceof MessageEvent) {
+            } else if (msg instanceof UpdateLobbyPlayerEvent && isSeated(client)) {
+                client.getRoom().getLobby().applyToSlot(client.getIndex(), (UpdateLobbyPlayerEvent) msg);
+            } else if (msg instanceof MessageEvent && client.getRoom() == defaultRoom && lobbyListener != null) {
                 final MessageEvent event = (MessageEvent) msg;
                 lobbyListener.message(event.getSource(), event.getMessage());
             }
@@ -365,10 +411,18 @@ public final class FServerManager {
         @Override
         public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
             final RemoteClient client = clients.remove(ctx.channel());
-            final String username = client.getUsername();
-            localLobby.disconnectPlayer(client.getIndex());
-            broadcast(new MessageEvent(String.format("%s left the room", username)));
-            broadcast(new LogoutEvent(username));
+            System.out.println("Client " + ctx.channel().remoteAddress() + " disconnected: " + client.getSendStats());
+            final ServerRoom room = client.getRoom();
+            if (room != null) {
+                final String username = client.getUsername();
+                room.removeClient(client);
+                if (isSeated(client)) {
+                    room.getLobby().disconnectPlayer(client.getIndex());
+                }
+                broadcast(room, new MessageEvent(String.format("%s left the room", username)));
+                broadcast(room, new LogoutEvent(username));
+                removeRoomIfUnused(room);
+            }
             super.channelInactive(ctx);
         }
     }
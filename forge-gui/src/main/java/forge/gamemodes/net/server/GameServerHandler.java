@@ -30,7 +30,8 @@ final class GameServerHandler extends GameProtocolHandler<IGameController> {
 
     @Override
     protected IGameController getToInvoke(final ChannelHandlerContext ctx) {
-        return server.getController(getClient(ctx).getIndex());
+        final RemoteClient client = getClient(ctx);
+        return client.getRoom().getController(client.getIndex());
     }
 
     @Override
@@ -1,30 +1,216 @@
 package forge.gamemodes.net.server;
 
+import java.util.ArrayDeque;
 import java.util.concurrent.TimeoutException;
 
+import forge.gamemodes.net.CompatibleObjectEncoder;
+import forge.gamemodes.net.ProtocolMethod;
 import forge.gamemodes.net.ReplyPool;
+import forge.gamemodes.net.event.GuiGameEvent;
 import forge.gamemodes.net.event.IdentifiableNetEvent;
 import forge.gamemodes.net.event.NetEvent;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
 
+/**
+ * A client connected to the server.
+ * <p>
+ * Events are encoded right away, so the client gets the state they describe, and then queued for the channel. The
+ * queue is written out by the channel's event loop with a single flush for all events queued meanwhile, so the game
+ * thread doesn't wait on the network unless the client falls too far behind.
+ * </p>
+ */
 public final class RemoteClient implements IToClient {
+    // how long a sender waits for a full queue before sending anyway
+    private static final long BACK_PRESSURE_TIMEOUT_MS = 30000;
 
     private final Channel channel;
     private String username;
-    private int index;
+    private int index = -1;
+    private ServerRoom room;
     private ReplyPool replies = new ReplyPool();
+
+    private final int maxQueuedEvents;
+    private final long maxQueuedBytes;
+    private final ArrayDeque<Outbound> queue = new ArrayDeque<>();
+    private long queuedBytes;
+    private boolean drainScheduled;
+
+    private long sentEvents, sentBytes, coalescedEvents, totalLatency, maxLatency;
+    private int maxQueueDepth;
+
+    private static final class Outbound {
+        private final NetEvent event;
+        private final ByteBuf frame;
+        private final long queuedAt = System.nanoTime();
+
+        private Outbound(final NetEvent event0, final ByteBuf frame0) {
+            event = event0;
+            frame = frame0;
+        }
+    }
+
     public RemoteClient(final Channel channel) {
+        this(channel, 500, 16L * 1024 * 1024);
+    }
+    public RemoteClient(final Channel channel, final int maxQueuedEvents, final long maxQueuedBytes) {
         this.channel = channel;
+        this.maxQueuedEvents = maxQueuedEvents;
+        this.maxQueuedBytes = maxQueuedBytes;
+        channel.pipeline().addLast(new WritabilityHandler());
     }
 
     @Override
     public void send(final NetEvent event) {
         System.out.println("Sending event " + event + " to " + channel);
+        if (!channel.isActive()) {
+            System.err.println("Client " + channel + " is not connected, dropped " + event);
+            return;
+        }
+        final ByteBuf frame = channel.alloc().buffer();
         try {
-            channel.writeAndFlush(event).sync();
-        } catch (Exception e) {
+            CompatibleObjectEncoder.encodeFrame(event, frame);
+        } catch (final Exception e) {
+            frame.release();
             e.printStackTrace();
+            return;
+        }
+
+        synchronized (queue) {
+            final Outbound last = queue.peekLast();
+            if (last != null && supersedes(event, last.event)) {
+                queue.pollLast();
+                queuedBytes -= last.frame.readableBytes();
+                last.frame.release();
+                coalescedEvents++;
+            }
+            queue.add(new Outbound(event, frame));
+            queuedBytes += frame.readableBytes();
+            maxQueueDepth = Math.max(maxQueueDepth, queue.size());
+        }
+        scheduleDrain();
+        waitForRoom();
+    }
+
+    /**
+     * Only state updates that are replaced as a whole by the next one are dropped, and only while nothing was
+     * queued in between.
+     */
+    private static boolean supersedes(final NetEvent next, final NetEvent previous) {
+        if (!(next instanceof GuiGameEvent) || !(previous instanceof GuiGameEvent)) {
+            return false;
+        }
+        final GuiGameEvent n = (GuiGameEvent) next, p = (GuiGameEvent) previous;
+        if (n.getMethod() != p.getMethod()) {
+            return false;
+        }
+        if (n.getMethod() == ProtocolMethod.setGameView) {
+            // setting no view first makes the client start over instead of updating the old view
+            return n.getObjects()[0] != null && p.getObjects()[0] != null;
+        }
+        if (n.getMethod() == ProtocolMethod.updateButtons) {
+            return n.getObjects()[0] == p.getObjects()[0];
+        }
+        return false;
+    }
+
+    private void waitForRoom() {
+        if (channel.eventLoop().inEventLoop()) {
+            return; // the event loop is the one emptying the queue
+        }
+        final long deadline = System.currentTimeMillis() + BACK_PRESSURE_TIMEOUT_MS;
+        synchronized (queue) {
+            while ((queue.size() > maxQueuedEvents || queuedBytes > maxQueuedBytes) && channel.isActive()) {
+                final long left = deadline - System.currentTimeMillis();
+                if (left <= 0) {
+                    System.err.println("Client " + channel + " is too slow, " + queue.size() + " events still queued");
+                    return;
+                }
+                try {
+                    queue.wait(left);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void scheduleDrain() {
+        synchronized (queue) {
+            if (drainScheduled) {
+                return;
+            }
+            drainScheduled = true;
+        }
+        channel.eventLoop().execute(this::drain);
+    }
+
+    /**
+     * Writes the queued events while the channel takes them and flushes them at once. Whatever is left waits until
+     * the channel becomes writable again, which is when a slow client starts holding back the senders.
+     */
+    private void drain() {
+        boolean written = false;
+        while (true) {
+            final Outbound out;
+            synchronized (queue) {
+                out = channel.isWritable() ? queue.poll() : null;
+                if (out == null) {
+                    drainScheduled = false;
+                    queue.notifyAll();
+                    break;
+                }
+                queuedBytes -= out.frame.readableBytes();
+            }
+            final int size = out.frame.readableBytes();
+            written = true;
+            channel.write(out.frame).addListener(f -> {
+                if (!f.isSuccess()) {
+                    System.err.println("Could not send " + out.event + " to " + channel + ": " + f.cause());
+                }
+                recordSent(size, System.nanoTime() - out.queuedAt);
+            });
         }
+        if (written) {
+            channel.flush();
+        }
+    }
+
+    private void discardQueue() {
+        synchronized (queue) {
+            for (final Outbound out : queue) {
+                out.frame.release();
+            }
+            queue.clear();
+            queuedBytes = 0;
+            queue.notifyAll();
+        }
+    }
+
+    private final class WritabilityHandler extends ChannelInboundHandlerAdapter {
+        @Override
+        public void channelWritabilityChanged(final ChannelHandlerContext ctx) throws Exception {
+            if (ctx.channel().isWritable()) {
+                scheduleDrain();
+            }
+            super.channelWritabilityChanged(ctx);
+        }
+
+        @Override
+        public void channelInactive(final ChannelHandlerContext ctx) throws Exception {
+            discardQueue();
+            super.channelInactive(ctx);
+        }
+    }
+
+    private synchronized void recordSent(final int size, final long latency) {
+        sentEvents++;
+        sentBytes += size;
+        totalLatency += latency;
+        maxLatency = Math.max(maxLatency, latency);
     }
 
     @Override
@@ -36,6 +222,31 @@ public final class RemoteClient implements IToClient {
         return replies.get(event.getId());
     }
 
+    public int getQueueDepth() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    public synchronized long getSentBytes() {
+        return sentBytes;
+    }
+
+    public String getSendStats() {
+        final int depth, maxDepth;
+        final long coalesced;
+        synchronized (queue) {
+            depth = queue.size();
+            maxDepth = maxQueueDepth;
+            coalesced = coalescedEvents;
+        }
+        synchronized (this) {
+            final long avg = sentEvents == 0 ? 0 : totalLatency / sentEvents;
+            return String.format("%d events sent (%d coalesced), queue depth %d (max %d), send latency avg %d us, max %d us",
+                    sentEvents, coalesced, depth, maxDepth, avg / 1000, maxLatency / 1000);
+        }
+    }
+
     public String getUsername() {
         return username;
     }
@@ -50,6 +261,13 @@ public final class RemoteClient implements IToClient {
         this.index = index;
     }
 
+    public ServerRoom getRoom() {
+        return room;
+    }
+    void setRoom(final ServerRoom room) {
+        this.room = room;
+    }
+
     ReplyPool getReplyPool() {
         return replies;
     }
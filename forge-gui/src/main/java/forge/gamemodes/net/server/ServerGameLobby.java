@@ -5,18 +5,36 @@ import java.util.Collections;
 import org.apache.commons.lang3.StringUtils;
 
 import forge.gamemodes.match.GameLobby;
+import forge.gamemodes.match.HostedMatch;
 import forge.gamemodes.match.LobbySlot;
 import forge.gamemodes.match.LobbySlotType;
 import forge.gui.interfaces.IGuiGame;
 
 public final class ServerGameLobby extends GameLobby {
 
+    private ServerRoom room;
+
     public ServerGameLobby() {
+        this(true);
+    }
+    /** Without a host, all the seats of the lobby are open to clients. */
+    ServerGameLobby(final boolean withHost) {
         super(true);
-        addSlot(new LobbySlot(LobbySlotType.LOCAL, localName(), localAvatarIndices()[0], localSleeveIndices()[0],0, true, false, Collections.emptySet()));
+        if (withHost) {
+            addSlot(new LobbySlot(LobbySlotType.LOCAL, localName(), localAvatarIndices()[0], localSleeveIndices()[0],0, true, false, Collections.emptySet()));
+        } else {
+            addSlot(new LobbySlot(LobbySlotType.OPEN, null, -1, -1, 0, false, false, Collections.emptySet()));
+        }
         addSlot(new LobbySlot(LobbySlotType.OPEN, null, -1, -1, 1, false, false, Collections.emptySet()));
     }
 
+    public ServerRoom getRoom() {
+        return room;
+    }
+    void setRoom(final ServerRoom room0) {
+        room = room0;
+    }
+
     public int connectPlayer(final String name, final int avatarIndex, final int sleeveIndex) {
         final int nSlots = getNumberOfSlots();
         for (int index = 0; index < nSlots; index++) {
@@ -66,7 +84,15 @@ public final class ServerGameLobby extends GameLobby {
 
     @Override
     protected IGuiGame getGui(final int index) {
-        return FServerManager.getInstance().getGui(index);
+        return room.getGui(index);
+    }
+
+    @Override
+    protected HostedMatch createHostedMatch() {
+        // a dedicated server has no screens to show the match on
+        final HostedMatch match = room.isDedicated() ? new HostedMatch() : super.createHostedMatch();
+        match.setStartGameHook(() -> room.watchGame(match.getGame()));
+        return match;
     }
 
     @Override
@@ -0,0 +1,369 @@
+package forge.gamemodes.net.server;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.collect.Lists;
+
+import forge.game.Game;
+import forge.game.GameRules;
+import forge.game.GameType;
+import forge.game.Match;
+import forge.game.event.GameEventGameFinished;
+import forge.game.event.GameEventPlayerPriority;
+import forge.game.event.GameEventTurnBegan;
+import forge.game.player.RegisteredPlayer;
+import forge.gamemodes.match.HostedMatch;
+import forge.gamemodes.match.LobbySlot;
+import forge.gamemodes.match.LobbySlotType;
+import forge.gamemodes.net.event.IdentifiableNetEvent;
+import forge.gamemodes.net.event.LobbyUpdateEvent;
+import forge.gamemodes.net.event.NetEvent;
+import forge.gui.GuiBase;
+import forge.gui.interfaces.IGuiGame;
+import forge.interfaces.IGameController;
+import forge.interfaces.IUpdateable;
+import forge.player.GamePlayerUtil;
+import forge.util.ThreadUtil;
+
+/**
+ * A lobby hosted by the server together with the clients that joined it.
+ * <p>
+ * Rooms share the server's event loops, while each match runs on a game thread of its own. A room keeps track of
+ * what its matches cost: CPU time and allocations of the game thread, and the bytes sent to its clients.
+ * </p>
+ */
+public final class ServerRoom {
+    private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    private final String name;
+    private final ServerGameLobby lobby;
+    private final boolean dedicated;
+    private final List<RemoteClient> clients = new CopyOnWriteArrayList<>();
+    private final IToClient spectators = new Spectators();
+    // set while the room's own game thread runs a match or starts a hosted one
+    private volatile boolean matchRunning;
+
+    private final AtomicInteger gamesPlayed = new AtomicInteger();
+    private final AtomicLong cpuTime = new AtomicLong();
+    private final AtomicLong allocatedBytes = new AtomicLong();
+    private final AtomicLong bytesSentToLeftClients = new AtomicLong();
+    // last sample of the game thread, only touched by that thread
+    private long sampledThread = -1, sampledCpuTime, sampledAllocatedBytes;
+    private Game watchedGame;
+
+    ServerRoom(final String name0, final ServerGameLobby lobby0, final boolean dedicated0) {
+        name = name0;
+        lobby = lobby0;
+        dedicated = dedicated0;
+        lobby.setRoom(this);
+        if (dedicated) {
+            // nobody sits at the server, the room starts the match once everyone is ready
+            lobby.setListener(new IUpdateable() {
+                @Override
+                public void update(final boolean fullUpdate) {
+                    updateLobbyState();
+                    startMatchIfReady();
+                }
+                @Override
+                public void update(final int slot, final LobbySlotType type) {
+                }
+            });
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public ServerGameLobby getLobby() {
+        return lobby;
+    }
+
+    public boolean isDedicated() {
+        return dedicated;
+    }
+
+    public Collection<RemoteClient> getClients() {
+        return Collections.unmodifiableList(clients);
+    }
+
+    void addClient(final RemoteClient client) {
+        client.setRoom(this);
+        clients.add(client);
+    }
+
+    void removeClient(final RemoteClient client) {
+        if (clients.remove(client)) {
+            bytesSentToLeftClients.addAndGet(client.getSentBytes());
+        }
+    }
+
+    public boolean isEmpty() {
+        return clients.isEmpty();
+    }
+
+    public boolean isMatchActive() {
+        return matchRunning || lobby.isMatchActive();
+    }
+
+    public void broadcast(final NetEvent event) {
+        broadcastTo(event, clients);
+    }
+
+    public void broadcastExcept(final NetEvent event, final RemoteClient notTo) {
+        for (final RemoteClient client : clients) {
+            if (client != notTo) {
+                broadcastTo(event, client);
+            }
+        }
+    }
+
+    private static void broadcastTo(final NetEvent event, final Iterable<RemoteClient> to) {
+        for (final RemoteClient client : to) {
+            broadcastTo(event, client);
+        }
+    }
+
+    private static void broadcastTo(final NetEvent event, final RemoteClient to) {
+        event.updateForClient(to);
+        to.send(event);
+    }
+
+    public void updateLobbyState() {
+        broadcast(new LobbyUpdateEvent(lobby.getData()));
+    }
+
+    IGuiGame getGui(final int index) {
+        final LobbySlot slot = lobby.getSlot(index);
+        final LobbySlotType type = slot.getType();
+        if (type == LobbySlotType.LOCAL) {
+            return GuiBase.getInterface().getNewGuiGame();
+        } else if (type == LobbySlotType.REMOTE) {
+            for (final RemoteClient client : clients) {
+                if (client.getIndex() == index) {
+                    return new NetGuiGame(client);
+                }
+            }
+        }
+        return null;
+    }
+
+    IGameController getController(final int index) {
+        return lobby.getController(index);
+    }
+
+    private synchronized void startMatchIfReady() {
+        if (isMatchActive()) {
+            return;
+        }
+        int nPlayers = 0;
+        for (int i = 0; i < lobby.getNumberOfSlots(); i++) {
+            final LobbySlot slot = lobby.getSlot(i);
+            if (slot.getType() == LobbySlotType.OPEN) {
+                continue;
+            }
+            if (!slot.isReady() || slot.getDeck() == null) {
+                return;
+            }
+            nPlayers++;
+        }
+        if (nPlayers >= 2) {
+            startMatch();
+        }
+    }
+
+    /**
+     * Starts a match with the players of the lobby. Matches between AI players only are played right away on a
+     * game thread without any views, clients in the room get to watch them.
+     */
+    public synchronized void startMatch() {
+        final List<RegisteredPlayer> aiPlayers = Lists.newArrayList();
+        for (int i = 0; i < lobby.getNumberOfSlots(); i++) {
+            final LobbySlot slot = lobby.getSlot(i);
+            if (slot.getType() == LobbySlotType.OPEN) {
+                continue;
+            }
+            if (slot.getType() != LobbySlotType.AI) {
+                matchRunning = true;
+                ThreadUtil.invokeInGameThread(() -> {
+                    try {
+                        final Runnable start = lobby.startGame();
+                        if (start != null) {
+                            start.run();
+                            unsetReady();
+                        }
+                    } finally {
+                        matchRunning = false;
+                    }
+                });
+                return;
+            }
+            final RegisteredPlayer rp = new RegisteredPlayer(slot.getDeck());
+            rp.setTeamNumber(slot.getTeam());
+            aiPlayers.add(rp.setPlayer(GamePlayerUtil.createAiPlayer(slot.getName(), slot.getAvatarIndex(), slot.getSleeveIndex(), slot.getAiOptions())));
+        }
+
+        final GameRules rules = HostedMatch.getDefaultRules(GameType.Constructed);
+        rules.setHeadless(true);
+        matchRunning = true;
+        unsetReady();
+        ThreadUtil.invokeInGameThread(() -> {
+            try {
+                final Match match = new Match(rules, aiPlayers, name);
+                while (!match.isMatchOver()) {
+                    final Game game = match.createGame();
+                    final NetGuiGame gui = new NetGuiGame(spectators);
+                    if (hasSpectators()) {
+                        game.attachView();
+                    }
+                    gui.setGameView(game.getView());
+                    gui.openView(null);
+                    game.subscribeToEvents(GameEventTurnBegan.class, e -> updateSpectators(game, gui));
+                    game.subscribeToEvents(GameEventGameFinished.class, e -> updateSpectators(game, gui));
+                    watchGame(game);
+                    match.startGame(game);
+                }
+            } catch (final RuntimeException e) {
+                System.err.println("Match in room " + name + " stopped: " + e);
+                e.printStackTrace();
+            } finally {
+                matchRunning = false;
+                FServerManager.getInstance().removeRoomIfUnused(this);
+            }
+        });
+    }
+
+    private boolean hasSpectators() {
+        for (final RemoteClient client : clients) {
+            if (client.getIndex() < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The game stays headless while nobody watches it, it gets its views back when somebody joins to watch.
+     */
+    private void updateSpectators(final Game game, final NetGuiGame gui) {
+        if (!hasSpectators()) {
+            return;
+        }
+        game.attachView();
+        gui.updateGameView();
+    }
+
+    // players have to get ready again for the next match
+    private void unsetReady() {
+        for (int i = 0; i < lobby.getNumberOfSlots(); i++) {
+            lobby.getSlot(i).setIsReady(false);
+        }
+        updateLobbyState();
+    }
+
+    /**
+     * Charges the work of the game's thread to this room.
+     */
+    void watchGame(final Game game) {
+        if (game == watchedGame) {
+            return; // restarted game
+        }
+        watchedGame = game;
+        sampleGameThread();
+        game.subscribeToEvents(GameEventPlayerPriority.class, e -> sampleGameThread());
+        game.subscribeToEvents(GameEventGameFinished.class, e -> {
+            sampleGameThread();
+            gamesPlayed.incrementAndGet();
+            // the last client may have left during the match
+            FServerManager.getInstance().removeRoomIfUnused(this);
+        });
+    }
+
+    private void sampleGameThread() {
+        final long thread = Thread.currentThread().getId();
+        final long cpu = threads.isCurrentThreadCpuTimeSupported() ? threads.getCurrentThreadCpuTime() : 0;
+        final long allocated = threads instanceof com.sun.management.ThreadMXBean
+                ? ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(thread) : 0;
+        if (thread == sampledThread) {
+            cpuTime.addAndGet(cpu - sampledCpuTime);
+            allocatedBytes.addAndGet(allocated - sampledAllocatedBytes);
+        }
+        sampledThread = thread;
+        sampledCpuTime = cpu;
+        sampledAllocatedBytes = allocated;
+    }
+
+    public int getGamesPlayed() {
+        return gamesPlayed.get();
+    }
+
+    /**
+     * @return the CPU time in nanoseconds the room's games took on their game thread.
+     */
+    public long getCpuTime() {
+        return cpuTime.get();
+    }
+
+    /**
+     * @return the bytes allocated by the room's games, the closest a room gets to a memory footprint of its own.
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes.get();
+    }
+
+    public long getSentBytes() {
+        long sent = bytesSentToLeftClients.get();
+        for (final RemoteClient client : clients) {
+            sent += client.getSentBytes();
+        }
+        return sent;
+    }
+
+    /**
+     * @return the most events waiting to be sent to one of the room's clients.
+     */
+    public int getMaxQueueDepth() {
+        int depth = 0;
+        for (final RemoteClient client : clients) {
+            depth = Math.max(depth, client.getQueueDepth());
+        }
+        return depth;
+    }
+
+    public String getStats() {
+        return String.format("%s: %d clients, %d games played%s, CPU %d ms, allocated %d MB, sent %d KB, deepest queue %d",
+                name.isEmpty() ? "(default room)" : name, clients.size(), gamesPlayed.get(),
+                isMatchActive() ? " (match running)" : "", cpuTime.get() / 1000000,
+                allocatedBytes.get() / (1024 * 1024), getSentBytes() / 1024, getMaxQueueDepth());
+    }
+
+    @Override
+    public String toString() {
+        return getStats();
+    }
+
+    // clients that don't play in the room's match only watch it
+    private final class Spectators implements IToClient {
+        @Override
+        public void send(final NetEvent event) {
+            for (final RemoteClient client : clients) {
+                if (client.getIndex() < 0) {
+                    broadcastTo(event, client);
+                }
+            }
+        }
+
+        @Override
+        public Object sendAndWait(final IdentifiableNetEvent event) {
+            send(event);
+            return null; // spectators are never asked anything
+        }
+    }
+}
@@ -27,7 +27,6 @@ import java.util.Map;
 import java.util.TreeMap;
 
 import com.google.common.collect.Lists;
-import com.google.common.eventbus.Subscribe;
 
 import forge.card.CardEdition;
 import forge.deck.Deck;
@@ -550,7 +549,6 @@ public class QuestController {
         return unlocksAvaliable > unlocksSpent ? Math.min(unlocksAvaliable - unlocksSpent, cntLocked) : 0;
     }
 
-    @Subscribe
     public void receiveGameEvent(GameEvent ev) { // Receives events only during quest games
         if (ev instanceof GameEventMulligan) {
             GameEventMulligan mev = (GameEventMulligan) ev;
@@ -180,6 +180,7 @@ public class QuestData {
      *            the new name to set
      */
     public void rename(final String newName) {
+        QuestDataIO.waitForPendingSaves(); // don't let a queued save recreate the old file
         File newpath = new File(ForgeConstants.QUEST_SAVE_DIR, newName + ".dat");
         File oldpath = new File(ForgeConstants.QUEST_SAVE_DIR, this.name + ".dat");
         oldpath.renameTo(newpath);
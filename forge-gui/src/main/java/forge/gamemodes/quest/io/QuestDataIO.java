@@ -18,21 +18,44 @@
 package forge.gamemodes.quest.io;
 
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
 import java.io.StringReader;
+import java.io.Writer;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -94,6 +117,11 @@ import forge.util.XmlUtil;
  * <p>
  * QuestDataIO class.
  * </p>
+ * Quests are saved as a zip of independent sections: the quest data itself as XStream XML without the card pool
+ * and the constructed decks, plus one {@link QuestSaveSections binary section} for each of those two. Sections are
+ * kept compressed between saves and only compressed again when their contents change, and the file is written on a
+ * background thread to a temporary file that replaces the save atomically. Saves written by older versions
+ * (a single gzipped XML document) are still loaded and are converted the next time the quest is saved.
  *
  * @author Forge
  * @version $Id$
@@ -104,6 +132,38 @@ public class QuestDataIO {
         FileUtil.ensureDirectoryExists(ForgeConstants.QUEST_SAVE_DIR);
     }
 
+    private static final String SECTION_QUEST = "quest.xml";
+    private static final String SECTION_CARD_POOL = "cardpool.bin";
+    private static final String SECTION_DECKS = "decks.bin";
+
+    /**
+     * A save section, already compressed and ready to be stored in the zip as is. The uncompressed bytes are kept
+     * to tell whether the section changed, encoding is cheap next to compressing.
+     */
+    private static class EncodedSection {
+        private final byte[] raw;
+        private final byte[] data;
+        private final long crc;
+
+        private EncodedSection(final byte[] raw0, final byte[] data0) {
+            raw = raw0;
+            data = data0;
+            final CRC32 crc32 = new CRC32();
+            crc32.update(data);
+            crc = crc32.getValue();
+        }
+    }
+
+    // sections of the last save or load of each quest, by quest name
+    private static final Map<String, Map<String, EncodedSection>> lastSections = new HashMap<>();
+    // latest snapshot waiting to be written for each save file; older snapshots are simply replaced
+    private static final Map<File, Map<String, EncodedSection>> pendingWrites = new LinkedHashMap<>();
+    private static final ThreadPoolExecutor saveExecutor = new ThreadPoolExecutor(1, 1, 5, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), r -> new Thread(r, "QuestSave"));
+    static {
+        saveExecutor.allowCoreThreadTimeOut(true);
+    }
+
     /**
      * Gets the serializer.
      *
@@ -111,6 +171,17 @@ public class QuestDataIO {
      * @return the serializer
      */
     protected static XStream getSerializer(final boolean isIgnoring) {
+        return getSerializer(isIgnoring, false);
+    }
+
+    /**
+     * Gets the serializer.
+     *
+     * @param isIgnoring the is ignoring
+     * @param withoutBinarySections leave out the fields stored in the binary sections of the save
+     * @return the serializer
+     */
+    protected static XStream getSerializer(final boolean isIgnoring, final boolean withoutBinarySections) {
         final XStream xStream = isIgnoring ? new IgnoringXStream() : new XStream();
         // clear out existing permissions and set our own
         xStream.addPermission(NoTypePermission.NONE);
@@ -142,6 +213,11 @@ public class QuestDataIO {
         xStream.aliasPackage("forge.quest", "forge.gamemodes.quest");
         xStream.alias("forge.quest.data.item.QuestItemType", QuestItemType.class);
 
+        if (withoutBinarySections) {
+            xStream.omitField(QuestAssets.class, "cardPool");
+            xStream.omitField(QuestAssets.class, "myDecks");
+        }
+
         return xStream;
     }
 
@@ -155,6 +231,11 @@ public class QuestDataIO {
      * @return {@link forge.gamemodes.quest.data.QuestData}
      */
     public static QuestData loadData(final File xmlSaveFile) throws IOException {
+        waitForPendingSaves();
+        if (isSectionedSave(xmlSaveFile)) {
+            return loadSectionedData(xmlSaveFile);
+        }
+
         QuestData data;
         final StringBuilder xml = new StringBuilder();
 
@@ -190,6 +271,56 @@ public class QuestDataIO {
         return data;
     }
 
+    private static boolean isSectionedSave(final File saveFile) throws IOException {
+        try (InputStream in = new FileInputStream(saveFile)) {
+            // zip archives start with a local file header, gzipped XML saves with 0x1f8b
+            return in.read() == 'P' && in.read() == 'K';
+        }
+    }
+
+    private static QuestData loadSectionedData(final File saveFile) throws IOException {
+        final Map<String, EncodedSection> sections = new LinkedHashMap<>();
+        try (ZipFile zip = new ZipFile(saveFile)) {
+            for (final String name : new String[] { SECTION_QUEST, SECTION_CARD_POOL, SECTION_DECKS }) {
+                final ZipEntry entry = zip.getEntry(name);
+                if (entry == null) {
+                    throw new IOException("Quest save " + saveFile.getName() + " is missing section " + name);
+                }
+                try (InputStream in = zip.getInputStream(entry)) {
+                    final byte[] data = readFully(in);
+                    sections.put(name, new EncodedSection(inflate(data), data));
+                }
+            }
+        }
+
+        final String xml = new String(sections.get(SECTION_QUEST).raw, StandardCharsets.UTF_8);
+        final QuestData data;
+        try {
+            data = (QuestData) QuestDataIO.getSerializer(true, true).fromXML(xml);
+            final ItemPool<PaperCard> cardPool = QuestSaveSections.decodeCardPool(sections.get(SECTION_CARD_POOL).raw);
+            final HashMap<String, Deck> decks = QuestSaveSections.decodeDecks(sections.get(SECTION_DECKS).raw);
+            QuestDataIO.setFinalField(QuestAssets.class, "cardPool", data.getAssets(), cardPool);
+            QuestDataIO.setFinalField(QuestAssets.class, "myDecks", data.getAssets(), decks);
+        } catch (final Exception ex) {
+            throw new IOException(ex);
+        }
+
+        if (data.getVersionNumber() != QuestData.CURRENT_VERSION_NUMBER) {
+            try {
+                QuestDataIO.updateSaveFile(data, xml, saveFile.getName().replace(".dat", ""));
+            }
+            catch (final Exception e) {
+                throw new IOException(e);
+            }
+        }
+
+        // keep the sections as read, the next save only compresses again those which were changed
+        synchronized (QuestDataIO.class) {
+            lastSections.put(data.getName(), sections);
+        }
+        return data;
+    }
+
     private static <T> void setFinalField(final Class<T> clasz, final String fieldName, final T instance,
             final Object newValue) throws IllegalAccessException, NoSuchFieldException {
         final Field field = clasz.getDeclaredField(fieldName);
@@ -431,19 +562,28 @@ public class QuestDataIO {
      * <p>
      * saveData.
      * </p>
+     * Encodes the changed sections on the calling thread and writes the save file in the background.
      *
      * @param qd
      *            a {@link forge.gamemodes.quest.data.QuestData} object.
      */
     public static synchronized void saveData(final QuestData qd) {
         try {
-            final XStream xStream = QuestDataIO.getSerializer(false);
-
-            final File f = new File(ForgeConstants.QUEST_SAVE_DIR, qd.getName());
-            //Copy the save file in case the save fails
-            FileUtil.copyFile(f + ".dat", f + ".dat.bak");
-            QuestDataIO.savePacked(f + ".dat", xStream, qd);
-            //QuestDataIO.saveUnpacked(f + ".xml", xStream, qd);
+            final QuestAssets assets = qd.getAssets();
+            final Map<String, EncodedSection> previous = lastSections.get(qd.getName());
+            final Map<String, EncodedSection> sections = new LinkedHashMap<>();
+            final ByteArrayOutputStream xml = new ByteArrayOutputStream();
+            try (Writer writer = new OutputStreamWriter(xml, StandardCharsets.UTF_8)) {
+                QuestDataIO.getSerializer(false, true).toXML(qd, writer);
+            }
+            sections.put(SECTION_QUEST, encodeSection(previous, SECTION_QUEST, xml.toByteArray()));
+            sections.put(SECTION_CARD_POOL, encodeSection(previous, SECTION_CARD_POOL,
+                    QuestSaveSections.encodeCardPool(assets.getCardPool())));
+            sections.put(SECTION_DECKS, encodeSection(previous, SECTION_DECKS,
+                    QuestSaveSections.encodeDecks(getDecks(assets))));
+            lastSections.put(qd.getName(), sections);
+
+            scheduleWrite(new File(ForgeConstants.QUEST_SAVE_DIR, qd.getName() + ".dat"), sections);
         }
         catch (final Exception ex) {
             //BugReporter.reportException(ex, "Error saving Quest Data.");
@@ -451,6 +591,103 @@ public class QuestDataIO {
         }
     }
 
+    /**
+     * Blocks until every save queued so far has been written to disk.
+     */
+    public static void waitForPendingSaves() {
+        try {
+            saveExecutor.submit(() -> { }).get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException e) {
+            e.printStackTrace();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HashMap<String, Deck> getDecks(final QuestAssets assets) throws NoSuchFieldException, IllegalAccessException {
+        final Field field = QuestAssets.class.getDeclaredField("myDecks");
+        field.setAccessible(true);
+        return (HashMap<String, Deck>) field.get(assets);
+    }
+
+    private static EncodedSection encodeSection(final Map<String, EncodedSection> previousSections, final String name, final byte[] raw) throws IOException {
+        final EncodedSection previous = previousSections == null ? null : previousSections.get(name);
+        // compared as encoded, pools and decks are changed in place so nothing else tells reliably they were
+        if (previous != null && Arrays.equals(previous.raw, raw)) {
+            return previous;
+        }
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (DeflaterOutputStream out = new DeflaterOutputStream(compressed, new Deflater(Deflater.BEST_SPEED))) {
+            out.write(raw);
+        }
+        return new EncodedSection(raw, compressed.toByteArray());
+    }
+
+    private static void scheduleWrite(final File saveFile, final Map<String, EncodedSection> sections) {
+        synchronized (pendingWrites) {
+            final boolean queued = pendingWrites.containsKey(saveFile);
+            pendingWrites.put(saveFile, sections);
+            if (queued) {
+                return; // the queued write will pick up this newer snapshot
+            }
+        }
+        saveExecutor.execute(() -> {
+            final Map<String, EncodedSection> snapshot;
+            synchronized (pendingWrites) {
+                snapshot = pendingWrites.remove(saveFile);
+            }
+            try {
+                writeSections(saveFile, snapshot);
+            } catch (final IOException e) {
+                System.err.println("Error saving Quest Data to " + saveFile);
+                e.printStackTrace();
+            }
+        });
+    }
+
+    private static void writeSections(final File saveFile, final Map<String, EncodedSection> sections) throws IOException {
+        final File tmp = new File(saveFile.getPath() + ".tmp");
+        try (ZipOutputStream zout = new ZipOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)))) {
+            for (final Entry<String, EncodedSection> e : sections.entrySet()) {
+                final EncodedSection section = e.getValue();
+                // sections are compressed already
+                final ZipEntry entry = new ZipEntry(e.getKey());
+                entry.setMethod(ZipEntry.STORED);
+                entry.setSize(section.data.length);
+                entry.setCompressedSize(section.data.length);
+                entry.setCrc(section.crc);
+                zout.putNextEntry(entry);
+                zout.write(section.data);
+                zout.closeEntry();
+            }
+        }
+        //Copy the save file in case the save fails
+        FileUtil.copyFile(saveFile.getPath(), saveFile.getPath() + ".bak");
+        try {
+            Files.move(tmp.toPath(), saveFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(tmp.toPath(), saveFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static byte[] inflate(final byte[] data) throws IOException {
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(data))) {
+            return readFully(in);
+        }
+    }
+
+    private static byte[] readFully(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buf = new byte[8192];
+        int len;
+        while ((len = in.read(buf)) != -1) {
+            out.write(buf, 0, len);
+        }
+        return out.toByteArray();
+    }
+
+    @SuppressWarnings("unused") // kept to write the old single XML format for debug purposes
     private static void savePacked(final String f, final XStream xStream, final QuestData qd) throws IOException {
         final BufferedOutputStream bout = new BufferedOutputStream(new FileOutputStream(f));
         final GZIPOutputStream zout = new GZIPOutputStream(bout);
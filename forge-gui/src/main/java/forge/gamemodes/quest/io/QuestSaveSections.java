@@ -0,0 +1,177 @@
+package forge.gamemodes.quest.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import forge.deck.CardPool;
+import forge.deck.Deck;
+import forge.deck.DeckSection;
+import forge.item.PaperCard;
+import forge.model.FModel;
+import forge.util.ItemPool;
+
+/**
+ * Binary sections of a quest save.
+ * <p>
+ * The card pool and the constructed decks make up almost all of a long running quest, so instead of going through
+ * XStream they are written as a table of the distinct printings followed by id/count pairs.
+ * </p>
+ */
+final class QuestSaveSections {
+    private static final int FORMAT_VERSION = 1;
+
+    private QuestSaveSections() { }
+
+    /** Assigns ids to printings in the order they are first written. */
+    private static class CardTable {
+        private final Map<PaperCard, Integer> ids = new IdentityHashMap<>();
+        private final List<PaperCard> cards = new ArrayList<>();
+
+        int idOf(final PaperCard card) {
+            Integer id = ids.get(card);
+            if (id == null) {
+                id = cards.size();
+                ids.put(card, id);
+                cards.add(card);
+            }
+            return id;
+        }
+
+        void write(final DataOutputStream out) throws IOException {
+            out.writeInt(cards.size());
+            for (final PaperCard card : cards) {
+                out.writeUTF(card.getName());
+                out.writeUTF(card.getEdition());
+                out.writeShort(card.getArtIndex());
+                out.writeBoolean(card.isFoil());
+            }
+        }
+
+        static PaperCard[] read(final DataInputStream in) throws IOException {
+            final PaperCard[] cards = new PaperCard[in.readInt()];
+            for (int i = 0; i < cards.length; i++) {
+                final String name = in.readUTF();
+                final String set = in.readUTF();
+                final int artIndex = in.readShort();
+                final boolean foil = in.readBoolean();
+                cards[i] = FModel.getMagicDb().getOrLoadCommonCard(name, set, artIndex, foil);
+                if (cards[i] == null) {
+                    System.err.println("Warning: Unsupported card found in quest save: " + name + " from edition " + set + ". It will be removed from the quest save.");
+                }
+            }
+            return cards;
+        }
+    }
+
+    static byte[] encodeCardPool(final ItemPool<PaperCard> pool) throws IOException {
+        final CardTable table = new CardTable();
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        final DataOutputStream bodyOut = new DataOutputStream(body);
+        writePool(pool, table, bodyOut);
+        bodyOut.flush();
+        return withTable(table, body);
+    }
+
+    static ItemPool<PaperCard> decodeCardPool(final byte[] data) throws IOException {
+        final DataInputStream in = openSection(data);
+        final PaperCard[] cards = CardTable.read(in);
+        final ItemPool<PaperCard> pool = new ItemPool<>(PaperCard.class);
+        readPool(in, cards, pool);
+        return pool;
+    }
+
+    static byte[] encodeDecks(final Map<String, Deck> decks) throws IOException {
+        final CardTable table = new CardTable();
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        final DataOutputStream bodyOut = new DataOutputStream(body);
+        bodyOut.writeInt(decks.size());
+        for (final Entry<String, Deck> e : decks.entrySet()) {
+            final Deck deck = e.getValue();
+            bodyOut.writeUTF(e.getKey());
+            bodyOut.writeUTF(deck.getName());
+            final List<Entry<DeckSection, CardPool>> sections = new ArrayList<>();
+            for (final Entry<DeckSection, CardPool> section : deck) {
+                sections.add(section);
+            }
+            bodyOut.writeInt(sections.size());
+            for (final Entry<DeckSection, CardPool> section : sections) {
+                bodyOut.writeUTF(section.getKey().name());
+                writePool(section.getValue(), table, bodyOut);
+            }
+        }
+        bodyOut.flush();
+        return withTable(table, body);
+    }
+
+    static HashMap<String, Deck> decodeDecks(final byte[] data) throws IOException {
+        final DataInputStream in = openSection(data);
+        final PaperCard[] cards = CardTable.read(in);
+        final int deckCount = in.readInt();
+        final HashMap<String, Deck> decks = new HashMap<>();
+        for (int i = 0; i < deckCount; i++) {
+            final String key = in.readUTF();
+            final Deck deck = new Deck(in.readUTF());
+            final int sectionCount = in.readInt();
+            for (int j = 0; j < sectionCount; j++) {
+                final DeckSection section = DeckSection.smartValueOf(in.readUTF());
+                if (section == null) {
+                    throw new IOException("Quest deck has unknown section in deck " + key);
+                }
+                readPool(in, cards, deck.getOrCreate(section));
+            }
+            decks.put(key, deck);
+        }
+        return decks;
+    }
+
+    private static void writePool(final ItemPool<PaperCard> pool, final CardTable table, final DataOutputStream out) throws IOException {
+        final List<Entry<PaperCard, Integer>> entries = new ArrayList<>();
+        for (final Entry<PaperCard, Integer> e : pool) {
+            entries.add(e);
+        }
+        out.writeInt(entries.size());
+        for (final Entry<PaperCard, Integer> e : entries) {
+            out.writeInt(table.idOf(e.getKey()));
+            out.writeInt(e.getValue());
+        }
+    }
+
+    private static void readPool(final DataInputStream in, final PaperCard[] cards, final ItemPool<PaperCard> pool) throws IOException {
+        final int entries = in.readInt();
+        for (int i = 0; i < entries; i++) {
+            final PaperCard card = cards[in.readInt()];
+            final int count = in.readInt();
+            if (card != null) {
+                pool.add(card, count);
+            }
+        }
+    }
+
+    private static byte[] withTable(final CardTable table, final ByteArrayOutputStream body) throws IOException {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream(body.size() + table.cards.size() * 24 + 8);
+        final DataOutputStream out = new DataOutputStream(result);
+        out.writeInt(FORMAT_VERSION);
+        table.write(out);
+        body.writeTo(out);
+        out.flush();
+        return result.toByteArray();
+    }
+
+    private static DataInputStream openSection(final byte[] data) throws IOException {
+        final DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        final int version = in.readInt();
+        if (version > FORMAT_VERSION) {
+            throw new IOException("Quest save section was written by a newer version of Forge (format " + version + ")");
+        }
+        return in;
+    }
+}
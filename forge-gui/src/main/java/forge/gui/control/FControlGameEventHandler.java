@@ -5,7 +5,6 @@ import java.util.Map.Entry;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.eventbus.Subscribe;
 
 import forge.game.Game;
 import forge.game.card.Card;
@@ -140,7 +139,6 @@ public class FControlGameEventHandler extends IGameEventVisitor.Base<Void> {
         }
     };
 
-    @Subscribe
     public void receiveGameEvent(final GameEvent ev) {
         ev.visit(this);
     }
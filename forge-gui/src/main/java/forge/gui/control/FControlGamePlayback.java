@@ -4,7 +4,6 @@ import java.util.concurrent.BrokenBarrierException;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.atomic.AtomicBoolean;
 
-import com.google.common.eventbus.Subscribe;
 
 import forge.game.Game;
 import forge.game.card.CardView;
@@ -52,7 +51,6 @@ public class FControlGamePlayback extends IGameEventVisitor.Base<Void> {
         inputPlayback = new InputPlaybackControl(game, this);
     }
 
-    @Subscribe
     public void receiveGameEvent(final GameEvent ev) {
         ev.visit(this);
     }
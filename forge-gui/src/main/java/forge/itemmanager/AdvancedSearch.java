@@ -71,6 +71,10 @@ public class AdvancedSearch {
                 }
                 return names;
             }
+            @Override
+            protected CardSearchIndex.Field getIndexField() {
+                return CardSearchIndex.Field.NAME;
+            }
         }),
         CARD_RULES_TEXT("lblRulesText", PaperCard.class, FilterOperator.STRINGS_OPS, new StringEvaluator<PaperCard>() {
             @Override
@@ -91,6 +95,10 @@ public class AdvancedSearch {
                 }
                 return names;
             }
+            @Override
+            protected CardSearchIndex.Field getIndexField() {
+                return CardSearchIndex.Field.TEXT;
+            }
         }),
         CARD_KEYWORDS("lblKeywords", PaperCard.class, FilterOperator.COLLECTION_OPS, new CustomListEvaluator<PaperCard, Keyword>(Keyword.getAllKeywords()) {
             @Override
@@ -1124,6 +1132,19 @@ public class AdvancedSearch {
                     break;
                 }
             }
+
+            //only compare the text of cards the search index finds the words of the value in
+            final CardSearchIndex index = CardSearchIndex.getInstance();
+            if (getIndexField() != null && index != null) {
+                final Predicate<CardRules> candidates = index.inSet(index.getCandidates(getIndexField(), values.get(0).toString()), Predicates.<CardRules>alwaysTrue());
+                final Predicate<T> compare = predicate;
+                predicate = new Predicate<T>() {
+                    @Override
+                    public boolean apply(T input) {
+                        return candidates.apply(((PaperCard) input).getRules()) && compare.apply(input);
+                    }
+                };
+            }
             return new Filter<>(option, operator, caption, predicate);
         }
 
@@ -1134,6 +1155,10 @@ public class AdvancedSearch {
         protected Set<V> getItemValues(T input) { //available for options that have multiple inputs
             return null;
         }
+
+        protected CardSearchIndex.Field getIndexField() { //available for text options of cards
+            return null;
+        }
     }
 
     private static abstract class BooleanEvaluator<T extends InventoryItem> extends FilterEvaluator<T, Boolean> {
@@ -1,16 +1,12 @@
 package forge.itemmanager;
 
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Stack;
 
 import com.google.common.base.Predicate;
 import com.google.common.base.Predicates;
 
 import forge.card.CardRules;
-import forge.card.CardRulesPredicates;
-import forge.util.PredicateString.StringOp;
 
 public class BooleanExpression {
     private Stack<Operator> operators = new Stack<>();
@@ -146,22 +142,8 @@ public class BooleanExpression {
     }
 
     private Predicate<CardRules> valueOf(final String value) {
-
-        List<Predicate<CardRules>> predicates = new ArrayList<>();
-        if (inName) {
-            predicates.add(CardRulesPredicates.name(StringOp.CONTAINS_IC, value));
-        }
-        if (inType) {
-            predicates.add(CardRulesPredicates.joinedType(StringOp.CONTAINS_IC, value));
-        }
-        if (inText) {
-            predicates.add(CardRulesPredicates.rules(StringOp.CONTAINS_IC, value));
-        }
-        if (inCost) {
-            predicates.add(CardRulesPredicates.cost(StringOp.CONTAINS_IC, value));
-        }
-        if (!predicates.isEmpty()) {
-            return Predicates.or(predicates);
+        if (inName || inType || inText || inCost) {
+            return CardSearchIndex.contains(value, inName, inType, inText, inCost);
         }
         return Predicates.alwaysTrue();
 
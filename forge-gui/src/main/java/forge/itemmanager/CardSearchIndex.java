@@ -0,0 +1,318 @@
+package forge.itemmanager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.base.Predicate;
+import com.google.common.base.Predicates;
+
+import forge.StaticData;
+import forge.card.CardRules;
+import forge.card.CardRulesPredicates;
+import forge.item.PaperCard;
+import forge.util.CardTranslation;
+import forge.util.ThreadUtil;
+import forge.util.PredicateString.StringOp;
+
+/**
+ * Word index of the card catalog for the text searches of the item managers.
+ * <p>
+ * For each searchable field the index keeps the words of every card, folded to one case, with the cards using them.
+ * A search only goes over the words to find the cards that can contain the searched text and compares the text of
+ * those cards, which it keeps as a set of card ids. Checking a card is then a lookup instead of translating and
+ * joining the field of every card in the pool on every keystroke.
+ * </p>
+ * Cards the index was built without, like cards loaded later, are searched the old way.
+ */
+public final class CardSearchIndex {
+    public enum Field {
+        NAME, TYPE, TEXT, COST
+    }
+
+    private static final int N_FIELDS = Field.values().length;
+    private static final int MAX_CACHED_SEARCHES = 64;
+
+    private static volatile CardSearchIndex instance;
+
+    /**
+     * @return the index of the card catalog, or null while it's still being built.
+     */
+    public static CardSearchIndex getInstance() {
+        return instance;
+    }
+
+    public static void buildInBackground(final StaticData magicDb) {
+        ThreadUtil.getServicePool().execute(new Runnable() {
+            @Override
+            public void run() {
+                final List<CardRules> cards = new ArrayList<>();
+                final Map<CardRules, Boolean> seen = new IdentityHashMap<>();
+                for (final PaperCard pc : magicDb.getCommonCards().getAllCards()) {
+                    if (seen.put(pc.getRules(), Boolean.TRUE) == null) {
+                        cards.add(pc.getRules());
+                    }
+                }
+                for (final PaperCard pc : magicDb.getVariantCards().getAllCards()) {
+                    if (seen.put(pc.getRules(), Boolean.TRUE) == null) {
+                        cards.add(pc.getRules());
+                    }
+                }
+                instance = new CardSearchIndex(cards);
+            }
+        });
+    }
+
+    private final Map<CardRules, Integer> ids = new IdentityHashMap<>();
+    // the values of a field the searches of CardRulesPredicates look into, folded to one case, per card id
+    private final String[][][] values;
+    // words of a field, with the ids of the cards using them in ascending order
+    private final String[][] words = new String[N_FIELDS][];
+    private final int[][][] postings = new int[N_FIELDS][][];
+    private final Map<String, BitSet> cache = new LinkedHashMap<String, BitSet>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, BitSet> eldest) {
+            return size() > MAX_CACHED_SEARCHES;
+        }
+    };
+
+    public CardSearchIndex(final List<CardRules> cards) {
+        values = new String[N_FIELDS][cards.size()][];
+        final List<Map<String, IntList>> byWord = new ArrayList<>(N_FIELDS);
+        for (int f = 0; f < N_FIELDS; f++) {
+            byWord.add(new HashMap<>());
+        }
+        for (int id = 0; id < cards.size(); id++) {
+            final CardRules rules = cards.get(id);
+            ids.put(rules, id);
+            for (final Field field : Field.values()) {
+                final String[] fieldValues = getValues(rules, field);
+                values[field.ordinal()][id] = foldAll(fieldValues);
+                final Map<String, IntList> fieldWords = byWord.get(field.ordinal());
+                for (final String value : getWordSources(rules, field, fieldValues)) {
+                    for (final String word : splitWords(value)) {
+                        IntList list = fieldWords.get(word);
+                        if (list == null) {
+                            list = new IntList();
+                            fieldWords.put(word, list);
+                        }
+                        list.add(id);
+                    }
+                }
+            }
+        }
+        for (int f = 0; f < N_FIELDS; f++) {
+            final Map<String, IntList> fieldWords = byWord.get(f);
+            words[f] = fieldWords.keySet().toArray(new String[0]);
+            postings[f] = new int[words[f].length][];
+            for (int w = 0; w < words[f].length; w++) {
+                postings[f][w] = fieldWords.get(words[f][w]).toArray();
+            }
+        }
+    }
+
+    private static String[] getValues(final CardRules rules, final Field field) {
+        switch (field) {
+        case NAME:
+            if (rules.getOtherPart() != null) {
+                return new String[] { CardTranslation.getTranslatedName(rules.getName()), rules.getName(),
+                        CardTranslation.getTranslatedName(rules.getOtherPart().getName()), rules.getOtherPart().getName() };
+            }
+            return new String[] { CardTranslation.getTranslatedName(rules.getName()), rules.getName() };
+        case TYPE:
+            return new String[] { CardTranslation.getTranslatedType(rules.getName(), rules.getType().toString()), rules.getType().toString() };
+        case TEXT:
+            return new String[] { CardTranslation.getTranslatedOracle(rules.getName()), rules.getOracleText() };
+        case COST:
+            return new String[] { rules.getManaCost().toString() };
+        default:
+            return new String[0];
+        }
+    }
+
+    // the words of the other part count too, so the candidates also cover the searches of AdvancedSearch
+    private static String[] getWordSources(final CardRules rules, final Field field, final String[] fieldValues) {
+        if (field != Field.TEXT || rules.getOtherPart() == null) {
+            return fieldValues;
+        }
+        final String[] result = Arrays.copyOf(fieldValues, fieldValues.length + 2);
+        result[fieldValues.length] = rules.getOtherPart().getOracleText();
+        result[fieldValues.length + 1] = CardTranslation.getTranslatedOracle(rules.getOtherPart().getName());
+        return result;
+    }
+
+    // same characters compare equal here as in String.regionMatches when ignoring case
+    private static char fold(final char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private static String fold(final String value) {
+        if (value == null) {
+            return null;
+        }
+        final char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = fold(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private static String[] foldAll(final String[] values) {
+        final String[] result = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = fold(values[i]);
+        }
+        return result;
+    }
+
+    private static List<String> splitWords(final String value) {
+        final List<String> result = new ArrayList<>();
+        if (value == null) {
+            return result;
+        }
+        final StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= value.length(); i++) {
+            if (i < value.length() && Character.isLetterOrDigit(value.charAt(i))) {
+                word.append(fold(value.charAt(i)));
+            } else if (word.length() > 0) {
+                result.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the cards whose field may contain the text ignoring case, a superset of the cards that do.
+     */
+    public BitSet getCandidates(final Field field, final String text) {
+        final BitSet result = new BitSet(ids.size());
+        result.set(0, ids.size());
+        final String[] fieldWords = words[field.ordinal()];
+        final int[][] fieldPostings = postings[field.ordinal()];
+        for (final String part : splitWords(text)) {
+            final BitSet withPart = new BitSet(ids.size());
+            for (int w = 0; w < fieldWords.length; w++) {
+                if (fieldWords[w].contains(part)) {
+                    for (final int id : fieldPostings[w]) {
+                        withPart.set(id);
+                    }
+                }
+            }
+            result.and(withPart);
+        }
+        return result;
+    }
+
+    /**
+     * @return the cards with any of the fields containing the text ignoring case, as the CONTAINS_IC searches of
+     * CardRulesPredicates find them.
+     */
+    public BitSet getMatches(final String text, final Field... fields) {
+        final StringBuilder key = new StringBuilder();
+        for (final Field field : fields) {
+            key.append(field.ordinal());
+        }
+        key.append(':').append(text);
+        synchronized (cache) {
+            final BitSet cached = cache.get(key.toString());
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final String folded = fold(text);
+        final BitSet result = new BitSet(ids.size());
+        for (final Field field : fields) {
+            final String[][] fieldValues = values[field.ordinal()];
+            final BitSet candidates = getCandidates(field, text);
+            for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+                if (result.get(id)) {
+                    continue;
+                }
+                for (final String value : fieldValues[id]) {
+                    if (value != null && value.contains(folded)) {
+                        result.set(id);
+                        break;
+                    }
+                }
+            }
+        }
+        synchronized (cache) {
+            cache.put(key.toString(), result);
+        }
+        return result;
+    }
+
+    /**
+     * @return a predicate for cards of the given set of ids, checking cards that aren't indexed with the fallback.
+     */
+    public Predicate<CardRules> inSet(final BitSet set, final Predicate<CardRules> fallback) {
+        return new Predicate<CardRules>() {
+            @Override
+            public boolean apply(final CardRules rules) {
+                final Integer id = ids.get(rules);
+                if (id == null) {
+                    return fallback.apply(rules);
+                }
+                return set.get(id);
+            }
+        };
+    }
+
+    /**
+     * @return a predicate for cards with any of the selected fields containing the text ignoring case, using the
+     * index when it's built.
+     */
+    public static Predicate<CardRules> contains(final String text, final boolean inName, final boolean inType, final boolean inText, final boolean inCost) {
+        final List<Predicate<CardRules>> predicates = new ArrayList<>();
+        final List<Field> fields = new ArrayList<>();
+        if (inName) {
+            predicates.add(CardRulesPredicates.name(StringOp.CONTAINS_IC, text));
+            fields.add(Field.NAME);
+        }
+        if (inType) {
+            predicates.add(CardRulesPredicates.joinedType(StringOp.CONTAINS_IC, text));
+            fields.add(Field.TYPE);
+        }
+        if (inText) {
+            predicates.add(CardRulesPredicates.rules(StringOp.CONTAINS_IC, text));
+            fields.add(Field.TEXT);
+        }
+        if (inCost) {
+            predicates.add(CardRulesPredicates.cost(StringOp.CONTAINS_IC, text));
+            fields.add(Field.COST);
+        }
+        final Predicate<CardRules> predicate = Predicates.or(predicates);
+        final CardSearchIndex index = getInstance();
+        if (index == null || fields.isEmpty()) {
+            return predicate;
+        }
+        return index.inSet(index.getMatches(text, fields.toArray(new Field[0])), predicate);
+    }
+
+    private static final class IntList {
+        private int[] items = new int[4];
+        private int size;
+
+        private void add(final int id) {
+            if (size > 0 && items[size - 1] == id) {
+                return; // word used more than once by the card
+            }
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = id;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(items, size);
+        }
+    }
+}
@@ -12,7 +12,6 @@ import com.google.common.base.Predicates;
 import forge.StaticData;
 import forge.card.CardEdition;
 import forge.card.CardRules;
-import forge.card.CardRulesPredicates;
 import forge.card.ColorSet;
 import forge.card.MagicColor;
 import forge.deck.DeckProxy;
@@ -25,7 +24,6 @@ import forge.itemmanager.SItemManagerUtil.StatTypes;
 import forge.localinstance.properties.ForgePreferences;
 import forge.model.FModel;
 import forge.util.BinaryUtil;
-import forge.util.PredicateString.StringOp;
 
 /** 
  * Static factory; holds blocks of form elements and predicates
@@ -63,14 +61,7 @@ public class SFilterUtil {
         List<String> splitText = getSplitText(text);
         List<Predicate<CardRules>> terms = new ArrayList<>();
         for (String s : splitText) {
-            List<Predicate<CardRules>> subands = new ArrayList<>();
-
-            if (inName) { subands.add(CardRulesPredicates.name(StringOp.CONTAINS_IC, s));       }
-            if (inType) { subands.add(CardRulesPredicates.joinedType(StringOp.CONTAINS_IC, s)); }
-            if (inText) { subands.add(CardRulesPredicates.rules(StringOp.CONTAINS_IC, s));      }
-            if (inCost) { subands.add(CardRulesPredicates.cost(StringOp.CONTAINS_IC, s));       }
-
-            terms.add(Predicates.or(subands));
+            terms.add(CardSearchIndex.contains(s, inName, inType, inText, inCost));
         }
         Predicate<CardRules> textFilter = invert ? Predicates.not(Predicates.or(terms)) : Predicates.and(terms);
 
@@ -159,11 +159,14 @@ public class ForgePreferences extends PreferencesStore<ForgePreferences.FPref> {
         UI_ANIMATED_CARD_TAPUNTAP("true"),
         UI_DISABLE_IMAGES_EFFECT_CARDS("false"),
         UI_ENABLE_PRELOAD_EXTENDED_ART("false"),
+        UI_ENABLE_CARD_THUMBNAIL_ATLAS("true"),
         UI_ENABLE_BORDER_MASKING("Crop"),
         UI_ENABLE_MATCH_SCROLL_INDICATOR("false"),
         UI_ENABLE_MAGNIFIER("true"),
         UI_SHOW_FPS("false"),
         UI_NETPLAY_COMPAT("false"),
+        NET_MAX_QUEUED_EVENTS("500"),
+        NET_MAX_QUEUED_MB("16"),
         UI_ENABLE_DISPOSE_TEXTURES("false"),
         UI_LOAD_UNKNOWN_CARDS("true"),
         UI_LOAD_NONLEGAL_CARDS("true"),
@@ -52,6 +52,7 @@ import forge.gui.GuiBase;
 import forge.gui.card.CardPreferences;
 import forge.gui.interfaces.IProgressBar;
 import forge.item.PaperCard;
+import forge.itemmanager.CardSearchIndex;
 import forge.itemmanager.ItemManagerConfig;
 import forge.localinstance.achievements.*;
 import forge.localinstance.properties.ForgeConstants;
@@ -288,6 +289,10 @@ public final class FModel {
         if (GuiBase.getInterface().isLibgdxPort() && GuiBase.getDeviceRAM() < 5000)
             return; // don't preload ItemPool on mobile port with less than 5GB RAM
 
+        if (!FModel.getPreferences().getPrefBoolean(FPref.LOAD_CARD_SCRIPTS_LAZILY)) {
+            CardSearchIndex.buildInBackground(magicDb);
+        }
+
         //common ItemPool to preload
         allCardsNoAlt = getAllCardsNoAlt();
         archenemyCards = getArchenemyCards();
@@ -394,51 +399,7 @@ public final class FModel {
      */
     public static void loadDynamicGamedata() {
         if (!CardType.Constant.LOADED.isSet()) {
-            final List<String> typeListFile = FileUtil.readFile(ForgeConstants.TYPE_LIST_FILE);
-
-            Set<String> addTo = null;
-
-            for (final String s : typeListFile) {
-                if (s.equals("[BasicTypes]")) {
-                    addTo = CardType.Constant.BASIC_TYPES;
-                } else if (s.equals("[LandTypes]")) {
-                    addTo = CardType.Constant.LAND_TYPES;
-                } else if (s.equals("[CreatureTypes]")) {
-                    addTo = CardType.Constant.CREATURE_TYPES;
-                } else if (s.equals("[SpellTypes]")) {
-                    addTo = CardType.Constant.SPELL_TYPES;
-                } else if (s.equals("[EnchantmentTypes]")) {
-                    addTo = CardType.Constant.ENCHANTMENT_TYPES;
-                } else if (s.equals("[ArtifactTypes]")) {
-                    addTo = CardType.Constant.ARTIFACT_TYPES;
-                } else if (s.equals("[WalkerTypes]")) {
-                    addTo = CardType.Constant.WALKER_TYPES;
-                } else if (s.equals("[DungeonTypes]")) {
-                    addTo = CardType.Constant.DUNGEON_TYPES;
-                } else if (s.equals("[BattleTypes]")) {
-                    addTo = CardType.Constant.BATTLE_TYPES;
-                } else if (s.equals("[PlanarTypes]")) {
-                    addTo = CardType.Constant.PLANAR_TYPES;
-                } else if (s.length() > 1) {
-                    if (addTo != null) {
-                        if (s.contains(":")) {
-                            String[] k = s.split(":");
-                            addTo.add(k[0]);
-                            CardType.Constant.pluralTypes.put(k[0], k[1]);
-
-                            if (k[0].contains(" ")) {
-                                CardType.Constant.MultiwordTypes.add(k[0]);
-                            }
-                        } else {
-                            addTo.add(s);
-                            if (s.contains(" ")) {
-                                CardType.Constant.MultiwordTypes.add(s);
-                            }
-                        }
-                    }
-                }
-            }
-            CardType.Constant.LOADED.set();
+            CardType.Constant.load(FileUtil.readFile(ForgeConstants.TYPE_LIST_FILE));
         }
 
         if (!keywordsLoaded) {
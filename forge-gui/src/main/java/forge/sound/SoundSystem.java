@@ -1,6 +1,5 @@
 package forge.sound;
 
-import com.google.common.eventbus.Subscribe;
 import forge.game.event.GameEvent;
 import forge.gui.GuiBase;
 import forge.gui.events.UiEvent;
@@ -159,7 +158,6 @@ public class SoundSystem {
         fetchResource(type).stop();
     }
 
-    @Subscribe
     public void receiveEvent(final GameEvent evt) {
         final SoundEffectType effect = evt.visit(visualizer);
         if (null == effect) {
@@ -175,7 +173,6 @@ public class SoundSystem {
         }
     }
 
-    @Subscribe
     public void receiveEvent(final UiEvent evt) {
         final SoundEffectType effect = evt.visit(visualizer);
         if (null != effect) {